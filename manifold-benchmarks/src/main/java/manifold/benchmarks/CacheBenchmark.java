@@ -0,0 +1,137 @@
+/*
+ * Copyright (c) 2025 - Manifold Systems LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package manifold.benchmarks;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import manifold.util.concurrent.Cache;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures {@link Cache#get} under a skewed workload, where a few keys account for most requests, and under the same
+ * workload interleaved with scans of keys requested once. Compares the default second-chance cache with the
+ * frequency-aware one. The hit rate of each trial is printed on tear down, since it matters as much as the time per
+ * request.
+ */
+@State( Scope.Benchmark )
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.NANOSECONDS )
+@Warmup( iterations = 5, time = 1 )
+@Measurement( iterations = 5, time = 1 )
+@Fork( 2 )
+public class CacheBenchmark
+{
+  private static final int SIZE = 1000;
+  private static final int KEYS = 100_000;
+  private static final int REQUESTS = 1 << 20;
+  private static final int SAMPLE = 1000;
+
+  @Param( {"false", "true"} )
+  public boolean frequencyAware;
+
+  @Param( {"skewed", "scan"} )
+  public String workload;
+
+  private Cache<Integer, String> _cache;
+  private int[] _requests;
+
+  @Setup
+  public void setup()
+  {
+    _cache = new Cache<>( "CacheBenchmark", SIZE, frequencyAware, String::valueOf );
+    _requests = workload.equals( "skewed" ) ? skewed() : scan();
+  }
+
+  @TearDown
+  public void tearDown()
+  {
+    System.out.printf( "%nhit rate: %.2f%%%n", _cache.getHitRate() * 100 );
+  }
+
+  @Benchmark
+  @OperationsPerInvocation( SAMPLE )
+  public void get( Cursor cursor, Blackhole bh )
+  {
+    request( cursor, bh );
+  }
+
+  @Benchmark
+  @Threads( 4 )
+  @OperationsPerInvocation( SAMPLE )
+  public void getConcurrently( Cursor cursor, Blackhole bh )
+  {
+    request( cursor, bh );
+  }
+
+  private void request( Cursor cursor, Blackhole bh )
+  {
+    int next = cursor.next;
+    for( int i = 0; i < SAMPLE; i++ )
+    {
+      bh.consume( _cache.get( _requests[next] ) );
+      next = (next + 1) & (REQUESTS - 1);
+    }
+    cursor.next = next;
+  }
+
+  @State( Scope.Thread )
+  public static class Cursor
+  {
+    int next = new Random().nextInt( REQUESTS );
+  }
+
+  /**
+   * Keys drawn from a Zipf distribution (exponent 1) over {@link #KEYS} keys
+   */
+  private static int[] skewed()
+  {
+    double[] cumulative = new double[KEYS];
+    double sum = 0;
+    for( int i = 0; i < KEYS; i++ )
+    {
+      sum += 1d / (i + 1);
+      cumulative[i] = sum;
+    }
+    Random random = new Random( 42 );
+    int[] requests = new int[REQUESTS];
+    for( int i = 0; i < REQUESTS; i++ )
+    {
+      int key = Arrays.binarySearch( cumulative, random.nextDouble() * sum );
+      requests[i] = key < 0 ? -key - 1 : key;
+    }
+    return requests;
+  }
+
+  /**
+   * The skewed workload with every other run of {@code SIZE} requests replaced by a scan of keys requested once
+   */
+  private static int[] scan()
+  {
+    int[] requests = skewed();
+    int scanned = KEYS;
+    for( int i = 0; i < REQUESTS; i++ )
+    {
+      if( (i / SIZE) % 2 == 1 )
+      {
+        requests[i] = scanned++;
+      }
+    }
+    return requests;
+  }
+}
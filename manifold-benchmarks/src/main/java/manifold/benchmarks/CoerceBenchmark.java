@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2025 - Manifold Systems LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package manifold.benchmarks;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+import manifold.ext.rt.RuntimeMethods;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Measures {@link RuntimeMethods#coerce}, which converts every bindings value read through a structural interface.
+ */
+@State( Scope.Benchmark )
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.NANOSECONDS )
+@Warmup( iterations = 5, time = 1 )
+@Measurement( iterations = 5, time = 1 )
+@Fork( 2 )
+public class CoerceBenchmark
+{
+  public enum Color {Red, Green, Blue}
+
+  private Object _string = "text";
+  private Object _int = 42;
+  private Object _double = 42.5d;
+  private Object _numberString = "42.5";
+  private Object _enumString = "Green";
+  private Object _dateString = "2025-01-26";
+
+  @Benchmark
+  public Object sameType()
+  {
+    return RuntimeMethods.coerce( _string, String.class );
+  }
+
+  @Benchmark
+  public Object intToLong()
+  {
+    return RuntimeMethods.coerce( _int, long.class );
+  }
+
+  @Benchmark
+  public Object doubleToInt()
+  {
+    return RuntimeMethods.coerce( _double, int.class );
+  }
+
+  @Benchmark
+  public Object stringToBigDecimal()
+  {
+    return RuntimeMethods.coerce( _numberString, BigDecimal.class );
+  }
+
+  @Benchmark
+  public Object stringToEnum()
+  {
+    return RuntimeMethods.coerce( _enumString, Color.class );
+  }
+
+  @Benchmark
+  public Object stringToLocalDate()
+  {
+    // handled by a coercion provider
+    return RuntimeMethods.coerce( _dateString, LocalDate.class );
+  }
+}
@@ -0,0 +1,59 @@
+/*
+ * Copyright (c) 2025 - Manifold Systems LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package manifold.benchmarks;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import manifold.csv.rt.parser.CsvDataSet;
+import manifold.csv.rt.parser.CsvParser;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Parses CSV documents with {@link CsvParser#parse}, including header and column type inference.
+ */
+@State( Scope.Benchmark )
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.MICROSECONDS )
+@Warmup( iterations = 5, time = 1 )
+@Measurement( iterations = 5, time = 1 )
+@Fork( 2 )
+public class CsvBenchmark
+{
+  @Param( {"10", "5000"} )
+  public int rows;
+
+  private byte[] _csv;
+
+  @Setup
+  public void setup()
+  {
+    StringBuilder sb = new StringBuilder( "id,name,email,active,balance,joined\n" );
+    for( int i = 0; i < rows; i++ )
+    {
+      sb.append( i ).append( ",\"Person, " ).append( i ).append( "\",person" ).append( i ).append( "@example.com," )
+        .append( i % 2 == 0 ).append( ',' ).append( i * 31.25 ).append( ",2025-01-" ).append( 10 + i % 20 ).append( '\n' );
+    }
+    _csv = sb.toString().getBytes( StandardCharsets.UTF_8 );
+  }
+
+  @Benchmark
+  public CsvDataSet parse()
+  {
+    return CsvParser.parse( new ByteArrayInputStream( _csv ) );
+  }
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2025 - Manifold Systems LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package manifold.benchmarks;
+
+import java.util.LinkedHashMap;
+import manifold.json.rt.Json;
+import manifold.json.rt.api.DataBindings;
+
+/**
+ * Reports the retained heap of 100,000 {@code DataBindings} rows of 5 and 15 fields, stored in a {@code LinkedHashMap}
+ * and in the default compact store. Rows are built the way the JSON parser builds them, each with its own key strings,
+ * and share their values so only the bindings are measured. A parsed JSON document of the same rows is measured too,
+ * with the default store. Each case runs in a fresh JVM:
+ * <pre>
+ *   java -cp manifold-benchmarks/target/benchmarks.jar manifold.benchmarks.DataBindingsFootprint
+ * </pre>
+ */
+public class DataBindingsFootprint
+{
+  private static final int ROWS = 100_000;
+
+  public static void main( String[] args ) throws Exception
+  {
+    if( args.length == 2 )
+    {
+      measure( args[0], Integer.parseInt( args[1] ) );
+      return;
+    }
+
+    for( String fields : new String[]{"5", "15"} )
+    {
+      for( String store : new String[]{"LinkedHashMap", "Compact", "Parsed"} )
+      {
+        new ProcessBuilder( System.getProperty( "java.home" ) + "/bin/java",
+          "-cp", System.getProperty( "java.class.path" ), DataBindingsFootprint.class.getName(), store, fields )
+          .inheritIO()
+          .start()
+          .waitFor();
+      }
+    }
+  }
+
+  private static void measure( String store, int fields )
+  {
+    String json = store.equals( "Parsed" ) ? json( fields ) : null;
+    // warm up and load classes
+    build( store, fields, json );
+
+    long before = usedHeap();
+    Object rows = build( store, fields, json );
+    long after = usedHeap();
+    if( rows == null )
+    {
+      throw new IllegalStateException();
+    }
+    System.out.printf( "%-14s %2d fields: %,8d KB, %4d bytes/row%n",
+      store, fields, (after - before) / 1024, (after - before) / ROWS );
+  }
+
+  private static Object build( String store, int fields, String json )
+  {
+    if( json != null )
+    {
+      return Json.fromJson( json );
+    }
+
+    Object[] rows = new Object[ROWS];
+    Integer value = 1;
+    for( int i = 0; i < ROWS; i++ )
+    {
+      DataBindings row = store.equals( "Compact" ) ? new DataBindings() : new DataBindings( new LinkedHashMap<>() );
+      for( int f = 0; f < fields; f++ )
+      {
+        // a new key string per row, as parsed
+        row.put( new String( "field" + f ), value );
+      }
+      rows[i] = row;
+    }
+    return rows;
+  }
+
+  private static String json( int fields )
+  {
+    StringBuilder sb = new StringBuilder( "[" );
+    for( int i = 0; i < ROWS; i++ )
+    {
+      sb.append( i == 0 ? "{" : ",{" );
+      for( int f = 0; f < fields; f++ )
+      {
+        sb.append( f == 0 ? "" : "," ).append( "\"field" ).append( f ).append( "\":1" );
+      }
+      sb.append( '}' );
+    }
+    return sb.append( ']' ).toString();
+  }
+
+  private static long usedHeap()
+  {
+    Runtime runtime = Runtime.getRuntime();
+    for( int i = 0; i < 5; i++ )
+    {
+      System.gc();
+    }
+    return runtime.totalMemory() - runtime.freeMemory();
+  }
+}
@@ -0,0 +1,147 @@
+/*
+ * Copyright (c) 2025 - Manifold Systems LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package manifold.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import manifold.api.util.cache.CompactFqnCache;
+import manifold.api.util.cache.FqnCache;
+import manifold.api.util.cache.IFqnCache;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures {@link FqnCache} and {@link CompactFqnCache} lookups of type names, as made by type manifolds and the file
+ * manager for every type javac resolves. Looks up names in the cache and names absent from it, which are the more
+ * common in practice. See {@link FqnCacheFootprint} for heap usage.
+ */
+@State( Scope.Benchmark )
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.NANOSECONDS )
+@Warmup( iterations = 5, time = 1 )
+@Measurement( iterations = 5, time = 1 )
+@Fork( 2 )
+public class FqnCacheBenchmark
+{
+  static final int TYPES = 200_000;
+  private static final int SAMPLE = 1000;
+
+  @Param( {"FqnCache", "CompactFqnCache"} )
+  public String impl;
+
+  /**
+   * The number of distinct names looked up, sampled evenly. A large working set exceeds the 10,000 names of the shared
+   * parts cache {@code FqnCache} splits names with.
+   */
+  @Param( {"1000", "50000"} )
+  public int workingSet;
+
+  private IFqnCache<String> _cache;
+  private String[] _all;
+  private String[] _present;
+  private String[] _absent;
+
+  @Setup
+  public void setup()
+  {
+    _all = names();
+    _cache = build( impl, _all );
+    List<String> present = new ArrayList<>();
+    List<String> absent = new ArrayList<>();
+    for( int i = 0; i < TYPES; i += TYPES / workingSet )
+    {
+      String fqn = _all[i];
+      present.add( fqn );
+      absent.add( fqn.substring( 0, fqn.lastIndexOf( '.' ) ) + ".Missing" + i );
+    }
+    _present = present.toArray( new String[0] );
+    _absent = absent.toArray( new String[0] );
+  }
+
+  @Benchmark
+  @OperationsPerInvocation( SAMPLE )
+  public void getPresent( Cursor cursor, Blackhole bh )
+  {
+    lookup( _present, cursor, bh );
+  }
+
+  @Benchmark
+  @OperationsPerInvocation( SAMPLE )
+  public void getAbsent( Cursor cursor, Blackhole bh )
+  {
+    lookup( _absent, cursor, bh );
+  }
+
+  @Benchmark
+  @Threads( 4 )
+  @OperationsPerInvocation( SAMPLE )
+  public void getPresentConcurrently( Cursor cursor, Blackhole bh )
+  {
+    lookup( _present, cursor, bh );
+  }
+
+  private void lookup( String[] names, Cursor cursor, Blackhole bh )
+  {
+    int next = cursor.next;
+    for( int i = 0; i < SAMPLE; i++ )
+    {
+      bh.consume( _cache.get( names[next] ) );
+      if( ++next == names.length )
+      {
+        next = 0;
+      }
+    }
+    cursor.next = next;
+  }
+
+  @Benchmark
+  @OutputTimeUnit( TimeUnit.MILLISECONDS )
+  public Object build()
+  {
+    return build( impl, _all );
+  }
+
+  @State( Scope.Thread )
+  public static class Cursor
+  {
+    int next;
+  }
+
+  /**
+   * Names of resources in a large class path, e.g., {@code org.example.module12.api.v3.Type1234}
+   */
+  static String[] names()
+  {
+    String[] names = new String[TYPES];
+    for( int i = 0; i < TYPES; i++ )
+    {
+      names[i] = "org.example.module" + (i % 200) + ".api.v" + (i % 7) + ".Type" + i;
+    }
+    return names;
+  }
+
+  static IFqnCache<String> build( String impl, String[] names )
+  {
+    IFqnCache<String> cache = impl.equals( "FqnCache" ) ? new FqnCache<>() : new CompactFqnCache<>();
+    for( String fqn : names )
+    {
+      cache.add( fqn, fqn );
+    }
+    return cache;
+  }
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2025 - Manifold Systems LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package manifold.benchmarks;
+
+import manifold.api.util.cache.IFqnCache;
+
+/**
+ * Reports the retained heap of {@link FqnCacheBenchmark}'s cache of 200,000 names for each cache implementation. The
+ * names themselves are excluded. Each implementation runs in a fresh JVM:
+ * <pre>
+ *   java -cp manifold-benchmarks/target/benchmarks.jar manifold.benchmarks.FqnCacheFootprint
+ * </pre>
+ */
+public class FqnCacheFootprint
+{
+  public static void main( String[] args ) throws Exception
+  {
+    if( args.length == 1 )
+    {
+      measure( args[0] );
+      return;
+    }
+
+    for( String impl : new String[]{"FqnCache", "CompactFqnCache"} )
+    {
+      new ProcessBuilder( System.getProperty( "java.home" ) + "/bin/java",
+        "-cp", System.getProperty( "java.class.path" ), FqnCacheFootprint.class.getName(), impl )
+        .inheritIO()
+        .start()
+        .waitFor();
+    }
+  }
+
+  private static void measure( String impl )
+  {
+    String[] names = FqnCacheBenchmark.names();
+    // warm up and load classes, including the shared parts caches
+    FqnCacheBenchmark.build( impl, names );
+
+    long before = usedHeap();
+    IFqnCache<String> cache = FqnCacheBenchmark.build( impl, names );
+    long after = usedHeap();
+    if( cache.get( names[0] ) != names[0] )
+    {
+      throw new IllegalStateException();
+    }
+    System.out.printf( "%-16s %,d names: %,8d KB%n", impl, names.length, (after - before) / 1024 );
+  }
+
+  private static long usedHeap()
+  {
+    Runtime runtime = Runtime.getRuntime();
+    for( int i = 0; i < 5; i++ )
+    {
+      System.gc();
+    }
+    return runtime.totalMemory() - runtime.freeMemory();
+  }
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) 2025 - Manifold Systems LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package manifold.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+import manifold.json.rt.Json;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Parses JSON documents with {@link Json#fromJson(String)}, which uses the default parser, {@code SimpleParserImpl}.
+ * The small document is a single flat object, the large one an array of nested objects of about 250KB.
+ */
+@State( Scope.Benchmark )
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.MICROSECONDS )
+@Warmup( iterations = 5, time = 1 )
+@Measurement( iterations = 5, time = 1 )
+@Fork( 2 )
+public class JsonBenchmark
+{
+  @Param( {"small", "large"} )
+  public String document;
+
+  private String _json;
+
+  @Setup
+  public void setup()
+  {
+    _json = document.equals( "small" ) ? person( 0 ) : people( 1000 );
+  }
+
+  @Benchmark
+  public Object fromJson()
+  {
+    return Json.fromJson( _json );
+  }
+
+  @Benchmark
+  public Object fromJsonWithBigNumbers()
+  {
+    return Json.fromJson( _json, true, false );
+  }
+
+  static String people( int count )
+  {
+    StringBuilder sb = new StringBuilder( "[" );
+    for( int i = 0; i < count; i++ )
+    {
+      if( i > 0 )
+      {
+        sb.append( ',' );
+      }
+      sb.append( person( i ) );
+    }
+    return sb.append( ']' ).toString();
+  }
+
+  static String person( int i )
+  {
+    return "{\"id\": " + i + ", \"name\": \"Person \\\"" + i + "\\\"\", \"email\": \"person" + i + "@example.com\", " +
+      "\"active\": " + (i % 2 == 0) + ", \"balance\": " + (i * 31.25) + ", \"tags\": [\"a\", \"b\", \"c\"], " +
+      "\"address\": {\"street\": \"" + i + " Main St\", \"city\": \"Springfield\", \"zip\": null}}";
+  }
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2025 - Manifold Systems LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package manifold.benchmarks;
+
+import java.util.*;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import manifold.ext.rt.RuntimeMethods;
+import manifold.ext.rt.api.Structural;
+import manifold.rt.api.IBootstrap;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Measures the first structural cast of a (root class, interface) pair, which generates the pair's proxy class, with
+ * proxies generated as class files and, in {@code *Javac}, with proxies compiled from source. Each invocation casts a
+ * JDK collection of another class. The single warmup iteration is the first cast in the JVM, it includes one-time
+ * initialization e.g., javac's. Run with {@code -prof cl} to compare the classes each mode loads.
+ */
+@State( Scope.Benchmark )
+@BenchmarkMode( Mode.SingleShotTime )
+@OutputTimeUnit( TimeUnit.MILLISECONDS )
+@Warmup( iterations = 1 )
+@Measurement( iterations = 17 )
+@Fork( 5 )
+public class ProxyGenerationBenchmark
+{
+  private static final String JAVAC = "-Dmanifold.proxy.bytecode=false";
+
+  @Structural
+  public interface Sized
+  {
+    int size();
+    boolean isEmpty();
+  }
+
+  private List<Object> _roots;
+  private int _next;
+
+  @Setup
+  public void setup()
+  {
+    // classes compiled with manifold do this in their static initializers, it lets proxies load from manclasses
+    IBootstrap.dasBoot();
+    _roots = Arrays.asList(
+      new ArrayList<>(), new LinkedList<>(), new Vector<>(), new Stack<>(), new CopyOnWriteArrayList<>(),
+      new HashSet<>(), new LinkedHashSet<>(), new TreeSet<>(), new CopyOnWriteArraySet<>(), new ConcurrentSkipListSet<>(),
+      new ArrayDeque<>(), new PriorityQueue<>(), new ConcurrentLinkedQueue<>(), new ConcurrentLinkedDeque<>(),
+      new LinkedBlockingQueue<>(), new LinkedBlockingDeque<>(), new ArrayBlockingQueue<>( 1 ),
+      new PriorityBlockingQueue<>() );
+  }
+
+  @Benchmark
+  public Object firstCast()
+  {
+    return cast();
+  }
+
+  @Benchmark
+  @Fork( value = 5, jvmArgsAppend = JAVAC )
+  public Object firstCastJavac()
+  {
+    return cast();
+  }
+
+  private Object cast()
+  {
+    // a root class already cast reuses its proxy, there is one per iteration
+    Sized sized = (Sized)RuntimeMethods.constructProxy( _roots.get( _next++ ), Sized.class );
+    return sized.size();
+  }
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2025 - Manifold Systems LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package manifold.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+import manifold.science.util.Rational;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Measures {@link Rational} arithmetic, which backs the unit types of manifold-science.
+ */
+@State( Scope.Benchmark )
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.NANOSECONDS )
+@Warmup( iterations = 5, time = 1 )
+@Measurement( iterations = 5, time = 1 )
+@Fork( 2 )
+public class RationalBenchmark
+{
+  private Rational _a;
+  private Rational _b;
+
+  @Setup
+  public void setup()
+  {
+    _a = Rational.get( 355, 113 );
+    _b = Rational.get( "2.718281828459045" );
+  }
+
+  @Benchmark
+  public Rational plus()
+  {
+    return _a.plus( _b );
+  }
+
+  @Benchmark
+  public Rational minus()
+  {
+    return _a.minus( _b );
+  }
+
+  @Benchmark
+  public Rational times()
+  {
+    return _a.times( _b );
+  }
+
+  @Benchmark
+  public Rational div()
+  {
+    return _a.div( _b );
+  }
+
+  @Benchmark
+  public Rational parse()
+  {
+    return Rational.get( "2.718281828459045" );
+  }
+}
@@ -0,0 +1,152 @@
+/*
+ * Copyright (c) 2025 - Manifold Systems LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package manifold.benchmarks;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+import manifold.util.ReflectUtil;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Measures {@link ReflectUtil} method lookup and invocation, used throughout manifold's runtime to call members that
+ * are inaccessible at compile-time. Plain reflection serves as the baseline. The {@code *Handles} benchmarks run with
+ * {@code -Dmanifold.reflect.methodhandles=true}, where members of {@link Target} are invoked through generated
+ * functional interfaces and members of JDK classes through method handles.
+ */
+@State( Scope.Benchmark )
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.NANOSECONDS )
+@Warmup( iterations = 5, time = 1 )
+@Measurement( iterations = 5, time = 1 )
+@Fork( 2 )
+public class ReflectUtilBenchmark
+{
+  private static final String HANDLES = "-Dmanifold.reflect.methodhandles=true";
+
+  private final StringBuilder _receiver = new StringBuilder( "manifold" );
+  private final Target _target = new Target( "manifold" );
+  private ReflectUtil.LiveMethodRef _liveMethod;
+  private ReflectUtil.MethodRef _method;
+  private ReflectUtil.MethodRef _targetMethod;
+  private ReflectUtil.FieldRef _targetField;
+  private ReflectUtil.ConstructorRef _targetConstructor;
+  private Method _reflectMethod;
+
+  @Setup
+  public void setup() throws NoSuchMethodException
+  {
+    _liveMethod = ReflectUtil.method( _receiver, "charAt", int.class );
+    _method = ReflectUtil.method( StringBuilder.class, "charAt", int.class );
+    _targetMethod = ReflectUtil.method( Target.class, "charAt", int.class );
+    _targetField = ReflectUtil.field( Target.class, "_name" );
+    _targetConstructor = ReflectUtil.constructor( Target.class, String.class );
+    _reflectMethod = StringBuilder.class.getMethod( "charAt", int.class );
+  }
+
+  @Benchmark
+  public Object lookupAndInvoke()
+  {
+    return ReflectUtil.method( _receiver, "charAt", int.class ).invoke( 3 );
+  }
+
+  @Benchmark
+  public Object invokeLiveMethodRef()
+  {
+    return _liveMethod.invoke( 3 );
+  }
+
+  @Benchmark
+  @Fork( value = 2, jvmArgsAppend = HANDLES )
+  public Object invokeLiveMethodRefHandles()
+  {
+    return _liveMethod.invoke( 3 );
+  }
+
+  @Benchmark
+  public Object invokeMethodRef()
+  {
+    return _method.invoke( _receiver, 3 );
+  }
+
+  @Benchmark
+  @Fork( value = 2, jvmArgsAppend = HANDLES )
+  public Object invokeMethodRefHandles()
+  {
+    return _method.invoke( _receiver, 3 );
+  }
+
+  @Benchmark
+  public Object invokePrivateMethodRef()
+  {
+    return _targetMethod.invoke( _target, 3 );
+  }
+
+  @Benchmark
+  @Fork( value = 2, jvmArgsAppend = HANDLES )
+  public Object invokePrivateMethodRefHandles()
+  {
+    return _targetMethod.invoke( _target, 3 );
+  }
+
+  @Benchmark
+  public Object getPrivateField()
+  {
+    return _targetField.get( _target );
+  }
+
+  @Benchmark
+  @Fork( value = 2, jvmArgsAppend = HANDLES )
+  public Object getPrivateFieldHandles()
+  {
+    return _targetField.get( _target );
+  }
+
+  @Benchmark
+  public Object newInstance()
+  {
+    return _targetConstructor.newInstance( "manifold" );
+  }
+
+  @Benchmark
+  @Fork( value = 2, jvmArgsAppend = HANDLES )
+  public Object newInstanceHandles()
+  {
+    return _targetConstructor.newInstance( "manifold" );
+  }
+
+  @Benchmark
+  public Object invokeReflection() throws Exception
+  {
+    return _reflectMethod.invoke( _receiver, 3 );
+  }
+
+  @SuppressWarnings( "unused" )
+  public static class Target
+  {
+    private final String _name;
+
+    private Target( String name )
+    {
+      _name = name;
+    }
+
+    private char charAt( int index )
+    {
+      return _name.charAt( index );
+    }
+  }
+}
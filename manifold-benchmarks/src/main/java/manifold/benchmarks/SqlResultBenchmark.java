@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) 2025 - Manifold Systems LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package manifold.benchmarks;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.TimeUnit;
+import manifold.ext.rt.api.IBindingsBacked;
+import manifold.rt.api.Bindings;
+import manifold.sql.rt.api.Result;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Measures {@link Result} ripping rows from a JDBC result set into bindings, against an in-memory H2 database. The
+ * query itself is included, so compare with the {@code resultSetOnly} baseline.
+ */
+@State( Scope.Benchmark )
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.MICROSECONDS )
+@Warmup( iterations = 5, time = 1 )
+@Measurement( iterations = 5, time = 1 )
+@Fork( 2 )
+public class SqlResultBenchmark
+{
+  private static final String QUERY = "SELECT id, name, email, active, balance, joined FROM person";
+
+  @Param( {"1", "1000"} )
+  public int rows;
+
+  private Connection _connection;
+  private PreparedStatement _query;
+
+  @Setup
+  public void setup() throws SQLException
+  {
+    _connection = DriverManager.getConnection( "jdbc:h2:mem:benchmark_" + rows );
+    try( Statement statement = _connection.createStatement() )
+    {
+      statement.execute( "CREATE TABLE person (id INT PRIMARY KEY, name VARCHAR(64), email VARCHAR(64), " +
+        "active BOOLEAN, balance DECIMAL(12, 2), joined DATE)" );
+    }
+    try( PreparedStatement insert = _connection.prepareStatement( "INSERT INTO person VALUES (?, ?, ?, ?, ?, ?)" ) )
+    {
+      for( int i = 0; i < rows; i++ )
+      {
+        insert.setInt( 1, i );
+        insert.setString( 2, "Person " + i );
+        insert.setString( 3, "person" + i + "@example.com" );
+        insert.setBoolean( 4, i % 2 == 0 );
+        insert.setBigDecimal( 5, java.math.BigDecimal.valueOf( i * 3125, 2 ) );
+        insert.setDate( 6, java.sql.Date.valueOf( "2025-01-" + (10 + i % 20) ) );
+        insert.addBatch();
+      }
+      insert.executeBatch();
+    }
+    _query = _connection.prepareStatement( QUERY );
+  }
+
+  @TearDown
+  public void tearDown() throws SQLException
+  {
+    _query.close();
+    _connection.close();
+  }
+
+  @Benchmark
+  public Result<Row> rip() throws SQLException
+  {
+    try( ResultSet resultSet = _query.executeQuery() )
+    {
+      return new Result<>( null, resultSet, Row::new );
+    }
+  }
+
+  @Benchmark
+  public int resultSetOnly() throws SQLException
+  {
+    int count = 0;
+    try( ResultSet resultSet = _query.executeQuery() )
+    {
+      while( resultSet.next() )
+      {
+        for( int i = 1; i <= 6; i++ )
+        {
+          if( resultSet.getObject( i ) != null )
+          {
+            count++;
+          }
+        }
+      }
+    }
+    return count;
+  }
+
+  public static class Row implements IBindingsBacked
+  {
+    private final Bindings _bindings;
+
+    Row( Bindings bindings )
+    {
+      _bindings = bindings;
+    }
+
+    @Override
+    public Bindings getBindings()
+    {
+      return _bindings;
+    }
+  }
+}
@@ -0,0 +1,142 @@
+/*
+ * Copyright (c) 2025 - Manifold Systems LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package manifold.benchmarks;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+import manifold.ext.rt.RuntimeMethods;
+import manifold.ext.rt.api.Structural;
+import manifold.ext.rt.extensions.java.util.Map.MapStructExt;
+import manifold.json.rt.api.DataBindings;
+import manifold.util.ReflectUtil;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Measures structural interfaces backed by a map, as with JSON, GraphQL and SQL types: casting a map to the interface,
+ * calling through the resulting proxy, and {@link MapStructExt#invoke} directly. Also measures
+ * {@link ReflectUtil#structuralCallByProxy}, which dispatches calls on structural proxies of plain objects when there
+ * is no manifold runtime, to a method, to a field, and to a method of one of several receiver classes.
+ */
+@State( Scope.Benchmark )
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.NANOSECONDS )
+@Warmup( iterations = 5, time = 1 )
+@Measurement( iterations = 5, time = 1 )
+@Fork( 2 )
+public class StructuralBenchmark
+{
+  @Structural
+  public interface Person
+  {
+    String getName();
+    void setName( String name );
+    int getAge();
+  }
+
+  public static class PersonByMethod
+  {
+    private final String _name = "Scott";
+
+    public String getName()
+    {
+      return _name;
+    }
+  }
+
+  public static class PersonByField
+  {
+    public String name = "Scott";
+  }
+
+  public static class OtherPersonByMethod extends PersonByMethod
+  {
+  }
+
+  private DataBindings _bindings;
+  private Person _person;
+  private Method _getName;
+  private Method _getAge;
+  private Object[] _receivers;
+  private int _index;
+
+  @Setup
+  public void setup() throws NoSuchMethodException
+  {
+    _bindings = new DataBindings();
+    _bindings.put( "name", "Scott" );
+    _bindings.put( "age", 42 );
+    _person = (Person)RuntimeMethods.constructProxy( _bindings, Person.class );
+    _getName = Person.class.getMethod( "getName" );
+    _getAge = Person.class.getMethod( "getAge" );
+    _receivers = new Object[]{new PersonByMethod(), new PersonByField(), new OtherPersonByMethod()};
+  }
+
+  @Benchmark
+  public Object constructProxy()
+  {
+    return RuntimeMethods.constructProxy( _bindings, Person.class );
+  }
+
+  @Benchmark
+  public String proxyGetString()
+  {
+    return _person.getName();
+  }
+
+  @Benchmark
+  public int proxyGetInt()
+  {
+    return _person.getAge();
+  }
+
+  @Benchmark
+  public void proxySet()
+  {
+    _person.setName( "Scott" );
+  }
+
+  @Benchmark
+  public Object invokeGetString()
+  {
+    return MapStructExt.invoke( _bindings, _person, _getName, null );
+  }
+
+  @Benchmark
+  public Object invokeGetInt()
+  {
+    return MapStructExt.invoke( _bindings, _person, _getAge, null );
+  }
+
+  @Benchmark
+  public Object structuralCallMethod()
+  {
+    return ReflectUtil.structuralCallByProxy( _getName, null, _receivers[0], (Object[])null );
+  }
+
+  @Benchmark
+  public Object structuralCallField()
+  {
+    return ReflectUtil.structuralCallByProxy( _getName, null, _receivers[1], (Object[])null );
+  }
+
+  @Benchmark
+  public Object structuralCallPolymorphic()
+  {
+    Object receiver = _receivers[_index++ % _receivers.length];
+    return ReflectUtil.structuralCallByProxy( _getName, null, receiver, (Object[])null );
+  }
+}
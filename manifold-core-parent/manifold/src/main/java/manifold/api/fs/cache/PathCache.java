@@ -16,14 +16,22 @@
 
 package manifold.api.fs.cache;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
 import java.util.function.Supplier;
+import java.util.stream.Collectors;
 import manifold.api.fs.IDirectory;
 import manifold.api.fs.IFile;
 import manifold.api.fs.IFileUtil;
@@ -33,12 +41,25 @@ import manifold.api.host.RefreshRequest;
 import manifold.rt.api.util.ManIdentifierUtil;
 import manifold.rt.api.util.ManClassUtil;
 import manifold.api.util.cache.FqnCache;
+import manifold.rt.api.util.Pair;
 import manifold.util.concurrent.ConcurrentHashSet;
+import manifold.util.concurrent.LocklessLazyVar;
 
 /**
+ * Indexes the files in a module's path by extension and qualified name.
+ * <p/>
+ * Set the {@code manifold.pathcache.parallel} system property to {@code true} to scan path entries and their package
+ * directories in parallel with fork-join. The parallel index is identical to the serial one: where the same name occurs
+ * more than once, the first in path order wins.
+ * <p/>
+ * Set the {@code manifold.pathcache.index} system property to a directory to persist a snapshot of each path entry's
+ * files there and reload it on subsequent runs, see {@link PathCacheIndex}.
  */
 public class PathCache
 {
+  private static final LocklessLazyVar<Boolean> PARALLEL =
+    LocklessLazyVar.make( () -> Boolean.valueOf( System.getProperty( "manifold.pathcache.parallel", "false" ) ) );
+
   @SuppressWarnings({"FieldCanBeLocal", "UnusedDeclaration"})
   private CacheClearer _clearer;
   private final IModule _module;
@@ -60,16 +81,123 @@ public class PathCache
   private void init()
   {
     Map<String, FqnCache<IFile>> filesByExtension = new ConcurrentHashMap<>();
-    for( IDirectory sourceEntry : _pathSupplier.get() )
+    Collection<IDirectory> path = _pathSupplier.get();
+    if( PARALLEL.get() )
     {
-      if( IFileUtil.hasSourceFiles( sourceEntry ) )
+      initParallel( path, filesByExtension );
+    }
+    else
+    {
+      for( IDirectory sourceEntry : path )
       {
-        addTypesForFiles( "", sourceEntry, filesByExtension );
+        if( isIndexed( sourceEntry ) )
+        {
+          for( Pair<String, IFile> pair : getIndexedFiles( sourceEntry ) )
+          {
+            addToExtension( pair.getFirst(), pair.getSecond(), filesByExtension );
+            addToReverseMap( pair.getSecond(), pair.getFirst() );
+          }
+        }
+        else if( IFileUtil.hasSourceFiles( sourceEntry ) )
+        {
+          addTypesForFiles( "", sourceEntry, filesByExtension );
+        }
       }
     }
     _filesByExtension = filesByExtension;
   }
 
+  private boolean isIndexed( IDirectory sourceEntry )
+  {
+    return PathCacheIndex.isEnabled() && sourceEntry.isJavaFile();
+  }
+
+  /**
+   * Loads the path entry's files from its {@link PathCacheIndex} snapshot, or scans the path entry and saves a snapshot
+   * if there is no valid one.
+   */
+  private List<Pair<String, IFile>> getIndexedFiles( IDirectory sourceEntry )
+  {
+    List<Pair<String, IFile>> files = PathCacheIndex.load( sourceEntry );
+    if( files == null )
+    {
+      files = new ArrayList<>();
+      Map<String, Long> scannedDirs = new LinkedHashMap<>();
+      if( IFileUtil.hasSourceFiles( sourceEntry ) )
+      {
+        collectFiles( "", "", sourceEntry, files, scannedDirs );
+      }
+      if( sourceEntry.exists() )
+      {
+        PathCacheIndex.save( sourceEntry, files, scannedDirs );
+      }
+    }
+    return files;
+  }
+
+  private void collectFiles( String pkg, String relativeDir, IDirectory dir, List<Pair<String, IFile>> files,
+                             Map<String, Long> scannedDirs )
+  {
+    if( !_module.getHost().isPathIgnored( pkg ) )
+    {
+      if( !dir.isInJar() )
+      {
+        // timestamp before listing so a change made during the scan invalidates the snapshot
+        scannedDirs.put( relativeDir, dir.toJavaFile().lastModified() );
+      }
+      for( IFile file : dir.listFiles() )
+      {
+        files.add( new Pair<>( qualifyName( pkg, file.getName() ), file ) );
+      }
+      for( IDirectory subdir : dir.listDirs() )
+      {
+        if( isValidPackage( subdir ) )
+        {
+          collectFiles( qualifyName( pkg, subdir.getName() ),
+            relativeDir.isEmpty() ? subdir.getName() : relativeDir + '/' + subdir.getName(), subdir, files, scannedDirs );
+        }
+      }
+    }
+  }
+
+  private void initParallel( Collection<IDirectory> path, Map<String, FqnCache<IFile>> filesByExtension )
+  {
+    // scan all path entries concurrently, each scan collects its files by extension in listing order
+    List<ScanTask> scans = path.stream()
+      .map( sourceEntry -> new ScanTask( "", sourceEntry, true ) )
+      .collect( Collectors.toList() );
+    ForkJoinTask.invokeAll( scans );
+
+    Set<String> extensions = new LinkedHashSet<>();
+    scans.forEach( scan -> extensions.addAll( scan.join().keySet() ) );
+
+    // extensions are independent, build each extension's cache concurrently, merging entries in path order
+    List<ForkJoinTask<?>> merges = new ArrayList<>();
+    for( String ext : extensions )
+    {
+      merges.add( ForkJoinTask.adapt( () -> {
+        FqnCache<IFile> cache = new FqnCache<>();
+        for( ScanTask scan : scans )
+        {
+          List<Pair<String, IFile>> files = scan.join().get( ext );
+          if( files != null )
+          {
+            for( Pair<String, IFile> pair : files )
+            {
+              if( !cache.contains( pair.getFirst() ) )
+              {
+                // add only if absent; respect class/sourcepath order
+                cache.add( pair.getFirst(), pair.getSecond() );
+              }
+            }
+          }
+        }
+        filesByExtension.put( ext, cache );
+      } ) );
+    }
+    ForkJoinTask.invokeAll( merges );
+  }
+
   @SuppressWarnings("unused")
   public Set<IFile> findFiles( String fqn )
   {
@@ -203,6 +331,72 @@ public class PathCache
     _reverseMap = new ConcurrentHashMap<>();
   }
 
+  /**
+   * Collects the files in a directory and its package subdirectories by extension, in the same order the serial scan
+   * visits them. Subdirectories are scanned as forked subtasks. Adds to the reverse map directly since it is concurrent
+   * and its entries are unordered.
+   */
+  private class ScanTask extends RecursiveTask<Map<String, List<Pair<String, IFile>>>>
+  {
+    private final String _pkg;
+    private final IDirectory _dir;
+    private final boolean _pathEntry;
+
+    private ScanTask( String pkg, IDirectory dir, boolean pathEntry )
+    {
+      _pkg = pkg;
+      _dir = dir;
+      _pathEntry = pathEntry;
+    }
+
+    @Override
+    protected Map<String, List<Pair<String, IFile>>> compute()
+    {
+      Map<String, List<Pair<String, IFile>>> filesByExtension = new HashMap<>();
+      if( _pathEntry && isIndexed( _dir ) )
+      {
+        for( Pair<String, IFile> pair : getIndexedFiles( _dir ) )
+        {
+          filesByExtension.computeIfAbsent( pair.getSecond().getExtension().toLowerCase(), __ -> new ArrayList<>() )
+            .add( pair );
+          addToReverseMap( pair.getSecond(), pair.getFirst() );
+        }
+        return filesByExtension;
+      }
+      if( _pathEntry && !IFileUtil.hasSourceFiles( _dir ) )
+      {
+        return filesByExtension;
+      }
+
+      if( !_module.getHost().isPathIgnored( _pkg ) )
+      {
+        for( IFile file : _dir.listFiles() )
+        {
+          String fqn = qualifyName( _pkg, file.getName() );
+          filesByExtension.computeIfAbsent( file.getExtension().toLowerCase(), __ -> new ArrayList<>() )
+            .add( new Pair<>( fqn, file ) );
+          addToReverseMap( file, fqn );
+        }
+
+        List<ScanTask> subtasks = new ArrayList<>();
+        for( IDirectory subdir : _dir.listDirs() )
+        {
+          if( isValidPackage( subdir ) )
+          {
+            subtasks.add( new ScanTask( qualifyName( _pkg, subdir.getName() ), subdir, false ) );
+          }
+        }
+        invokeAll( subtasks );
+        for( ScanTask subtask : subtasks )
+        {
+          subtask.join().forEach( ( ext, files ) ->
+            filesByExtension.computeIfAbsent( ext, __ -> new ArrayList<>() ).addAll( files ) );
+        }
+      }
+      return filesByExtension;
+    }
+  }
+
   private class CacheClearer extends AbstractTypeSystemListener
   {
     @Override
@@ -0,0 +1,248 @@
+/*
+ * Copyright (c) 2025 - Manifold Systems LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package manifold.api.fs.cache;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import manifold.api.fs.IDirectory;
+import manifold.api.fs.IFile;
+import manifold.api.util.fingerprint.Fingerprint;
+import manifold.rt.api.util.Pair;
+import manifold.util.JreUtil;
+import manifold.util.ReflectUtil;
+import manifold.util.concurrent.LocklessLazyVar;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * A persistent snapshot of the files {@link PathCache} indexes for a single path entry, a jar file or a directory. Enable
+ * snapshots by setting the {@code manifold.pathcache.index} system property to a writable directory.
+ * <p/>
+ * A jar snapshot is valid while the jar's size and timestamp are unchanged. A directory snapshot records the timestamp of
+ * each package directory it scanned, since adding, removing, or renaming a file or subdirectory changes the timestamp of
+ * its parent directory. Snapshots are memory-mapped on load and unmapped once read.
+ */
+final class PathCacheIndex
+{
+  private static final String INDEX_DIR_PROPERTY = "manifold.pathcache.index";
+  private static final int MAGIC = 0x4D504349; // MPCI
+  private static final int VERSION = 1;
+  private static final byte KIND_JAR = 0;
+  private static final byte KIND_DIR = 1;
+
+  private static final LocklessLazyVar<File> INDEX_DIR =
+    LocklessLazyVar.make( () -> {
+      String dir = System.getProperty( INDEX_DIR_PROPERTY );
+      return dir == null || dir.isEmpty() ? null : new File( dir );
+    } );
+
+  static boolean isEnabled()
+  {
+    return INDEX_DIR.get() != null;
+  }
+
+  /**
+   * Replaces the directory read from {@code manifold.pathcache.index}, a null directory disables snapshots. The setting
+   * is otherwise read once per JVM.
+   */
+  static void setIndexDir( File dir )
+  {
+    INDEX_DIR.set( dir );
+  }
+
+  /**
+   * @return The path entry's files as (qualified name, file) pairs in scan order, or null if there is no valid snapshot.
+   */
+  static List<Pair<String, IFile>> load( IDirectory pathEntry )
+  {
+    File root = pathEntry.toJavaFile();
+    File indexFile = getIndexFile( root );
+    if( !indexFile.isFile() )
+    {
+      return null;
+    }
+
+    MappedByteBuffer buffer = null;
+    try( FileChannel channel = FileChannel.open( indexFile.toPath(), StandardOpenOption.READ ) )
+    {
+      buffer = channel.map( FileChannel.MapMode.READ_ONLY, 0, channel.size() );
+      if( buffer.getInt() != MAGIC || buffer.getInt() != VERSION || !readString( buffer ).equals( root.getAbsolutePath() ) )
+      {
+        return null;
+      }
+
+      byte kind = buffer.get();
+      if( kind == KIND_JAR )
+      {
+        if( !root.isFile() || buffer.getLong() != root.length() || buffer.getLong() != root.lastModified() )
+        {
+          return null;
+        }
+      }
+      else
+      {
+        if( !root.isDirectory() )
+        {
+          return null;
+        }
+        for( int i = buffer.getInt(); i > 0; i-- )
+        {
+          String relativeDir = readString( buffer );
+          if( buffer.getLong() != new File( root, relativeDir ).lastModified() )
+          {
+            return null;
+          }
+        }
+      }
+
+      int count = buffer.getInt();
+      List<Pair<String, IFile>> files = new ArrayList<>( count );
+      for( int i = 0; i < count; i++ )
+      {
+        String fqn = readString( buffer );
+        files.add( new Pair<>( fqn, pathEntry.file( readString( buffer ) ) ) );
+      }
+      return files;
+    }
+    catch( Exception ignore )
+    {
+      // damaged or partially written, rescan
+      return null;
+    }
+    finally
+    {
+      if( buffer != null )
+      {
+        unmap( buffer );
+      }
+    }
+  }
+
+  /**
+   * Releases the mapping now instead of when the buffer is collected. Until then the index file stays open, and on
+   * Windows it can't be replaced with a new snapshot or deleted. The buffer must not be used afterward.
+   */
+  private static void unmap( MappedByteBuffer buffer )
+  {
+    try
+    {
+      if( JreUtil.isJava8() )
+      {
+        Object cleaner = ReflectUtil.method( buffer, "cleaner" ).invoke();
+        if( cleaner != null )
+        {
+          ReflectUtil.method( cleaner, "clean" ).invoke();
+        }
+      }
+      else
+      {
+        Object unsafe = ReflectUtil.field( "sun.misc.Unsafe", "theUnsafe" ).getStatic();
+        ReflectUtil.method( unsafe, "invokeCleaner", ByteBuffer.class ).invoke( buffer );
+      }
+    }
+    catch( Throwable ignore )
+    {
+      // the mapping is released when the buffer is collected
+    }
+  }
+
+  /**
+   * @param files The path entry's files as (qualified name, file) pairs in scan order
+   * @param scannedDirs The package directories scanned, relative to the path entry, mapped to their timestamps as of
+   *                    the scan. Not used for jars.
+   */
+  static void save( IDirectory pathEntry, List<Pair<String, IFile>> files, Map<String, Long> scannedDirs )
+  {
+    File root = pathEntry.toJavaFile();
+    File indexFile = getIndexFile( root );
+    try
+    {
+      //noinspection ResultOfMethodCallIgnored
+      indexFile.getParentFile().mkdirs();
+      Path temp = Files.createTempFile( indexFile.getParentFile().toPath(), indexFile.getName(), ".tmp" );
+      try( DataOutputStream out = new DataOutputStream( new BufferedOutputStream( Files.newOutputStream( temp ) ) ) )
+      {
+        out.writeInt( MAGIC );
+        out.writeInt( VERSION );
+        writeString( out, root.getAbsolutePath() );
+        if( pathEntry.isInJar() || root.isFile() )
+        {
+          out.writeByte( KIND_JAR );
+          out.writeLong( root.length() );
+          out.writeLong( root.lastModified() );
+        }
+        else
+        {
+          out.writeByte( KIND_DIR );
+          out.writeInt( scannedDirs.size() );
+          for( Map.Entry<String, Long> entry : scannedDirs.entrySet() )
+          {
+            writeString( out, entry.getKey() );
+            out.writeLong( entry.getValue() );
+          }
+        }
+
+        out.writeInt( files.size() );
+        for( Pair<String, IFile> pair : files )
+        {
+          writeString( out, pair.getFirst() );
+          writeString( out, pathEntry.relativePath( pair.getSecond() ) );
+        }
+      }
+      Files.move( temp, indexFile.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE );
+    }
+    catch( IOException ignore )
+    {
+      // the snapshot is an optimization, failing to write it is not an error
+    }
+  }
+
+  private static File getIndexFile( File root )
+  {
+    return new File( INDEX_DIR.get(), new Fingerprint( root.getAbsolutePath() ).toHexString() + ".idx" );
+  }
+
+  private static void writeString( DataOutputStream out, String value ) throws IOException
+  {
+    byte[] bytes = value.getBytes( UTF_8 );
+    out.writeInt( bytes.length );
+    out.write( bytes );
+  }
+
+  private static String readString( MappedByteBuffer buffer )
+  {
+    byte[] bytes = new byte[buffer.getInt()];
+    buffer.get( bytes );
+    return new String( bytes, UTF_8 );
+  }
+
+  private PathCacheIndex()
+  {
+  }
+}
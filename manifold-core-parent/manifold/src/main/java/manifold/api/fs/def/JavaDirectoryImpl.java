@@ -215,27 +215,45 @@ public class JavaDirectoryImpl extends JavaResourceImpl implements IDirectory
 
     @Override
     public List<IDirectory> listDirs()
+    {
+      refresh();
+      return _directories;
+    }
+
+    @Override
+    public List<IFile> listFiles()
+    {
+      refresh();
+      return _files;
+    }
+
+    /**
+     * Lists the directory outside the file system's lock so that threads listing different directories, such as the
+     * parallel PathCache build, don't serialize on the IO. Only the staleness check and publishing the listing happen
+     * under the lock. If two threads refresh at once, the last one to publish wins, and since the timestamp is taken
+     * before listing, a stale listing is refreshed on the next call.
+     */
+    private void refresh()
     {
       getFileSystem().getLock().lock();
       try
       {
-        refreshIfNecessary();
-        return _directories;
+        if( !isRefreshNecessary() )
+        {
+          return;
+        }
       }
       finally
       {
         getFileSystem().getLock().unlock();
       }
-    }
 
-    @Override
-    public List<IFile> listFiles()
-    {
+      DirListing listing = new DirListing( toJavaFile() );
+
       getFileSystem().getLock().lock();
       try
       {
-        refreshIfNecessary();
-        return _files;
+        publish( listing );
       }
       finally
       {
@@ -243,51 +261,33 @@ public class JavaDirectoryImpl extends JavaResourceImpl implements IDirectory
       }
     }
 
-    protected void refreshInfo()
+    private void publish( DirListing listing )
     {
-      _files = new ArrayList<IFile>();
-      _directories = new ArrayList<IDirectory>();
-      File javaFile = toJavaFile();
-      maybeSetTimestamp( javaFile );
+      maybeSetTimestamp( listing );
 
-      File[] files = javaFile.listFiles();
-      if( files != null )
+      List<IDirectory> directories = new ArrayList<>( listing._dirs.size() );
+      for( File f : listing._dirs )
       {
-        for( File f : files )
-        {
-          if( FileSystemImpl.isDirectory( f ) )
-          {
-            _directories.add( getFileSystem().getIDirectory( f ) );
-          }
-          else
-          {
-            _files.add( getFileSystem().getIFile( f ) );
-          }
-        }
+        directories.add( getFileSystem().getIDirectory( f ) );
       }
-
-      if( _directories.isEmpty() )
+      List<IFile> files = new ArrayList<>( listing._files.size() );
+      for( File f : listing._files )
       {
-        _directories = Collections.emptyList();
-      }
-      else
-      {
-        ((ArrayList)_directories).trimToSize();
+        files.add( getFileSystem().getIFile( f ) );
       }
 
-      if( _files.isEmpty() )
-      {
-        _files = Collections.emptyList();
-      }
-      else
-      {
-        ((ArrayList)_files).trimToSize();
-      }
+      _directories = directories.isEmpty() ? Collections.emptyList() : directories;
+      _files = files.isEmpty() ? Collections.emptyList() : files;
     }
 
-    protected abstract void refreshIfNecessary();
+    /**
+     * Called with the file system's lock acquired.
+     *
+     * @return true if the directory must be listed again
+     */
+    protected abstract boolean isRefreshNecessary();
 
-    protected abstract void maybeSetTimestamp( File javaFile );
+    protected abstract void maybeSetTimestamp( DirListing listing );
   }
 
   private class TimestampBasedCachingFileRetrievalStrategy extends CachingFileRetrievalStrategy
@@ -301,33 +301,29 @@ public class JavaDirectoryImpl extends JavaResourceImpl implements IDirectory
       _lastTimestamp = -1;
     }
 
-    protected void refreshIfNecessary()
+    protected boolean isRefreshNecessary()
     {
       if( _lastTimestamp == -1 )
       {
-        refreshInfo();
+        return true;
       }
-      else
+
+      File file = toJavaFile();
+      long currentTimestamp = file.lastModified();
+      if( currentTimestamp == 0 )
       {
-        File file = toJavaFile();
-        long currentTimestamp = file.lastModified();
-        if( currentTimestamp == 0 )
-        {
-          // If the timestamp is 0, assume it's been deleted
-          _files = Collections.emptyList();
-          _directories = Collections.emptyList();
-        }
-        else if( _lastTimestamp != currentTimestamp )
-        {
-          refreshInfo();
-        }
+        // If the timestamp is 0, assume it's been deleted
+        _files = Collections.emptyList();
+        _directories = Collections.emptyList();
+        return false;
       }
+      return _lastTimestamp != currentTimestamp;
     }
 
     @Override
-    protected void maybeSetTimestamp( File javaFile )
+    protected void maybeSetTimestamp( DirListing listing )
     {
-      _lastTimestamp = javaFile.lastModified();
+      _lastTimestamp = listing._lastModified;
     }
   }
 
@@ -344,65 +340,83 @@ public class JavaDirectoryImpl extends JavaResourceImpl implements IDirectory
       _lastRefreshTimestamp = -1;
     }
 
-    protected void refreshIfNecessary()
+    protected boolean isRefreshNecessary()
     {
       if( _lastFileTimestamp == -1 )
       {
-        doRefreshImpl();
+        return true;
       }
-      else
+
+      File file = toJavaFile();
+      long currentTimestamp = file.lastModified();
+      if( currentTimestamp == 0 )
       {
-        File file = toJavaFile();
-        long currentTimestamp = file.lastModified();
-        if( currentTimestamp == 0 )
-        {
-          // If the timestamp is 0, assume it's been deleted
-          _files = Collections.emptyList();
-          _directories = Collections.emptyList();
-        }
-        else if( _lastFileTimestamp != currentTimestamp )
-        {
-          doRefreshImpl();
-        }
-        else
-        {
-          long refreshDelta = _lastRefreshTimestamp - currentTimestamp;
-          if( refreshDelta > -16 && refreshDelta < 16 )
-          {
-            doRefreshImpl();
-          }
-        }
+        // If the timestamp is 0, assume it's been deleted
+        _files = Collections.emptyList();
+        _directories = Collections.emptyList();
+        return false;
       }
-    }
-
-    private void doRefreshImpl()
-    {
-      _lastRefreshTimestamp = System.currentTimeMillis();
-      refreshInfo();
+      if( _lastFileTimestamp != currentTimestamp )
+      {
+        return true;
+      }
+      long refreshDelta = _lastRefreshTimestamp - currentTimestamp;
+      return refreshDelta > -16 && refreshDelta < 16;
     }
 
     @Override
-    protected void maybeSetTimestamp( File javaFile )
+    protected void maybeSetTimestamp( DirListing listing )
     {
-      _lastFileTimestamp = javaFile.lastModified();
+      _lastRefreshTimestamp = listing._listedAt;
+      _lastFileTimestamp = listing._lastModified;
     }
   }
 
   private class FullyCachedFileRetrievalStrategy extends CachingFileRetrievalStrategy
   {
     @Override
-    protected void refreshIfNecessary()
+    protected boolean isRefreshNecessary()
     {
-      if( _files == null )
-      {
-        refreshInfo();
-      }
+      return _files == null;
     }
 
     @Override
-    protected void maybeSetTimestamp( File javaFile )
+    protected void maybeSetTimestamp( DirListing listing )
     {
       // Do nothing
     }
   }
+
+  /**
+   * The subdirectories and files of a directory, listed without holding the file system's lock
+   */
+  private static class DirListing
+  {
+    private final long _listedAt;
+    private final long _lastModified;
+    private final List<File> _dirs = new ArrayList<>();
+    private final List<File> _files = new ArrayList<>();
+
+    DirListing( File dir )
+    {
+      _listedAt = System.currentTimeMillis();
+      // take the timestamp before listing so a change made while listing is picked up on the next refresh
+      _lastModified = dir.lastModified();
+      File[] files = dir.listFiles();
+      if( files != null )
+      {
+        for( File f : files )
+        {
+          if( FileSystemImpl.isDirectory( f ) )
+          {
+            _dirs.add( f );
+          }
+          else
+          {
+            _files.add( f );
+          }
+        }
+      }
+    }
+  }
 }
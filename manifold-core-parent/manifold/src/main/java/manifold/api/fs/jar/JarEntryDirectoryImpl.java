@@ -67,12 +67,14 @@ public class JarEntryDirectoryImpl extends JarEntryResourceImpl implements IJarF
   @Override
   public IDirectory dir( String relativePath )
   {
+    _jarFile.ensureProcessed();
     return IDirectoryUtil.dir( this, relativePath );
   }
 
   @Override
   public IFile file( String path )
   {
+    _jarFile.ensureProcessed();
     return IDirectoryUtil.file( this, path );
   }
 
@@ -85,6 +87,7 @@ public class JarEntryDirectoryImpl extends JarEntryResourceImpl implements IJarF
   @Override
   public List<? extends IDirectory> listDirs()
   {
+    _jarFile.ensureProcessed();
     List<IDirectory> results = new ArrayList<>();
     for( IDirectory child : _childDirs )
     {
@@ -99,6 +102,7 @@ public class JarEntryDirectoryImpl extends JarEntryResourceImpl implements IJarF
   @Override
   public List<? extends IFile> listFiles()
   {
+    _jarFile.ensureProcessed();
     List<IFile> results = new ArrayList<>();
     for( IFile child : _childFiles )
     {
@@ -46,6 +46,7 @@ public class JarFileDirectoryImpl implements IJarFileDirectory
   private IDirectory _parent;
   private URI _uri;
   private ResourcePath _path;
+  private volatile boolean _processed;
 
   public JarFileDirectoryImpl( IFileSystem fileSystem, File file )
   {
@@ -60,6 +61,34 @@ public class JarFileDirectoryImpl implements IJarFileDirectory
       try
       {
         _jarFile = new JarFile( file );
+      }
+      catch( IOException e )
+      {
+        throw new RuntimeException( e );
+      }
+    }
+  }
+
+  /**
+   * Builds the resource tree from the jar's entries. Deferred until the tree is listed or navigated because most jars on a
+   * classpath are only ever asked for a few files, such as the manifest, which {@link #file(String)} resolves directly.
+   */
+  void ensureProcessed()
+  {
+    if( _processed )
+    {
+      return;
+    }
+
+    synchronized( this )
+    {
+      if( _processed )
+      {
+        return;
+      }
+
+      if( _jarFile != null )
+      {
         Enumeration<JarEntry> entries = _jarFile.entries();
         while( entries.hasMoreElements() )
         {
@@ -67,11 +96,39 @@ public class JarFileDirectoryImpl implements IJarFileDirectory
           processJarEntry( e );
         }
       }
-      catch( IOException e )
-      {
-        throw new RuntimeException( e );
-      }
+      _processed = true;
+    }
+  }
+
+  /**
+   * Resolves a single file entry without building the rest of the tree. The resulting resource is the same one
+   * processing the jar later finds for the entry.
+   *
+   * @return The file or null if the jar has no such file entry. Nodes are only added to the tree for entries the jar
+   * has, a node for a missing file could conflict with a directory of the same name processing adds later.
+   */
+  private synchronized IFile resolveFile( String path )
+  {
+    List<String> pathComponents = IDirectoryUtil.splitPath( path );
+    if( _jarFile == null || pathComponents.isEmpty() || pathComponents.contains( ".." ) || pathComponents.contains( "." ) )
+    {
+      return null;
+    }
+
+    JarEntry entry = _jarFile.getJarEntry( String.join( "/", pathComponents ) );
+    if( entry == null || entry.isDirectory() )
+    {
+      return null;
+    }
+
+    IJarFileDirectory parentDirectory = this;
+    for( int i = 0; i < pathComponents.size() - 1; i++ )
+    {
+      parentDirectory = parentDirectory.getOrCreateDirectory( pathComponents.get( i ) );
     }
+    JarEntryFileImpl file = parentDirectory.getOrCreateFile( pathComponents.get( pathComponents.size() - 1 ) );
+    file.setEntry( entry );
+    return file;
   }
 
   @Override
@@ -182,12 +239,22 @@ public class JarFileDirectoryImpl implements IJarFileDirectory
   @Override
   public IDirectory dir( String relativePath )
   {
+    ensureProcessed();
     return IDirectoryUtil.dir( this, relativePath );
   }
 
   @Override
   public IFile file( String path )
   {
+    if( !_processed )
+    {
+      IFile file = resolveFile( path );
+      if( file != null )
+      {
+        return file;
+      }
+      ensureProcessed();
+    }
     return IDirectoryUtil.file( this, path );
   }
 
@@ -200,6 +267,7 @@ public class JarFileDirectoryImpl implements IJarFileDirectory
   @Override
   public List<? extends IDirectory> listDirs()
   {
+    ensureProcessed();
     List<IDirectory> results = new ArrayList<>();
     for( IDirectory child : _childDirs )
     {
@@ -214,6 +282,7 @@ public class JarFileDirectoryImpl implements IJarFileDirectory
   @Override
   public List<? extends IFile> listFiles()
   {
+    ensureProcessed();
     List<IFile> results = new ArrayList<>();
     for( IFile child : _childFiles )
     {
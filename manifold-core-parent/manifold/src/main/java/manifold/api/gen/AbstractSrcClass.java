@@ -291,6 +291,16 @@ public class AbstractSrcClass<T extends AbstractSrcClass<T>> extends SrcStatemen
     return _methods;
   }
 
+  public Collection<SrcGetProperty> getGetProperties()
+  {
+    return _getProperties.values();
+  }
+
+  public Collection<SrcSetProperty> getSetProperties()
+  {
+    return _setProperties.values();
+  }
+
   public List<SrcStatementBlock> getStaticBlocks()
   {
     return _staticBlocks;
@@ -117,6 +117,15 @@ public interface ITypeManifold extends IFileConnected, ISelfCompiled
 
   List<IFile> findFilesForType( String fqn );
 
+  /**
+   * The files the source of {@code fqn} depends on, including files other than its own such as a referenced schema.
+   * Incremental builds regenerate the type if any of these files change. By default, the files of the type.
+   */
+  default Collection<IFile> findDependencyFiles( String fqn )
+  {
+    return findFilesForType( fqn );
+  }
+
   /**
    * Clear all cached data
    */
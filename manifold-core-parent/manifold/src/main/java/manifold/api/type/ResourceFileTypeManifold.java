@@ -16,6 +16,7 @@
 
 package manifold.api.type;
 
+import java.io.BufferedInputStream;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.util.ArrayList;
@@ -26,8 +27,11 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
 import java.util.function.BiFunction;
 import java.util.stream.Collectors;
+import javax.tools.Diagnostic;
 import javax.tools.DiagnosticListener;
 import javax.tools.JavaFileManager;
 import javax.tools.JavaFileObject;
@@ -41,7 +45,9 @@ import manifold.rt.api.Array;
 import manifold.rt.api.util.ManClassUtil;
 import manifold.rt.api.util.StreamUtil;
 import manifold.api.util.cache.FqnCache;
+import manifold.api.util.cache.GeneratedSourceCache;
 import manifold.api.util.cache.IllegalTypeNameException;
+import manifold.api.util.fingerprint.Fingerprint;
 import manifold.util.concurrent.ConcurrentHashSet;
 import manifold.util.concurrent.LocklessLazyVar;
 
@@ -58,6 +64,8 @@ public abstract class ResourceFileTypeManifold<M extends IModel> extends BaseSer
   private IModule _module;
   private LocklessLazyVar<FqnCache<LocklessLazyVar<M>>> _fqnToModel;
   private BiFunction<String, Set<IFile>, M> _modelMapper;
+  private LocklessLazyVar<SortedMap<String, IFile>> _resourceFiles;
+  private LocklessLazyVar<Fingerprint> _resourcesFingerprint;
   @SuppressWarnings("all")
   private CacheClearer _cacheClearer;
 
@@ -76,6 +84,8 @@ public abstract class ResourceFileTypeManifold<M extends IModel> extends BaseSer
     _module = module;
     _modelMapper = modelMapper;
     _fqnToModel = LocklessLazyVar.make( this::buildFqnToModelCache );
+    _resourceFiles = LocklessLazyVar.make( this::findResourceFiles );
+    _resourcesFingerprint = LocklessLazyVar.make( this::makeResourcesFingerprint );
     getModule().getHost().addTypeSystemListenerAsWeakRef( getModule(), _cacheClearer = createCacheClearer() );
   }
 
@@ -92,7 +102,7 @@ public abstract class ResourceFileTypeManifold<M extends IModel> extends BaseSer
 
   private FqnCache<LocklessLazyVar<M>> buildFqnToModelCache()
   {
-    FqnCache<LocklessLazyVar<M>> fqnToModel = new FqnCache<>();
+    FqnCache<LocklessLazyVar<M>> fqnToModel = new FqnCache<LocklessLazyVar<M>>().measure( "Resource Type Models" );
     Map<String, Set<IFile>> primaryFqnToFiles = buildPrimaryFqnToFilesMap();
 
     for( Map.Entry<String, Set<IFile>> entry: primaryFqnToFiles.entrySet() )
@@ -339,6 +349,8 @@ public abstract class ResourceFileTypeManifold<M extends IModel> extends BaseSer
   public RefreshKind refreshedFile( IFile file, String[] types, RefreshKind kind )
   {
     _fqnToModel.clear();
+    _resourceFiles.clear();
+    _resourcesFingerprint.clear();
     return kind;
   }
 
@@ -423,11 +435,37 @@ public abstract class ResourceFileTypeManifold<M extends IModel> extends BaseSer
   @Override
   public String contribute( JavaFileManager.Location location, String fqn, boolean genStubs, String existing, DiagnosticListener<JavaFileObject> errorHandler )
   {
+    GeneratedSourceCache sourceCache = GeneratedSourceCache.instance();
+    Fingerprint cacheKey = null;
+    if( sourceCache.isEnabled() && isSourceCacheable() )
+    {
+      cacheKey = makeSourceCacheKey( location, fqn, genStubs, existing );
+      String cached = sourceCache.get( getClass().getName(), fqn, cacheKey );
+      if( cached != null )
+      {
+        return cached;
+      }
+    }
+
     String topLevel = findTopLevelFqn( fqn );
     LocklessLazyVar<M> lazyModel = _fqnToModel.get().get( topLevel );
 
     M model = lazyModel.get();
-    String source = contribute( location, fqn, genStubs, existing, model, errorHandler );
+    boolean[] reported = {false};
+    String source = contribute( location, fqn, genStubs, existing, model, cacheKey == null ? errorHandler :
+      diagnostic -> {
+        // don't cache source having errors or warnings, they must be reported again on subsequent builds
+        reported[0] |= diagnostic.getKind() != Diagnostic.Kind.NOTE;
+        if( errorHandler != null )
+        {
+          errorHandler.report( diagnostic );
+        }
+      } );
+
+    if( cacheKey != null && !reported[0] )
+    {
+      sourceCache.put( getClass().getName(), fqn, cacheKey, source );
+    }
 
     if( !model.isProcessing( fqn ) )
     {
@@ -473,10 +511,106 @@ public abstract class ResourceFileTypeManifold<M extends IModel> extends BaseSer
     return model != null ? new ArrayList<>( model.getFiles() ) : Collections.emptyList();
   }
 
+  /**
+   * Since a type may depend on any resource file of the same kind, such as a JSON Schema $ref or a GraphQL query and its
+   * schema, the dependencies of a type are all the files this type manifold handles.
+   */
+  @Override
+  public Collection<IFile> findDependencyFiles( String fqn )
+  {
+    Set<IFile> files = new HashSet<>( findFilesForType( fqn ) );
+    files.addAll( _resourceFiles.get().values() );
+    return files;
+  }
+
   @Override
   public void clear()
   {
     _fqnToModel.clear();
+    _resourceFiles.clear();
+    _resourcesFingerprint.clear();
+  }
+
+  /**
+   * Override to exclude this type manifold from the {@link GeneratedSourceCache}. A type manifold must do that if the
+   * source it generates depends on state other than the content of the resource files it handles, such as a database
+   * schema or Java sources.
+   */
+  protected boolean isSourceCacheable()
+  {
+    return true;
+  }
+
+  private Fingerprint makeSourceCacheKey( JavaFileManager.Location location, String fqn, boolean genStubs, String existing )
+  {
+    Fingerprint fp = new Fingerprint( _resourcesFingerprint.get() );
+    fp.extend( fqn );
+    fp.extend( location == null ? "" : location.getName() );
+    fp.extend( genStubs ? 1 : 0 );
+    fp.extend( existing == null ? "" : existing );
+    GeneratedSourceCache.extendWithOptions( fp );
+    extendSourceCacheKey( fp );
+    return fp;
+  }
+
+  /**
+   * Override to add state the generated source depends on to the key of the source in the {@link GeneratedSourceCache}.
+   * The key already covers manifold's options, see {@link GeneratedSourceCache#extendWithOptions}.
+   */
+  protected void extendSourceCacheKey( Fingerprint fp )
+  {
+  }
+
+  /**
+   * The fingerprint covers the name and content of all files this type manifold handles, see
+   * {@link #findDependencyFiles(String)}, as well as the code generating the source. Rebuilt after the type system is
+   * refreshed.
+   */
+  private Fingerprint makeResourcesFingerprint()
+  {
+    Fingerprint fp = new Fingerprint();
+    GeneratedSourceCache.extendWithCodeSource( fp, getClass() );
+    fp.extend( getModule().getHost().getClass().getName() );
+
+    for( Map.Entry<String, IFile> entry: _resourceFiles.get().entrySet() )
+    {
+      fp.extend( entry.getKey() );
+      try( InputStream stream = new BufferedInputStream( entry.getValue().openInputStream() ) )
+      {
+        fp.extend( stream );
+      }
+      catch( Exception e )
+      {
+        throw new RuntimeException( e );
+      }
+    }
+    return fp;
+  }
+
+  /**
+   * @return The files this type manifold handles keyed and sorted by name rather than path, so the order is stable across
+   * checkouts. Rebuilt after the type system is refreshed.
+   */
+  private SortedMap<String, IFile> findResourceFiles()
+  {
+    SortedMap<String, IFile> sortedFiles = new TreeMap<>();
+    for( Map.Entry<String, FqnCache<IFile>> entry: getModule().getPathCache().getExtensionCaches().entrySet() )
+    {
+      if( !handlesFileExtension( entry.getKey() ) )
+      {
+        continue;
+      }
+      FqnCache<IFile> fileCache = entry.getValue();
+      for( String fqn: fileCache.getFqns() )
+      {
+        IFile file = fileCache.get( fqn );
+        if( file != null && handlesFile( file ) )
+        {
+          sortedFiles.put( fqn + '.' + entry.getKey(), file );
+        }
+      }
+    }
+    return sortedFiles;
   }
 
   public static String getContent( IFile file )
@@ -534,6 +668,10 @@ public abstract class ResourceFileTypeManifold<M extends IModel> extends BaseSer
 
       preRefresh( request );
 
+      // a changed resource may affect any type this manifold produces, recompute the cache key
+      _resourceFiles.clear();
+      _resourcesFingerprint.clear();
+
       switch( request.kind )
       {
         case MODIFICATION:
@@ -557,6 +695,7 @@ public abstract class ResourceFileTypeManifold<M extends IModel> extends BaseSer
           for( String type: getTypesForFile( request.file ) )
           {
             deletedType( Collections.singleton( request.file ), type );
+            GeneratedSourceCache.instance().remove( ResourceFileTypeManifold.this.getClass().getName(), type );
           }
           break;
         }
@@ -17,7 +17,13 @@
 package manifold.api.util;
 
 import manifold.util.concurrent.LocklessLazyVar;
+import manifold.util.metrics.Metrics;
+import manifold.util.metrics.Timer;
 
+/**
+ * Prints timings to stdout with {@code -Dmanifold.perf=true}. Timings passed with a {@link Timer} are also recorded in
+ * {@link Metrics}, regardless of the property.
+ */
 public class PerfLogUtil
 {
   private static final LocklessLazyVar<Boolean> PERF =
@@ -39,6 +45,16 @@ public class PerfLogUtil
     }
   }
 
+  /**
+   * Records the time elapsed since {@code nanosBefore} in {@code timer} and prints it labeled with the timer's name and
+   * {@code detail}.
+   */
+  public static void log( Timer timer, String detail, long nanosBefore )
+  {
+    timer.stop( detail, nanosBefore );
+    log( detail == null ? timer.getName() : timer.getName() + " " + detail, nanosBefore );
+  }
+
   public static void log( String label, long nanosBefore )
   {
     //noinspection ConstantConditions
@@ -0,0 +1,628 @@
+/*
+ * Copyright (c) 2025 - Manifold Systems LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package manifold.api.util.cache;
+
+import java.lang.ref.SoftReference;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Predicate;
+import manifold.util.metrics.CacheMetric;
+import manifold.util.metrics.Metrics;
+
+/**
+ * A memory-compact alternative to {@link FqnCache} for large caches with many more lookups than updates, such as
+ * the caches of compiled and generated files in the file manager.
+ * <p/>
+ * Each node stores its children in open-addressed arrays of segment hashes, pooled segment names, and values, instead
+ * of a {@code ConcurrentHashMap} of nodes that each refer to their name and parent. Leaves, most of the nodes, are not
+ * objects at all, a leaf's user data is stored directly in its parent's array. A dotted name is resolved in a single
+ * pass without splitting it, hashing each segment while scanning for its end, so lookups do not use the shared parts
+ * cache.
+ * <p/>
+ * Lookups are lock-free, updates are serialized on the cache. An update fills unused slots of a node's arrays, which
+ * are atomic arrays so a reader finding a slot's name sees its hash and value, or replaces the arrays when they grow,
+ * so readers never see a slot move. Lookups are remembered in a small table keyed by the whole name, which keeps the
+ * lookups of a small hot set of names as fast as {@link FqnCache}'s. Any update invalidates the table.
+ * <p/>
+ * Since nodes are not {@link FqnCacheNode}s, {@link #getNode(String)} and {@link #visitNodeDepthFirst(Predicate)}
+ * operate on detached copies, they are not intended for frequent use.
+ */
+public class CompactFqnCache<T> implements IFqnCache<T>
+{
+  /** The user data of a leaf without user data, null is an empty slot */
+  private static final Object NULL_DATA = new Object();
+  /** The number of slots of the table of recent lookups */
+  private static final int RECENT_SIZE = 2048;
+
+  private final Node _root = new Node( null );
+  /** Lookups since the last update by the hash of the name, a racy cache of immutable entries, allocated on first use */
+  private Recent[] _recent;
+  /** Incremented after each update, entries of recent lookups made before then are invalid */
+  private volatile int _version;
+  private volatile SoftReference<Set<String>> _allNames;
+  private CacheMetric _metric;
+
+  /**
+   * Counts lookups of this cache as hits and misses of the {@link Metrics#cache(String) cache metric} named
+   * {@code metricName}. Caches sharing a name share the metric.
+   */
+  public CompactFqnCache<T> measure( String metricName )
+  {
+    _metric = Metrics.cache( metricName );
+    return this;
+  }
+
+  @Override
+  public T get( String fqn )
+  {
+    Object value = find( fqn );
+    return value == null ? null : userData( value );
+  }
+
+  @Override
+  public boolean contains( String fqn )
+  {
+    return find( fqn ) != null;
+  }
+
+  /**
+   * @return A detached copy of the node for {@code fqn} including its ancestors and descendants, or null if the cache
+   * does not contain {@code fqn}. Changes to the copy do not affect this cache.
+   */
+  @Override
+  public FqnCacheNode<T> getNode( String fqn )
+  {
+    if( find( fqn ) == null )
+    {
+      return null;
+    }
+
+    FqnCacheNode<T> copy = new FqnCacheNode<>( "root", null );
+    Object value = _root;
+    for( String part : getParts( fqn ) )
+    {
+      value = value instanceof Node ? ((Node)value).getChild( part ) : null;
+      if( value == null )
+      {
+        // removed concurrently
+        return null;
+      }
+      copy = copy.getOrCreateChild( part, userData( value ) );
+    }
+    copyChildren( value, copy );
+    return copy;
+  }
+
+  @Override
+  public final void add( String fqn )
+  {
+    add( fqn, null );
+  }
+
+  @Override
+  public synchronized void add( String fqn, T userData )
+  {
+    Node n = _root;
+    String[] parts = getParts( fqn );
+    for( int i = 0; i < parts.length; i++ )
+    {
+      String part = parts[i];
+      Object child = n.getChild( part );
+      if( i == parts.length - 1 )
+      {
+        if( child instanceof Node )
+        {
+          ((Node)child)._userData = userData;
+        }
+        else
+        {
+          n.putChild( part, userData == null ? NULL_DATA : userData );
+          if( child == null )
+          {
+            invalidate();
+          }
+        }
+      }
+      else
+      {
+        if( !(child instanceof Node) )
+        {
+          // a leaf becomes a node
+          child = new Node( child == null ? null : userData( child ) );
+          n.putChild( part, child );
+          invalidate();
+        }
+        n = (Node)child;
+      }
+    }
+    _version++;
+  }
+
+  @Override
+  public final void remove( String[] fqns )
+  {
+    for( String fqn : fqns )
+    {
+      remove( fqn );
+    }
+  }
+
+  @Override
+  public synchronized boolean remove( String fqn )
+  {
+    String[] parts = getParts( fqn );
+    Node parent = _root;
+    for( int i = 0; i < parts.length; i++ )
+    {
+      Object child = parent.getChild( parts[i] );
+      if( child == null )
+      {
+        return false;
+      }
+      if( i == parts.length - 1 )
+      {
+        parent.removeChild( parts[i] );
+        invalidate();
+        _version++;
+        return true;
+      }
+      if( !(child instanceof Node) )
+      {
+        return false;
+      }
+      parent = (Node)child;
+    }
+    return false;
+  }
+
+  @Override
+  public synchronized void clear()
+  {
+    _root._children = null;
+    invalidate();
+    _version++;
+  }
+
+  @Override
+  public Set<String> getFqns()
+  {
+    SoftReference<Set<String>> ref = _allNames;
+    Set<String> names = ref == null ? null : ref.get();
+    if( names == null )
+    {
+      collectNames( _root, names = new HashSet<>(), "" );
+      _allNames = new SoftReference<>( names );
+    }
+    return names;
+  }
+
+  @Override
+  public boolean visitDepthFirst( Predicate<T> visitor )
+  {
+    return visitDepthFirst( _root, visitor );
+  }
+
+  /**
+   * Visits a detached copy of the nodes, see {@link #getNode(String)}.
+   */
+  @Override
+  public boolean visitNodeDepthFirst( Predicate<FqnCacheNode> visitor )
+  {
+    FqnCacheNode<T> copy = new FqnCacheNode<>( "root", null );
+    copyChildren( _root, copy );
+    return copy.visitNodeDepthFirst( visitor );
+  }
+
+  /**
+   * @return The {@link Node} or leaf user data for {@code fqn}, null if absent
+   */
+  private Object find( String fqn )
+  {
+    Object value = findRecent( fqn );
+    if( _metric != null )
+    {
+      if( value == null )
+      {
+        _metric.miss();
+      }
+      else
+      {
+        _metric.hit();
+      }
+    }
+    return value;
+  }
+
+  private Object findRecent( String fqn )
+  {
+    Recent[] recent = _recent;
+    if( recent == null )
+    {
+      _recent = recent = new Recent[RECENT_SIZE];
+    }
+    int version = _version;
+    int slot = slot( fqn.hashCode(), RECENT_SIZE - 1 );
+    Recent entry = recent[slot];
+    if( entry != null && entry._version == version && entry._fqn.equals( fqn ) )
+    {
+      return entry._value;
+    }
+
+    Object value = findSimple( fqn );
+    if( value == _root )
+    {
+      value = findParts( fqn );
+    }
+    if( entry == null || entry._version != version )
+    {
+      // a valid entry keeps its slot, replacing it on collisions would allocate on most lookups of a large working set
+      // without making them faster. The version is read before the lookup, an update during the lookup invalidates it.
+      recent[slot] = new Recent( fqn, value, version );
+    }
+    return value;
+  }
+
+  /**
+   * Resolves a name consisting of non-empty dot-separated segments, which splits the same as
+   * {@link FqnCache#getParts(String)}, hashing each segment while scanning for its end.
+   *
+   * @return The value for {@code fqn}, null if absent, or the root if {@code fqn} is not a simple name
+   */
+  private Object findSimple( String fqn )
+  {
+    Object value = _root;
+    int length = fqn.length();
+    int start = 0;
+    int h = 0;
+    for( int i = 0; i <= length; i++ )
+    {
+      char c = i == length ? '.' : fqn.charAt( i );
+      if( c == '.' )
+      {
+        if( i == start )
+        {
+          return _root;
+        }
+        if( !(value instanceof Node) )
+        {
+          // a leaf has no children
+          return null;
+        }
+        value = ((Node)value).getChild( fqn, start, i, h );
+        if( value == null )
+        {
+          return null;
+        }
+        start = i + 1;
+        h = 0;
+      }
+      else if( c == '<' || c == '[' )
+      {
+        return _root;
+      }
+      else
+      {
+        h = 31 * h + c;
+      }
+    }
+    return value;
+  }
+
+  private Object findParts( String fqn )
+  {
+    Object value = _root;
+    for( String part : FqnCache.getParts( fqn ) )
+    {
+      value = value instanceof Node ? ((Node)value).getChild( part ) : null;
+      if( value == null )
+      {
+        break;
+      }
+    }
+    return value;
+  }
+
+  private void invalidate()
+  {
+    _allNames = null;
+  }
+
+  private static String[] getParts( String fqn )
+  {
+    int length = fqn.length();
+    if( length == 0 || fqn.charAt( 0 ) == '.' || fqn.charAt( length - 1 ) == '.' || fqn.contains( ".." ) ||
+        fqn.indexOf( '<' ) >= 0 || fqn.indexOf( '[' ) >= 0 )
+    {
+      return FqnCache.getParts( fqn );
+    }
+
+    List<String> parts = new ArrayList<>();
+    int start = 0;
+    for( int end = fqn.indexOf( '.' ); end >= 0; end = fqn.indexOf( '.', start ) )
+    {
+      parts.add( fqn.substring( start, end ) );
+      start = end + 1;
+    }
+    parts.add( fqn.substring( start ) );
+    return parts.toArray( new String[0] );
+  }
+
+  @SuppressWarnings( "unchecked" )
+  private T userData( Object value )
+  {
+    Object userData = value instanceof Node ? ((Node)value)._userData : value;
+    return userData == NULL_DATA ? null : (T)userData;
+  }
+
+  private static boolean isLeaf( Object value )
+  {
+    return !(value instanceof Node) || ((Node)value).isLeaf();
+  }
+
+  private static void collectNames( Node n, Set<String> names, String s )
+  {
+    Children children = n._children;
+    if( children == null )
+    {
+      return;
+    }
+    for( int i = 0; i < children.values.length(); i++ )
+    {
+      Object child = children.values.get( i );
+      if( child != null )
+      {
+        String name = children.names.get( i );
+        String path = s.isEmpty() ? name : s + separator( name ) + name;
+        if( isLeaf( child ) )
+        {
+          names.add( path );
+        }
+        else
+        {
+          collectNames( (Node)child, names, path );
+        }
+      }
+    }
+  }
+
+  private static String separator( String name )
+  {
+    char c = name.charAt( 0 );
+    return c == '[' || c == '<' ? "" : ".";
+  }
+
+  private boolean visitDepthFirst( Object value, Predicate<T> visitor )
+  {
+    if( value instanceof Node )
+    {
+      Children children = ((Node)value)._children;
+      if( children != null )
+      {
+        for( int i = 0; i < children.values.length(); i++ )
+        {
+          Object child = children.values.get( i );
+          if( child != null && !visitDepthFirst( child, visitor ) )
+          {
+            return false;
+          }
+        }
+      }
+    }
+    return visitor.test( userData( value ) );
+  }
+
+  private void copyChildren( Object value, FqnCacheNode<T> copy )
+  {
+    Children children = value instanceof Node ? ((Node)value)._children : null;
+    if( children != null )
+    {
+      for( int i = 0; i < children.values.length(); i++ )
+      {
+        Object child = children.values.get( i );
+        if( child != null )
+        {
+          copyChildren( child, copy.getOrCreateChild( children.names.get( i ), userData( child ) ) );
+        }
+      }
+    }
+  }
+
+  /**
+   * A name with children. Its children are {@link Node}s or, if they are leaves, their user data.
+   */
+  private static final class Node
+  {
+    private volatile Object _userData;
+    private volatile Children _children;
+
+    Node( Object userData )
+    {
+      _userData = userData;
+    }
+
+    Object getChild( String name )
+    {
+      return getChild( name, 0, name.length(), name.hashCode() );
+    }
+
+    /**
+     * @return The child named {@code fqn[start, end)} having {@link String#hashCode()} {@code h}, null if absent
+     */
+    Object getChild( String fqn, int start, int end, int h )
+    {
+      Children children = _children;
+      if( children == null )
+      {
+        return null;
+      }
+      AtomicReferenceArray<String> names = children.names;
+      int mask = names.length() - 1;
+      for( int slot = slot( h, mask ); ; slot = (slot + 1) & mask )
+      {
+        String name = names.get( slot );
+        if( name == null )
+        {
+          return null;
+        }
+        if( children.hashes[slot] == h && name.length() == end - start && name.regionMatches( 0, fqn, start, end - start ) )
+        {
+          // null if removed
+          return children.values.get( slot );
+        }
+      }
+    }
+
+    boolean isLeaf()
+    {
+      Children children = _children;
+      return children == null || children.size == 0;
+    }
+
+    // called while holding the cache's lock
+
+    void putChild( String name, Object child )
+    {
+      Children children = _children;
+      if( children == null )
+      {
+        children = new Children( 2 );
+      }
+      else if( (children.used + 1) * 4 > children.names.length() * 3 )
+      {
+        // grow to half full, dropping removed children
+        children = children.copy( Integer.highestOneBit( children.size + 1 ) * 4 );
+      }
+      children.put( StringCache.get( name ), child );
+      _children = children;
+    }
+
+    void removeChild( String name )
+    {
+      Children children = _children;
+      if( children == null )
+      {
+        return;
+      }
+      int slot = children.find( name );
+      if( slot >= 0 && children.values.get( slot ) != null )
+      {
+        // the name remains as a tombstone
+        children.values.set( slot, null );
+        children.size--;
+      }
+      _children = children.size == 0 ? null : children;
+    }
+  }
+
+  private static final class Children
+  {
+    private final int[] hashes; // written before the name is published
+    private final AtomicReferenceArray<String> names; // null is an empty slot
+    private final AtomicReferenceArray<Object> values; // null is a removed child
+    private int size;
+    private int used;
+
+    Children( int capacity )
+    {
+      hashes = new int[capacity];
+      names = new AtomicReferenceArray<>( capacity );
+      values = new AtomicReferenceArray<>( capacity );
+    }
+
+    Children copy( int capacity )
+    {
+      Children copy = new Children( capacity );
+      for( int i = 0; i < values.length(); i++ )
+      {
+        Object value = values.get( i );
+        if( value != null )
+        {
+          copy.put( names.get( i ), value );
+        }
+      }
+      return copy;
+    }
+
+    /**
+     * @return The slot of {@code name} or, if absent, the negative of the empty slot for it minus one
+     */
+    int find( String name )
+    {
+      int h = name.hashCode();
+      int mask = names.length() - 1;
+      int slot = slot( h, mask );
+      for( String n; (n = names.get( slot )) != null; slot = (slot + 1) & mask )
+      {
+        if( hashes[slot] == h && n.equals( name ) )
+        {
+          return slot;
+        }
+      }
+      return -slot - 1;
+    }
+
+    void put( String name, Object value )
+    {
+      int slot = find( name );
+      if( slot < 0 )
+      {
+        slot = -slot - 1;
+        used++;
+        // publishing the name publishes the hash and value written before it
+        values.set( slot, value );
+        hashes[slot] = name.hashCode();
+        names.set( slot, name );
+        size++;
+      }
+      else
+      {
+        if( values.get( slot ) == null )
+        {
+          size++;
+        }
+        values.set( slot, value );
+      }
+    }
+  }
+
+  /**
+   * A recent lookup, immutable so entries may be published without synchronization
+   */
+  private static final class Recent
+  {
+    private final String _fqn;
+    private final Object _value;
+    private final int _version;
+
+    Recent( String fqn, Object value, int version )
+    {
+      _fqn = fqn;
+      _value = value;
+      _version = version;
+    }
+  }
+
+  private static int slot( int h, int mask )
+  {
+    // similar names e.g., "Type1", "Type2", have adjacent hash codes, which would cluster
+    h *= 0x9E3779B9;
+    return (h ^ (h >>> 16)) & mask;
+  }
+}
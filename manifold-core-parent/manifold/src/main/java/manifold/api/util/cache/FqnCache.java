@@ -22,6 +22,8 @@ import java.util.Map;
 import java.util.Set;
 import manifold.api.util.DynamicArray;
 import manifold.util.concurrent.Cache;
+import manifold.util.metrics.CacheMetric;
+import manifold.util.metrics.Metrics;
 
 public class FqnCache<T> extends FqnCacheNode<T> implements IFqnCache<T>
 {
@@ -32,6 +34,7 @@ public class FqnCache<T> extends FqnCacheNode<T> implements IFqnCache<T>
   private final Cache<String, String[]> _validatorCache;
   private final boolean _rootVisible;
   private SoftReference<Set<String>> _allNames;
+  private CacheMetric _metric;
 
   public FqnCache()
   {
@@ -54,6 +57,16 @@ public class FqnCache<T> extends FqnCacheNode<T> implements IFqnCache<T>
     return _rootVisible;
   }
 
+  /**
+   * Counts lookups of this cache as hits and misses of the {@link Metrics#cache(String) cache metric} named
+   * {@code metricName}. Caches sharing a name share the metric.
+   */
+  public FqnCache<T> measure( String metricName )
+  {
+    _metric = Metrics.cache( metricName );
+    return this;
+  }
+
   public FqnCacheNode<T> getNode( String fqn )
   {
     FqnCacheNode<T> n = this;
@@ -65,6 +78,17 @@ public class FqnCache<T> extends FqnCacheNode<T> implements IFqnCache<T>
         break;
       }
     }
+    if( _metric != null )
+    {
+      if( n == null )
+      {
+        _metric.miss();
+      }
+      else
+      {
+        _metric.hit();
+      }
+    }
     return n;
   }
 
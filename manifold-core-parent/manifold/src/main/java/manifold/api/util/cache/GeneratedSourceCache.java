@@ -0,0 +1,224 @@
+/*
+ * Copyright (c) 2025 - Manifold Systems LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package manifold.api.util.cache;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.CodeSource;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import manifold.api.util.JavacUtil;
+import manifold.api.util.fingerprint.Fingerprint;
+import manifold.internal.javac.Arg;
+import manifold.internal.javac.JavacPlugin;
+import manifold.util.concurrent.LocklessLazyVar;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * A persistent, cross-build cache of Java source generated by type manifolds. Enable the cache by setting the
+ * {@code manifold.source.cache} system property to a writable directory, e.g., {@code -Dmanifold.source.cache=target/manifold-cache}.
+ * <p/>
+ * Each entry is stored as {@code <dir>/<category>/<fqn>.java} where the first line of the file records the fingerprint
+ * the source was generated with. A lookup with a different fingerprint is a miss, and the subsequent {@link #put} replaces
+ * the stale entry, so the cache holds at most one entry per type.
+ */
+public final class GeneratedSourceCache
+{
+  public static final String CACHE_DIR_PROPERTY = "manifold.source.cache";
+
+  private static final String HEADER = "//fingerprint:";
+
+  /**
+   * Manifold system properties that configure caches, diagnostics, or which files a build compiles. They don't change
+   * generated source, so they are left out of {@link #extendWithOptions}.
+   */
+  private static final Set<String> BUILD_PROPERTIES = new HashSet<>( Arrays.asList(
+    CACHE_DIR_PROPERTY, "manifold.class.cache", "manifold.class.cache.size", "manifold.pathcache.index",
+    "manifold.pathcache.parallel", "manifold.fqncache.compact", "manifold.incremental.graph",
+    "manifold.compiler.incremental", "manifold.source.files", "manifold.dump.source", "manifold.perf",
+    "manifold.metrics", "manifold.metrics.jfr", "manifold.metrics.jmx" ) );
+
+  private static final LocklessLazyVar<GeneratedSourceCache> INSTANCE =
+    LocklessLazyVar.make( () -> {
+      String dir = System.getProperty( CACHE_DIR_PROPERTY );
+      return new GeneratedSourceCache( dir == null || dir.isEmpty() ? null : new File( dir ) );
+    } );
+
+  private final File _dir;
+
+  public static GeneratedSourceCache instance()
+  {
+    return INSTANCE.get();
+  }
+
+  private GeneratedSourceCache( File dir )
+  {
+    _dir = dir;
+  }
+
+  public boolean isEnabled()
+  {
+    return _dir != null;
+  }
+
+  /**
+   * @param category A name distinguishing producers of source, typically the type manifold's class name.
+   * @param fqn The qualified name of the generated type.
+   * @param key The fingerprint of everything the generated source depends on.
+   *
+   * @return The cached source, or null if there is no entry matching {@code key}.
+   */
+  public String get( String category, String fqn, Fingerprint key )
+  {
+    if( !isEnabled() )
+    {
+      return null;
+    }
+
+    File file = getFile( category, fqn );
+    if( !file.isFile() )
+    {
+      return null;
+    }
+
+    try
+    {
+      String content = new String( Files.readAllBytes( file.toPath() ), UTF_8 );
+      int iEol = content.indexOf( '\n' );
+      if( iEol < 0 || !content.substring( 0, iEol ).equals( HEADER + key.toHexString() ) )
+      {
+        return null;
+      }
+      return content.substring( iEol + 1 );
+    }
+    catch( IOException ignore )
+    {
+      // a concurrent writer or a damaged entry, treat as a miss
+      return null;
+    }
+  }
+
+  public void put( String category, String fqn, Fingerprint key, String source )
+  {
+    if( !isEnabled() || source == null )
+    {
+      return;
+    }
+
+    File file = getFile( category, fqn );
+    try
+    {
+      //noinspection ResultOfMethodCallIgnored
+      file.getParentFile().mkdirs();
+
+      // write to a temp file and move it into place so concurrent builds never read a partial entry
+      Path temp = Files.createTempFile( file.getParentFile().toPath(), fqn, ".tmp" );
+      Files.write( temp, (HEADER + key.toHexString() + '\n' + source).getBytes( UTF_8 ) );
+      Files.move( temp, file.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE );
+    }
+    catch( IOException ignore )
+    {
+      // the cache is an optimization, failing to write an entry is not an error
+    }
+  }
+
+  public void remove( String category, String fqn )
+  {
+    if( isEnabled() )
+    {
+      //noinspection ResultOfMethodCallIgnored
+      getFile( category, fqn ).delete();
+    }
+  }
+
+  private File getFile( String category, String fqn )
+  {
+    return new File( new File( _dir, category ), fqn + ".java" );
+  }
+
+  /**
+   * Extends {@code fp} with the options generated source may depend on: the {@code manifold.*} system properties other
+   * than those configuring the build, the javac plugin arguments, and the source and release versions. Use this to key
+   * cache entries to the options they were generated with.
+   */
+  public static Fingerprint extendWithOptions( Fingerprint fp )
+  {
+    for( String name: new TreeSet<>( System.getProperties().stringPropertyNames() ) )
+    {
+      if( name.startsWith( "manifold." ) && !BUILD_PROPERTIES.contains( name ) )
+      {
+        fp.extend( name );
+        fp.extend( System.getProperty( name, "" ) );
+      }
+    }
+
+    JavacPlugin javacPlugin = JavacPlugin.instance();
+    if( javacPlugin != null )
+    {
+      for( Map.Entry<Arg, Set<String>> entry: new TreeMap<>( javacPlugin.getArgs() ).entrySet() )
+      {
+        fp.extend( entry.getKey().getName() );
+        fp.extend( entry.getValue() == null ? "" : new TreeSet<>( entry.getValue() ).toString() );
+      }
+      fp.extend( JavacUtil.getSourceNumber() );
+      fp.extend( JavacUtil.getReleaseNumber() );
+    }
+    return fp;
+  }
+
+  /**
+   * Extends {@code fp} with the location, size, and timestamp of the jar or directory {@code cls} is loaded from. Use this
+   * to key cache entries to the version of the code generating them.
+   */
+  public static Fingerprint extendWithCodeSource( Fingerprint fp, Class<?> cls )
+  {
+    fp.extend( cls.getName() );
+    CodeSource codeSource = cls.getProtectionDomain().getCodeSource();
+    URL location = codeSource == null ? null : codeSource.getLocation();
+    if( location != null )
+    {
+      fp.extend( location.toString() );
+      if( "file".equals( location.getProtocol() ) )
+      {
+        try
+        {
+          File file = new File( location.toURI() );
+          if( file.isDirectory() )
+          {
+            // a directory's timestamp does not reflect changes to its class files
+            file = new File( file, cls.getName().replace( '.', File.separatorChar ) + ".class" );
+          }
+          fp.extend( file.length() );
+          fp.extend( file.lastModified() );
+        }
+        catch( Exception ignore )
+        {
+        }
+      }
+    }
+    return fp;
+  }
+}
@@ -42,6 +42,8 @@ import manifold.internal.javac.SourceJavaFileObject;
 import manifold.internal.javac.SourceSupplier;
 import manifold.api.util.JavacDiagnostic;
 import manifold.util.concurrent.LocklessLazyVar;
+import manifold.util.metrics.Metrics;
+import manifold.util.metrics.Timer;
 
 
 import static manifold.api.type.ContributorKind.Partial;
@@ -52,6 +54,18 @@ import static manifold.api.type.ContributorKind.Primary;
 @SuppressWarnings("WeakerAccess")
 public abstract class SimpleModule implements IModule
 {
+  /**
+   * The contribute() timer of each type manifold class
+   */
+  private static final ClassValue<Timer> CONTRIBUTE_TIMERS = new ClassValue<Timer>()
+  {
+    @Override
+    protected Timer computeValue( Class<?> type )
+    {
+      return Metrics.timer( type.getSimpleName() + ".contribute()" );
+    }
+  };
+
   private IManifoldHost _host;
   private List<IDirectory> _classpath;
   private List<IDirectory> _sourcePath;
@@ -163,7 +177,7 @@ public abstract class SimpleModule implements IModule
         else
         {
           found = sp;
-          result = sp.contribute( location, fqn, false, result, errorHandler );
+          result = contribute( sp, location, fqn, result, errorHandler );
         }
       }
     }
@@ -171,13 +185,33 @@ public abstract class SimpleModule implements IModule
     {
       if( sp.getContributorKind() == ContributorKind.Supplemental )
       {
-        result = sp.contribute( location, fqn, false, result, errorHandler );
+        result = contribute( sp, location, fqn, result, errorHandler );
       }
     }
 
     return result;
   }
 
+  private String contribute( ITypeManifold sp, JavaFileManager.Location location, String fqn, String result,
+                             DiagnosticListener<JavaFileObject> errorHandler )
+  {
+    if( !Metrics.isEnabled() )
+    {
+      return sp.contribute( location, fqn, false, result, errorHandler );
+    }
+
+    Timer timer = CONTRIBUTE_TIMERS.get( sp.getClass() );
+    long before = System.nanoTime();
+    try
+    {
+      return sp.contribute( location, fqn, false, result, errorHandler );
+    }
+    finally
+    {
+      timer.stop( fqn, before );
+    }
+  }
+
   public void initializeTypeManifolds()
   {
     if( _typeManifolds != null )
@@ -188,4 +188,12 @@ public class GeneratedJavaStubFileObject extends SimpleJavaFileObject implements
   {
     return _sourceSupplier.getResourceFiles();
   }
+
+  /**
+   * Files the type depends on, the resource files from which it is created and the files they reference.
+   */
+  public Set<IFile> getDependencyFiles()
+  {
+    return _sourceSupplier.getDependencyFiles();
+  }
 }
@@ -0,0 +1,441 @@
+/*
+ * Copyright (c) 2025 - Manifold Systems LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package manifold.internal.javac;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import manifold.api.fs.IFile;
+import manifold.api.util.fingerprint.Fingerprint;
+
+/**
+ * A persistent graph from resource files to the types depending on them and from the types to the Java source files
+ * referencing them. Enable the graph with the {@code manifold.incremental.graph} compiler argument or system property
+ * naming a writable file:
+ * <pre>
+ *   -Amanifold.incremental.graph=target/manifold-incremental.bin
+ * </pre>
+ * The graph is written when compilation finishes without errors. It records every file each type depends on, see
+ * {@link manifold.api.type.ITypeManifold#findDependencyFiles(String)}, not just the resource file producing it, so a type
+ * referencing another resource file such as a GraphQL query and its schema or a JSON Schema {@code $ref} is
+ * regenerated when the referenced file changes. The next compilation compares each file against its recorded size,
+ * timestamp, and content fingerprint. Types depending only on unchanged files are not regenerated, javac uses their
+ * class files from the previous build instead. Java source files referencing types of changed files must be recompiled,
+ * otherwise the compilation fails; build tools can compute this set before invoking javac with
+ * {@link #computeRecompileSet(File)}.
+ * <p/>
+ * The graph works alongside IntelliJ's build, which provides changed resource files directly.
+ */
+public final class IncrementalBuildGraph
+{
+  static final String INCREMENTAL_GRAPH = "manifold.incremental.graph";
+
+  private static final int MAGIC = 0x4D494247; // MIBG
+  private static final int VERSION = 2;
+
+  private final File _graphFile;
+  /** file path -> state of the file as of the last build */
+  private final Map<String, Resource> _resources;
+  /** resource type -> paths of the files the type depended on as of the last build, types share equal sets */
+  private final Map<String, Set<String>> _dependencies;
+  /** Java source file path -> resource types the source referenced as of the last build */
+  private final Map<String, Set<String>> _references;
+  private final Set<String> _changedPaths;
+
+  /** file path -> state of the file as of this build */
+  private final Map<String, Resource> _producedResources;
+  /** resource type -> paths of the files the type depends on as of this build */
+  private final Map<String, Set<String>> _producedDependencies;
+  /** Java source file path -> types the source references as of this build */
+  private final Map<String, Set<String>> _compiledReferences;
+
+  /**
+   * @return The graph persisted in {@code graphFile} or an empty graph if the file does not exist or is not readable.
+   * Never null.
+   */
+  static IncrementalBuildGraph load( File graphFile )
+  {
+    Map<String, Resource> resources = new HashMap<>();
+    Map<String, Set<String>> dependencies = new HashMap<>();
+    Map<String, Set<String>> references = new HashMap<>();
+    if( graphFile.isFile() )
+    {
+      try( DataInputStream in = new DataInputStream( new BufferedInputStream( Files.newInputStream( graphFile.toPath() ) ) ) )
+      {
+        if( in.readInt() == MAGIC && in.readInt() == VERSION )
+        {
+          for( int i = in.readInt(); i > 0; i-- )
+          {
+            String path = in.readUTF();
+            resources.put( path, new Resource( in.readLong(), in.readLong(), in.readLong() ) );
+          }
+          for( int i = in.readInt(); i > 0; i-- )
+          {
+            Set<String> paths = readStrings( in );
+            readStrings( in ).forEach( type -> dependencies.put( type, paths ) );
+          }
+          for( int i = in.readInt(); i > 0; i-- )
+          {
+            String path = in.readUTF();
+            references.put( path, readStrings( in ) );
+          }
+        }
+      }
+      catch( IOException ignore )
+      {
+        // damaged or partially written, start over as if this were a clean build
+        resources.clear();
+        dependencies.clear();
+        references.clear();
+      }
+    }
+    return new IncrementalBuildGraph( graphFile, resources, dependencies, references );
+  }
+
+  /**
+   * Computes the Java source files to recompile given the files that changed since the build that wrote
+   * {@code graphFile}. Build tools call this before invoking javac to include the sources in the compilation.
+   *
+   * @return The paths of the Java source files referencing types depending on changed files. Empty if the graph does
+   * not exist.
+   */
+  public static Set<String> computeRecompileSet( File graphFile )
+  {
+    return load( graphFile ).getStaleSources();
+  }
+
+  /**
+   * @return The files of {@code files} on the local file system, others such as fragments are not tracked.
+   */
+  static Set<File> toFiles( Collection<IFile> files )
+  {
+    Set<File> javaFiles = new HashSet<>();
+    for( IFile file : files )
+    {
+      if( file.isJavaFile() )
+      {
+        javaFiles.add( file.toJavaFile() );
+      }
+    }
+    return javaFiles;
+  }
+
+  private IncrementalBuildGraph( File graphFile, Map<String, Resource> resources, Map<String, Set<String>> dependencies,
+                                 Map<String, Set<String>> references )
+  {
+    _graphFile = graphFile;
+    _resources = resources;
+    _dependencies = dependencies;
+    _references = references;
+    _changedPaths = findChangedPaths();
+    _producedResources = new HashMap<>();
+    _producedDependencies = new HashMap<>();
+    _compiledReferences = new HashMap<>();
+  }
+
+  private Set<String> findChangedPaths()
+  {
+    Set<String> changed = new HashSet<>();
+    _resources.forEach( ( path, resource ) -> {
+      if( !resource.matches( new File( path ) ) )
+      {
+        changed.add( path );
+      }
+    } );
+    return changed;
+  }
+
+  /**
+   * @return The files recorded in the graph that changed or were deleted since the last build.
+   */
+  List<File> getChangedFiles()
+  {
+    return _changedPaths.stream().map( File::new ).collect( Collectors.toList() );
+  }
+
+  /**
+   * @param dependencyFiles The files {@code fqn} depends on in this build
+   *
+   * @return True if the graph records the files {@code fqn} depends on, they are the same files as
+   * {@code dependencyFiles}, and none of them changed since the last build.
+   */
+  boolean isUnchanged( String fqn, Set<File> dependencyFiles )
+  {
+    Set<String> paths = _dependencies.get( fqn );
+    if( paths == null || paths.size() != dependencyFiles.size() )
+    {
+      return false;
+    }
+    for( File file : dependencyFiles )
+    {
+      if( !paths.contains( file.getAbsolutePath() ) )
+      {
+        // a file was added, such as a schema the type may now reference
+        return false;
+      }
+    }
+    return !isChanged( paths );
+  }
+
+  private boolean isChanged( Set<String> paths )
+  {
+    if( _changedPaths.isEmpty() )
+    {
+      return false;
+    }
+    return paths.stream().anyMatch( _changedPaths::contains );
+  }
+
+  /**
+   * @return The types the last build recorded as depending on {@code file}
+   */
+  Set<String> getTypesForFile( File file )
+  {
+    String path = file.getAbsolutePath();
+    Set<String> types = new HashSet<>();
+    _dependencies.forEach( ( type, paths ) -> {
+      if( paths.contains( path ) )
+      {
+        types.add( type );
+      }
+    } );
+    return types;
+  }
+
+  private Set<String> getStaleSources()
+  {
+    return findReferencing( getChangedTypes() );
+  }
+
+  private Set<String> getChangedTypes()
+  {
+    Set<String> changedTypes = new HashSet<>();
+    _dependencies.forEach( ( type, paths ) -> {
+      if( isChanged( paths ) )
+      {
+        changedTypes.add( type );
+      }
+    } );
+    return changedTypes;
+  }
+
+  private Set<String> findReferencing( Set<String> types )
+  {
+    Set<String> sources = new LinkedHashSet<>();
+    if( types.isEmpty() )
+    {
+      return sources;
+    }
+    _references.forEach( ( path, referenced ) -> {
+      if( referenced.stream().anyMatch( types::contains ) )
+      {
+        sources.add( path );
+      }
+    } );
+    return sources;
+  }
+
+  /**
+   * Records that {@code fqn} was generated in this build and depends on {@code dependencyFiles}.
+   */
+  void addType( String fqn, Set<File> dependencyFiles )
+  {
+    Set<String> paths = new HashSet<>();
+    for( File file : dependencyFiles )
+    {
+      String path = file.getAbsolutePath();
+      paths.add( path );
+      _producedResources.computeIfAbsent( path, p -> Resource.make( file ) );
+    }
+    _producedDependencies.put( fqn, paths );
+  }
+
+  /**
+   * Records the types {@code sourceFile} references in this build, replacing the references of the last build.
+   */
+  void addReferences( File sourceFile, Set<String> types )
+  {
+    _compiledReferences.computeIfAbsent( sourceFile.getAbsolutePath(), path -> new HashSet<>() ).addAll( types );
+  }
+
+  /**
+   * @return The Java source files referencing types of changed files, or types now depending on other files, that were
+   * not recompiled in this build.
+   */
+  Set<String> getUncompiledStaleSources()
+  {
+    Set<String> changedTypes = getChangedTypes();
+    _producedDependencies.forEach( ( type, paths ) -> {
+      Set<String> prior = _dependencies.get( type );
+      if( prior != null && !prior.equals( paths ) )
+      {
+        changedTypes.add( type );
+      }
+    } );
+    Set<String> stale = findReferencing( changedTypes );
+    stale.removeIf( path -> _compiledReferences.containsKey( path ) || !new File( path ).exists() );
+    return stale;
+  }
+
+  /**
+   * Merges the changes of this build into the graph and writes it. Call only if no stale sources remain, see
+   * {@link #getUncompiledStaleSources()}.
+   */
+  void save()
+  {
+    Map<String, Set<String>> dependencies = new HashMap<>();
+    _dependencies.forEach( ( type, paths ) -> {
+      // a type of the last build depending on changed files, but not generated in this build, is gone
+      if( !isChanged( paths ) )
+      {
+        dependencies.put( type, paths );
+      }
+    } );
+    dependencies.putAll( _producedDependencies );
+
+    // types depending on the same files share the set, write it once
+    Map<Set<String>, Set<String>> typesByPaths = new HashMap<>();
+    dependencies.forEach( ( type, paths ) -> typesByPaths.computeIfAbsent( paths, k -> new HashSet<>() ).add( type ) );
+    Map<String, Resource> resources = new HashMap<>();
+    typesByPaths.keySet().forEach( paths -> paths.forEach( path -> resources.computeIfAbsent( path, p -> {
+      Resource produced = _producedResources.get( p );
+      return produced == null ? _resources.get( p ) : produced;
+    } ) ) );
+
+    Map<String, Set<String>> references = new HashMap<>( _references );
+    references.putAll( _compiledReferences );
+    references.entrySet().removeIf( entry -> {
+      entry.getValue().retainAll( dependencies.keySet() );
+      return entry.getValue().isEmpty() || !new File( entry.getKey() ).exists();
+    } );
+
+    try
+    {
+      File dir = _graphFile.getAbsoluteFile().getParentFile();
+      //noinspection ResultOfMethodCallIgnored
+      dir.mkdirs();
+      Path temp = Files.createTempFile( dir.toPath(), _graphFile.getName(), ".tmp" );
+      try( DataOutputStream out = new DataOutputStream( new BufferedOutputStream( Files.newOutputStream( temp ) ) ) )
+      {
+        out.writeInt( MAGIC );
+        out.writeInt( VERSION );
+        out.writeInt( resources.size() );
+        for( Map.Entry<String, Resource> entry : resources.entrySet() )
+        {
+          Resource resource = entry.getValue();
+          out.writeUTF( entry.getKey() );
+          out.writeLong( resource._length );
+          out.writeLong( resource._lastModified );
+          out.writeLong( resource._contentFingerprint );
+        }
+        out.writeInt( typesByPaths.size() );
+        for( Map.Entry<Set<String>, Set<String>> entry : typesByPaths.entrySet() )
+        {
+          writeStrings( out, entry.getKey() );
+          writeStrings( out, entry.getValue() );
+        }
+        out.writeInt( references.size() );
+        for( Map.Entry<String, Set<String>> entry : references.entrySet() )
+        {
+          out.writeUTF( entry.getKey() );
+          writeStrings( out, entry.getValue() );
+        }
+      }
+      Files.move( temp, _graphFile.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE );
+    }
+    catch( IOException ignore )
+    {
+      // without the graph the next build compiles everything, failing to write it is not an error
+    }
+  }
+
+  private static Set<String> readStrings( DataInputStream in ) throws IOException
+  {
+    int count = in.readInt();
+    Set<String> strings = new HashSet<>( count * 2 );
+    for( int i = 0; i < count; i++ )
+    {
+      strings.add( in.readUTF() );
+    }
+    return strings;
+  }
+
+  private static void writeStrings( DataOutputStream out, Set<String> strings ) throws IOException
+  {
+    out.writeInt( strings.size() );
+    for( String s : strings )
+    {
+      out.writeUTF( s );
+    }
+  }
+
+  private static class Resource
+  {
+    private final long _length;
+    private final long _lastModified;
+    private final long _contentFingerprint;
+
+    private static Resource make( File file )
+    {
+      return new Resource( file.length(), file.lastModified(), fingerprint( file ) );
+    }
+
+    private Resource( long length, long lastModified, long contentFingerprint )
+    {
+      _length = length;
+      _lastModified = lastModified;
+      _contentFingerprint = contentFingerprint;
+    }
+
+    private boolean matches( File file )
+    {
+      if( !file.isFile() || file.length() != _length )
+      {
+        return false;
+      }
+      // a checkout or a copy can touch a file without changing it, compare content if the timestamp differs
+      return file.lastModified() == _lastModified || fingerprint( file ) == _contentFingerprint;
+    }
+
+    private static long fingerprint( File file )
+    {
+      try( InputStream in = Files.newInputStream( file.toPath() ) )
+      {
+        return new Fingerprint( in ).getRawFingerprint();
+      }
+      catch( IOException e )
+      {
+        return 0;
+      }
+    }
+  }
+}
@@ -33,9 +33,13 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
 import javax.tools.DiagnosticCollector;
@@ -50,6 +54,7 @@ import manifold.api.fs.IFile;
 import manifold.api.fs.IResource;
 import manifold.api.host.IManifoldHost;
 import manifold.api.host.IModule;
+import manifold.api.type.ITypeManifold;
 import manifold.util.JreUtil;
 import manifold.rt.api.util.Pair;
 import manifold.api.util.SourcePathUtil;
@@ -63,11 +68,26 @@ import manifold.util.concurrent.LocklessLazyVar;
  */
 public class JavaParser implements IJavaParser
 {
+  /**
+   * Set the {@code manifold.runtime.batch} system property to {@code true} to compile a manifold type at runtime together
+   * with the other manifold types it is likely to need, see {@link #compile(String, Iterable, DiagnosticCollector)}.
+   */
+  private static final LocklessLazyVar<Boolean> BATCH_COMPILE =
+    LocklessLazyVar.make( () -> Boolean.valueOf( System.getProperty( "manifold.runtime.batch", "false" ) ) );
+
+  /**
+   * The most types compiled in one batch, set with the {@code manifold.runtime.batch.max} system property. A larger
+   * batch delays the requested type and holds more javac state, the types left out are batched on later requests.
+   */
+  private static final LocklessLazyVar<Integer> BATCH_MAX =
+    LocklessLazyVar.make( () -> Integer.parseInt( System.getProperty( "manifold.runtime.batch.max", "32" ) ) );
+
   private final IManifoldHost _host;
   private JavaCompiler _javac;
   private JavaFileManager _fileManager;
   private ManifoldJavaFileManager _mfm;
   private LocklessLazyVar<JavaCompiler> _parserJavac;
+  private final Set<String> _unbatchable = ConcurrentHashMap.newKeySet();
 
   /**
    * For internal use only.  Usea {@link IManifoldHost#getJavaParser()}
@@ -245,6 +265,9 @@ public class JavaParser implements IJavaParser
   /**
    * Compiles specified Java class name.  Maintains cache between calls to this method, therefore subsequent calls to this
    * method will consult the cache and return the previously compiled class if cached.
+   * <p/>
+   * In batch mode ({@code -Dmanifold.runtime.batch=true}) a manifold type is compiled in the same javac task as the types
+   * generated from its resource files and the generated types not yet compiled, which caches their classes as well.
    */
   public InMemoryClassJavaFileObject compile( String fqn, Iterable<String> options, DiagnosticCollector<JavaFileObject> errorHandler )
   {
@@ -262,6 +285,16 @@ public class JavaParser implements IJavaParser
       return null;
     }
 
+    if( BATCH_COMPILE.get() )
+    {
+      compiledClass = compileBatch( fileObj, options );
+      if( compiledClass != null )
+      {
+        return compiledClass;
+      }
+      // nothing to batch or a type in the batch has errors, compile the type by itself
+    }
+
     int check = _mfm.pushRuntimeMode();
     try
     {
@@ -278,6 +311,84 @@ public class JavaParser implements IJavaParser
     }
   }
 
+  /**
+   * Compiles a generated type together with the other types produced from its resource files and with the generated
+   * types not yet compiled. The class loader usually requests these types next, their class files are then found in
+   * the file manager instead of each costing a separate javac task.
+   *
+   * @return The compiled class or null if there is nothing to batch or the batch has errors
+   */
+  private InMemoryClassJavaFileObject compileBatch( Pair<JavaFileObject, String> fileObj, Iterable<String> options )
+  {
+    if( !(fileObj.getFirst() instanceof GeneratedJavaStubFileObject) ||
+        _unbatchable.contains( fileObj.getSecond() ) )
+    {
+      return null;
+    }
+
+    DiagnosticCollector<JavaFileObject> batchErrors = new DiagnosticCollector<>();
+    Batch batch = new Batch( BATCH_MAX.get() );
+    batch.add( fileObj.getSecond(), fileObj.getFirst() );
+    IModule module = getHost().getSingleModule();
+    for( IFile file: ((GeneratedJavaStubFileObject)fileObj.getFirst()).getResourceFiles() )
+    {
+      for( ITypeManifold tm: module.findTypeManifoldsFor( file ) )
+      {
+        for( String sibling: tm.getTypesForFile( file ) )
+        {
+          if( batch.isFull() )
+          {
+            break;
+          }
+          if( !batch.contains( sibling ) && !_unbatchable.contains( sibling ) &&
+              _mfm.findCompiledFile( sibling ) == null )
+          {
+            Pair<JavaFileObject, String> siblingObj = findJavaSource( sibling, batchErrors );
+            if( siblingObj != null && siblingObj.getSecond().equals( sibling ) &&
+                siblingObj.getFirst() instanceof GeneratedJavaStubFileObject &&
+                ((GeneratedJavaStubFileObject)siblingObj.getFirst()).isPrimary() &&
+                !((GeneratedJavaStubFileObject)siblingObj.getFirst()).isSelfCompile( sibling ) )
+            {
+              batch.add( sibling, siblingObj.getFirst() );
+            }
+          }
+        }
+      }
+    }
+    for( Map.Entry<String, JavaFileObject> pending: _mfm.getUncompiledGeneratedFiles().entrySet() )
+    {
+      if( !_unbatchable.contains( pending.getKey() ) && !batch.add( pending.getKey(), pending.getValue() ) )
+      {
+        break;
+      }
+    }
+    if( batch.size() <= 1 )
+    {
+      return null;
+    }
+
+    int check = _mfm.pushRuntimeMode();
+    try
+    {
+      StringWriter errors = new StringWriter();
+      BasicJavacTask javacTask = (BasicJavacTask)_javac.getTask(
+        errors, _mfm, batchErrors, options, null, batch.getFiles() );
+      initTypeProcessing( javacTask, batch.getTypes() );
+      javacTask.call();
+      InMemoryClassJavaFileObject compiledClass = _mfm.findCompiledFile( fileObj.getSecond() );
+      if( compiledClass == null )
+      {
+        // don't batch these again, otherwise each type's request repeats the failed batch
+        _unbatchable.addAll( batch.getTypes() );
+      }
+      return compiledClass;
+    }
+    finally
+    {
+      _mfm.popRuntimeMode( check );
+    }
+  }
+
   /**
    * Compiles fresh, no caching.  Intended for use with parser feedback tooling e.g., a Java editor.
    */
@@ -402,6 +513,7 @@ public class JavaParser implements IJavaParser
   {
     _javac = null;
     _parserJavac.clear();
+    _unbatchable.clear();
     try
     {
       if( _fileManager != null )
@@ -414,4 +526,63 @@ public class JavaParser implements IJavaParser
       throw new RuntimeException( e );
     }
   }
+
+  /**
+   * The types compiled in one javac task, in the order added, at most {@code max} of them.
+   */
+  static class Batch
+  {
+    private final Map<String, JavaFileObject> _files = new LinkedHashMap<>();
+    private final int _max;
+
+    Batch( int max )
+    {
+      _max = max;
+    }
+
+    /**
+     * @return False if the batch is full and doesn't already have {@code fqn}
+     */
+    boolean add( String fqn, JavaFileObject file )
+    {
+      if( _files.containsKey( fqn ) )
+      {
+        return true;
+      }
+      if( isFull() )
+      {
+        return false;
+      }
+      _files.put( fqn, file );
+      return true;
+    }
+
+    boolean contains( String fqn )
+    {
+      return _files.containsKey( fqn );
+    }
+
+    boolean isFull()
+    {
+      return _files.size() >= _max;
+    }
+
+    int size()
+    {
+      return _files.size();
+    }
+
+    Set<String> getTypes()
+    {
+      return _files.keySet();
+    }
+
+    /**
+     * @return The source files, a file producing more than one of the types is listed once
+     */
+    List<JavaFileObject> getFiles()
+    {
+      return new ArrayList<>( new LinkedHashSet<>( _files.values() ) );
+    }
+  }
 }
@@ -35,6 +35,7 @@ import com.sun.tools.javac.parser.JavacParser;
 import com.sun.tools.javac.processing.JavacProcessingEnvironment;
 import com.sun.tools.javac.tree.JCTree;
 import com.sun.tools.javac.tree.TreeMaker;
+import com.sun.tools.javac.tree.TreeScanner;
 import com.sun.tools.javac.tree.TreeTranslator;
 import com.sun.tools.javac.util.*;
 
@@ -140,6 +141,8 @@ public class JavacPlugin implements Plugin, TaskListener
   private List<String> _manifoldSourcePath;
   private String _bootclasspath;
   private boolean _isIncremental;
+  private IncrementalBuildGraph _incrementalBuildGraph;
+  private boolean _staleSourcesReported;
 
   public static JavacPlugin instance()
   {
@@ -331,6 +334,7 @@ public class JavacPlugin implements Plugin, TaskListener
       _manifoldSourcePath = fetchManifoldSource();
       _otherInputFiles = fetchOtherInputFiles();
       _otherSourceMappings = fetchManifoldSourceMappings();
+      _incrementalBuildGraph = fetchIncrementalBuildGraph();
       _typeProcessor = new TypeProcessor( getHost(), _javacTask );
       _issueReporter = new IssueReporter( _javacTask::getContext );
       _seenModules = new HashMap<>();
@@ -972,6 +976,17 @@ public class JavacPlugin implements Plugin, TaskListener
     return files;
   }
 
+  private IncrementalBuildGraph fetchIncrementalBuildGraph()
+  {
+    Map<String, String> options = JavacProcessingEnvironment.instance( getContext() ).getOptions();
+    String graphFile = options.get( IncrementalBuildGraph.INCREMENTAL_GRAPH );
+    if( graphFile == null )
+    {
+      graphFile = System.getProperty( IncrementalBuildGraph.INCREMENTAL_GRAPH );
+    }
+    return graphFile == null || graphFile.isEmpty() ? null : IncrementalBuildGraph.load( new File( graphFile ) );
+  }
+
   private Map<String, String> fetchManifoldSourceMappings()
   {
     Map<String, String> sourceMappings = new HashMap<>();
@@ -1105,6 +1120,7 @@ public class JavacPlugin implements Plugin, TaskListener
         break;
 
       case ANALYZE:
+        addReferencesToIncrementalBuildGraph( e );
         closeStuff();
         break;
 
@@ -1135,6 +1151,89 @@ public class JavacPlugin implements Plugin, TaskListener
     {
       throw ManExceptionUtil.unchecked( t );
     }
+
+    saveIncrementalBuildGraph();
+  }
+
+  private void addReferencesToIncrementalBuildGraph( TaskEvent e )
+  {
+    JavaFileObject sourceFile = e.getSourceFile();
+    if( _incrementalBuildGraph == null || sourceFile == null || !isPhysicalFile( sourceFile ) ||
+        sourceFile instanceof GeneratedJavaStubFileObject || !(e.getCompilationUnit() instanceof JCTree.JCCompilationUnit) )
+    {
+      return;
+    }
+
+    // ANALYZE finishes per class, scan just the analyzed class since subsequent classes are not yet attributed
+    Set<String> types = new HashSet<>();
+    TreeScanner scanner = new TreeScanner()
+    {
+      @Override
+      public void scan( JCTree tree )
+      {
+        if( tree != null )
+        {
+          addType( tree.type == null ? null : tree.type.tsym );
+          if( tree instanceof JCTree.JCIdent )
+          {
+            addType( ((JCTree.JCIdent)tree).sym );
+          }
+          else if( tree instanceof JCTree.JCFieldAccess )
+          {
+            addType( ((JCTree.JCFieldAccess)tree).sym );
+          }
+        }
+        super.scan( tree );
+      }
+
+      private void addType( Symbol sym )
+      {
+        Symbol classSym = sym == null ? null : sym.enclClass();
+        while( classSym instanceof Symbol.ClassSymbol && classSym.owner instanceof Symbol.ClassSymbol )
+        {
+          classSym = classSym.owner;
+        }
+        if( classSym instanceof Symbol.ClassSymbol )
+        {
+          types.add( ((Symbol.ClassSymbol)classSym).getQualifiedName().toString() );
+        }
+      }
+    };
+    for( JCTree def: ((JCTree.JCCompilationUnit)e.getCompilationUnit()).defs )
+    {
+      if( def instanceof JCTree.JCClassDecl && ((JCTree.JCClassDecl)def).sym == e.getTypeElement() )
+      {
+        scanner.scan( def );
+      }
+    }
+    _incrementalBuildGraph.addReferences( new File( sourceFile.toUri() ), types );
+  }
+
+  private void saveIncrementalBuildGraph()
+  {
+    if( _incrementalBuildGraph == null || Log.instance( getContext() ).nerrors > 0 )
+    {
+      // with errors class files may be missing, keep the previous graph so the next build compiles the changes again
+      return;
+    }
+
+    Set<String> staleSources = _incrementalBuildGraph.getUncompiledStaleSources();
+    if( !staleSources.isEmpty() )
+    {
+      // the sources were compiled against the previous types, keep the previous graph until they are recompiled
+      if( !_staleSourcesReported )
+      {
+        _staleSourcesReported = true;
+        getIssueReporter().reportError( IssueMsg.MSG_RECOMPILE_FOR_CHANGED_RESOURCES.get( String.join( ", ", staleSources ) ) );
+      }
+      return;
+    }
+    _incrementalBuildGraph.save();
+  }
+
+  public IncrementalBuildGraph getIncrementalBuildGraph()
+  {
+    return _incrementalBuildGraph;
   }
 
   private void addInputFile( TaskEvent e )
@@ -1370,6 +1469,14 @@ public class JavacPlugin implements Plugin, TaskListener
     return _argMap.containsKey( Arg.no_bootstrap ) || _argMap.containsKey( Arg.no_bootstrap_deprecated );
   }
 
+  /**
+   * @return The plugin arguments mapped to their values, or to null for an argument without values
+   */
+  public Map<Arg, Set<String>> getArgs()
+  {
+    return _argMap == null ? Collections.emptyMap() : Collections.unmodifiableMap( _argMap );
+  }
+
   public void registerType( JavaFileObject sourceFile, String scope, int offset, String name, String ext, HostKind hostKind, String content )
   {
     _fileFragmentResources.add( new FileFragmentResource( sourceFile, scope, offset, name, ext, hostKind, content ) );
@@ -1390,7 +1497,8 @@ public class JavacPlugin implements Plugin, TaskListener
 
   public boolean isIncremental()
   {
-    return _isIncremental || String.valueOf( true ).equals( System.getProperty( "manifold.compiler.incremental" ) );
+    return _isIncremental || _incrementalBuildGraph != null ||
+           String.valueOf( true ).equals( System.getProperty( "manifold.compiler.incremental" ) );
   }
   public void setIncremental()
   {
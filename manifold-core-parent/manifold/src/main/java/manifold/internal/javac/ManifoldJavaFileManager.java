@@ -31,9 +31,10 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
-import java.util.stream.Collectors;
 import javax.tools.DiagnosticListener;
 import javax.tools.FileObject;
 import javax.tools.JavaFileManager;
@@ -52,8 +53,9 @@ import manifold.rt.api.util.Stack;
 import manifold.util.JreUtil;
 import manifold.rt.api.util.ManClassUtil;
 import manifold.util.ReflectUtil;
+import manifold.api.util.cache.CompactFqnCache;
 import manifold.api.util.cache.FqnCache;
-import manifold.api.util.cache.FqnCacheNode;
+import manifold.api.util.cache.IFqnCache;
 
 
 import static manifold.api.type.ContributorKind.Primary;
@@ -65,13 +67,18 @@ class ManifoldJavaFileManager extends JavacFileManagerBridge<JavaFileManager> im
 {
   private static final JavaFileObject MISS_FO = new MissFileObject();
   static final Context.Key<Stack> MODULE_CTX = new Context.Key<Stack>() {};
+  private static final String CLASS_FILES_METRIC = "Compiled Class Files";
+  private static final String GENERATED_FILES_METRIC = "Generated Source Files";
+  /** Opt in to {@link CompactFqnCache} for the file caches, which is much smaller and faster for very large class paths */
+  private static final String COMPACT_FQN_CACHE = "manifold.fqncache.compact";
 
   private final IManifoldHost _host;
   private final boolean _fromJavaC;
-  private FqnCache<InMemoryClassJavaFileObject> _classFiles;
-  private FqnCache<JavaFileObject> _generatedFiles;
+  private IFqnCache<InMemoryClassJavaFileObject> _classFiles;
+  private IFqnCache<JavaFileObject> _generatedFiles;
   private Context _ctx;
   private int _runtimeMode;
+  private Set<String> _changedTypes;
 
   ManifoldJavaFileManager( IManifoldHost host, JavaFileManager fileManager, Context ctx, boolean fromJavaC )
   {
@@ -79,8 +86,8 @@ class ManifoldJavaFileManager extends JavacFileManagerBridge<JavaFileManager> im
     _host = host;
     _ctx = ctx;
     _fromJavaC = fromJavaC;
-    _classFiles = new FqnCache<>();
-    _generatedFiles = new FqnCache<>();
+    _classFiles = makeFqnCache( CLASS_FILES_METRIC );
+    _generatedFiles = makeFqnCache( GENERATED_FILES_METRIC );
     if( JreUtil.isJava9orLater() )
     {
       ctx.put( MODULE_CTX, new Stack() );
@@ -199,6 +206,26 @@ class ManifoldJavaFileManager extends JavacFileManagerBridge<JavaFileManager> im
     return _classFiles.get( fqn );
   }
 
+  /**
+   * @return Primary generated files that are not yet compiled, mapped by qualified type name
+   */
+  Map<String, JavaFileObject> getUncompiledGeneratedFiles()
+  {
+    Map<String, JavaFileObject> files = new LinkedHashMap<>();
+    for( String fqn: _generatedFiles.getFqns() )
+    {
+      JavaFileObject fo = _generatedFiles.get( fqn );
+      if( fo instanceof GeneratedJavaStubFileObject &&
+          ((GeneratedJavaStubFileObject)fo).isPrimary() &&
+          !((GeneratedJavaStubFileObject)fo).isSelfCompile( fqn ) &&
+          _classFiles.get( fqn ) == null )
+      {
+        files.put( fqn, fo );
+      }
+    }
+    return files;
+  }
+
   public JavaFileObject getSourceFileForInput( Location location, String fqn, JavaFileObject.Kind kind, DiagnosticListener<JavaFileObject> errorHandler )
   {
     try
@@ -381,15 +408,11 @@ class ManifoldJavaFileManager extends JavacFileManagerBridge<JavaFileManager> im
 
   public JavaFileObject findGeneratedFile( String fqn, Location location, IModule module, DiagnosticListener<JavaFileObject> errorHandler )
   {
-    FqnCacheNode<JavaFileObject> node = _generatedFiles.getNode( fqn );
-    if( node != null )
+    JavaFileObject cached = _generatedFiles.get( fqn );
+    // note userdata can be null in the case where an innerclass is loaded before the enclosing
+    if( cached != null )
     {
-      JavaFileObject fo = node.getUserData();
-      // note userdata can be null in the case where an innerclass is loaded before the enclosing
-      if( fo != null )
-      {
-        return fo == MISS_FO ? null : fo;
-      }
+      return cached == MISS_FO ? null : cached;
     }
 
     if( isFilteredFromIncrementalCompilation( fqn ) )
@@ -411,9 +434,22 @@ class ManifoldJavaFileManager extends JavacFileManagerBridge<JavaFileManager> im
     // note we cache even if file is null, fqn cache is also a miss cache
     _generatedFiles.add( fqn, fo == null ? MISS_FO : fo);
 
+    maybeAddToIncrementalBuildGraph( fqn, fo );
+
     return fo;
   }
 
+  private void maybeAddToIncrementalBuildGraph( String fqn, JavaFileObject fo )
+  {
+    JavacPlugin javacPlugin = JavacPlugin.instance();
+    IncrementalBuildGraph graph = javacPlugin == null || !_fromJavaC ? null : javacPlugin.getIncrementalBuildGraph();
+    if( graph != null && fo instanceof GeneratedJavaStubFileObject && ((GeneratedJavaStubFileObject)fo).isPrimary() &&
+        !((GeneratedJavaStubFileObject)fo).isFileFragment() )
+    {
+      graph.addType( fqn, IncrementalBuildGraph.toFiles( ((GeneratedJavaStubFileObject)fo).getDependencyFiles() ) );
+    }
+  }
+
   private void pushLocation( JavaFileManager.Location location )
   {
     if( JavacPlugin.instance() == null || !JreUtil.isJava9orLater() )
@@ -486,11 +522,7 @@ class ManifoldJavaFileManager extends JavacFileManagerBridge<JavaFileManager> im
       return false;
     }
 
-    // changed files indicates incremental compilation, thus if fqn is not present in changes, use .class file
-    List<File> changedFiles = getChangedResourceFiles();
     IManifoldHost host = getHost();
-    Set<IFile> changes = changedFiles.stream().map( ( File f ) -> host.getFileSystem().getIFile( f ) )
-      .collect( Collectors.toSet() );
     for( ITypeManifold tm: host.getSingleModule().getTypeManifolds() )
     {
       if( (tm.getContributorKind() == Supplemental || !tm.isFileBacked()) && tm.isType( fqn ) )
@@ -507,21 +539,79 @@ class ManifoldJavaFileManager extends JavacFileManagerBridge<JavaFileManager> im
           return false;
         }
       }
+    }
+
+    // changed files indicates incremental compilation, thus if fqn is not present in changes, use .class file
+    if( getChangedTypes().contains( fqn ) )
+    {
+      // the resource file changed, recompile the type[s]
+      return false;
+    }
+
+    IncrementalBuildGraph graph = javacPlugin.getIncrementalBuildGraph();
+    if( graph != null && (!graph.isUnchanged( fqn, findDependencyFiles( host, fqn ) ) || !hasClassFile( fqn )) )
+    {
+      // the type is new to the graph, its dependencies changed, or the previous build's .class file is gone, compile it
+      return false;
+    }
+
+    // no files changed corresponding with the type, do not compile it, instead use the existing .class file
+    return true;
+  }
 
-      for( IFile file: changes )
+  /**
+   * The types corresponding with the changed resource files, computed once per compilation.
+   */
+  private Set<String> getChangedTypes()
+  {
+    if( _changedTypes == null )
+    {
+      Set<String> changedTypes = new HashSet<>();
+      IManifoldHost host = getHost();
+      IncrementalBuildGraph graph = JavacPlugin.instance().getIncrementalBuildGraph();
+      for( File changedFile: getChangedResourceFiles() )
       {
-        Set<String> types = Arrays.stream( tm.getTypesForFile( file ) ).collect( Collectors.toSet() );
-        if( types.contains( fqn ) )
+        if( graph != null )
         {
-          //## todo: cache the types for changed files so we don't have to recompute them for each call to this method
-          // the resource file changed, recompile the type[s]
-          return false;
+          // include the types the file produced before it changed, they may be gone now
+          changedTypes.addAll( graph.getTypesForFile( changedFile ) );
+        }
+
+        IFile file = host.getFileSystem().getIFile( changedFile );
+        if( !file.exists() )
+        {
+          continue;
+        }
+        for( ITypeManifold tm: host.getSingleModule().getTypeManifolds() )
+        {
+          changedTypes.addAll( Arrays.asList( tm.getTypesForFile( file ) ) );
         }
       }
+      _changedTypes = changedTypes;
     }
+    return _changedTypes;
+  }
 
-    // no files changed corresponding with the type, do not compile it, instead use the existing .class file
-    return true;
+  private Set<File> findDependencyFiles( IManifoldHost host, String fqn )
+  {
+    Set<IFile> files = new HashSet<>();
+    for( ITypeManifold tm: host.getSingleModule().findTypeManifoldsFor( fqn ) )
+    {
+      files.addAll( tm.findDependencyFiles( fqn ) );
+    }
+    return IncrementalBuildGraph.toFiles( files );
+  }
+
+  private boolean hasClassFile( String fqn )
+  {
+    try
+    {
+      return super.getJavaFileForInput( StandardLocation.CLASS_PATH, fqn, JavaFileObject.Kind.CLASS ) != null;
+    }
+    catch( IOException e )
+    {
+      return false;
+    }
   }
 
   public static List<File> getChangedResourceFiles()
@@ -532,6 +622,16 @@ class ManifoldJavaFileManager extends JavacFileManagerBridge<JavaFileManager> im
     {
       changedFiles = (List<File>)ReflectUtil.method( type, "getChangedFiles" ).invokeStatic();
     }
+    else
+    {
+      // outside IntelliJ, compare resource files with the graph persisted by the previous build
+      JavacPlugin javacPlugin = JavacPlugin.instance();
+      IncrementalBuildGraph graph = javacPlugin == null ? null : javacPlugin.getIncrementalBuildGraph();
+      if( graph != null )
+      {
+        changedFiles = graph.getChangedFiles();
+      }
+    }
     return changedFiles;
   }
 
@@ -570,10 +670,17 @@ class ManifoldJavaFileManager extends JavacFileManagerBridge<JavaFileManager> im
     }
   }
 
+  private static <T> IFqnCache<T> makeFqnCache( String metricName )
+  {
+    return Boolean.getBoolean( COMPACT_FQN_CACHE )
+           ? new CompactFqnCache<T>().measure( metricName )
+           : new FqnCache<T>().measure( metricName );
+  }
+
   @Override
   public void refreshed()
   {
-    _classFiles = new FqnCache<>();
+    _classFiles = makeFqnCache( CLASS_FILES_METRIC );
   }
 
   public Collection<InMemoryClassJavaFileObject> getCompiledFiles()
@@ -87,4 +87,9 @@ public class SourceSupplier
   {
     return _sps.stream().flatMap( tm -> tm.findFilesForType( _fqn ).stream() ).collect( Collectors.toSet() );
   }
+
+  public Set<IFile> getDependencyFiles()
+  {
+    return _sps.stream().flatMap( tm -> tm.findDependencyFiles( _fqn ).stream() ).collect( Collectors.toSet() );
+  }
 }
@@ -0,0 +1,231 @@
+/*
+ * Copyright (c) 2025 - Manifold Systems LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package manifold.internal.runtime.protocols;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+import manifold.api.fs.IDirectory;
+import manifold.api.util.cache.GeneratedSourceCache;
+import manifold.api.util.fingerprint.Fingerprint;
+import manifold.internal.host.RuntimeManifoldHost;
+import manifold.util.concurrent.LocklessLazyVar;
+
+/**
+ * A persistent cache of class files compiled at runtime from manifold types and structural proxies, so restarting a JVM
+ * does not recompile them. Enable the cache by setting the {@code manifold.class.cache} system property to a writable
+ * directory. The optional {@code manifold.class.cache.size} property bounds the size of the cache in megabytes, the
+ * default is 64. When the bound is exceeded, the least recently used class files are evicted. The size of the cache is
+ * checked on the first write and whenever this JVM has written as many bytes as the bound had room for at the last
+ * check, not on every write.
+ * <p/>
+ * A class file is named by the fingerprint of its source, its name, the javac options, the Java version, the manifold
+ * version, and the runtime class path, including the size and timestamp of every file in its directories. Since a name fully determines a file's content, entries are never overwritten,
+ * which makes sharing the directory between JVMs safe: writers move complete files into place, and readers treat
+ * a file that disappears during eviction as a miss.
+ */
+final class ClassFileCache
+{
+  private static final String CACHE_DIR_PROPERTY = "manifold.class.cache";
+  private static final String CACHE_SIZE_PROPERTY = "manifold.class.cache.size";
+  private static final int CLASSFILE_MAGIC = 0xCAFEBABE;
+
+  private static final LocklessLazyVar<File> CACHE_DIR =
+    LocklessLazyVar.make( () -> {
+      String dir = System.getProperty( CACHE_DIR_PROPERTY );
+      return dir == null || dir.isEmpty() ? null : new File( dir );
+    } );
+
+  private static final LocklessLazyVar<Long> MAX_BYTES =
+    LocklessLazyVar.make( () -> Long.parseLong( System.getProperty( CACHE_SIZE_PROPERTY, "64" ) ) * 1024 * 1024 );
+
+  private static final LocklessLazyVar<Fingerprint> ENVIRONMENT =
+    LocklessLazyVar.make( ClassFileCache::makeEnvironmentFingerprint );
+
+  /** bytes this JVM may write before checking the size of the cache again, the first write checks */
+  private static final AtomicLong ROOM = new AtomicLong();
+
+  static boolean isEnabled()
+  {
+    return CACHE_DIR.get() != null;
+  }
+
+  static Fingerprint makeKey( String fqn, CharSequence source, List<String> options )
+  {
+    Fingerprint fp = new Fingerprint( ENVIRONMENT.get() );
+    fp.extend( fqn );
+    options.forEach( fp::extend );
+    fp.extend( source.toString() );
+    return fp;
+  }
+
+  static byte[] get( Fingerprint key )
+  {
+    File file = getFile( key );
+    try
+    {
+      byte[] bytes = Files.readAllBytes( file.toPath() );
+      if( bytes.length < 4 ||
+          ((bytes[0] & 0xFF) << 24 | (bytes[1] & 0xFF) << 16 | (bytes[2] & 0xFF) << 8 | (bytes[3] & 0xFF)) != CLASSFILE_MAGIC )
+      {
+        return null;
+      }
+      // timestamp marks recent use for eviction
+      //noinspection ResultOfMethodCallIgnored
+      file.setLastModified( System.currentTimeMillis() );
+      return bytes;
+    }
+    catch( IOException ignore )
+    {
+      // absent or evicted
+      return null;
+    }
+  }
+
+  static void put( Fingerprint key, byte[] bytes )
+  {
+    File file = getFile( key );
+    File dir = file.getParentFile();
+    try
+    {
+      //noinspection ResultOfMethodCallIgnored
+      dir.mkdirs();
+      Path temp = Files.createTempFile( dir.toPath(), file.getName(), ".tmp" );
+      Files.write( temp, bytes );
+      Files.move( temp, file.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE );
+    }
+    catch( IOException ignore )
+    {
+      // the cache is an optimization, failing to write an entry is not an error
+      return;
+    }
+    if( ROOM.addAndGet( -bytes.length ) < 0 )
+    {
+      evict( dir );
+    }
+  }
+
+  private static synchronized void evict( File dir )
+  {
+    if( ROOM.get() >= 0 )
+    {
+      // another thread checked while this one waited
+      return;
+    }
+
+    File[] files = dir.listFiles( ( d, name ) -> name.endsWith( ".class" ) );
+    if( files == null )
+    {
+      return;
+    }
+
+    long total = 0;
+    for( File f : files )
+    {
+      total += f.length();
+    }
+    if( total > MAX_BYTES.get() )
+    {
+      Arrays.sort( files, Comparator.comparingLong( File::lastModified ) );
+      for( File f : files )
+      {
+        if( total <= MAX_BYTES.get() * 3 / 4 )
+        {
+          // leave some headroom so eviction does not run on every subsequent put
+          break;
+        }
+        long length = f.length();
+        if( f.delete() )
+        {
+          total -= length;
+        }
+      }
+    }
+    // other JVMs sharing the directory may write too, they check when their own writes exhaust the room
+    ROOM.set( Math.max( MAX_BYTES.get() - total, 0 ) );
+  }
+
+  private static File getFile( Fingerprint key )
+  {
+    return new File( CACHE_DIR.get(), key.toHexString() + ".class" );
+  }
+
+  private static Fingerprint makeEnvironmentFingerprint()
+  {
+    Fingerprint fp = new Fingerprint();
+    fp.extend( System.getProperty( "java.version", "" ) );
+    GeneratedSourceCache.extendWithCodeSource( fp, ClassFileCache.class );
+    for( IDirectory entry: RuntimeManifoldHost.get().getSingleModule().getJavaClassPath() )
+    {
+      fp.extend( entry.toString() );
+      if( entry.isJavaFile() )
+      {
+        extendWithFiles( fp, entry.toJavaFile() );
+      }
+    }
+    return fp;
+  }
+
+  /**
+   * Extends {@code fp} with the size and timestamp of {@code entry} if it is a file such as a jar, otherwise with the
+   * relative path, size and timestamp of each file in the directory. A directory's own timestamp changes only when
+   * files are added or removed directly in it, not when class or resource files in it change.
+   */
+  static void extendWithFiles( Fingerprint fp, File entry )
+  {
+    if( !entry.isDirectory() )
+    {
+      fp.extend( entry.length() );
+      fp.extend( entry.lastModified() );
+      return;
+    }
+
+    Path root = entry.toPath();
+    Map<String, Path> sortedFiles = new TreeMap<>();
+    try( Stream<Path> paths = Files.walk( root ) )
+    {
+      paths.filter( Files::isRegularFile ).forEach( path -> sortedFiles.put( root.relativize( path ).toString(), path ) );
+    }
+    catch( IOException | UncheckedIOException e )
+    {
+      // the directory could not be read completely, use a key no other run shares rather than risk stale class files
+      fp.extend( String.valueOf( System.nanoTime() ) );
+      return;
+    }
+    for( Map.Entry<String, Path> file : sortedFiles.entrySet() )
+    {
+      fp.extend( file.getKey() );
+      File f = file.getValue().toFile();
+      fp.extend( f.length() );
+      fp.extend( f.lastModified() );
+    }
+  }
+
+  private ClassFileCache()
+  {
+  }
+}
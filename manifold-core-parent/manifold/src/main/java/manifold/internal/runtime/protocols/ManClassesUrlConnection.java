@@ -26,6 +26,7 @@ import java.net.URLConnection;
 import java.net.URLDecoder;
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.function.Supplier;
@@ -39,18 +40,27 @@ import manifold.internal.javac.JavaCompileIssuesException;
 import manifold.internal.javac.StringJavaFileObject;
 import manifold.rt.api.util.Pair;
 import manifold.api.util.PerfLogUtil;
+import manifold.api.util.fingerprint.Fingerprint;
+import manifold.util.metrics.Metrics;
+import manifold.util.metrics.Timer;
 
 /**
  */
 public class ManClassesUrlConnection extends URLConnection
 {
   private static final boolean DUMP_CLASSFILES = false;
+  private static final List<String> COMPILE_OPTIONS =
+    Arrays.asList( "-source", "8", "-g", "-nowarn", "-Xlint:none", "-proc:none", "-parameters" );
 
   private static final String[] JAVA_NAMESPACES_TO_IGNORE = {
     "java/", "javax/", "sun/"
   };
   private static final String META_INF_MANIFEST_MF = "META-INF/MANIFEST.MF";
+  private static final Timer COMPILE_JAVA_CLASS_TIMER = Metrics.timer( "compileJavaClass()" );
+  private static final Timer GENERATE_PROXY_CLASS_TIMER = Metrics.timer( "generateProxyClass()" );
+  private static final Timer COMPILE_PROXY_CLASS_TIMER = Metrics.timer( "compileProxyClass()" );
   private static final ThreadLocal<Map<String, Supplier<String>>> _proxySupplierByFqn = ThreadLocal.withInitial( HashMap::new );
+  private static final ThreadLocal<Map<String, Supplier<byte[]>>> _bytecodeSupplierByFqn = ThreadLocal.withInitial( HashMap::new );
 
   public static Supplier<String> getProxySupplier( String fqnProxy )
   {
@@ -58,17 +68,36 @@ public class ManClassesUrlConnection extends URLConnection
   }
 
   public static void putProxySupplier( String fqnProxy, Supplier<String> supplier )
+  {
+    putProxySupplier( fqnProxy, supplier, null );
+  }
+
+  /**
+   * @param bytecodeSupplier Supplies the proxy's class file directly, it is tried before compiling {@code supplier}'s
+   *                         source and returns null if the proxy must be compiled. May be null.
+   */
+  public static void putProxySupplier( String fqnProxy, Supplier<String> supplier, Supplier<byte[]> bytecodeSupplier )
   {
     _proxySupplierByFqn.get().put( fqnProxy, supplier );
+    if( bytecodeSupplier != null )
+    {
+      _bytecodeSupplierByFqn.get().put( fqnProxy, bytecodeSupplier );
+    }
+    else
+    {
+      _bytecodeSupplierByFqn.get().remove( fqnProxy );
+    }
   }
 
   public static void removeProxySupplier( String fqnProxy )
   {
     _proxySupplierByFqn.get().remove( fqnProxy );
+    _bytecodeSupplierByFqn.get().remove( fqnProxy );
   }
 
   private JavaFileObject _javaSrcFile;
   private Supplier<String> _proxySupplier;
+  private Supplier<byte[]> _bytecodeSupplier;
   private String _javaFqn;
 
   private boolean _bDirectory;
@@ -153,6 +182,7 @@ public class ManClassesUrlConnection extends URLConnection
     Supplier<String> proxySupplier = getProxySupplier( strType );
     if( proxySupplier != null )
     {
+      _bytecodeSupplier = _bytecodeSupplierByFqn.get().get( strType );
       removeProxySupplier( strType );
       _proxySupplier = proxySupplier;
       _javaFqn = strType;
@@ -234,17 +264,18 @@ public class ManClassesUrlConnection extends URLConnection
       if( _buf == null )
       {
         //System.out.println( "Compiling: " + _type.getName() );
-//        if( _bytecodeSupplier != null )
-//        {
-//          _buf = _bytecodeSupplier.get();
-//        }
         if( _javaSrcFile != null )
         {
           _buf = compileJavaClass();
         }
         else if( _proxySupplier != null )
         {
-          _buf = compileProxyClass( _proxySupplier.get() );
+          _buf = _bytecodeSupplier == null ? null : generateProxyClass();
+          if( _buf == null )
+          {
+            String source = _proxySupplier.get();
+            _buf = compileCached( () -> source, () -> compileProxyClass( source ) );
+          }
         }
         else
         {
@@ -307,14 +338,16 @@ public class ManClassesUrlConnection extends URLConnection
         }
         else
         {
-          DiagnosticCollector<JavaFileObject> errorHandler = new DiagnosticCollector<>();
-          InMemoryClassJavaFileObject cls = RuntimeManifoldHost.get().getJavaParser().compile( _javaFqn,
-            Arrays.asList( "-source", "8", "-g", "-nowarn", "-Xlint:none", "-proc:none", "-parameters" ), errorHandler );
-          if( cls != null )
-          {
-            return cls.getBytes();
-          }
-          throw new JavaCompileIssuesException( _javaFqn, errorHandler );
+          return compileCached( this::getJavaSource, () -> {
+            DiagnosticCollector<JavaFileObject> errorHandler = new DiagnosticCollector<>();
+            InMemoryClassJavaFileObject cls = RuntimeManifoldHost.get().getJavaParser().compile( _javaFqn,
+              COMPILE_OPTIONS, errorHandler );
+            if( cls != null )
+            {
+              return cls.getBytes();
+            }
+            throw new JavaCompileIssuesException( _javaFqn, errorHandler );
+          } );
         }
       }
       catch( Throwable t )
@@ -324,7 +357,52 @@ public class ManClassesUrlConnection extends URLConnection
       }
       finally
       {
-        PerfLogUtil.log( "compileJavaClass() " + _javaFqn, before );
+        PerfLogUtil.log( COMPILE_JAVA_CLASS_TIMER, _javaFqn, before );
+      }
+    }
+
+    /**
+     * Checks the persistent {@link ClassFileCache}, if enabled, before compiling {@code source}.
+     */
+    private byte[] compileCached( Supplier<CharSequence> source, Supplier<byte[]> compiler )
+    {
+      if( !ClassFileCache.isEnabled() )
+      {
+        return compiler.get();
+      }
+
+      Fingerprint key = ClassFileCache.makeKey( _javaFqn, source.get(), COMPILE_OPTIONS );
+      byte[] bytes = ClassFileCache.get( key );
+      if( bytes == null )
+      {
+        bytes = compiler.get();
+        ClassFileCache.put( key, bytes );
+      }
+      return bytes;
+    }
+
+    private CharSequence getJavaSource()
+    {
+      try
+      {
+        return _javaSrcFile.getCharContent( true );
+      }
+      catch( IOException e )
+      {
+        throw new RuntimeException( e );
+      }
+    }
+
+    private byte[] generateProxyClass()
+    {
+      long before = System.nanoTime();
+      try
+      {
+        return _bytecodeSupplier.get();
+      }
+      finally
+      {
+        PerfLogUtil.log( GENERATE_PROXY_CLASS_TIMER, _javaFqn, before );
       }
     }
 
@@ -336,7 +414,7 @@ public class ManClassesUrlConnection extends URLConnection
         DiagnosticCollector<JavaFileObject> errorHandler = new DiagnosticCollector<>();
         StringJavaFileObject fileObj = new StringJavaFileObject( _javaFqn, source );
         InMemoryClassJavaFileObject cls = RuntimeManifoldHost.get().getJavaParser().compile( fileObj, _javaFqn,
-          Arrays.asList( "-source", "8", "-g", "-nowarn", "-Xlint:none", "-proc:none", "-parameters" ), errorHandler );
+          COMPILE_OPTIONS, errorHandler );
         if( cls != null )
         {
           return cls.getBytes();
@@ -345,7 +423,7 @@ public class ManClassesUrlConnection extends URLConnection
       }
       finally
       {
-        PerfLogUtil.log( "compileProxyClass() " + _javaFqn, before );
+        PerfLogUtil.log( COMPILE_PROXY_CLASS_TIMER, _javaFqn, before );
       }
     }
 
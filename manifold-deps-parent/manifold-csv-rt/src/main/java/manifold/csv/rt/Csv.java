@@ -54,20 +54,37 @@ public class Csv
   public static String toCsv( Object jsonValue )
   {
     StringBuilder sb = new StringBuilder();
+    try
+    {
+      toCsv( jsonValue, sb );
+    }
+    catch( IOException e )
+    {
+      // StringBuilder does not throw
+      throw new RuntimeException( e );
+    }
+    return sb.toString();
+  }
+
+  /**
+   * Writes the same CSV as {@link #toCsv(Object)} to {@code target} as it is made, {@code target} may be a
+   * {@link java.io.Writer} for a file or socket.
+   */
+  public static void toCsv( Object jsonValue, Appendable target ) throws IOException
+  {
     jsonValue = toBindings( jsonValue );
     if( jsonValue instanceof Map )
     {
-      toCsv( jsonValue, null, sb, 0 );
+      toCsv( jsonValue, null, target, 0 );
     }
     else if( jsonValue instanceof Iterable )
     {
-      toCsv( jsonValue, "list", sb, 0 );
+      toCsv( jsonValue, "list", target, 0 );
     }
     else
     {
-      toCsv( jsonValue, "item", sb, 0 );
+      toCsv( jsonValue, "item", target, 0 );
     }
-    return sb.toString();
   }
 
   /**
@@ -80,6 +97,22 @@ public class Csv
    * a future revision.
    */
   public static void toCsv( Object jsonValue, String name, StringBuilder target, int indent )
+  {
+    try
+    {
+      toCsv( jsonValue, name, (Appendable)target, indent );
+    }
+    catch( IOException e )
+    {
+      // StringBuilder does not throw
+      throw new RuntimeException( e );
+    }
+  }
+
+  /**
+   * Writes the same CSV as {@link #toCsv(Object, String, StringBuilder, int)} to {@code target} as it is made.
+   */
+  public static void toCsv( Object jsonValue, String name, Appendable target, int indent ) throws IOException
   {
     jsonValue = toBindings( jsonValue );
     if( jsonValue instanceof Map )
@@ -122,7 +155,7 @@ public class Csv
     }
   }
 
-  private static void toCsv( Iterable value, String name, StringBuilder target, int indent )
+  private static void toCsv( Iterable value, String name, Appendable target, int indent ) throws IOException
   {
     Iterator iterator = value.iterator();
     if( iterator.hasNext() )
@@ -193,7 +226,10 @@ public class Csv
       {
         // Lists of lists not supported with CSV, just dumping text for each element to a single value
         target.append( '"' );
-        ((Iterable<?>)comp).forEach( e -> target.append( "\"\"" ).append( value ).append( "\"\"," ) );
+        for( Object ignored: (Iterable<?>)comp )
+        {
+          target.append( "\"\"" ).append( String.valueOf( value ) ).append( "\"\"," );
+        }
         target.append( "\"\n" );
       }
       else
@@ -204,9 +240,18 @@ public class Csv
     }
   }
 
-  private static StringBuilder appendCsvValue( StringBuilder target, Object value )
+  private static Appendable appendCsvValue( Appendable target, Object value ) throws IOException
   {
-    target.append( '"' ).append( String.valueOf( value ).replace( "\"", "\"\"" ) ).append( '"' );
+    // double the quotes while appending rather than replacing them in a copy
+    String text = String.valueOf( value );
+    target.append( '"' );
+    int start = 0;
+    for( int quote = text.indexOf( '"' ); quote >= 0; quote = text.indexOf( '"', start ) )
+    {
+      target.append( text, start, quote + 1 ).append( '"' );
+      start = quote + 1;
+    }
+    target.append( text, start, text.length() ).append( '"' );
     return target;
   }
 
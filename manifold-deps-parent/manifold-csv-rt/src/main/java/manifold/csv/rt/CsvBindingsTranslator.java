@@ -18,6 +18,8 @@ package manifold.csv.rt;
 
 import manifold.json.rt.api.IJsonBindingsTranslator;
 
+import java.io.IOException;
+
 public class CsvBindingsTranslator implements IJsonBindingsTranslator
 {
   @Override
@@ -44,6 +46,18 @@ public class CsvBindingsTranslator implements IJsonBindingsTranslator
     Csv.toCsv( bindingsValue, name, target, indent );
   }
 
+  @Override
+  public void fromBindings( Object bindingsValue, Appendable target ) throws IOException
+  {
+    Csv.toCsv( bindingsValue, target );
+  }
+
+  @Override
+  public void fromBindings( Object bindingsValue, String name, Appendable target, int indent ) throws IOException
+  {
+    Csv.toCsv( bindingsValue, name, target, indent );
+  }
+
   @Override
   public Object toBindings( String translation )
   {
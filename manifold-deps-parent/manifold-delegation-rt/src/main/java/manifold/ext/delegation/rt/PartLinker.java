@@ -0,0 +1,151 @@
+/*
+ * Copyright (c) 2025 - Manifold Systems LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package manifold.ext.delegation.rt;
+
+import manifold.ext.delegation.rt.api.link;
+import manifold.util.ReflectUtil;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static manifold.ext.delegation.rt.RuntimeMethods.COVERED_FIELD;
+import static manifold.ext.delegation.rt.RuntimeMethods.SELF_FIELD;
+import static manifold.rt.api.util.ManClassUtil.getAllInterfaces;
+
+/**
+ * The wiring fields of a part class: the {@code $theSelf} fields of the class and its superclasses, its
+ * {@code $interfacesFullyCovered} field, and its {@code @link} fields. These are resolved once per class so that linking
+ * a part on construction of the delegating class is a series of field stores.
+ */
+final class PartLinker
+{
+  private static final ClassValue<PartLinker> LINKERS = new ClassValue<PartLinker>()
+  {
+    @Override
+    protected PartLinker computeValue( Class<?> partClass )
+    {
+      return new PartLinker( partClass );
+    }
+  };
+
+  static PartLinker get( Class<?> partClass )
+  {
+    return LINKERS.get( partClass );
+  }
+
+  private final List<ReflectUtil.FieldRef> _selfFields;
+  private final ReflectUtil.FieldRef _coveredField;
+  private final List<LinkField> _linkFields;
+  private final ClassValue<Boolean> _coveredBy;
+
+  private PartLinker( Class<?> partClass )
+  {
+    _selfFields = new ArrayList<>();
+    _linkFields = new ArrayList<>();
+    for( Class<?> cls = partClass; cls != null && cls != Object.class; cls = cls.getSuperclass() )
+    {
+      for( Field field : cls.getDeclaredFields() )
+      {
+        if( Modifier.isStatic( field.getModifiers() ) )
+        {
+          continue;
+        }
+        if( field.getName().equals( SELF_FIELD ) )
+        {
+          _selfFields.add( ReflectUtil.field( cls, SELF_FIELD ) );
+        }
+        else if( field.getAnnotation( link.class ) != null )
+        {
+          _linkFields.add( new LinkField( ReflectUtil.field( cls, field.getName() ), field ) );
+        }
+      }
+    }
+    _coveredField = ReflectUtil.field( partClass, COVERED_FIELD );
+
+    Set<Class> partInterfaces = getAllInterfaces( partClass );
+    _coveredBy = new ClassValue<Boolean>()
+    {
+      @Override
+      protected Boolean computeValue( Class<?> delegatingClass )
+      {
+        return getAllInterfaces( delegatingClass ).containsAll( partInterfaces );
+      }
+    };
+  }
+
+  /**
+   * Links {@code part} and, recursively, the parts it links to {@code delegatingClass}.
+   */
+  void link( Object delegatingClass, Object part )
+  {
+    if( _selfFields.isEmpty() )
+    {
+      // not a part class
+      return;
+    }
+
+    if( _coveredBy.get( delegatingClass.getClass() ) )
+    {
+      if( _coveredField == null )
+      {
+        return;
+      }
+      _coveredField.set( part, true );
+    }
+
+    for( ReflectUtil.FieldRef self : _selfFields )
+    {
+      self.set( part, delegatingClass );
+    }
+
+    for( LinkField linkField : _linkFields )
+    {
+      Object partDelegate = linkField._ref.get( part );
+      if( partDelegate != null )
+      {
+        get( partDelegate.getClass() ).link( delegatingClass, partDelegate );
+      }
+    }
+  }
+
+  boolean isCovered( Object part )
+  {
+    return _coveredField != null && (boolean)_coveredField.get( part );
+  }
+
+  List<LinkField> getLinkFields()
+  {
+    return _linkFields;
+  }
+
+  static final class LinkField
+  {
+    final ReflectUtil.FieldRef _ref;
+    final Class<?>[] _linkTypes;
+    final Class<?> _type;
+
+    LinkField( ReflectUtil.FieldRef ref, Field field )
+    {
+      _ref = ref;
+      _linkTypes = field.getAnnotation( link.class ).value();
+      _type = field.getType();
+    }
+  }
+}
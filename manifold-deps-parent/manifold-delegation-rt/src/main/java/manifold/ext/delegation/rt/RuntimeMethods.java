@@ -16,13 +16,10 @@
 
 package manifold.ext.delegation.rt;
 
-import manifold.ext.delegation.rt.api.link;
 import manifold.util.ReflectUtil;
 
 import java.util.*;
 
-import static manifold.rt.api.util.ManClassUtil.getAllInterfaces;
-
 public class RuntimeMethods
 {
   public static final String SELF_FIELD = "$theSelf";
@@ -46,54 +43,10 @@ public class RuntimeMethods
     }
 
     // link the part to self
-    linkPartToSelf( delegatingClass, part );
+    PartLinker.get( part.getClass() ).link( delegatingClass, part );
     return part;
   }
 
-  private static void linkPartToSelf( Object delegatingClass, Object part )
-  {
-    ReflectUtil.LiveFieldRef self = ReflectUtil.WithNull.field( part, SELF_FIELD );
-    if( self == null )
-    {
-      return;
-    }
-
-    if( areAllPartInterfacesLinked( delegatingClass, part ) )
-    {
-      ReflectUtil.LiveFieldRef covered = ReflectUtil.WithNull.field( part, COVERED_FIELD );
-      if( covered == null )
-      {
-        return;
-      }
-      covered.set( true );
-    }
-
-    self.set( delegatingClass );
-
-    for( Class<?> superclass = part.getClass().getSuperclass(); superclass != null; superclass = superclass.getSuperclass() )
-    {
-      if( superclass == Object.class )
-      {
-        break;
-      }
-      ReflectUtil.field( superclass, SELF_FIELD ).set( part, delegatingClass );
-    }
-
-    ReflectUtil.fields( part, f -> !f.isStatic() && f.getField().getAnnotation( link.class ) != null )
-      .forEach( delegateField -> {
-        Object partDelegate = delegateField.get();
-        linkPartToSelf( delegatingClass, partDelegate );
-      } );
-  }
-
-  private static boolean areAllPartInterfacesLinked( Object delegatingClass, Object part )
-  {
-    Set<Class> partInterfaces = getAllInterfaces( part.getClass() );
-    int partInterfaceCount = partInterfaces.size();
-    partInterfaces.retainAll( getAllInterfaces( delegatingClass.getClass() ) );
-    return partInterfaces.size() == partInterfaceCount;
-  }
-
   /**
    * This method is called from generated code.
    */
@@ -133,7 +86,7 @@ public class RuntimeMethods
   @SuppressWarnings( "unused" )
   public static boolean linksInterfaceTo( Class<?> iface, Object from, Object to )
   {
-    if( (boolean)ReflectUtil.field( to, COVERED_FIELD ).get() )
+    if( PartLinker.get( to.getClass() ).isCovered( to ) )
     {
       return true;
     }
@@ -146,21 +99,15 @@ public class RuntimeMethods
       return false;
     }
 
-    for( ReflectUtil.LiveFieldRef f : ReflectUtil.fields( from, f -> !f.isStatic() ) )
+    for( PartLinker.LinkField f : PartLinker.get( from.getClass() ).getLinkFields() )
     {
-      link linkAnno = f.getField().getAnnotation( link.class );
-      if( linkAnno == null )
-      {
-        continue;
-      }
-
-      Object value = f.get();
+      Object value = f._ref.get( from );
       if( !iface.isInstance( value ) )
       {
         continue;
       }
 
-      Class<?>[] annoTypes = linkAnno.value();
+      Class<?>[] annoTypes = f._linkTypes;
       if( annoTypes != null && annoTypes.length > 0 )
       {
         if( Arrays.stream( annoTypes ).anyMatch( t -> iface.isAssignableFrom( t ) ) )
@@ -173,8 +120,7 @@ public class RuntimeMethods
       }
       else
       {
-        Class<?> type = f.getField().getType();
-        if( iface.isAssignableFrom( type ) )
+        if( iface.isAssignableFrom( f._type ) )
         {
           if( value == to || linksInterfaceTo( iface, value, to ) )
           {
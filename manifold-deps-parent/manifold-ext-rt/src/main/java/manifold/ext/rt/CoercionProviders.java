@@ -28,9 +28,15 @@ public class CoercionProviders
     LocklessLazyVar.make( () -> {
       Set<ICoercionProvider> registered = new HashSet<>();
       ServiceUtil.loadRegisteredServices( registered, ICoercionProvider.class, CoercionProviders.class.getClassLoader() );
-      return registered;
+      List<ICoercionProvider> sorted = new ArrayList<>( registered );
+      sorted.sort( Comparator.comparingInt( ICoercionProvider::getPriority ).reversed()
+        .thenComparing( e -> e.getClass().getName() ) );
+      return Collections.unmodifiableSet( new LinkedHashSet<>( sorted ) );
     } );
 
+  /**
+   * @return The registered coercion providers in the order they are consulted, see {@link ICoercionProvider#getPriority()}
+   */
   public static Set<ICoercionProvider> get()
   {
     return _coercionProviders.get();
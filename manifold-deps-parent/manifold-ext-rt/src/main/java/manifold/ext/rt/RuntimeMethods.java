@@ -33,11 +33,52 @@ import manifold.rt.api.util.ServiceUtil;
 import manifold.util.CoerceUtil;
 import manifold.util.ReflectUtil;
 import manifold.util.ReflectUtil.FakeProxy;
+import manifold.util.concurrent.ConcurrentWeakHashMap;
 import manifold.util.concurrent.LocklessLazyVar;
+import manifold.util.metrics.Counter;
+import manifold.util.metrics.Metrics;
 
 public class RuntimeMethods
 {
-  private static Map<Class, Map<Class, IProxyFactory<?,?>>> PROXY_CACHE = new ConcurrentHashMap<>();
+  /**
+   * Proxy factories by interface, owned by the root class. Used when the interface's loader is visible from the root
+   * class's loader, which is the common case, so the factories unload with the root class.
+   */
+  private static final ClassValue<Map<Class, ProxyFactoryRef>> PROXY_FACTORIES_BY_ROOT = new ClassValue<Map<Class, ProxyFactoryRef>>()
+  {
+    @Override
+    protected Map<Class, ProxyFactoryRef> computeValue( Class<?> type )
+    {
+      return new ConcurrentHashMap<>();
+    }
+  };
+  /**
+   * Proxy factories by root class, owned by the interface. Used when the root class's loader is an ancestor of the
+   * interface's loader, so the factories unload with the interface.
+   */
+  private static final ClassValue<Map<Class, ProxyFactoryRef>> PROXY_FACTORIES_BY_IFACE = new ClassValue<Map<Class, ProxyFactoryRef>>()
+  {
+    @Override
+    protected Map<Class, ProxyFactoryRef> computeValue( Class<?> type )
+    {
+      return new ConcurrentHashMap<>();
+    }
+  };
+  private static final Counter PROXY_FACTORIES = Metrics.counter( "createProxyFactory()" );
+  private static final Counter PROXIES = Metrics.counter( "constructProxy()" );
+  /**
+   * Resolved coercions by target type, by runtime class of the value. The target types are held weakly and the
+   * coercions don't reference them, so a value class from a parent loader e.g., String, does not keep the target
+   * types of a child loader reachable.
+   */
+  private static final ClassValue<Map<Type, Coercion>> COERCIONS = new ClassValue<Map<Type, Coercion>>()
+  {
+    @Override
+    protected Map<Type, Coercion> computeValue( Class<?> type )
+    {
+      return new ConcurrentWeakHashMap<>();
+    }
+  };
   private static final LocklessLazyVar<Set<IProxyFactory>> _registeredProxyFactories =
     LocklessLazyVar.make( () -> {
       Set<IProxyFactory> registered = new HashSet<>();
@@ -85,9 +126,9 @@ public class RuntimeMethods
    */
   public static Object coerce( Object value, Type t )
   {
-    Class<?> type = t instanceof ParameterizedType ? (Class<?>)((ParameterizedType)t).getRawType() : (Class)t;
     if( value == null )
     {
+      Class<?> type = t instanceof ParameterizedType ? (Class<?>)((ParameterizedType)t).getRawType() : (Class)t;
       if( type.isPrimitive() )
       {
         return defaultPrimitiveValue( type );
@@ -95,33 +136,22 @@ public class RuntimeMethods
       return null;
     }
 
-    if( value instanceof List )
+    Map<Type, Coercion> coercions = COERCIONS.get( value.getClass() );
+    Coercion coercion = coercions.get( t );
+    if( coercion == null )
     {
-      Object result = callCoercionProviders( value, t );
-      if( result != ICallHandler.UNHANDLED )
-      {
-        return result;
-      }
-      return value;
-    }
-
-    if( type.isPrimitive() )
-    {
-      type = ManClassUtil.box( type );
+      Coercion existing = coercions.putIfAbsent( t, coercion = new Coercion( value.getClass(), t ) );
+      coercion = existing == null ? coercion : existing;
     }
+    return coercion.coerce( value, t );
+  }
 
+  /**
+   * The built-in coercions, applied if no coercion provider handles the value
+   */
+  private static Object coerceBuiltin( Object value, Class<?> type )
+  {
     Class<?> valueClass = value.getClass();
-    if( valueClass == type || type.isAssignableFrom( valueClass ) )
-    {
-      return value;
-    }
-
-    Object result = callCoercionProviders( value, t );
-    if( result != ICallHandler.UNHANDLED )
-    {
-      return result;
-    }
-
     if( value instanceof String && ((String)value).isEmpty() && type != String.class )
     {
       // empty string is null e.g., CSV empty values are empty strings
@@ -222,17 +252,84 @@ public class RuntimeMethods
     throw new IllegalArgumentException( "Unsupported primitive type: " + type.getSimpleName() );
   }
 
-  private static Object callCoercionProviders( Object value, Type type )
+  /**
+   * Holds the proxy factory for an (iface, root class) pair. Concurrent first uses of the pair wait for a single
+   * creation, subsequent uses read the factory without locking.
+   */
+  private static final class ProxyFactoryRef
+  {
+    private volatile IProxyFactory _factory;
+
+    IProxyFactory get( Class<?> iface, Class<?> rootClass )
+    {
+      IProxyFactory factory = _factory;
+      if( factory == null )
+      {
+        synchronized( this )
+        {
+          factory = _factory;
+          if( factory == null )
+          {
+            _factory = factory = createProxy( iface, rootClass );
+            if( Metrics.isEnabled() )
+            {
+              PROXY_FACTORIES.increment( rootClass.getName() + " -> " + iface.getName() );
+            }
+          }
+        }
+      }
+      return factory;
+    }
+  }
+
+  /**
+   * How values of a class coerce to a type, resolved once per value class and type. Either the value is already of the
+   * type, or the coercion providers that may handle the value are consulted before the built-in coercions.
+   */
+  private static final class Coercion
   {
-    for( ICoercionProvider coercer: CoercionProviders.get() )
+    private static final ICoercionProvider[] NO_PROVIDERS = {};
+
+    private final boolean _list;
+    private final boolean _identity;
+    private final ICoercionProvider[] _providers;
+
+    Coercion( Class<?> valueClass, Type t )
+    {
+      _list = List.class.isAssignableFrom( valueClass );
+      // a List may still be coerced e.g., to a JsonList of a component type
+      _identity = !_list && boxedRawType( t ).isAssignableFrom( valueClass );
+      _providers = _identity
+        ? NO_PROVIDERS
+        : CoercionProviders.get().stream()
+            .filter( coercer -> coercer.handles( valueClass, t ) )
+            .toArray( ICoercionProvider[]::new );
+    }
+
+    Object coerce( Object value, Type t )
     {
-      Object coercedValue = coercer.coerce( value, type );
-      if( coercedValue != ICallHandler.UNHANDLED )
+      if( _identity )
       {
-        return coercedValue;
+        return value;
       }
+
+      for( ICoercionProvider coercer: _providers )
+      {
+        Object coercedValue = coercer.coerce( value, t );
+        if( coercedValue != ICallHandler.UNHANDLED )
+        {
+          return coercedValue;
+        }
+      }
+
+      return _list ? value : coerceBuiltin( value, boxedRawType( t ) );
+    }
+
+    private static Class<?> boxedRawType( Type t )
+    {
+      Class<?> type = t instanceof ParameterizedType ? (Class<?>)((ParameterizedType)t).getRawType() : (Class)t;
+      return type.isPrimitive() ? ManClassUtil.box( type ) : type;
     }
-    return ICallHandler.UNHANDLED;
   }
 
   private static Method findMethod( Class<?> iface, String name, Class[] paramTypes )
@@ -276,17 +373,8 @@ public class RuntimeMethods
       return root;
     }
 
-    Map<Class, IProxyFactory<?,?>> proxyByClass = PROXY_CACHE.get( iface );
-    if( proxyByClass == null )
-    {
-      PROXY_CACHE.put( iface, proxyByClass = new ConcurrentHashMap<>() );
-    }
-    IProxyFactory proxyFactory = proxyByClass.get( rootClass );
-    if( proxyFactory == null )
-    {
-      proxyFactory = createProxy( iface, rootClass );
-      proxyByClass.put( rootClass, proxyFactory );
-    }
+    IProxyFactory proxyFactory = getProxyFactory( iface, rootClass );
+    PROXIES.increment( iface.getName() );
     try
     {
       // in Java 9+ in modular mode the proxy class belongs to the owner's module,
@@ -301,6 +389,59 @@ public class RuntimeMethods
     }
   }
 
+  /**
+   * Finds or creates the proxy factory for {@code rootClass} as {@code iface}. The factory is created at most once per
+   * pair, and finding an existing factory does not lock.
+   * <p/>
+   * The factory is stored on whichever of the two classes has the descendant loader, so it does not keep the other
+   * class's loader reachable. Note if the loaders are unrelated, e.g., sibling webapp loaders, the factory is stored on
+   * the root class and keeps the interface reachable until the root class unloads.
+   */
+  private static IProxyFactory getProxyFactory( Class<?> iface, Class<?> rootClass )
+  {
+    Map<Class, ProxyFactoryRef> factories;
+    Class<?> key;
+    if( isAncestorLoader( iface.getClassLoader(), rootClass.getClassLoader() ) ||
+      !isAncestorLoader( rootClass.getClassLoader(), iface.getClassLoader() ) )
+    {
+      factories = PROXY_FACTORIES_BY_ROOT.get( rootClass );
+      key = iface;
+    }
+    else
+    {
+      factories = PROXY_FACTORIES_BY_IFACE.get( iface );
+      key = rootClass;
+    }
+
+    ProxyFactoryRef ref = factories.get( key );
+    if( ref == null )
+    {
+      ProxyFactoryRef existing = factories.putIfAbsent( key, ref = new ProxyFactoryRef() );
+      ref = existing == null ? ref : existing;
+    }
+    return ref.get( iface, rootClass );
+  }
+
+  /**
+   * @return True if {@code ancestor} is {@code loader} or one of its parents. The bootstrap loader (null) is an
+   * ancestor of all loaders.
+   */
+  private static boolean isAncestorLoader( ClassLoader ancestor, ClassLoader loader )
+  {
+    if( ancestor == null )
+    {
+      return true;
+    }
+    for( ClassLoader cl = loader; cl != null; cl = cl.getParent() )
+    {
+      if( cl == ancestor )
+      {
+        return true;
+      }
+    }
+    return false;
+  }
+
   private static IProxyFactory createProxy( Class iface, Class rootClass )
   {
     IProxyFactory proxyFactory = maybeSelfProxyClass( rootClass, iface );
@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) 2025 - Manifold Systems LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package manifold.ext.rt.api;
+
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Coerces the raw elements of an {@link IListBacked} list as they are traversed. Since the underlying list's
+ * spliterator does the splitting and sizing, a large list is neither copied nor coerced up front, and parallel
+ * streams split it as they would the raw list.
+ */
+class CoercingSpliterator<T> implements Spliterator<T>
+{
+  private final Spliterator<Object> _raw;
+  private final Function<Object, T> _coercer;
+
+  CoercingSpliterator( Spliterator<Object> raw, Function<Object, T> coercer )
+  {
+    _raw = raw;
+    _coercer = coercer;
+  }
+
+  @Override
+  public boolean tryAdvance( Consumer<? super T> action )
+  {
+    return _raw.tryAdvance( e -> action.accept( _coercer.apply( e ) ) );
+  }
+
+  @Override
+  public void forEachRemaining( Consumer<? super T> action )
+  {
+    _raw.forEachRemaining( e -> action.accept( _coercer.apply( e ) ) );
+  }
+
+  @Override
+  public Spliterator<T> trySplit()
+  {
+    Spliterator<Object> split = _raw.trySplit();
+    return split == null ? null : new CoercingSpliterator<>( split, _coercer );
+  }
+
+  @Override
+  public long estimateSize()
+  {
+    return _raw.estimateSize();
+  }
+
+  @Override
+  public long getExactSizeIfKnown()
+  {
+    return _raw.getExactSizeIfKnown();
+  }
+
+  @Override
+  public int characteristics()
+  {
+    // coerced elements are neither sorted nor distinct by the raw list's terms
+    return _raw.characteristics() & ~(SORTED | DISTINCT);
+  }
+}
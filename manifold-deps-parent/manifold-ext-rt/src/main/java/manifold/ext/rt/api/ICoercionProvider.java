@@ -50,4 +50,28 @@ public interface ICoercionProvider
    * surfaces as a {@link java.time.LocalDateTime} in the Java API.
    */
   Object toBindingValue( Object value );
+
+  /**
+   * Indicates whether {@link #coerce(Object, Type)} may handle values of {@code valueClass}. Since the answer is
+   * cached per value class and type, overriding this method lets the runtime skip this provider altogether for
+   * coercions it never handles. Return {@code false} only if {@code coerce()} returns {@link ICallHandler#UNHANDLED}
+   * for <i>every</i> value of {@code valueClass}, if unsure return {@code true}.
+   * @param valueClass The runtime class of a value to coerce.
+   * @param type The type to convert to.
+   * @return {@code false} if this provider never coerces values of {@code valueClass} to {@code type}.
+   */
+  default boolean handles( Class<?> valueClass, Type type )
+  {
+    return true;
+  }
+
+  /**
+   * Providers having a higher priority are consulted first. Providers of the same priority are consulted in order of
+   * class name.
+   * @return The priority of this provider, {@code 0} by default.
+   */
+  default int getPriority()
+  {
+    return 0;
+  }
 }
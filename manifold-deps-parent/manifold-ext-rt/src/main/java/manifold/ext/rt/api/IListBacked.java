@@ -25,12 +25,14 @@ import java.util.Comparator;
 import java.util.Iterator;
 import java.util.List;
 import java.util.ListIterator;
+import java.util.Objects;
 import java.util.Spliterator;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
 import java.util.function.UnaryOperator;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * A {@link Structural} interface with only list methods can extend this interface and provide default
@@ -122,42 +124,43 @@ public interface IListBacked<T> extends List<T>
     }
   }
 
+  /**
+   * Coerces elements as they are traversed, splitting and sizing as the wrapped list does.
+   */
   @Override
   default Spliterator<T> spliterator()
   {
-    return coerceListToComplexValues().spliterator();
+    Class<?> type = getFinalComponentType();
+    return new CoercingSpliterator<>( getList().spliterator(), e -> (T)coerce( e, type ) );
   }
 
   @Override
   default boolean removeIf( Predicate<? super T> filter )
   {
-    List<T> cList = coerceListToComplexValues();
-    boolean result = cList.removeIf( filter );
-    if( result )
-    {
-      List<Object> bList = toBindings( cList );
-      getList().clear();
-      getList().addAll( bList );
-    }
-    return result;
+    Class<?> type = getFinalComponentType();
+    return getList().removeIf( e -> filter.test( (T)coerce( e, type ) ) );
   }
 
   @Override
   default Stream<T> stream()
   {
-    return coerceListToComplexValues().stream();
+    return StreamSupport.stream( spliterator(), false );
   }
 
   @Override
   default Stream<T> parallelStream()
   {
-    return coerceListToComplexValues().parallelStream();
+    return StreamSupport.stream( spliterator(), true );
   }
 
   @Override
   default void forEach( Consumer<? super T> action )
   {
-    coerceListToComplexValues().forEach( action );
+    Class<?> type = getFinalComponentType();
+    for( Object e : getList() )
+    {
+      action.accept( (T)coerce( e, type ) );
+    }
   }
 
   @Override
@@ -175,7 +178,15 @@ public interface IListBacked<T> extends List<T>
   @Override
   default boolean contains( Object o )
   {
-    return coerceListToComplexValues().contains( o );
+    Class<?> type = getFinalComponentType();
+    for( Object e : getList() )
+    {
+      if( Objects.equals( o, coerce( e, type ) ) )
+      {
+        return true;
+      }
+    }
+    return false;
   }
 
   @Override
@@ -183,20 +194,19 @@ public interface IListBacked<T> extends List<T>
   {
     return new Iterator<T>() {
 
-      Iterator<T> _delegate = coerceListToComplexValues().iterator();
+      Class<?> _type = getFinalComponentType();
       Iterator _actual = getList().iterator();
 
       @Override
       public boolean hasNext()
       {
-        return _delegate.hasNext();
+        return _actual.hasNext();
       }
 
       @Override
       public T next()
       {
-        _actual.next();
-        return _delegate.next();
+        return (T)coerce( _actual.next(), _type );
       }
 
       @Override
@@ -339,72 +349,7 @@ public interface IListBacked<T> extends List<T>
   @Override
   default ListIterator<T> listIterator()
   {
-    return new ListIterator<T>()
-    {
-      ListIterator<T> _delegate = coerceListToComplexValues().listIterator();
-      ListIterator _actual = getList().listIterator();
-
-      @Override
-      public boolean hasNext()
-      {
-        return _delegate.hasNext();
-      }
-
-      @Override
-      public T next()
-      {
-        _actual.next();
-        return _delegate.next();
-      }
-
-      @Override
-      public boolean hasPrevious()
-      {
-        return _delegate.hasPrevious();
-      }
-
-      @Override
-      public T previous()
-      {
-        _actual.previous();
-        return _delegate.previous();
-      }
-
-      @Override
-      public int nextIndex()
-      {
-        _actual.nextIndex();
-        return _delegate.nextIndex();
-      }
-
-      @Override
-      public int previousIndex()
-      {
-        _actual.previousIndex();
-        return _delegate.previousIndex();
-      }
-
-      @Override
-      public void remove()
-      {
-        _actual.remove();
-        _delegate.remove();
-      }
-
-      @Override
-      public void set( T t )
-      {
-        _actual.set( toBindingsValue( t ) );
-        _delegate.set( t );
-      }
-
-      @Override
-      public void add( T t )
-      {
-        _actual.add( toBindingsValue( t ) );
-        _delegate.add( t );
-      }
-    };
+    return listIterator( 0 );
   }
 
   @Override
@@ -412,68 +357,61 @@ public interface IListBacked<T> extends List<T>
   {
     return new ListIterator<T>()
     {
-      ListIterator<T> _delegate = coerceListToComplexValues().listIterator( index );
+      Class<?> _type = getFinalComponentType();
       ListIterator _actual = getList().listIterator( index );
 
       @Override
       public boolean hasNext()
       {
-        return _delegate.hasNext();
+        return _actual.hasNext();
       }
 
       @Override
       public T next()
       {
-        _actual.next();
-        return _delegate.next();
+        return (T)coerce( _actual.next(), _type );
       }
 
       @Override
       public boolean hasPrevious()
       {
-        return _delegate.hasPrevious();
+        return _actual.hasPrevious();
       }
 
       @Override
       public T previous()
       {
-        _actual.previous();
-        return _delegate.previous();
+        return (T)coerce( _actual.previous(), _type );
       }
 
       @Override
       public int nextIndex()
       {
-        _actual.nextIndex();
-        return _delegate.nextIndex();
+        return _actual.nextIndex();
       }
 
       @Override
       public int previousIndex()
       {
-        _actual.previousIndex();
-        return _delegate.previousIndex();
+        return _actual.previousIndex();
       }
 
       @Override
       public void remove()
       {
         _actual.remove();
-        _delegate.remove();
       }
 
       @Override
       public void set( T t )
       {
         _actual.set( toBindingsValue( t ) );
-        _delegate.set( t );
       }
 
       @Override
       public void add( T t )
       {
         _actual.add( toBindingsValue( t ) );
-        _delegate.add( t );
       }
     };
   }
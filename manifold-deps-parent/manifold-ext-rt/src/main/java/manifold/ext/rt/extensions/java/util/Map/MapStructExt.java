@@ -17,9 +17,12 @@
 package manifold.ext.rt.extensions.java.util.Map;
 
 import java.lang.reflect.Method;
+import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
 import java.util.Arrays;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import manifold.ext.rt.ForwardingExtensionMethod;
 import manifold.ext.rt.api.IBindingsBacked;
@@ -29,6 +32,7 @@ import manifold.ext.rt.RuntimeMethods;
 import manifold.ext.rt.api.Extension;
 import manifold.ext.rt.api.ICallHandler;
 import manifold.ext.rt.api.This;
+import manifold.rt.api.util.ManClassUtil;
 import manifold.util.ReflectUtil;
 
 /**
@@ -51,36 +55,30 @@ public abstract class MapStructExt implements ICallHandler
     return result;
   }
 
-  public static Object invoke( Map bindings, Object proxy, Method method, Object[] args )
+  /**
+   * Dispatch plans by method, by the method's declaring interface
+   */
+  private static final ClassValue<Map<Method, DispatchPlan>> PLANS = new ClassValue<Map<Method, DispatchPlan>>()
   {
-    assert method.getParameterCount() == (args == null ? 0 : args.length);
-
-    String methodName = method.getName();
-    Object result;
-    if( method.isDefault() && method.isAnnotationPresent( ForwardingExtensionMethod.class ) )
+    @Override
+    protected Map<Method, DispatchPlan> computeValue( Class<?> type )
     {
-      return ReflectUtil.invokeDefault( proxy, method, args );
+      return new ConcurrentHashMap<>();
     }
+  };
 
-    String actualName = null;
-    if( methodName.startsWith( "get" ) || methodName.startsWith( "is" ) || methodName.startsWith( "set" ) ||
-      methodName.startsWith( "with" ) )
-    {
-      actualName = getActualName( method );
-    }
-    result = invoke( bindings, proxy, method.getName(), actualName, method.getReturnType(), method.getGenericReturnType(), method.getParameterTypes(), args );
-    if( result == UNHANDLED )
+  public static Object invoke( Map bindings, Object proxy, Method method, Object[] args )
+  {
+    assert method.getParameterCount() == (args == null ? 0 : args.length);
+
+    Map<Method, DispatchPlan> plans = PLANS.get( method.getDeclaringClass() );
+    DispatchPlan plan = plans.get( method );
+    if( plan == null )
     {
-      if( method.isDefault() )
-      {
-        result = ReflectUtil.invokeDefault( proxy, method, args );
-      }
-      else
-      {
-        throw new RuntimeException( "Missing method: " + methodName + "(" + Arrays.toString( method.getParameterTypes() ) + ")" );
-      }
+      DispatchPlan existing = plans.putIfAbsent( method, plan = new DispatchPlan( method ) );
+      plan = existing == null ? plan : existing;
     }
-    return result;
+    return plan.invoke( bindings, proxy, args );
   }
 
   private static Object invoke( Map bindings, Object proxy, String methodName, String actualName, Class<?> returnType, Type genReturnType, Class[] paramTypes, Object[] args )
@@ -148,36 +146,22 @@ public abstract class MapStructExt implements ICallHandler
 
   private static Object getValue( Map bindings, String name, String actualName, String prefix )
   {
-    int getLen = prefix.length();
-    if( name.length() > getLen && name.startsWith( prefix ) )
+    String[] keys = accessorKeys( name, prefix, true );
+    if( keys == null )
     {
-      char c = name.charAt( getLen );
-      if( c == '_' && name.length() > getLen + 1 )
-      {
-        getLen++;
-        c = Character.toUpperCase( name.charAt( getLen ) );
-      }
-      if( Character.isUpperCase( c ) || !Character.isAlphabetic( c ) )
-      {
-        if( actualName != null )
-        {
-          return bindings.get( actualName );
-        }
+      return ICallHandler.UNHANDLED;
+    }
+    return actualName != null ? bindings.get( actualName ) : getValue( bindings, keys[0], keys[1] );
+  }
 
-        String key = name.substring( getLen );
-        if( bindings.containsKey( key ) )
-        {
-          return bindings.get( key );
-        }
-        key = Character.toLowerCase( c ) + name.substring( 1 );
-        if( bindings.containsKey( key ) )
-        {
-          return bindings.get( key );
-        }
-        return null;
-      }
+  private static Object getValue( Map bindings, String upperKey, String lowerKey )
+  {
+    Object value = bindings.get( upperKey );
+    if( value != null || bindings.containsKey( upperKey ) )
+    {
+      return value;
     }
-    return ICallHandler.UNHANDLED;
+    return bindings.get( lowerKey );
   }
 
   private static Object setValue( Map bindings, String name, String actualName, Class<?>[] paramTypes, Object[] args )
@@ -191,53 +175,52 @@ public abstract class MapStructExt implements ICallHandler
   }
   private static Object setValue( Map bindings, String prefix, String name, String actualName, Class<?>[] paramTypes, Object[] args )
   {
-    int setLen = prefix.length();
-    if( paramTypes.length == 1 && name.length() > setLen && name.startsWith( prefix ) )
+    String[] keys = paramTypes.length == 1 ? accessorKeys( name, prefix, false ) : null;
+    if( keys == null )
     {
-      char c = name.charAt( setLen );
-      if( c == '_' && name.length() > setLen + 1 )
+      return ICallHandler.UNHANDLED;
+    }
+    setValue( bindings, actualName != null ? actualName : keys[0], actualName != null ? null : keys[1], args[0] );
+    return null;
+  }
+
+  /**
+   * @param lowerKey The alternative to {@code upperKey} if the bindings contain it instead, or null
+   */
+  private static void setValue( Map bindings, String upperKey, String lowerKey, Object arg )
+  {
+    String key = lowerKey != null && !bindings.containsKey( upperKey ) && bindings.containsKey( lowerKey )
+                 ? lowerKey
+                 : upperKey;
+    if( bindings instanceof Bindings )
+    {
+      arg = RuntimeMethods.coerceToBindingValue( arg );
+    }
+    //noinspection unchecked
+    bindings.put( key, arg );
+  }
+
+  /**
+   * @return The bindings keys, capitalized and not, of the property an accessor named {@code name} refers to, or null
+   * if {@code name} is not an accessor with {@code prefix}
+   */
+  private static String[] accessorKeys( String name, String prefix, boolean getter )
+  {
+    int len = prefix.length();
+    if( name.length() > len && name.startsWith( prefix ) )
+    {
+      char c = name.charAt( len );
+      if( c == '_' && name.length() > len + 1 )
       {
-        setLen++;
-        c = Character.toUpperCase( name.charAt( setLen ) );
+        len++;
+        c = Character.toUpperCase( name.charAt( len ) );
       }
-      String key;
-      if( Character.isUpperCase( c ) )
+      if( Character.isUpperCase( c ) || (getter && !Character.isAlphabetic( c )) )
       {
-        if( actualName != null )
-        {
-          key = actualName;
-        }
-        else
-        {
-          String upperKey = name.substring( setLen );
-          if( bindings.containsKey( upperKey ) )
-          {
-            key = upperKey;
-          }
-          else
-          {
-            String lowerKey = Character.toLowerCase( c ) + name.substring( 1 );
-            if( bindings.containsKey( lowerKey ) )
-            {
-              key = lowerKey;
-            }
-            else
-            {
-              key = upperKey;
-            }
-          }
-        }
-        Object arg = args[0];
-        if( bindings instanceof Bindings )
-        {
-          arg = RuntimeMethods.coerceToBindingValue( arg );
-        }
-        //noinspection unchecked
-        bindings.put( key, arg );
-        return null;
+        return new String[]{name.substring( len ), Character.toLowerCase( c ) + name.substring( 1 )};
       }
     }
-    return ICallHandler.UNHANDLED;
+    return null;
   }
 
   private static Object invoke( Map bindings, String name, Object[] args )
@@ -273,4 +256,106 @@ public abstract class MapStructExt implements ICallHandler
       ? obj.equals( bindings )
       : obj instanceof IBindingsBacked && bindings.equals( ((IBindingsBacked)obj).getBindings() );
   }
+
+  /**
+   * How a method call on a Map-backed proxy is dispatched, resolved once per method. A getter or setter is one map
+   * lookup, plus a second if the bindings do not have the capitalized name of the property, and the getter's return
+   * value is returned directly if it already has the return type. All other methods take the general route.
+   */
+  private static final class DispatchPlan
+  {
+    private enum Kind {Forward, Getter, Setter, General}
+
+    private final Method _method;
+    private final Kind _kind;
+    private final String _actualName;
+    private final String _key;
+    private final String _altKey;
+    private final Class<?> _returnType;
+    private final Type _genReturnType;
+    private final Class<?> _directReturnType;
+
+    DispatchPlan( Method method )
+    {
+      _method = method;
+      _returnType = method.getReturnType();
+      _genReturnType = method.getGenericReturnType();
+      _directReturnType = _returnType == void.class
+                          ? null
+                          : _genReturnType instanceof Class || _genReturnType instanceof ParameterizedType
+                            ? _returnType.isPrimitive() ? ManClassUtil.box( _returnType ) : _returnType
+                            : null;
+
+      String name = method.getName();
+      _actualName = name.startsWith( "get" ) || name.startsWith( "is" ) || name.startsWith( "set" ) || name.startsWith( "with" )
+                    ? getActualName( method )
+                    : null;
+
+      String[] keys = null;
+      Kind kind = Kind.General;
+      int paramCount = method.getParameterCount();
+      if( method.isDefault() && method.isAnnotationPresent( ForwardingExtensionMethod.class ) )
+      {
+        kind = Kind.Forward;
+      }
+      else if( _returnType != void.class && paramCount == 0 && !name.equals( "getBindings" ) )
+      {
+        keys = accessorKeys( name, "get", true );
+        keys = keys == null ? accessorKeys( name, "is", true ) : keys;
+        kind = keys == null ? kind : Kind.Getter;
+      }
+      else if( paramCount == 1 )
+      {
+        keys = accessorKeys( name, "set", false );
+        keys = keys == null ? accessorKeys( name, "with", false ) : keys;
+        kind = keys == null ? kind : Kind.Setter;
+      }
+      _kind = kind;
+      _key = _actualName != null ? _actualName : keys == null ? null : keys[0];
+      _altKey = _actualName != null || keys == null ? null : keys[1];
+    }
+
+    Object invoke( Map bindings, Object proxy, Object[] args )
+    {
+      switch( _kind )
+      {
+        case Forward:
+          return ReflectUtil.invokeDefault( proxy, _method, args );
+
+        case Getter:
+          Object value = _altKey == null ? bindings.get( _key ) : getValue( bindings, _key, _altKey );
+          return value != null && _directReturnType != null && !(value instanceof List) && _directReturnType.isInstance( value )
+                 ? value
+                 : RuntimeMethods.coerceFromBindingsValue( value, _genReturnType );
+
+        case Setter:
+          if( _returnType == void.class )
+          {
+            setValue( bindings, _key, _altKey, args[0] );
+            return null;
+          }
+          if( _returnType.isAssignableFrom( proxy.getClass() ) )
+          {
+            setValue( bindings, _key, _altKey, args[0] );
+            return RuntimeMethods.coerceFromBindingsValue( bindings, _returnType );
+          }
+          break;
+      }
+
+      Object result = MapStructExt.invoke( bindings, proxy, _method.getName(), _actualName, _returnType, _genReturnType,
+        _method.getParameterTypes(), args );
+      if( result == UNHANDLED )
+      {
+        if( _method.isDefault() )
+        {
+          result = ReflectUtil.invokeDefault( proxy, _method, args );
+        }
+        else
+        {
+          throw new RuntimeException( "Missing method: " + _method.getName() + "(" + Arrays.toString( _method.getParameterTypes() ) + ")" );
+        }
+      }
+      return result;
+    }
+  }
 }
@@ -1,10 +1,16 @@
 package manifold.ext;
 
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
 import java.util.HashMap;
+import java.util.Map;
 import java.util.function.Function;
 import junit.framework.TestCase;
 import manifold.IMyStruct;
 import manifold.ext.rt.api.Structural;
+import manifold.rt.api.ActualName;
+import manifold.util.ReflectUtil;
+import manifold.ext.rt.extensions.java.util.Map.MapStructExt;
 
 /**
  */
@@ -59,6 +65,37 @@ public class MapStructTest extends TestCase
     assertEquals( 1.0, mapStuff.get_Double() );
   }
 
+  public void testDispatchWithoutManifoldRuntime()
+  {
+    // MapStructExt is an extension class, call it reflectively
+    ReflectUtil.MethodRef invoke = ReflectUtil.method( MapStructExt.class, "invoke", Map.class, Object.class, Method.class, Object[].class );
+    HashMap<String, Object> map = new HashMap<>();
+    IPerson person = (IPerson)Proxy.newProxyInstance( IPerson.class.getClassLoader(), new Class[]{IPerson.class},
+      ( proxy, method, args ) -> invoke.invokeStatic( map, proxy, method, args ) );
+
+    for( int i = 0; i < 2; i++ ) // second time uses the cached dispatch plans
+    {
+      map.clear();
+      assertNull( person.getName() );
+      assertEquals( 0, person.getAge() );
+
+      person.setName( "fred" );
+      assertEquals( "fred", map.get( "name" ) );
+      assertEquals( "fred", person.getName() );
+
+      person.setAge( 51 );
+      assertEquals( 51, map.get( "Age" ) );
+      map.put( "Age", 52L );
+      assertEquals( 52, person.getAge() );
+
+      map.put( "charAt", (Function<Integer, Character>)( c ) -> 'q' );
+      assertEquals( 'q', person.charAt( 1 ) );
+      assertTrue( person.likes( "ball" ) );
+      assertEquals( map.toString(), person.toString() );
+      assertEquals( map.hashCode(), person.hashCode() );
+    }
+  }
+
 //## only works with compile-time manifold, todo: make this test module compile-time manifold
 //  public void testOverrideDefaultMethod()
 //  {
@@ -71,6 +108,22 @@ public class MapStructTest extends TestCase
 //    assertFalse( stuff.likes( "relaxation" ) );
 //  }
 
+  @Structural
+  public interface IPerson
+  {
+    @ActualName( "name" )
+    String getName();
+    @ActualName( "name" )
+    void setName( String name );
+    int getAge();
+    void setAge( int age );
+    char charAt( int i );
+    default boolean likes( String thing )
+    {
+      return true;
+    }
+  }
+
   @Structural
   interface IStuff
   {
@@ -0,0 +1,181 @@
+/*
+ * Copyright (c) 2025 - Manifold Systems LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package manifold.ext.structural;
+
+import junit.framework.TestCase;
+import manifold.ext.rt.api.ICallHandler;
+import manifold.ext.rt.api.Structural;
+import manifold.util.metrics.Metrics;
+import manifold.util.metrics.Timer;
+
+/**
+ * Exercises the conversions proxies generated as class files must perform the same as proxies compiled with javac.
+ */
+public class BytecodeProxyTest extends TestCase
+{
+  public void testMethodConversions()
+  {
+    Object root = new Counter();
+    Countable countable = (Countable)root;
+    ProxyCounts counts = new ProxyCounts();
+    assertEquals( 3L, countable.count() );
+    counts.assertGeneratedWithoutJavac();
+    assertEquals( 7, countable.boxed() );
+    countable.touch();
+    assertEquals( 1, ((Counter)root).touched );
+    assertEquals( 5_000_000_000L + 2, countable.add( 5_000_000_000L, 2 ) );
+    assertEquals( 2.5d, countable.half( 5d ) );
+    assertEquals( "counter", countable.describe() );
+    assertEquals( 'c', countable.initial() );
+  }
+
+  public void testFieldConversions()
+  {
+    Object root = new Box();
+    Sized sized = (Sized)root;
+    ProxyCounts counts = new ProxyCounts();
+    assertEquals( 4d, sized.getWidth() );
+    counts.assertGeneratedWithoutJavac();
+    sized.setDepth( 9 );
+    assertEquals( 9L, ((Box)root).depth );
+    assertEquals( "box", sized.getName() );
+  }
+
+  public void testCallHandler()
+  {
+    Object root = new Handler();
+    Countable countable = (Countable)root;
+    ProxyCounts counts = new ProxyCounts();
+    assertEquals( 42L, countable.count() );
+    counts.assertGeneratedWithoutJavac();
+    assertEquals( "describe()", countable.describe() );
+    assertEquals( "add(5,2)", String.valueOf( countable.boxed() ) );
+  }
+
+  /**
+   * Counts the proxies made so far, to assert the proxy made by the first interface call on a (root class, interface)
+   * pair was generated as a class file, the tests would otherwise pass the same way on the javac fallback. Note the cast
+   * alone returns the root unchanged, the proxy is made when the first call dispatches through it.
+   */
+  private static class ProxyCounts
+  {
+    private final Timer _generated;
+    private final Timer _compiled;
+    private final long _generatedBefore;
+    private final long _compiledBefore;
+
+    ProxyCounts()
+    {
+      assertTrue( "the proxy timers require metrics", Metrics.isEnabled() );
+      _generated = Metrics.timer( "generateProxyClass()" );
+      _compiled = Metrics.timer( "compileProxyClass()" );
+      _generatedBefore = _generated.getCount();
+      _compiledBefore = _compiled.getCount();
+    }
+
+    void assertGeneratedWithoutJavac()
+    {
+      assertEquals( "the proxy was not generated", _generatedBefore + 1, _generated.getCount() );
+      assertEquals( "the proxy was compiled from source", _compiledBefore, _compiled.getCount() );
+    }
+  }
+
+  @Structural
+  public interface Countable
+  {
+    long count();
+    Object boxed();
+    void touch();
+    long add( long a, int b );
+    double half( double d );
+    String describe();
+    char initial();
+  }
+
+  public static class Counter
+  {
+    public int touched;
+
+    public int count()
+    {
+      return 3;
+    }
+
+    public int boxed()
+    {
+      return 7;
+    }
+
+    public int touch()
+    {
+      return ++touched;
+    }
+
+    public long add( long a, int b )
+    {
+      return a + b;
+    }
+
+    public double half( double d )
+    {
+      return d / 2;
+    }
+
+    public static String describe()
+    {
+      return "counter";
+    }
+
+    public Character initial()
+    {
+      return 'c';
+    }
+  }
+
+  @Structural
+  public interface Sized
+  {
+    double getWidth();
+    void setDepth( int depth );
+    String getName();
+  }
+
+  public static class Box
+  {
+    public int width = 4;
+    public long depth;
+    public final String name = "box";
+  }
+
+  public static class Handler implements ICallHandler
+  {
+    @Override
+    public Object call( Object proxy, Class<?> iface, String name, String actualName, Class<?> returnType,
+                        Class<?>[] paramTypes, Object[] args )
+    {
+      switch( name )
+      {
+        case "count":
+          return 42;
+        case "boxed":
+          return "add(5,2)";
+        default:
+          return name + "()";
+      }
+    }
+  }
+}
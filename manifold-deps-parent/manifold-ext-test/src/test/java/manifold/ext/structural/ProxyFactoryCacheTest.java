@@ -0,0 +1,196 @@
+/*
+ * Copyright (c) 2025 - Manifold Systems LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package manifold.ext.structural;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import junit.framework.TestCase;
+import manifold.ext.rt.RuntimeMethods;
+import manifold.ext.rt.api.Structural;
+import manifold.util.metrics.Counter;
+import manifold.util.metrics.Metrics;
+
+public class ProxyFactoryCacheTest extends TestCase
+{
+  public void testFactoryCreatedOncePerPair() throws Exception
+  {
+    Counter created = Metrics.counter( "createProxyFactory()" );
+    long before = created.getCount();
+
+    int threads = 8;
+    CountDownLatch start = new CountDownLatch( 1 );
+    ExecutorService executor = Executors.newFixedThreadPool( threads );
+    try
+    {
+      List<Future<Object>> results = new ArrayList<>();
+      for( int i = 0; i < threads; i++ )
+      {
+        Callable<Object> task = new Callable<Object>()
+        {
+          @Override
+          public Object call() throws Exception
+          {
+            start.await();
+            return RuntimeMethods.constructProxy( new Named(), IName.class );
+          }
+        };
+        results.add( executor.submit( task ) );
+      }
+      start.countDown();
+      for( Future<Object> result : results )
+      {
+        assertEquals( "named", ((IName)result.get()).getName() );
+      }
+    }
+    finally
+    {
+      executor.shutdown();
+    }
+    assertEquals( 1, created.getCount() - before );
+
+    // another root class for the same interface is another factory
+    assertEquals( "other", ((IName)RuntimeMethods.constructProxy( new OtherNamed(), IName.class )).getName() );
+    assertEquals( 2, created.getCount() - before );
+    assertEquals( "named", ((IName)RuntimeMethods.constructProxy( new Named(), IName.class )).getName() );
+    assertEquals( 2, created.getCount() - before );
+  }
+
+  public void testRootClassLoaderUnloads() throws Exception
+  {
+    WeakReference<ClassLoader> loaderRef = proxyFromThrowawayLoader();
+    for( int i = 0; i < 50 && loaderRef.get() != null; i++ )
+    {
+      System.gc();
+      Thread.sleep( 20 );
+    }
+    // the proxy factory and structural call targets are cached on the root class, they must not keep the root class's
+    // loader reachable
+    assertNull( loaderRef.get() );
+  }
+
+  private WeakReference<ClassLoader> proxyFromThrowawayLoader() throws Exception
+  {
+    ClassLoader loader = new ThrowawayLoader( getClass().getClassLoader(), AnonymousName.class.getName() );
+    Object root = loader.loadClass( AnonymousName.class.getName() ).getMethod( "make" ).invoke( null );
+    assertNotSame( getClass().getClassLoader(), root.getClass().getClassLoader() );
+    // the structural call is cached too
+    assertEquals( "anonymous", ((IName)RuntimeMethods.constructProxy( root, IName.class )).getName() );
+    return new WeakReference<>( loader );
+  }
+
+  @Structural
+  public interface IName
+  {
+    String getName();
+  }
+
+  public static class Named
+  {
+    public String getName()
+    {
+      return "named";
+    }
+  }
+
+  public static class OtherNamed
+  {
+    public String getName()
+    {
+      return "other";
+    }
+  }
+
+  public static class AnonymousName
+  {
+    public static Object make()
+    {
+      // anonymous root classes are proxied dynamically, without compiling a proxy class
+      return new Object()
+      {
+        public String getName()
+        {
+          return "anonymous";
+        }
+      };
+    }
+  }
+
+  /**
+   * Defines a class and its nested classes itself, everything else is loaded from the parent
+   */
+  private static class ThrowawayLoader extends ClassLoader
+  {
+    private final String _fqn;
+
+    ThrowawayLoader( ClassLoader parent, String fqn )
+    {
+      super( parent );
+      _fqn = fqn;
+    }
+
+    @Override
+    protected Class<?> loadClass( String name, boolean resolve ) throws ClassNotFoundException
+    {
+      if( !name.equals( _fqn ) && !name.startsWith( _fqn + '$' ) )
+      {
+        return super.loadClass( name, resolve );
+      }
+
+      synchronized( getClassLoadingLock( name ) )
+      {
+        Class<?> cls = findLoadedClass( name );
+        if( cls == null )
+        {
+          byte[] bytes = readClassFile( name );
+          cls = defineClass( name, bytes, 0, bytes.length );
+        }
+        return cls;
+      }
+    }
+
+    private byte[] readClassFile( String name ) throws ClassNotFoundException
+    {
+      try( InputStream in = getParent().getResourceAsStream( name.replace( '.', '/' ) + ".class" ) )
+      {
+        if( in == null )
+        {
+          throw new ClassNotFoundException( name );
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        byte[] buf = new byte[8192];
+        for( int read; (read = in.read( buf )) > 0; )
+        {
+          out.write( buf, 0, read );
+        }
+        return out.toByteArray();
+      }
+      catch( IOException e )
+      {
+        throw new ClassNotFoundException( name, e );
+      }
+    }
+  }
+}
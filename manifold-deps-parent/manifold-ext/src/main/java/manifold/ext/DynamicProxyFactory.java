@@ -38,12 +38,25 @@ import manifold.util.ManExceptionUtil;
 import manifold.rt.api.util.Pair;
 import manifold.util.ReflectUtil;
 import manifold.util.concurrent.ConcurrentWeakHashMap;
+import manifold.util.concurrent.LocklessLazyVar;
 
 public class DynamicProxyFactory implements IDynamicProxyFactory
 {
   private static final String STRUCTURAL_PROXY = "_structuralproxy_";
   private static final Map<Class, Boolean> ICALL_HANDLER_MAP = new ConcurrentWeakHashMap<>();
 
+  /**
+   * Proxy classes are generated directly as class files, unless the {@code manifold.proxy.bytecode} system property is
+   * {@code false}. Proxies the class file generators can't resolve exactly as javac would are compiled from source.
+   */
+  private static final LocklessLazyVar<Boolean> BYTECODE =
+    LocklessLazyVar.make( () -> Boolean.valueOf( System.getProperty( "manifold.proxy.bytecode", "true" ) ) );
+
+  static boolean isBytecodeEnabled()
+  {
+    return BYTECODE.get();
+  }
+
   @Override
   public IProxyFactory makeProxyFactory( Class iface, Class rootClass )
   {
@@ -18,7 +18,10 @@ package manifold.ext;
 
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
+import java.util.Arrays;
+import java.util.HashSet;
 import java.util.Map;
+import java.util.Set;
 import manifold.rt.api.ActualName;
 import manifold.ext.api.AbstractDynamicTypeProxy;
 import manifold.ext.rt.ExtensionMethod;
@@ -26,6 +29,10 @@ import manifold.ext.rt.api.ICallHandler;
 import manifold.ext.rt.RuntimeMethods;
 import manifold.internal.runtime.protocols.ManClassesUrlConnection;
 
+import static manifold.ext.ProxyClassWriter.ACC_FINAL;
+import static manifold.ext.ProxyClassWriter.ACC_PRIVATE;
+import static manifold.ext.ProxyClassWriter.ACC_PUBLIC;
+
 /**
  * Used at runtime to dynamically proxy a type that dynamically implements a structural interface via {@link ICallHandler}
  * e.g., an Extension Method for {@link ICallHandler#call} on {@link Map} could delegate get/set accessor calls to the map's
@@ -45,7 +52,8 @@ class DynamicTypeProxyGenerator
   {
     DynamicTypeProxyGenerator gen = new DynamicTypeProxyGenerator();
     String fqnProxy = getNamespace( iface ) + '.' + name;
-    ManClassesUrlConnection.putProxySupplier( fqnProxy, () -> gen.generateProxy( iface, rootClass, name ).toString() );
+    ManClassesUrlConnection.putProxySupplier( fqnProxy, () -> gen.generateProxy( iface, rootClass, name ).toString(),
+      DynamicProxyFactory.isBytecodeEnabled() ? () -> gen.generateProxyClass( iface, rootClass, fqnProxy ) : null );
     try
     {
       return Class.forName( fqnProxy, false, iface.getClassLoader() );
@@ -80,6 +88,137 @@ class DynamicTypeProxyGenerator
       .append( "}" );
   }
 
+  /**
+   * Generates the class file {@link #generateProxy} compiles to without javac.
+   *
+   * @return The class file or null if the proxy must be compiled from source, e.g., {@code call} is an extension method
+   */
+  private byte[] generateProxyClass( Class<?> ifaceType, Class<?> implType, String fqnProxy )
+  {
+    Method call = findCallMethod( implType );
+    if( call == null || call.getReturnType().isPrimitive() ||
+        !ProxyClassWriter.isPublic( ifaceType ) || !ProxyClassWriter.isPublic( implType ) )
+    {
+      return null;
+    }
+
+    try
+    {
+      ProxyClassWriter cw = new ProxyClassWriter( fqnProxy, AbstractDynamicTypeProxy.class, ifaceType );
+      cw.addField( ACC_PRIVATE | ACC_FINAL, "_root", implType );
+      ProxyClassWriter.Code ctor = cw.addMethod( ACC_PUBLIC, "<init>", void.class, implType );
+      ctor.loadThis();
+      ctor.loadParam( 0, implType );
+      ctor.invoke( AbstractDynamicTypeProxy.class, false, "<init>", void.class, Object.class );
+      ctor.loadThis();
+      ctor.loadParam( 0, implType );
+      ctor.putField( false, cw.getInternalName(), "_root", implType );
+      ctor.returnValue( void.class );
+
+      Set<String> signatures = new HashSet<>();
+      for( Method mi : ifaceType.getMethods() )
+      {
+        if( isSkipped( mi ) )
+        {
+          continue;
+        }
+        if( !signatures.add( mi.getName() + ProxyClassWriter.methodDescriptor( void.class, mi.getParameterTypes() ) ) ||
+            !ProxyClassWriter.isPublic( mi.getReturnType() ) ||
+            Arrays.stream( mi.getParameterTypes() ).anyMatch( p -> !ProxyClassWriter.isPublic( p ) ) )
+        {
+          return null;
+        }
+        genInterfaceMethod( cw, mi, ifaceType, implType, call );
+      }
+      return cw.toByteArray();
+    }
+    catch( LinkageError e )
+    {
+      // let javac report it
+      return null;
+    }
+  }
+
+  private void genInterfaceMethod( ProxyClassWriter cw, Method mi, Class<?> ifaceType, Class<?> implType, Method call )
+  {
+    Class<?> returnType = mi.getReturnType();
+    Class<?>[] params = mi.getParameterTypes();
+    ActualName anno = mi.getAnnotation( ActualName.class );
+
+    // _root.call(this, <iface>.class, "<name>", <actualName>, <returnType>.class, new Class[] {...}, new Object[] {...})
+    ProxyClassWriter.Code code = cw.addMethod( ACC_PUBLIC, mi.getName(), returnType, params );
+    if( !Modifier.isStatic( call.getModifiers() ) )
+    {
+      code.loadThis();
+      code.getField( false, cw.getInternalName(), "_root", implType );
+    }
+    code.loadThis();
+    code.loadClass( ifaceType );
+    code.loadString( mi.getName() );
+    code.loadString( anno == null ? null : anno.value() );
+    code.loadClass( returnType );
+    code.loadInt( params.length );
+    code.newArray( Class.class );
+    for( int i = 0; i < params.length; i++ )
+    {
+      code.dup();
+      code.loadInt( i );
+      code.loadClass( params[i] );
+      code.arrayStore();
+    }
+    code.loadInt( params.length );
+    code.newArray( Object.class );
+    for( int i = 0; i < params.length; i++ )
+    {
+      code.dup();
+      code.loadInt( i );
+      code.loadParam( i, params[i] );
+      if( params[i].isPrimitive() )
+      {
+        code.box( params[i] );
+      }
+      code.arrayStore();
+    }
+    code.invoke( implType, call );
+
+    if( returnType == void.class )
+    {
+      code.pop( call.getReturnType() );
+    }
+    else
+    {
+      // (R)coerce(result, R.class)
+      code.loadClass( returnType );
+      code.invoke( RuntimeMethods.class, true, "coerce", Object.class, Object.class, java.lang.reflect.Type.class );
+      if( returnType.isPrimitive() )
+      {
+        code.unbox( returnType );
+      }
+      else
+      {
+        code.checkCast( returnType );
+      }
+    }
+    code.returnValue( returnType );
+  }
+
+  /**
+   * @return The {@code call} method javac resolves {@code _root.call(...)} to, or null if it is not a member of the
+   * root class, i.e., it is an extension method
+   */
+  private static Method findCallMethod( Class<?> implType )
+  {
+    try
+    {
+      return implType.getMethod( "call", Object.class, Class.class, String.class, String.class, Class.class, Class[].class,
+        Object[].class );
+    }
+    catch( NoSuchMethodException e )
+    {
+      return null;
+    }
+  }
+
   private static String getNamespace( Class ifaceType )
   {
     String nspace = ifaceType.getPackage().getName();
@@ -102,17 +241,16 @@ class DynamicTypeProxyGenerator
     return sb.toString();
   }
 
+  private static boolean isSkipped( Method mi )
+  {
+    return mi.isDefault() || Modifier.isStatic( mi.getModifiers() ) ||
+           mi.getAnnotation( ExtensionMethod.class ) != null ||
+           StructuralTypeProxyGenerator.isObjectMethod( mi );
+  }
+
   private void genInterfaceMethodDecl( StringBuilder sb, Method mi, Class ifaceType )
   {
-    if( mi.isDefault() || Modifier.isStatic( mi.getModifiers() ) )
-    {
-      return;
-    }
-    if( mi.getAnnotation( ExtensionMethod.class ) != null )
-    {
-      return;
-    }
-    if( StructuralTypeProxyGenerator.isObjectMethod( mi ) )
+    if( isSkipped( mi ) )
     {
       return;
     }
@@ -68,6 +68,13 @@ public class ExtensionManifold extends JavaTypeManifold<Model> implements ITypeP
     return FILE_EXTENSIONS.contains( fileExtension.toLowerCase() );
   }
 
+  @Override
+  protected boolean isSourceCacheable()
+  {
+    // extended types depend on Java sources and class files outside this manifold's resources
+    return false;
+  }
+
   @Override
   public ContributorKind getContributorKind()
   {
@@ -0,0 +1,639 @@
+/*
+ * Copyright (c) 2025 - Manifold Systems LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package manifold.ext;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A minimal class file writer for the proxy classes generated by {@link StructuralTypeProxyGenerator} and
+ * {@link DynamicTypeProxyGenerator}. Proxy methods are straight-line code, therefore the class files need no stack map
+ * frames, which keeps this writer small enough to avoid a bytecode library dependency.
+ */
+final class ProxyClassWriter
+{
+  static final int ACC_PUBLIC = 0x0001;
+  static final int ACC_PRIVATE = 0x0002;
+  static final int ACC_FINAL = 0x0010;
+  static final int ACC_SUPER = 0x0020;
+
+  private static final int CLASSFILE_MAGIC = 0xCAFEBABE;
+  private static final int JAVA_8_VERSION = 52;
+
+  private static final int CONSTANT_Utf8 = 1;
+  private static final int CONSTANT_Integer = 3;
+  private static final int CONSTANT_Class = 7;
+  private static final int CONSTANT_String = 8;
+  private static final int CONSTANT_Fieldref = 9;
+  private static final int CONSTANT_Methodref = 10;
+  private static final int CONSTANT_InterfaceMethodref = 11;
+  private static final int CONSTANT_NameAndType = 12;
+
+  private final ByteArrayOutputStream _constantPool = new ByteArrayOutputStream();
+  private final Map<String, Integer> _constants = new HashMap<>();
+  private int _constantCount = 1;
+
+  private final String _internalName;
+  private final int _thisClass;
+  private final int _superClass;
+  private final int[] _interfaces;
+  private final ByteArrayOutputStream _fields = new ByteArrayOutputStream();
+  private int _fieldCount;
+  private final List<Code> _methods = new ArrayList<>();
+
+  ProxyClassWriter( String fqn, Class<?> superClass, Class<?>... interfaces )
+  {
+    _internalName = fqn.replace( '.', '/' );
+    _thisClass = classConstant( _internalName );
+    _superClass = classConstant( internalName( superClass ) );
+    _interfaces = new int[interfaces.length];
+    for( int i = 0; i < interfaces.length; i++ )
+    {
+      _interfaces[i] = classConstant( internalName( interfaces[i] ) );
+    }
+  }
+
+  String getInternalName()
+  {
+    return _internalName;
+  }
+
+  void addField( int access, String name, Class<?> type )
+  {
+    DataOutputStream out = new DataOutputStream( _fields );
+    write( () -> {
+      out.writeShort( access );
+      out.writeShort( utf8( name ) );
+      out.writeShort( utf8( descriptor( type ) ) );
+      out.writeShort( 0 );
+    } );
+    _fieldCount++;
+  }
+
+  /**
+   * Begins a method. The code's locals start with {@code this} followed by {@code params}.
+   */
+  Code addMethod( int access, String name, Class<?> returnType, Class<?>... params )
+  {
+    Code code = new Code( access, name, methodDescriptor( returnType, params ), params );
+    _methods.add( code );
+    return code;
+  }
+
+  byte[] toByteArray()
+  {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    DataOutputStream out = new DataOutputStream( bytes );
+    int codeAttr = utf8( "Code" );
+    write( () -> {
+      out.writeInt( CLASSFILE_MAGIC );
+      out.writeShort( 0 );
+      out.writeShort( JAVA_8_VERSION );
+      out.writeShort( _constantCount );
+      _constantPool.writeTo( out );
+      out.writeShort( ACC_PUBLIC | ACC_SUPER );
+      out.writeShort( _thisClass );
+      out.writeShort( _superClass );
+      out.writeShort( _interfaces.length );
+      for( int iface : _interfaces )
+      {
+        out.writeShort( iface );
+      }
+      out.writeShort( _fieldCount );
+      _fields.writeTo( out );
+      out.writeShort( _methods.size() );
+      for( Code code : _methods )
+      {
+        code.writeTo( out, codeAttr );
+      }
+      out.writeShort( 0 );
+    } );
+    return bytes.toByteArray();
+  }
+
+  static String internalName( Class<?> cls )
+  {
+    // arrays use descriptor form in class constants, which Class#getName() already is
+    return cls.getName().replace( '.', '/' );
+  }
+
+  static String descriptor( Class<?> type )
+  {
+    if( type.isArray() )
+    {
+      return internalName( type );
+    }
+    if( type.isPrimitive() )
+    {
+      switch( type.getName() )
+      {
+        case "void": return "V";
+        case "boolean": return "Z";
+        case "byte": return "B";
+        case "char": return "C";
+        case "short": return "S";
+        case "int": return "I";
+        case "long": return "J";
+        case "float": return "F";
+        case "double": return "D";
+      }
+    }
+    return 'L' + internalName( type ) + ';';
+  }
+
+  static String methodDescriptor( Class<?> returnType, Class<?>... params )
+  {
+    StringBuilder sb = new StringBuilder( "(" );
+    for( Class<?> param : params )
+    {
+      sb.append( descriptor( param ) );
+    }
+    return sb.append( ')' ).append( descriptor( returnType ) ).toString();
+  }
+
+  /**
+   * @return True if {@code type} is accessible from any package i.e., it is public as are its enclosing classes
+   */
+  static boolean isPublic( Class<?> type )
+  {
+    while( type.isArray() )
+    {
+      type = type.getComponentType();
+    }
+    if( type.isPrimitive() )
+    {
+      return true;
+    }
+    for( Class<?> cls = type; cls != null; cls = cls.getEnclosingClass() )
+    {
+      if( !Modifier.isPublic( cls.getModifiers() ) )
+      {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  static Class<?> wrapperType( Class<?> primitive )
+  {
+    switch( primitive.getName() )
+    {
+      case "boolean": return Boolean.class;
+      case "byte": return Byte.class;
+      case "char": return Character.class;
+      case "short": return Short.class;
+      case "int": return Integer.class;
+      case "long": return Long.class;
+      case "float": return Float.class;
+      case "double": return Double.class;
+      case "void": return Void.class;
+    }
+    throw new IllegalArgumentException( primitive.getName() );
+  }
+
+  private static int size( Class<?> type )
+  {
+    return type == void.class ? 0 : type == long.class || type == double.class ? 2 : 1;
+  }
+
+  private int utf8( String value )
+  {
+    return constant( CONSTANT_Utf8 + ":" + value, out -> {
+      out.writeByte( CONSTANT_Utf8 );
+      out.writeUTF( value );
+    } );
+  }
+
+  private int classConstant( String internalName )
+  {
+    int name = utf8( internalName );
+    return constant( CONSTANT_Class + ":" + internalName, out -> {
+      out.writeByte( CONSTANT_Class );
+      out.writeShort( name );
+    } );
+  }
+
+  private int stringConstant( String value )
+  {
+    int utf8 = utf8( value );
+    return constant( CONSTANT_String + ":" + value, out -> {
+      out.writeByte( CONSTANT_String );
+      out.writeShort( utf8 );
+    } );
+  }
+
+  private int intConstant( int value )
+  {
+    return constant( CONSTANT_Integer + ":" + value, out -> {
+      out.writeByte( CONSTANT_Integer );
+      out.writeInt( value );
+    } );
+  }
+
+  private int memberConstant( int tag, String owner, String name, String descriptor )
+  {
+    int ownerClass = classConstant( owner );
+    int nameUtf8 = utf8( name );
+    int descUtf8 = utf8( descriptor );
+    int nameAndType = constant( CONSTANT_NameAndType + ":" + name + ' ' + descriptor, out -> {
+      out.writeByte( CONSTANT_NameAndType );
+      out.writeShort( nameUtf8 );
+      out.writeShort( descUtf8 );
+    } );
+    return constant( tag + ":" + owner + '.' + name + descriptor, out -> {
+      out.writeByte( tag );
+      out.writeShort( ownerClass );
+      out.writeShort( nameAndType );
+    } );
+  }
+
+  private int constant( String key, ConstantWriter writer )
+  {
+    Integer index = _constants.get( key );
+    if( index == null )
+    {
+      write( () -> writer.write( new DataOutputStream( _constantPool ) ) );
+      index = _constantCount++;
+      _constants.put( key, index );
+    }
+    return index;
+  }
+
+  private interface ConstantWriter
+  {
+    void write( DataOutputStream out ) throws IOException;
+  }
+
+  private interface IOAction
+  {
+    void run() throws IOException;
+  }
+
+  private static void write( IOAction action )
+  {
+    try
+    {
+      action.run();
+    }
+    catch( IOException e )
+    {
+      // in-memory streams don't throw
+      throw new IllegalStateException( e );
+    }
+  }
+
+  /**
+   * The body of a method. Tracks the operand stack depth to compute the method's max stack.
+   */
+  final class Code
+  {
+    private final int _access;
+    private final int _name;
+    private final int _descriptor;
+    private final ByteArrayOutputStream _bytes = new ByteArrayOutputStream();
+    private final DataOutputStream _out = new DataOutputStream( _bytes );
+    private final int[] _paramSlots;
+    private final int _maxLocals;
+    private int _stack;
+    private int _maxStack;
+
+    private Code( int access, String name, String descriptor, Class<?>[] params )
+    {
+      _access = access;
+      _name = utf8( name );
+      _descriptor = utf8( descriptor );
+      _paramSlots = new int[params.length];
+      int slot = 1;
+      for( int i = 0; i < params.length; i++ )
+      {
+        _paramSlots[i] = slot;
+        slot += size( params[i] );
+      }
+      _maxLocals = slot;
+    }
+
+    void loadThis()
+    {
+      op( 0x2A, 1 ); // aload_0
+    }
+
+    void loadParam( int index, Class<?> type )
+    {
+      int opcode;
+      if( !type.isPrimitive() )
+      {
+        opcode = 0x19; // aload
+      }
+      else if( type == long.class )
+      {
+        opcode = 0x16; // lload
+      }
+      else if( type == float.class )
+      {
+        opcode = 0x17; // fload
+      }
+      else if( type == double.class )
+      {
+        opcode = 0x18; // dload
+      }
+      else
+      {
+        opcode = 0x15; // iload
+      }
+      op( opcode, size( type ) );
+      u1( _paramSlots[index] );
+    }
+
+    /**
+     * @param owner The internal name of the class the field is accessed through
+     */
+    void getField( boolean isStatic, String owner, String name, Class<?> type )
+    {
+      op( isStatic ? 0xB2 : 0xB4, size( type ) - (isStatic ? 0 : 1) );
+      u2( memberConstant( CONSTANT_Fieldref, owner, name, descriptor( type ) ) );
+    }
+
+    /**
+     * @param owner The internal name of the class the field is accessed through
+     */
+    void putField( boolean isStatic, String owner, String name, Class<?> type )
+    {
+      op( isStatic ? 0xB3 : 0xB5, -size( type ) - (isStatic ? 0 : 1) );
+      u2( memberConstant( CONSTANT_Fieldref, owner, name, descriptor( type ) ) );
+    }
+
+    /**
+     * Invokes {@code method} as a member of {@code owner}, the qualifying type javac would use for the call.
+     */
+    void invoke( Class<?> owner, Method method )
+    {
+      invoke( owner, Modifier.isStatic( method.getModifiers() ), method.getName(), method.getReturnType(),
+        method.getParameterTypes() );
+    }
+
+    void invoke( Class<?> owner, boolean isStatic, String name, Class<?> returnType, Class<?>... params )
+    {
+      int argSize = 0;
+      for( Class<?> param : params )
+      {
+        argSize += size( param );
+      }
+      int delta = size( returnType ) - argSize - (isStatic ? 0 : 1);
+      boolean isInterface = owner.isInterface();
+      int tag = isInterface ? CONSTANT_InterfaceMethodref : CONSTANT_Methodref;
+      int ref = memberConstant( tag, internalName( owner ), name, methodDescriptor( returnType, params ) );
+      if( isStatic )
+      {
+        op( 0xB8, delta ); // invokestatic
+        u2( ref );
+      }
+      else if( isInterface )
+      {
+        op( 0xB9, delta ); // invokeinterface
+        u2( ref );
+        u1( argSize + 1 );
+        u1( 0 );
+      }
+      else
+      {
+        op( name.equals( "<init>" ) ? 0xB7 : 0xB6, delta ); // invokespecial : invokevirtual
+        u2( ref );
+      }
+    }
+
+    /**
+     * Pushes a class literal, for a primitive type that's the wrapper's {@code TYPE} field.
+     */
+    void loadClass( Class<?> type )
+    {
+      if( type.isPrimitive() )
+      {
+        getField( true, internalName( wrapperType( type ) ), "TYPE", Class.class );
+      }
+      else
+      {
+        ldc( classConstant( internalName( type ) ) );
+      }
+    }
+
+    void loadString( String value )
+    {
+      if( value == null )
+      {
+        op( 0x01, 1 ); // aconst_null
+      }
+      else
+      {
+        ldc( stringConstant( value ) );
+      }
+    }
+
+    void loadInt( int value )
+    {
+      if( value >= -1 && value <= 5 )
+      {
+        op( 0x03 + value, 1 ); // iconst_<n>
+      }
+      else if( value >= Byte.MIN_VALUE && value <= Byte.MAX_VALUE )
+      {
+        op( 0x10, 1 ); // bipush
+        u1( value );
+      }
+      else if( value >= Short.MIN_VALUE && value <= Short.MAX_VALUE )
+      {
+        op( 0x11, 1 ); // sipush
+        u2( value );
+      }
+      else
+      {
+        ldc( intConstant( value ) );
+      }
+    }
+
+    void newArray( Class<?> componentType )
+    {
+      op( 0xBD, 0 ); // anewarray
+      u2( classConstant( internalName( componentType ) ) );
+    }
+
+    void arrayStore()
+    {
+      op( 0x53, -3 ); // aastore
+    }
+
+    void dup()
+    {
+      op( 0x59, 1 );
+    }
+
+    /**
+     * Discards a value of {@code type} from the stack.
+     */
+    void pop( Class<?> type )
+    {
+      if( type != void.class )
+      {
+        op( size( type ) == 2 ? 0x58 : 0x57, -size( type ) ); // pop2 : pop
+      }
+    }
+
+    void checkCast( Class<?> type )
+    {
+      op( 0xC0, 0 );
+      u2( classConstant( internalName( type ) ) );
+    }
+
+    void box( Class<?> primitive )
+    {
+      Class<?> wrapper = wrapperType( primitive );
+      invoke( wrapper, true, "valueOf", wrapper, primitive );
+    }
+
+    /**
+     * Unboxes the reference on the stack, which is cast to the wrapper of {@code primitive} first.
+     */
+    void unbox( Class<?> primitive )
+    {
+      Class<?> wrapper = wrapperType( primitive );
+      checkCast( wrapper );
+      invoke( wrapper, false, primitive.getName() + "Value", primitive );
+    }
+
+    /**
+     * Converts between primitive types the way a cast does.
+     *
+     * @return False if there is no conversion between the types
+     */
+    boolean convert( Class<?> from, Class<?> to )
+    {
+      if( from == to )
+      {
+        return true;
+      }
+      if( from == boolean.class || to == boolean.class || from == void.class || to == void.class )
+      {
+        return false;
+      }
+
+      char fromKind = kind( from );
+      char toKind = kind( to );
+      if( fromKind != toKind )
+      {
+        // i2l=0x85 i2f=0x86 i2d=0x87 l2i=0x88 l2f=0x89 l2d=0x8A f2i=0x8B f2l=0x8C f2d=0x8D d2i=0x8E d2l=0x8F d2f=0x90
+        String kinds = "ilfd";
+        int fromIndex = kinds.indexOf( fromKind );
+        int toIndex = kinds.indexOf( toKind );
+        op( 0x85 + fromIndex * 3 + (toIndex > fromIndex ? toIndex - 1 : toIndex), size( to ) - size( from ) );
+      }
+      if( (to == byte.class || to == char.class || to == short.class) &&
+          !(to == short.class && from == byte.class) ) // a byte is already in short range
+      {
+        op( to == byte.class ? 0x91 : to == char.class ? 0x92 : 0x93, 0 ); // i2b : i2c : i2s
+      }
+      return true;
+    }
+
+    private char kind( Class<?> type )
+    {
+      return type == long.class ? 'l' : type == float.class ? 'f' : type == double.class ? 'd' : 'i';
+    }
+
+    void returnValue( Class<?> type )
+    {
+      int opcode;
+      if( type == void.class )
+      {
+        opcode = 0xB1; // return
+      }
+      else if( !type.isPrimitive() )
+      {
+        opcode = 0xB0; // areturn
+      }
+      else if( type == long.class )
+      {
+        opcode = 0xAD; // lreturn
+      }
+      else if( type == float.class )
+      {
+        opcode = 0xAE; // freturn
+      }
+      else if( type == double.class )
+      {
+        opcode = 0xAF; // dreturn
+      }
+      else
+      {
+        opcode = 0xAC; // ireturn
+      }
+      op( opcode, -size( type ) );
+    }
+
+    private void ldc( int index )
+    {
+      if( index <= 0xFF )
+      {
+        op( 0x12, 1 ); // ldc
+        u1( index );
+      }
+      else
+      {
+        op( 0x13, 1 ); // ldc_w
+        u2( index );
+      }
+    }
+
+    private void op( int opcode, int stackDelta )
+    {
+      u1( opcode );
+      _stack += stackDelta;
+      _maxStack = Math.max( _maxStack, _stack );
+    }
+
+    private void u1( int value )
+    {
+      write( () -> _out.writeByte( value ) );
+    }
+
+    private void u2( int value )
+    {
+      write( () -> _out.writeShort( value ) );
+    }
+
+    private void writeTo( DataOutputStream out, int codeAttr ) throws IOException
+    {
+      out.writeShort( _access );
+      out.writeShort( _name );
+      out.writeShort( _descriptor );
+      out.writeShort( 1 );
+      out.writeShort( codeAttr );
+      out.writeInt( 12 + _bytes.size() );
+      out.writeShort( _maxStack );
+      out.writeShort( _maxLocals );
+      out.writeInt( _bytes.size() );
+      _bytes.writeTo( out );
+      out.writeShort( 0 ); // exception table
+      out.writeShort( 0 ); // attributes
+    }
+  }
+}
@@ -24,6 +24,8 @@ import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
 import java.lang.reflect.Parameter;
 import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
 import javax.lang.model.type.NoType;
 
 import manifold.ext.rt.ExtensionMethod;
@@ -35,6 +37,10 @@ import manifold.internal.javac.IDynamicJdk;
 import manifold.internal.runtime.protocols.ManClassesUrlConnection;
 import manifold.util.ReflectUtil;
 
+import static manifold.ext.ProxyClassWriter.ACC_FINAL;
+import static manifold.ext.ProxyClassWriter.ACC_PRIVATE;
+import static manifold.ext.ProxyClassWriter.ACC_PUBLIC;
+
 /**
  * Used at runtime to dynamically proxy a type that structurally (as opposed to nominally)
  * implements an interface annotated with @{@link Structural}.
@@ -47,6 +53,7 @@ class StructuralTypeProxyGenerator
   private final Class<?> _rootClass;
   private final String _name;
   private Symbol.ClassSymbol _rootClassSymbol;
+  private boolean _reflective;
 
   private StructuralTypeProxyGenerator( Class<?> iface, Class<?> rootClass, String name )
   {
@@ -59,7 +66,8 @@ class StructuralTypeProxyGenerator
   {
     StructuralTypeProxyGenerator gen = new StructuralTypeProxyGenerator( iface, rootClass, name );
     String fqnProxy = getNamespace( iface ) + '.' + name;
-    ManClassesUrlConnection.putProxySupplier( fqnProxy, () -> gen.generateProxy().toString() );
+    ManClassesUrlConnection.putProxySupplier( fqnProxy, () -> gen.generateProxy().toString(),
+      DynamicProxyFactory.isBytecodeEnabled() ? () -> gen.generateProxyClass( fqnProxy ) : null );
     try
     {
       return Class.forName( fqnProxy, false, iface.getClassLoader() );
@@ -93,6 +101,204 @@ class StructuralTypeProxyGenerator
       .append( "}" );
   }
 
+  /**
+   * Generates the class file {@link #generateProxy()} compiles to without javac. Reflection stands in for javac's
+   * attribution, only calls that resolve the same way to an exact match are emitted.
+   *
+   * @return The class file or null if the proxy must be compiled from source, e.g., a call resolves to an extension method
+   */
+  private byte[] generateProxyClass( String fqnProxy )
+  {
+    if( !ProxyClassWriter.isPublic( _iface ) || !ProxyClassWriter.isPublic( _rootClass ) )
+    {
+      return null;
+    }
+
+    _reflective = true;
+    try
+    {
+      ProxyClassWriter cw = new ProxyClassWriter( fqnProxy, Object.class, _iface );
+      cw.addField( ACC_PRIVATE | ACC_FINAL, "_root", _rootClass );
+      ProxyClassWriter.Code ctor = cw.addMethod( ACC_PUBLIC, "<init>", void.class, _rootClass );
+      ctor.loadThis();
+      ctor.invoke( Object.class, false, "<init>", void.class );
+      ctor.loadThis();
+      ctor.loadParam( 0, _rootClass );
+      ctor.putField( false, cw.getInternalName(), "_root", _rootClass );
+      ctor.returnValue( void.class );
+
+      Set<String> signatures = new HashSet<>();
+      for( Method mi : _iface.getMethods() )
+      {
+        if( isSkipped( mi, _rootClass ) )
+        {
+          continue;
+        }
+        if( !signatures.add( mi.getName() + ProxyClassWriter.methodDescriptor( void.class, mi.getParameterTypes() ) ) ||
+            !genInterfaceMethod( cw, mi ) )
+        {
+          // duplicate signatures don't compile either, let javac report it
+          return null;
+        }
+      }
+      return cw.toByteArray();
+    }
+    catch( LinkageError e )
+    {
+      // a type referenced from the root class does not resolve, let javac report it
+      return null;
+    }
+    finally
+    {
+      _reflective = false;
+    }
+  }
+
+  private boolean genInterfaceMethod( ProxyClassWriter cw, Method mi )
+  {
+    Class<?> returnType = mi.getReturnType();
+    Class<?>[] params = mi.getParameterTypes();
+    if( !ProxyClassWriter.isPublic( returnType ) || Arrays.stream( params ).anyMatch( p -> !ProxyClassWriter.isPublic( p ) ) )
+    {
+      return false;
+    }
+
+    ProxyClassWriter.Code code = cw.addMethod( ACC_PUBLIC, mi.getName(), returnType, params );
+    String rootClass = ProxyClassWriter.internalName( _rootClass );
+
+    // field
+    String propertyName = getPropertyNameFromGetter( mi );
+    if( propertyName != null )
+    {
+      Field field = findField( propertyName, _rootClass, returnType, Variance.Covariant );
+      if( field != null )
+      {
+        boolean isStatic = Modifier.isStatic( field.getModifiers() );
+        loadRoot( cw, code, isStatic );
+        code.getField( isStatic, rootClass, field.getName(), field.getType() );
+        return genReturn( code, field.getType(), returnType );
+      }
+    }
+    else
+    {
+      propertyName = getPropertyNameFromSetter( mi );
+      if( propertyName != null )
+      {
+        Field field = findField( propertyName, _rootClass, params[0], Variance.Contravariant );
+        if( field != null )
+        {
+          if( Modifier.isFinal( field.getModifiers() ) )
+          {
+            return false;
+          }
+          boolean isStatic = Modifier.isStatic( field.getModifiers() );
+          loadRoot( cw, code, isStatic );
+          code.loadParam( 0, params[0] );
+          if( params[0].isPrimitive() )
+          {
+            code.convert( params[0], field.getType() );
+          }
+          code.putField( isStatic, rootClass, field.getName(), field.getType() );
+          code.returnValue( void.class );
+          return true;
+        }
+      }
+    }
+
+    // method
+    Method target = findExactMethod( mi );
+    if( target == null )
+    {
+      return false;
+    }
+    loadRoot( cw, code, Modifier.isStatic( target.getModifiers() ) );
+    for( int i = 0; i < params.length; i++ )
+    {
+      code.loadParam( i, params[i] );
+    }
+    code.invoke( _rootClass, target );
+    return genReturn( code, target.getReturnType(), returnType );
+  }
+
+  private void loadRoot( ProxyClassWriter cw, ProxyClassWriter.Code code, boolean isStatic )
+  {
+    if( !isStatic )
+    {
+      code.loadThis();
+      code.getField( false, cw.getInternalName(), "_root", _rootClass );
+    }
+  }
+
+  /**
+   * Emits the return of {@code value} as javac compiles {@code return (R)coerce(value, R.class)} or, for a primitive
+   * return type, {@code return (R)value}.
+   */
+  private boolean genReturn( ProxyClassWriter.Code code, Class<?> valueType, Class<?> returnType )
+  {
+    if( returnType == void.class )
+    {
+      code.pop( valueType );
+    }
+    else if( !returnType.isPrimitive() )
+    {
+      if( valueType == void.class )
+      {
+        return false;
+      }
+      if( valueType.isPrimitive() )
+      {
+        code.box( valueType );
+      }
+      code.loadClass( returnType );
+      code.invoke( RuntimeMethods.class, true, "coerce", Object.class, Object.class, java.lang.reflect.Type.class );
+      code.checkCast( returnType );
+    }
+    else if( valueType.isPrimitive() )
+    {
+      if( !code.convert( valueType, returnType ) )
+      {
+        return false;
+      }
+    }
+    else if( valueType == Object.class || valueType == ProxyClassWriter.wrapperType( returnType ) )
+    {
+      code.unbox( returnType );
+    }
+    else
+    {
+      return false;
+    }
+    code.returnValue( returnType );
+    return true;
+  }
+
+  /**
+   * Finds the root class's public method with exactly the parameter types of {@code mi}. When there is one, javac
+   * resolves the call to it, no other candidate, including an extension method, is more specific.
+   */
+  private Method findExactMethod( Method mi )
+  {
+    Class<?>[] params = mi.getParameterTypes();
+    Method exact = null;
+    for( Method m : _rootClass.getMethods() )
+    {
+      if( m.isBridge() || !m.getName().equals( mi.getName() ) || !Arrays.equals( m.getParameterTypes(), params ) )
+      {
+        continue;
+      }
+      if( exact == null || exact.getReturnType().isAssignableFrom( m.getReturnType() ) )
+      {
+        // the same method inherited from more than one supertype, prefer the most specific return type
+        exact = m;
+      }
+      else if( !m.getReturnType().isAssignableFrom( exact.getReturnType() ) )
+      {
+        return null;
+      }
+    }
+    return exact;
+  }
+
   private static String getNamespace( Class ifaceType )
   {
     String nspace = ifaceType.getPackage().getName();
@@ -115,19 +321,18 @@ class StructuralTypeProxyGenerator
     return sb.toString();
   }
 
+  private boolean isSkipped( Method mi, Class rootType )
+  {
+    return (mi.isDefault() && !isStructurallyAssignable( rootType, mi )) ||
+           Modifier.isStatic( mi.getModifiers() ) ||
+           mi.isBridge() || mi.isSynthetic() ||
+           mi.getAnnotation( ExtensionMethod.class ) != null ||
+           isObjectMethod( mi );
+  }
+
   private void genInterfaceMethodDecl( StringBuilder sb, Method mi, Class rootType )
   {
-    if( (mi.isDefault() && !isStructurallyAssignable( rootType, mi )) ||
-        Modifier.isStatic( mi.getModifiers() ) ||
-        mi.isBridge() || mi.isSynthetic() )
-    {
-      return;
-    }
-    if( mi.getAnnotation( ExtensionMethod.class ) != null )
-    {
-      return;
-    }
-    if( isObjectMethod( mi ) )
+    if( isSkipped( mi, rootType ) )
     {
       return;
     }
@@ -299,7 +504,7 @@ class StructuralTypeProxyGenerator
           break;
         }
 
-        if( hasPotentialMethod( getRootClassSymbol(), name, method.getParameterCount() ) )
+        if( hasPotentialMethod( name, method.getParameterCount() ) )
         {
           // try not to let a field match when a method should match
           break;
@@ -340,7 +545,7 @@ class StructuralTypeProxyGenerator
     if( name.length() > "set".length() &&
         name.startsWith( "set" ) )
     {
-      if( hasPotentialMethod( getRootClassSymbol(), name, method.getParameterCount() ) )
+      if( hasPotentialMethod( name, method.getParameterCount() ) )
       {
         // try not to let a field match when a method should match
         return null;
@@ -361,6 +566,41 @@ class StructuralTypeProxyGenerator
     return propertyName;
   }
 
+  private boolean hasPotentialMethod( String name, int paramCount )
+  {
+    return _reflective
+           ? hasPotentialMethod( _rootClass, name, paramCount )
+           : hasPotentialMethod( getRootClassSymbol(), name, paramCount );
+  }
+
+  private static boolean hasPotentialMethod( Class<?> cls, String name, int paramCount )
+  {
+    if( cls == null )
+    {
+      return false;
+    }
+
+    for( Method m : cls.getDeclaredMethods() )
+    {
+      if( m.getName().equals( name ) && m.getParameterCount() == paramCount )
+      {
+        return true;
+      }
+    }
+    if( hasPotentialMethod( cls.getSuperclass(), name, paramCount ) )
+    {
+      return true;
+    }
+    for( Class<?> iface : cls.getInterfaces() )
+    {
+      if( hasPotentialMethod( iface, name, paramCount ) )
+      {
+        return true;
+      }
+    }
+    return false;
+  }
+
   private boolean hasPotentialMethod( Symbol.ClassSymbol rootClassSymbol, String name, int paramCount )
   {
     if( rootClassSymbol == null || rootClassSymbol instanceof NoType )
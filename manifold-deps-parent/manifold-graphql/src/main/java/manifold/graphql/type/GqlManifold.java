@@ -35,6 +35,7 @@ import manifold.api.type.JavaTypeManifold;
 public class GqlManifold extends JavaTypeManifold<GqlModel>
 {
   public static final List<String> EXTS = Arrays.asList( "graphql", "graphqls", "gql" );
+  private static final List<String> API_INNER_CLASS_NAMES = Arrays.asList( "Builder", "Proxy", "ProxyFactory" );
 
   private GqlScopeFinder _scopeFinder;
 
@@ -73,8 +74,8 @@ public class GqlManifold extends JavaTypeManifold<GqlModel>
       typeDef = typeDef == null ? type.getChild( innerName ) : getChildDefinition( typeDef, innerName );
       if( typeDef == null )
       {
-        // special case so Builder classes can have extension methods applied
-        return innerName.equals( "Builder" ) && !tokenizer.hasMoreTokens();
+        // special case so Builder classes can have extension methods applied, and for the generated proxy classes
+        return API_INNER_CLASS_NAMES.contains( innerName ) && !tokenizer.hasMoreTokens();
       }
     }
     return typeDef != null;
@@ -23,6 +23,7 @@ import java.lang.Class;
 import java.lang.reflect.Modifier;
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -47,6 +48,7 @@ import javax.tools.JavaFileManager;
 import javax.tools.JavaFileObject;
 import manifold.api.fs.IFileFragment;
 import manifold.api.host.IModule;
+import manifold.api.json.codegen.schema.JsonSchemaType;
 import manifold.json.rt.api.*;
 import manifold.rt.api.ActualName;
 import manifold.rt.api.FragmentValue;
@@ -74,6 +76,7 @@ import static manifold.api.gen.SrcLinkedClass.makeIdentifier;
 class GqlParentType
 {
   private static final String ANONYMOUS_TYPE = "Anonymous_";
+  private static final String BINDINGS_KEY = "bindingsKey";
 
   private final GqlModel _model;
   private final Map<TypeDefinition, Set<UnionTypeDefinition>> _typeToUnions;
@@ -300,16 +303,17 @@ class GqlParentType
 //      StringBuilder propertyType = getterType.render( new StringBuilder(), 0, false );
 //      //noinspection unused
 //      StringBuilder componentType = getComponentType( getterType ).render( new StringBuilder(), 0, false );
-      SrcGetProperty getter = new SrcGetProperty( propName, getterType );
+      SrcGetProperty getter = new SrcGetProperty( propName, getterType ).withUserData( BINDINGS_KEY, nameNo$ );
       addActualNameAnnotation( getter, nameNo$, true );
       addSourcePositionAnnotation( srcClass, varDef, actualName, getter );
       srcClass.addGetProperty( getter ).modifiers( Modifier.PUBLIC );
 
-      SrcSetProperty setter = new SrcSetProperty( propName, setterType );
+      SrcSetProperty setter = new SrcSetProperty( propName, setterType ).withUserData( BINDINGS_KEY, nameNo$ );
       addActualNameAnnotation( setter, nameNo$, true );
       addSourcePositionAnnotation( srcClass, varDef, actualName, setter );
       srcClass.addSetProperty( setter ).modifiers( Modifier.PUBLIC );
     }
+    addProxy( srcClass );
 
     enclosingType.addInnerClass( srcClass );
   }
@@ -677,6 +681,7 @@ class GqlParentType
     {
       addQuerySelection( srcClass, ctx, member );
     }
+    addProxy( srcClass );
 
     enclosingType.addInnerClass( srcClass );
   }
@@ -752,6 +757,10 @@ class GqlParentType
       addMember( srcClass, member, name -> fieldDefinitions.stream().anyMatch( f -> f.getName().equals( name ) ) );
     }
     addObjectExtensions( type, srcClass );
+    if( implementsAllFields( type ) )
+    {
+      addProxy( srcClass );
+    }
     enclosingType.addInnerClass( srcClass );
   }
 
@@ -810,6 +819,7 @@ class GqlParentType
       addMember( srcClass, member, name -> inputValueDefinitions.stream().anyMatch( f -> f.getName().equals( name ) ) );
     }
     addInputExtensions( type, srcClass );
+    addProxy( srcClass );
     enclosingType.addInnerClass( srcClass );
   }
 
@@ -851,6 +861,10 @@ class GqlParentType
       addMember( srcClass, member, name -> fieldDefinitions.stream().anyMatch( f -> f.getName().equals( name ) ) );
     }
     addInterfaceExtensions( type, srcClass );
+    if( implementsAllFields( type ) )
+    {
+      addProxy( srcClass );
+    }
     enclosingType.addInnerClass( srcClass );
   }
 
@@ -937,6 +951,10 @@ class GqlParentType
     addActualNameAnnotation( srcClass, type.getName(), false );
     addSourcePositionAnnotation( srcClass, type, srcClass );
     addIntersectionMethods( srcClass, type );
+    if( lub == null )
+    {
+      addProxy( srcClass );
+    }
     enclosingType.addInnerClass( srcClass );
   }
 
@@ -980,6 +998,183 @@ class GqlParentType
     }
   }
 
+  /**
+   * Adds a {@code Proxy} class implementing the accessors of {@code srcClass} directly against its bindings, and the
+   * {@code ProxyFactory} declared in its {@code @Structural} annotation, see {@link JsonSchemaType#isCompiledProxy()}.
+   * Note the accessors must include all the abstract methods {@code srcClass} inherits.
+   */
+  private void addProxy( SrcLinkedClass srcClass )
+  {
+    if( !JsonSchemaType.isCompiledProxy() || isProxyNameTaken( srcClass ) )
+    {
+      return;
+    }
+
+    String simpleName = srcClass.getSimpleName();
+    srcClass.getAnnotations().stream()
+      .filter( anno -> anno.getAnnotationType().equals( Structural.class.getSimpleName() ) )
+      .forEach( anno -> anno.addArgument(
+        new SrcArgument( new SrcRawExpression( simpleName + ".ProxyFactory.class" ) ).name( "factoryClass" ) ) );
+
+    SrcLinkedClass proxy = new SrcLinkedClass( srcClass.getName() + ".Proxy", srcClass, Class )
+      .modifiers( Modifier.PUBLIC | Modifier.STATIC | Modifier.FINAL )
+      .addInterface( simpleName );
+    proxy.addField( new SrcField( "_bindings", DataBindings.class.getSimpleName() )
+      .modifiers( Modifier.PRIVATE | Modifier.FINAL ) );
+    proxy.addConstructor( new SrcConstructor( proxy )
+      .modifiers( Modifier.PRIVATE )
+      .addParam( "bindings", DataBindings.class.getSimpleName() )
+      .body( "_bindings = bindings;" ) );
+    proxy.addMethod( new SrcMethod( proxy )
+      .modifiers( Modifier.PUBLIC )
+      .name( "getBindings" )
+      .returns( DataBindings.class.getSimpleName() )
+      .body( "return _bindings;" ) );
+    for( SrcGetProperty getter: srcClass.getGetProperties() )
+    {
+      SrcType type = getter.getReturnType();
+      String typeName = type.render( new StringBuilder(), 0, false ).toString();
+      String toType = type.getName() + ".class";
+      if( !type.getTypeParams().isEmpty() )
+      {
+        // coerce to the parameterized type so a list's components are coerced too, resolve it once per class
+        toType = "_" + getter.getSimpleName() + "Type";
+        proxy.addField( new SrcField( toType, java.lang.reflect.Type.class.getTypeName() )
+          .modifiers( Modifier.PRIVATE | Modifier.STATIC | Modifier.FINAL )
+          .initializer( new SrcRawExpression( ReflectUtil.class.getTypeName() + ".method(Proxy.class, \"" +
+                                              getter.getSimpleName() + "\").getMethod().getGenericReturnType()" ) ) );
+      }
+      proxy.addMethod( new SrcMethod( proxy )
+        .modifiers( Modifier.PUBLIC )
+        .name( getter.getSimpleName() )
+        .returns( type )
+        .body( "return (" + typeName + ")coerceFromBindingsValue(_bindings.get(\"" +
+               ManEscapeUtil.escapeForJavaStringLiteral( (String)getter.getUserData( BINDINGS_KEY ) ) + "\"), " +
+               toType + ");" ) );
+    }
+    for( SrcSetProperty setter: srcClass.getSetProperties() )
+    {
+      proxy.addMethod( new SrcMethod( proxy )
+        .modifiers( Modifier.PUBLIC )
+        .name( setter.getSimpleName() )
+        .returns( void.class )
+        .addParam( "value", setter.getParameters().get( 0 ).getType() )
+        .body( "_bindings.put(\"" +
+               ManEscapeUtil.escapeForJavaStringLiteral( (String)setter.getUserData( BINDINGS_KEY ) ) + "\", " +
+               RuntimeMethods.class.getSimpleName() + ".coerceToBindingValue(value));" ) );
+    }
+    // serialization looks for writeReplace() in the class hierarchy, it does not find the interface's default method
+    proxy.addMethod( new SrcMethod( proxy )
+      .modifiers( Modifier.PUBLIC )
+      .name( "writeReplace" )
+      .returns( Object.class )
+      .body( "return new " + Serializer.class.getTypeName() + "(this);" ) );
+    proxy.addMethod( new SrcMethod( proxy )
+      .modifiers( Modifier.PUBLIC )
+      .name( "equals" )
+      .addParam( "obj", Object.class )
+      .returns( boolean.class )
+      .body( "return obj instanceof Bindings ? obj.equals(_bindings) : obj instanceof " +
+             IBindingsBacked.class.getTypeName() + " && _bindings.equals(((" + IBindingsBacked.class.getTypeName() +
+             ")obj).getBindings());" ) );
+    proxy.addMethod( new SrcMethod( proxy )
+      .modifiers( Modifier.PUBLIC )
+      .name( "hashCode" )
+      .returns( int.class )
+      .body( "return _bindings.hashCode();" ) );
+    proxy.addMethod( new SrcMethod( proxy )
+      .modifiers( Modifier.PUBLIC )
+      .name( "toString" )
+      .returns( String.class )
+      .body( "return _bindings.toString();" ) );
+    srcClass.addInnerClass( proxy );
+
+    SrcLinkedClass factory = new SrcLinkedClass( srcClass.getName() + ".ProxyFactory", srcClass, Class )
+      .modifiers( Modifier.PUBLIC | Modifier.STATIC )
+      .addInterface( new SrcType( IProxyFactory.class.getSimpleName() )
+        .addTypeParam( Map.class.getSimpleName() )
+        .addTypeParam( simpleName ) );
+    factory.addMethod( new SrcMethod( factory )
+      .modifiers( Modifier.PUBLIC )
+      .name( "proxy" )
+      .addParam( "root", Map.class.getSimpleName() )
+      .addParam( "iface", new SrcType( "Class" ).addTypeParam( simpleName ) )
+      .returns( simpleName )
+      .body( "return new Proxy(root instanceof DataBindings ? (DataBindings)root : new DataBindings(root));" ) );
+    srcClass.addInnerClass( factory );
+  }
+
+  private boolean isProxyNameTaken( SrcLinkedClass srcClass )
+  {
+    return srcClass.getInnerClasses().stream()
+             .anyMatch( c -> c.getSimpleName().equals( "Proxy" ) || c.getSimpleName().equals( "ProxyFactory" ) ) ||
+           _model.getScope().findTypeDefinition( "Proxy" ) != null ||
+           _model.getScope().findTypeDefinition( "ProxyFactory" ) != null;
+  }
+
+  /**
+   * @return True if the fields of {@code type} include those of the interfaces it implements, directly or via a union's
+   * least upper bound, with the same types. Then its own accessors implement all the abstract methods it inherits.
+   * Since an interface's extensions are only known for the interfaces defined in this file, others are excluded.
+   */
+  private boolean implementsAllFields( TypeDefinition type )
+  {
+    List<Type> interfaces = new ArrayList<>();
+    if( type instanceof ObjectTypeDefinition )
+    {
+      interfaces.addAll( ((ObjectTypeDefinition)type).getImplements() );
+    }
+    Set<UnionTypeDefinition> unions = _typeToUnions.get( type );
+    if( unions != null )
+    {
+      for( UnionTypeDefinition union: unions )
+      {
+        String lub = findLub( union );
+        if( lub != null )
+        {
+          interfaces.add( new TypeName( lub ) );
+        }
+      }
+    }
+    if( interfaces.isEmpty() )
+    {
+      return true;
+    }
+
+    Map<String, String> fields = getFieldTypes( type );
+    for( Type iface: interfaces )
+    {
+      TypeDefinition ifaceDef = iface instanceof TypeName
+        ? _model.getTypeRegistry().getType( ((TypeName)iface).getName() ).orElse( null )
+        : null;
+      if( !(ifaceDef instanceof InterfaceTypeDefinition) ||
+          !getFieldTypes( ifaceDef ).entrySet().stream()
+            .allMatch( e -> e.getValue().equals( fields.get( e.getKey() ) ) ) )
+      {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private Map<String, String> getFieldTypes( TypeDefinition type )
+  {
+    List<FieldDefinition> fieldDefs = new ArrayList<>();
+    if( type instanceof ObjectTypeDefinition )
+    {
+      fieldDefs.addAll( ((ObjectTypeDefinition)type).getFieldDefinitions() );
+      _model.getTypeRegistry().objectTypeExtensions().getOrDefault( type.getName(), Collections.emptyList() )
+        .forEach( ext -> fieldDefs.addAll( ext.getFieldDefinitions() ) );
+    }
+    else if( type instanceof InterfaceTypeDefinition )
+    {
+      fieldDefs.addAll( ((InterfaceTypeDefinition)type).getFieldDefinitions() );
+      _model.getTypeRegistry().interfaceTypeExtensions().getOrDefault( type.getName(), Collections.emptyList() )
+        .forEach( ext -> fieldDefs.addAll( ext.getFieldDefinitions() ) );
+    }
+    return fieldDefs.stream().collect( Collectors.toMap( FieldDefinition::getName, f -> f.getType().toString(), ( a, b ) -> a ) );
+  }
+
   private void addQuerySelection( SrcLinkedClass srcClass, TypeDefinition ctx, Selection selection )
   {
     if( selection instanceof Field )
@@ -1055,7 +1250,7 @@ class GqlParentType
       StringBuilder propertyType = type.render( new StringBuilder(), 0, false );
       //noinspection unused
       StringBuilder componentType = getComponentType( type ).render( new StringBuilder(), 0, false );
-      SrcGetProperty getter = new SrcGetProperty( propName, type );
+      SrcGetProperty getter = new SrcGetProperty( propName, type ).withUserData( BINDINGS_KEY, name );
       addActualNameAnnotation( getter, name, true );
       addSourcePositionAnnotation( srcClass, field, name, getter );
       srcClass.addGetProperty( getter ).modifiers( Modifier.PUBLIC );
@@ -1111,7 +1306,7 @@ class GqlParentType
       StringBuilder propertyType = type1.render( new StringBuilder(), 0, false );
       //noinspection unused
       StringBuilder componentType = getComponentType( type1 ).render( new StringBuilder(), 0, false );
-      SrcGetProperty getter = new SrcGetProperty( propName, type1 );
+      SrcGetProperty getter = new SrcGetProperty( propName, type1 ).withUserData( BINDINGS_KEY, name );
       addActualNameAnnotation( getter, name, true );
       addSourcePositionAnnotation( srcClass, field, name, getter );
       srcClass.addGetProperty( getter ).modifiers( Modifier.PUBLIC );
@@ -1145,6 +1340,7 @@ class GqlParentType
           addQuerySelection( srcInnerResult, typeDef, member );
         }
       }
+      addProxy( srcInnerResult );
       srcClass.addInnerClass( srcInnerResult );
 
       // getter property
@@ -1155,7 +1351,7 @@ class GqlParentType
       StringBuilder propertyType = type1.render( new StringBuilder(), 0, false );
       //noinspection unused
       StringBuilder componentType = getComponentType( type1 ).render( new StringBuilder(), 0, false );
-      SrcGetProperty getter = new SrcGetProperty( propName, type1 );
+      SrcGetProperty getter = new SrcGetProperty( propName, type1 ).withUserData( BINDINGS_KEY, name );
       addActualNameAnnotation( getter, name, true );
       addSourcePositionAnnotation( srcClass, field, name, getter );
       srcClass.addGetProperty( getter ).modifiers( Modifier.PUBLIC );
@@ -1259,7 +1455,7 @@ class GqlParentType
 //    StringBuilder propertyType = getterType.render( new StringBuilder(), 0, false );
 //    //noinspection unused
 //    StringBuilder componentType = getComponentType( getterType ).render( new StringBuilder(), 0, false );
-    SrcGetProperty getter = new SrcGetProperty( propName, getterType );
+    SrcGetProperty getter = new SrcGetProperty( propName, getterType ).withUserData( BINDINGS_KEY, name );
     addActualNameAnnotation( getter, name, true );
     if( member != null )
     {
@@ -1267,7 +1463,7 @@ class GqlParentType
     }
     srcClass.addGetProperty( getter ).modifiers( Modifier.PUBLIC );
 
-    SrcSetProperty setter = new SrcSetProperty( propName, setterType );
+    SrcSetProperty setter = new SrcSetProperty( propName, setterType ).withUserData( BINDINGS_KEY, name );
     addActualNameAnnotation( setter, name, true );
     if( member != null )
     {
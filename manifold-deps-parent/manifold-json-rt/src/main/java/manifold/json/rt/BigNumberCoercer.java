@@ -74,6 +74,13 @@ public class BigNumberCoercer implements IJsonFormatTypeCoercer
     return UNHANDLED;
   }
 
+  @Override
+  public boolean handles( Class<?> valueClass, Type type )
+  {
+    return (type == BigInteger.class || type == BigDecimal.class) && valueClass == String.class ||
+      (BigInteger.class.isAssignableFrom( valueClass ) || BigDecimal.class.isAssignableFrom( valueClass )) && type == String.class;
+  }
+
   @Override
   public Object toBindingValue( Object value )
   {
@@ -76,6 +76,13 @@ public class BinaryCoercer implements IJsonFormatTypeCoercer
     return UNHANDLED;
   }
 
+  @Override
+  public boolean handles( Class<?> valueClass, Type type )
+  {
+    return (type == OctetEncoding.class || type == Base64Encoding.class) && valueClass == String.class ||
+      (OctetEncoding.class.isAssignableFrom( valueClass ) || Base64Encoding.class.isAssignableFrom( valueClass )) && type == String.class;
+  }
+
   @Override
   public Object toBindingValue( Object value )
   {
@@ -19,7 +19,6 @@ package manifold.json.rt;
 import manifold.ext.rt.RuntimeMethods;
 import manifold.ext.rt.api.*;
 import manifold.rt.api.Bindings;
-import manifold.util.ReflectUtil;
 
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
@@ -45,26 +44,25 @@ public class BindingsCoercer implements ICoercionProvider
       return ICallHandler.UNHANDLED;
     }
 
-    Structural annotation = ifaceToProxy.getAnnotation( Structural.class );
-    if( annotation != null )
+    if( o instanceof Bindings && IBindingsBacked.class.isAssignableFrom( ifaceToProxy ) &&
+        ifaceToProxy.isAnnotationPresent( Structural.class ) )
     {
-      if( o instanceof Bindings && IBindingsBacked.class.isAssignableFrom( ifaceToProxy ) )
-      {
-        if( annotation.factoryClass() != Void.class )
-        {
-          IProxyFactory factory = (IProxyFactory)ReflectUtil.constructor( ifaceToProxy.getName() + "$ProxyFactory" ).newInstance();
-          //noinspection unchecked
-          return factory.proxy( o, ifaceToProxy );
-        }
-        else
-        {
-          return RuntimeMethods.constructProxy( o, ifaceToProxy );
-        }
-      }
+      // the proxy factory is cached per interface, including one declared in @Structural
+      return RuntimeMethods.constructProxy( o, ifaceToProxy );
     }
     return ICallHandler.UNHANDLED;
   }
 
+  @Override
+  public boolean handles( Class<?> valueClass, Type ifaceToProxyType )
+  {
+    Class<?> ifaceToProxy = ifaceToProxyType instanceof ParameterizedType
+      ? (Class)((ParameterizedType)ifaceToProxyType).getRawType()
+      : (Class)ifaceToProxyType;
+    return ifaceToProxy.isInterface() && Bindings.class.isAssignableFrom( valueClass ) &&
+      IBindingsBacked.class.isAssignableFrom( ifaceToProxy ) && ifaceToProxy.isAnnotationPresent( Structural.class );
+  }
+
   @Override
   public Object toBindingValue( Object value )
   {
@@ -156,6 +156,18 @@ public class DefaultCoercer implements IJsonFormatTypeCoercer
     return UNHANDLED;
   }
 
+  @Override
+  public boolean handles( Class<?> valueClass, Type type )
+  {
+    Class rawType = type instanceof ParameterizedType ? (Class)((ParameterizedType)type).getRawType() : (Class)type;
+    return rawType.isEnum() && IBindingType.class.isAssignableFrom( rawType ) ||
+      type == LocalDateTime.class || type == LocalDate.class || type == LocalTime.class || type == Instant.class ||
+      (type == Long.class || type == long.class) && (Number.class.isAssignableFrom( valueClass ) || valueClass == String.class) ||
+      type == String.class && (valueClass == LocalDateTime.class || valueClass == LocalDate.class ||
+        valueClass == LocalTime.class || valueClass == Long.class) ||
+      valueClass == Instant.class && (Number.class.isAssignableFrom( rawType ) || type == String.class);
+  }
+
   @Override
   public Object toBindingValue( Object value )
   {
@@ -24,6 +24,11 @@ import manifold.rt.api.util.Pair;
 import manifold.util.concurrent.LocklessLazyVar;
 
 import manifold.rt.api.ScriptException;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.math.BigInteger;
 import java.util.Iterator;
 import java.util.Map;
 
@@ -67,6 +72,8 @@ public class Json
       }
     };
 
+  private static final char[] HEX = "0123456789abcdef".toCharArray();
+
   /**
    * Serializes this Map instance to a JSON formatted String
    */
@@ -81,42 +88,65 @@ public class Json
    * Serializes this Map instance into a JSON formatted StringBuilder with the specified indent of spaces
    */
   public static void toJson( Map thisMap, StringBuilder sb, int indent )
+  {
+    try
+    {
+      mapToJson( sb, indent, thisMap, isNewLine( sb ) );
+    }
+    catch( IOException e )
+    {
+      // StringBuilder does not throw
+      throw new RuntimeException( e );
+    }
+  }
+
+  /**
+   * Serializes this Map instance as JSON to {@code target} with the specified indent of spaces. The JSON is written as
+   * it is made, {@code target} may be a {@link java.io.Writer} for a file or socket.
+   */
+  public static void toJson( Map thisMap, Appendable target, int indent ) throws IOException
+  {
+    mapToJson( target, indent, thisMap, false );
+  }
+
+  private static void mapToJson( Appendable target, int indent, Map thisMap, boolean newLine ) throws IOException
   {
     int iKey = 0;
-    if( isNewLine( sb ) )
+    if( newLine )
     {
-      indent( sb, indent );
+      indent( target, indent );
     }
-    sb.append( "{" );
+    target.append( '{' );
     if( !thisMap.isEmpty() )
     {
-      sb.append( "\n" );
+      target.append( '\n' );
       for( Object key : thisMap.keySet() )
       {
-        indent( sb, indent + 2 );
-        sb.append( '\"' ).append( key ).append( '\"' ).append( ": " );
+        indent( target, indent + 2 );
+        appendString( target, String.valueOf( key ) );
+        target.append( ": " );
         Object value = thisMap.get( key );
 
         value = toBindings( value );
 
         if( value instanceof Map )
         {
-          toJson( (Map)value, sb, indent + 2 );
+          mapToJson( target, indent + 2, (Map)value, false );
         }
         else if( value instanceof Iterable )
         {
-          listToJson( sb, indent + 2, (Iterable)value );
+          listToJson( target, indent + 2, (Iterable)value );
         }
         else
         {
-          appendValue( sb, value );
+          appendValue( target, value );
         }
-        appendCommaNewLine( sb, iKey < thisMap.size() - 1 );
+        appendCommaNewLine( target, iKey < thisMap.size() - 1 );
         iKey++;
       }
-      indent( sb, indent );
+      indent( target, indent );
     }
-    sb.append( "}" );
+    target.append( '}' );
   }
 
   public static Object toBindings( Object value )
@@ -142,13 +172,38 @@ public class Json
     }
   }
 
+  public static void indent( Appendable target, int indent ) throws IOException
+  {
+    int i = 0;
+    while( i < indent )
+    {
+      target.append( ' ' );
+      i++;
+    }
+  }
+
   public static StringBuilder appendValue( StringBuilder sb, Object comp )
+  {
+    try
+    {
+      appendValue( (Appendable)sb, comp );
+    }
+    catch( IOException e )
+    {
+      // StringBuilder does not throw
+      throw new RuntimeException( e );
+    }
+    return sb;
+  }
+
+  /**
+   * Writes the JSON text of a simple JSON value to {@code target}, strings are escaped as they are written.
+   */
+  public static void appendValue( Appendable target, Object comp ) throws IOException
   {
     if( comp instanceof String )
     {
-      sb.append( '\"' );
-      sb.append( ManEscapeUtil.escapeForJavaStringLiteral( (String)comp ) );
-      sb.append( '\"' );
+      appendString( target, (String)comp );
     }
     else if( comp instanceof Integer ||
       comp instanceof Long ||
@@ -157,19 +212,90 @@ public class Json
       comp instanceof Short ||
       comp instanceof Character ||
       comp instanceof Byte ||
-      comp instanceof Boolean )
+      comp instanceof Boolean ||
+      comp instanceof BigInteger ||
+      comp instanceof BigDecimal )
     {
-      sb.append( comp );
+      target.append( comp.toString() );
     }
     else if( comp == null )
     {
-      sb.append( "null" );
+      target.append( "null" );
     }
     else
     {
       throw new IllegalStateException( "Unsupported expando type: " + comp.getClass() );
     }
-    return sb;
+  }
+
+  /**
+   * Writes {@code value} as a quoted JSON string, escaping characters as {@link ManEscapeUtil#escapeForJavaStringLiteral}
+   * does. Runs of characters not needing escape are written directly from {@code value}.
+   */
+  private static void appendString( Appendable target, String value ) throws IOException
+  {
+    target.append( '"' );
+    int start = 0;
+    for( int i = 0, length = value.length(); i < length; i++ )
+    {
+      char c = value.charAt( i );
+      char escape;
+      switch( c )
+      {
+        case '\b':
+          escape = 'b';
+          break;
+        case '\f':
+          escape = 'f';
+          break;
+        case '\n':
+          escape = 'n';
+          break;
+        case '\r':
+          escape = 'r';
+          break;
+        case '\t':
+          escape = 't';
+          break;
+        case '"':
+        case '\\':
+          escape = c;
+          break;
+        default:
+          if( c >= ' ' && c <= '~' )
+          {
+            continue;
+          }
+          escape = 'u';
+      }
+      appendRange( target, value, start, i );
+      start = i + 1;
+      target.append( '\\' ).append( escape );
+      if( escape == 'u' )
+      {
+        target.append( HEX[(c >> 12) & 0xF] ).append( HEX[(c >> 8) & 0xF] )
+          .append( HEX[(c >> 4) & 0xF] ).append( HEX[c & 0xF] );
+      }
+    }
+    appendRange( target, value, start, value.length() );
+    target.append( '"' );
+  }
+
+  private static void appendRange( Appendable target, String value, int start, int end ) throws IOException
+  {
+    if( start == end )
+    {
+      return;
+    }
+    if( target instanceof Writer )
+    {
+      // Writer#append(CharSequence, int, int) copies the range to a new String
+      ((Writer)target).write( value, start, end - start );
+    }
+    else
+    {
+      target.append( value, start, end );
+    }
   }
 
   /**
@@ -197,6 +323,33 @@ public class Json
    * </lu>
    */
   public static void toJson( StringBuilder target, int margin, Object value )
+  {
+    try
+    {
+      toJson( target, margin, value, isNewLine( target ) );
+    }
+    catch( IOException e )
+    {
+      // StringBuilder does not throw
+      throw new RuntimeException( e );
+    }
+  }
+  /**
+   * Write JSON text to the specified {@code target} from the specified {@code value} with the provided left
+   * {@code margin}. The JSON is written as it is made, {@code target} may be a {@link java.io.Writer} for a file or
+   * socket. The {@code value} must be a valid JSON value:
+   * <lu>
+   *   <li>primitive, boxed primitive, {@code BigInteger}, {@code BigDecimal}, or {@code String}</li>
+   *   <li>{@code Iterable} of JSON values</li>
+   *   <li>{@code Map} of JSON values</li>
+   * </lu>
+   */
+  public static void toJson( Appendable target, int margin, Object value ) throws IOException
+  {
+    toJson( target, margin, value, false );
+  }
+
+  private static void toJson( Appendable target, int margin, Object value, boolean newLine ) throws IOException
   {
     value = toBindings( value );
 
@@ -209,7 +362,7 @@ public class Json
 
     if( value instanceof Map )
     {
-      toJson( ((Map)value), target, margin );
+      mapToJson( target, margin, (Map)value, newLine );
     }
     else if( value instanceof Iterable )
     {
@@ -228,36 +381,50 @@ public class Json
 
   public static void listToJson( StringBuilder sb, int indent, Iterable value )
   {
-    sb.append( '[' );
+    try
+    {
+      listToJson( (Appendable)sb, indent, value );
+    }
+    catch( IOException e )
+    {
+      // StringBuilder does not throw
+      throw new RuntimeException( e );
+    }
+  }
+
+  public static void listToJson( Appendable target, int indent, Iterable value ) throws IOException
+  {
+    target.append( '[' );
     int i = 0;
     for( Iterator iter = value.iterator(); iter.hasNext(); )
     {
       Object comp = iter.next();
       if( i == 0 )
       {
-        sb.append( "\n" );
+        target.append( '\n' );
       }
 
       comp = toBindings( comp );
 
       if( comp instanceof Map )
       {
-        toJson( (Map)comp, sb, indent + 2 );
+        // elements start on a new line
+        mapToJson( target, indent + 2, (Map)comp, true );
       }
       else if( comp instanceof Iterable )
       {
-        listToJson( sb, indent + 2, (Iterable)comp );
+        listToJson( target, indent + 2, (Iterable)comp );
       }
       else
       {
-        indent( sb, indent + 2 );
-        appendValue( sb, comp );
+        indent( target, indent + 2 );
+        appendValue( target, comp );
       }
-      appendCommaNewLine( sb, iter.hasNext() );
+      appendCommaNewLine( target, iter.hasNext() );
       i++;
     }
-    indent( sb, indent );
-    sb.append( "]" );
+    indent( target, indent );
+    target.append( ']' );
   }
 
   /**
@@ -271,13 +438,13 @@ public class Json
   }
 
 
-  private static void appendCommaNewLine( StringBuilder sb, boolean bComma )
+  private static void appendCommaNewLine( Appendable target, boolean bComma ) throws IOException
   {
     if( bComma )
     {
-      sb.append( ',' );
+      target.append( ',' );
     }
-    sb.append( "\n" );
+    target.append( '\n' );
   }
 
   /**
@@ -18,6 +18,8 @@ package manifold.json.rt;
 
 import manifold.json.rt.api.IJsonBindingsTranslator;
 
+import java.io.IOException;
+
 public class JsonBindingsTranslator implements IJsonBindingsTranslator
 {
   @Override
@@ -44,6 +46,18 @@ public class JsonBindingsTranslator implements IJsonBindingsTranslator
     Json.toJson( target, indent, bindingsValue );
   }
 
+  @Override
+  public void fromBindings( Object bindingsValue, Appendable target ) throws IOException
+  {
+    Json.toJson( target, 0, bindingsValue );
+  }
+
+  @Override
+  public void fromBindings( Object bindingsValue, String name, Appendable target, int indent ) throws IOException
+  {
+    Json.toJson( target, indent, bindingsValue );
+  }
+
   @Override
   public Object toBindings( String translation )
   {
@@ -0,0 +1,684 @@
+/*
+ * Copyright (c) 2025 - Manifold Systems LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package manifold.json.rt.api;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.AbstractCollection;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * The default store of {@link DataBindings}, an insertion-ordered map for the small objects typical of JSON documents
+ * and SQL rows. Values are held in an array parallel to the keys of a {@link Shape}, there are no entry objects. Maps
+ * adding the same keys in the same order share a shape, so the keys of, say, a million parsed rows are held once.
+ * <p/>
+ * Lookup is a linear scan of the shape's keys, by identity and then by hash code and equality. When the map grows past
+ * {@link #MAX_COMPACT} entries it moves its entries to a {@code LinkedHashMap} and delegates to it from then on.
+ * <p/>
+ * Keys must be non-null Strings, {@link DataBindings} checks them.
+ */
+final class CompactBindingsMap implements Map<String, Object>
+{
+  static final int MAX_COMPACT = 16;
+
+  private static final Object[] NO_VALUES = {};
+
+  private Shape _shape;
+  private Object[] _values;
+  // holds the entries after the map outgrows the compact form, null until then
+  private LinkedHashMap<String, Object> _large;
+
+  CompactBindingsMap()
+  {
+    this( 0 );
+  }
+
+  /**
+   * @param capacity The expected number of entries, at most {@link #MAX_COMPACT}
+   */
+  CompactBindingsMap( int capacity )
+  {
+    _shape = Shape.EMPTY;
+    _values = capacity == 0 ? NO_VALUES : new Object[capacity];
+  }
+
+  @Override
+  public int size()
+  {
+    return _large != null ? _large.size() : _shape._keys.length;
+  }
+
+  @Override
+  public boolean isEmpty()
+  {
+    return size() == 0;
+  }
+
+  @Override
+  public boolean containsKey( Object key )
+  {
+    return _large != null ? _large.containsKey( key ) : indexOf( key ) >= 0;
+  }
+
+  @Override
+  public boolean containsValue( Object value )
+  {
+    if( _large != null )
+    {
+      return _large.containsValue( value );
+    }
+    for( int i = 0, size = _shape._keys.length; i < size; i++ )
+    {
+      if( Objects.equals( value, _values[i] ) )
+      {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  @Override
+  public Object get( Object key )
+  {
+    if( _large != null )
+    {
+      return _large.get( key );
+    }
+    int index = indexOf( key );
+    return index < 0 ? null : _values[index];
+  }
+
+  @Override
+  public Object put( String key, Object value )
+  {
+    if( _large != null )
+    {
+      return _large.put( key, value );
+    }
+    int index = indexOf( key );
+    if( index >= 0 )
+    {
+      Object old = _values[index];
+      _values[index] = value;
+      return old;
+    }
+
+    int size = _shape._keys.length;
+    if( size == MAX_COMPACT )
+    {
+      upgrade();
+      return _large.put( key, value );
+    }
+    if( size == _values.length )
+    {
+      _values = Arrays.copyOf( _values, Math.min( MAX_COMPACT, Math.max( 4, size + (size >> 1) ) ) );
+    }
+    _shape = _shape.add( Objects.requireNonNull( key ) );
+    _values[size] = value;
+    return null;
+  }
+
+  @Override
+  public Object remove( Object key )
+  {
+    if( _large != null )
+    {
+      return _large.remove( key );
+    }
+    int index = indexOf( key );
+    if( index < 0 )
+    {
+      return null;
+    }
+    Object old = _values[index];
+    removeAt( index );
+    return old;
+  }
+
+  @Override
+  public void putAll( Map<? extends String, ?> m )
+  {
+    for( Map.Entry<? extends String, ?> entry: m.entrySet() )
+    {
+      put( entry.getKey(), entry.getValue() );
+    }
+  }
+
+  @Override
+  public void clear()
+  {
+    _large = null;
+    _shape = Shape.EMPTY;
+    _values = NO_VALUES;
+  }
+
+  @Override
+  public Set<String> keySet()
+  {
+    return new AbstractSet<String>()
+    {
+      @Override
+      public Iterator<String> iterator()
+      {
+        return _large != null ? _large.keySet().iterator() : new CompactIterator<String>()
+        {
+          @Override
+          String make( int index )
+          {
+            return _shape._keys[index];
+          }
+        };
+      }
+
+      @Override
+      public int size()
+      {
+        return CompactBindingsMap.this.size();
+      }
+
+      @Override
+      public boolean contains( Object o )
+      {
+        return containsKey( o );
+      }
+
+      @Override
+      public boolean remove( Object o )
+      {
+        if( containsKey( o ) )
+        {
+          CompactBindingsMap.this.remove( o );
+          return true;
+        }
+        return false;
+      }
+
+      @Override
+      public void clear()
+      {
+        CompactBindingsMap.this.clear();
+      }
+    };
+  }
+
+  @Override
+  public Collection<Object> values()
+  {
+    return new AbstractCollection<Object>()
+    {
+      @Override
+      public Iterator<Object> iterator()
+      {
+        return _large != null ? _large.values().iterator() : new CompactIterator<Object>()
+        {
+          @Override
+          Object make( int index )
+          {
+            return _values[index];
+          }
+        };
+      }
+
+      @Override
+      public int size()
+      {
+        return CompactBindingsMap.this.size();
+      }
+
+      @Override
+      public boolean contains( Object o )
+      {
+        return containsValue( o );
+      }
+
+      @Override
+      public void clear()
+      {
+        CompactBindingsMap.this.clear();
+      }
+    };
+  }
+
+  @Override
+  public Set<Map.Entry<String, Object>> entrySet()
+  {
+    return new AbstractSet<Map.Entry<String, Object>>()
+    {
+      @Override
+      public Iterator<Map.Entry<String, Object>> iterator()
+      {
+        return _large != null ? _large.entrySet().iterator() : new CompactIterator<Map.Entry<String, Object>>()
+        {
+          @Override
+          Map.Entry<String, Object> make( int index )
+          {
+            return new Entry( index );
+          }
+        };
+      }
+
+      @Override
+      public int size()
+      {
+        return CompactBindingsMap.this.size();
+      }
+
+      @Override
+      public void clear()
+      {
+        CompactBindingsMap.this.clear();
+      }
+    };
+  }
+
+  @Override
+  public boolean equals( Object o )
+  {
+    if( o == this )
+    {
+      return true;
+    }
+    if( _large != null )
+    {
+      return _large.equals( o );
+    }
+    if( !(o instanceof Map) )
+    {
+      return false;
+    }
+    Map<?, ?> that = (Map<?, ?>)o;
+    String[] keys = _shape._keys;
+    if( that.size() != keys.length )
+    {
+      return false;
+    }
+    for( int i = 0; i < keys.length; i++ )
+    {
+      Object value = _values[i];
+      if( value == null
+          ? that.get( keys[i] ) != null || !that.containsKey( keys[i] )
+          : !value.equals( that.get( keys[i] ) ) )
+      {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  @Override
+  public int hashCode()
+  {
+    if( _large != null )
+    {
+      return _large.hashCode();
+    }
+    // same as Map.Entry#hashCode() summed, as AbstractMap does
+    int hash = 0;
+    String[] keys = _shape._keys;
+    for( int i = 0; i < keys.length; i++ )
+    {
+      hash += keys[i].hashCode() ^ Objects.hashCode( _values[i] );
+    }
+    return hash;
+  }
+
+  @Override
+  public String toString()
+  {
+    if( _large != null )
+    {
+      return _large.toString();
+    }
+    StringBuilder sb = new StringBuilder( "{" );
+    String[] keys = _shape._keys;
+    for( int i = 0; i < keys.length; i++ )
+    {
+      if( i > 0 )
+      {
+        sb.append( ", " );
+      }
+      Object value = _values[i];
+      sb.append( keys[i] ).append( '=' ).append( value == this ? "(this Map)" : value );
+    }
+    return sb.append( '}' ).toString();
+  }
+
+  private int indexOf( Object key )
+  {
+    if( !(key instanceof String) )
+    {
+      return -1;
+    }
+    String[] keys = _shape._keys;
+    // shared shapes intern their keys, literals in generated code match by identity
+    for( int i = 0; i < keys.length; i++ )
+    {
+      if( keys[i] == key )
+      {
+        return i;
+      }
+    }
+    int hash = key.hashCode();
+    int[] hashes = _shape._hashes;
+    for( int i = 0; i < keys.length; i++ )
+    {
+      if( hashes[i] == hash && keys[i].equals( key ) )
+      {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  private void removeAt( int index )
+  {
+    String[] keys = _shape._keys;
+    Shape shape = Shape.EMPTY;
+    for( int i = 0; i < keys.length; i++ )
+    {
+      if( i != index )
+      {
+        shape = shape.add( keys[i] );
+      }
+    }
+    System.arraycopy( _values, index + 1, _values, index, keys.length - index - 1 );
+    _values[keys.length - 1] = null;
+    _shape = shape;
+  }
+
+  private void upgrade()
+  {
+    String[] keys = _shape._keys;
+    LinkedHashMap<String, Object> large = new LinkedHashMap<>( MAX_COMPACT * 4 );
+    for( int i = 0; i < keys.length; i++ )
+    {
+      large.put( keys[i], _values[i] );
+    }
+    _large = large;
+    _shape = Shape.EMPTY;
+    _values = NO_VALUES;
+  }
+
+  private abstract class CompactIterator<E> implements Iterator<E>
+  {
+    private Shape _expected = _shape;
+    private int _next;
+    private int _last = -1;
+
+    @Override
+    public boolean hasNext()
+    {
+      return _next < _expected._keys.length;
+    }
+
+    @Override
+    public E next()
+    {
+      checkModified();
+      if( !hasNext() )
+      {
+        throw new NoSuchElementException();
+      }
+      _last = _next++;
+      return make( _last );
+    }
+
+    @Override
+    public void remove()
+    {
+      if( _last < 0 )
+      {
+        throw new IllegalStateException();
+      }
+      checkModified();
+      removeAt( _last );
+      _expected = _shape;
+      _next = _last;
+      _last = -1;
+    }
+
+    abstract E make( int index );
+
+    private void checkModified()
+    {
+      if( _shape != _expected || _large != null )
+      {
+        throw new ConcurrentModificationException();
+      }
+    }
+  }
+
+  /**
+   * An entry is bound to its key, not to its index, since removing an entry shifts the entries after it
+   */
+  private final class Entry implements Map.Entry<String, Object>
+  {
+    private final String _key;
+    private int _index;
+
+    private Entry( int index )
+    {
+      _index = index;
+      _key = _shape._keys[index];
+    }
+
+    @Override
+    public String getKey()
+    {
+      return _key;
+    }
+
+    @Override
+    public Object getValue()
+    {
+      if( _large != null )
+      {
+        return _large.get( _key );
+      }
+      int index = index();
+      return index < 0 ? null : _values[index];
+    }
+
+    /**
+     * @throws IllegalStateException if the entry's key was removed from the map
+     */
+    @Override
+    public Object setValue( Object value )
+    {
+      if( _large != null && _large.containsKey( _key ) )
+      {
+        return _large.put( _key, value );
+      }
+      int index = _large == null ? index() : -1;
+      if( index < 0 )
+      {
+        throw new IllegalStateException( "Entry removed: " + _key );
+      }
+      Object old = _values[index];
+      _values[index] = value;
+      return old;
+    }
+
+    /**
+     * @return The key's index or -1 if the key was removed
+     */
+    private int index()
+    {
+      String[] keys = _shape._keys;
+      if( _index >= keys.length || keys[_index] != _key )
+      {
+        _index = indexOf( _key );
+      }
+      return _index;
+    }
+
+    @Override
+    public boolean equals( Object o )
+    {
+      if( !(o instanceof Map.Entry) )
+      {
+        return false;
+      }
+      Map.Entry<?, ?> that = (Map.Entry<?, ?>)o;
+      return _key.equals( that.getKey() ) && Objects.equals( getValue(), that.getValue() );
+    }
+
+    @Override
+    public int hashCode()
+    {
+      return _key.hashCode() ^ Objects.hashCode( getValue() );
+    }
+
+    @Override
+    public String toString()
+    {
+      return _key + "=" + getValue();
+    }
+  }
+
+  /**
+   * The keys of a map in insertion order. Shapes form a tree rooted at {@link #EMPTY}, each shape caching the shapes
+   * extending it by one key, so maps adding the same keys in the same order share shapes. The cache is bounded, keys
+   * from data such as ids or map-like objects make unshared shapes once a shape has {@link #MAX_TRANSITIONS} or the
+   * tree has {@link #MAX_SHAPES}.
+   * <p/>
+   * A shape references its parent, but its transitions only weakly, so the tree holds just the shapes of live maps
+   * and their ancestors. The transitions of collected shapes are removed and no longer count toward the bounds.
+   */
+  private static final class Shape
+  {
+    private static final int MAX_TRANSITIONS = 8;
+    private static final int MAX_SHAPES = 4096;
+    private static final AtomicInteger SHAPES = new AtomicInteger();
+    private static final ReferenceQueue<Shape> COLLECTED = new ReferenceQueue<>();
+
+    static final Shape EMPTY = new Shape( new String[0], new int[0], true );
+
+    private final String[] _keys;
+    private final int[] _hashes;
+    private final boolean _shared;
+    // keeps the ancestors of a shared shape, and thus its transition, reachable
+    private final Shape _parent;
+    private volatile ConcurrentHashMap<String, Transition> _transitions;
+
+    private Shape( String[] keys, int[] hashes, boolean shared )
+    {
+      _keys = keys;
+      _hashes = hashes;
+      _shared = shared;
+      _parent = null;
+    }
+
+    private Shape( Shape parent, String key, boolean shared )
+    {
+      int size = parent._keys.length;
+      _keys = Arrays.copyOf( parent._keys, size + 1 );
+      _keys[size] = key;
+      _hashes = Arrays.copyOf( parent._hashes, size + 1 );
+      _hashes[size] = key.hashCode();
+      _shared = shared;
+      _parent = shared ? parent : null;
+    }
+
+    Shape add( String key )
+    {
+      if( !_shared )
+      {
+        return new Shape( this, key, false );
+      }
+
+      ConcurrentHashMap<String, Transition> transitions = _transitions;
+      if( transitions == null )
+      {
+        synchronized( this )
+        {
+          transitions = _transitions;
+          if( transitions == null )
+          {
+            _transitions = transitions = new ConcurrentHashMap<>( 4 );
+          }
+        }
+      }
+      while( true )
+      {
+        Transition transition = transitions.get( key );
+        Shape shape = transition == null ? null : transition.get();
+        if( shape != null )
+        {
+          return shape;
+        }
+
+        removeCollected();
+        if( transition == null && (transitions.size() >= MAX_TRANSITIONS || SHAPES.get() >= MAX_SHAPES) )
+        {
+          return new Shape( this, key, false );
+        }
+        shape = new Shape( this, key.intern(), true );
+        String internedKey = shape._keys[_keys.length];
+        // a collected shape's transition is replaced, it keeps counting as one shape
+        if( transition == null
+            ? transitions.putIfAbsent( internedKey, new Transition( shape, this, internedKey ) ) == null
+            : transitions.replace( internedKey, transition, new Transition( shape, this, internedKey ) ) )
+        {
+          if( transition == null )
+          {
+            SHAPES.incrementAndGet();
+          }
+          return shape;
+        }
+        // another thread added the key first
+      }
+    }
+
+    private static void removeCollected()
+    {
+      for( Reference<? extends Shape> ref; (ref = COLLECTED.poll()) != null; )
+      {
+        Transition transition = (Transition)ref;
+        if( transition._parent._transitions.remove( transition._key, transition ) )
+        {
+          SHAPES.decrementAndGet();
+        }
+      }
+    }
+  }
+
+  private static final class Transition extends WeakReference<Shape>
+  {
+    private final Shape _parent;
+    private final String _key;
+
+    Transition( Shape shape, Shape parent, String key )
+    {
+      super( shape, Shape.COLLECTED );
+      _parent = parent;
+      _key = key;
+    }
+  }
+}
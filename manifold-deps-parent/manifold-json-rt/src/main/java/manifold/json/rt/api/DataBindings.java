@@ -18,10 +18,10 @@ package manifold.json.rt.api;
 
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 
 import manifold.ext.rt.api.IBindingsBacked;
 import manifold.rt.api.Bindings;
-import manifold.util.concurrent.LockingLazyVar;
 
 /**
  * A simple name/value bindings impl.
@@ -30,15 +30,18 @@ public class DataBindings implements Bindings
 {
   public static final DataBindings EMPTY_BINDINGS = new DataBindings( Collections.emptyMap() );
 
+  private static final AtomicReferenceFieldUpdater<DataBindings, Bindings> METADATA =
+    AtomicReferenceFieldUpdater.newUpdater( DataBindings.class, Bindings.class, "_metadata" );
+
   /**
    * Stores name/value bindings.
    */
   private Map<String, Object> _map;
 
   /**
-   * For adding metadata about this bindings
+   * For adding metadata about this bindings, made on first use
    */
-  private LockingLazyVar<Bindings> _metadata = LockingLazyVar.make( () -> new DataBindings( new ConcurrentHashMap<>() ) );
+  private volatile Bindings _metadata;
 
   /**
    * Uses provided {@code Map} to store bindings.
@@ -57,27 +60,34 @@ public class DataBindings implements Bindings
   }
 
   /**
-   * Default constructor uses a {@code LinkedHashMap} to maintain the insert order of entries.
+   * Default constructor maintains the insert order of entries. Small bindings, such as most JSON objects and SQL rows,
+   * are stored compactly in arrays, larger bindings in a {@code LinkedHashMap}.
    */
   public DataBindings()
   {
-    this( new LinkedHashMap<>() );
+    this( new CompactBindingsMap() );
   }
 
   /**
-   * Construct with initial size. Uses a {@code LinkedHashMap} to maintain the nature order of entries.
+   * Construct with initial size. Maintains the insert order of entries, see {@link #DataBindings()}.
    *
    * @param size the initial size of the bindings
    */
   public DataBindings( int size )
   {
-    this( new LinkedHashMap<>( size ) );
+    this( size <= CompactBindingsMap.MAX_COMPACT ? new CompactBindingsMap( size ) : new LinkedHashMap<>( size ) );
   }
 
   @Override
   public Bindings getMetadata()
   {
-    return _metadata.get();
+    Bindings metadata = _metadata;
+    if( metadata == null )
+    {
+      METADATA.compareAndSet( this, null, new DataBindings( new ConcurrentHashMap<>() ) );
+      metadata = _metadata;
+    }
+    return metadata;
   }
 
   /**
@@ -19,6 +19,7 @@ package manifold.json.rt.api;
 import manifold.rt.api.util.ServiceUtil;
 import manifold.util.concurrent.LocklessLazyVar;
 
+import java.io.IOException;
 import java.util.HashSet;
 import java.util.Set;
 
@@ -50,6 +51,28 @@ public interface IJsonBindingsTranslator
   void fromBindings( Object bindingsValue, StringBuilder target );
   void fromBindings( Object bindingsValue, String name, StringBuilder target, int indent );
 
+  /**
+   * Writes the same translation as {@link #fromBindings(Object)} to {@code target} as it is made, {@code target} may
+   * be a {@link java.io.Writer} for a file or socket. Translators should override this to avoid the default, which
+   * makes the translation as a String first.
+   */
+  default void fromBindings( Object bindingsValue, Appendable target ) throws IOException
+  {
+    target.append( fromBindings( bindingsValue ) );
+  }
+
+  /**
+   * Writes the same translation as {@link #fromBindings(Object, String, StringBuilder, int)} to {@code target} as it
+   * is made. Translators should override this to avoid the default, which makes the translation in a StringBuilder
+   * first.
+   */
+  default void fromBindings( Object bindingsValue, String name, Appendable target, int indent ) throws IOException
+  {
+    StringBuilder sb = new StringBuilder();
+    fromBindings( bindingsValue, name, sb, indent );
+    target.append( sb );
+  }
+
   Object toBindings( String translation );
   Object toBindings( String translation, boolean withTokens );
   Object toBindings( String translation, boolean withBigNumbers, boolean withTokens );
@@ -16,11 +16,15 @@
 
 package manifold.json.rt.api;
 
+import java.io.InputStream;
 import java.io.Reader;
 import java.util.Arrays;
+import java.util.stream.Stream;
 
 import manifold.json.rt.Json;
 import manifold.json.rt.extensions.java.net.URL.ManUrlExt;
+import manifold.json.rt.parser.JsonStreamParser;
+import manifold.json.rt.parser.SchemaParser;
 import manifold.rt.api.util.StreamUtil;
 
 /**
@@ -34,6 +38,22 @@ import manifold.rt.api.util.StreamUtil;
  */
 public class Loader<E>
 {
+  private final SchemaParser _schema;
+
+  public Loader()
+  {
+    this( SchemaParser.ANY );
+  }
+
+  /**
+   * @param schema The schema of {@code E}, used by {@link #fromJsonStrict(String)}. JSON types make a loader with their
+   *               schema from their {@code loadStrict()} method.
+   */
+  public Loader( SchemaParser schema )
+  {
+    _schema = schema;
+  }
+
   public E fromJson( String jsonText )
   {
     return (E)Json.fromJson( jsonText );
@@ -90,6 +110,54 @@ public class Loader<E>
     }
   }
 
+  /**
+   * Parses JSON text directly against the schema of {@code E} instead of parsing generic bindings first, see
+   * {@link SchemaParser}. Values are checked against their declared types and numbers are made as the declared type.
+   * Properties {@code E} does not declare are skipped, unless its schema declares {@code additionalProperties}. A loader
+   * made without a schema parses any value.
+   */
+  public E fromJsonStrict( String jsonText )
+  {
+    try
+    {
+      return (E)_schema.parse( jsonText );
+    }
+    catch( Exception e )
+    {
+      throw new RuntimeException( e );
+    }
+  }
+
+  public E fromJsonStrictReader( Reader reader )
+  {
+    try
+    {
+      return (E)_schema.parse( reader );
+    }
+    catch( Exception e )
+    {
+      throw new RuntimeException( e );
+    }
+  }
+
+  /**
+   * Streams instances read from UTF-8 encoded JSON text without loading the whole text. If the text is an array its
+   * elements are streamed, otherwise each top-level value is streamed, such as each line of NDJSON. Memory is bounded by
+   * the size of a single element. Closing the stream closes {@code in}.
+   */
+  public Stream<E> streamJson( InputStream in )
+  {
+    return (Stream<E>)new JsonStreamParser( in, false ).streamValues();
+  }
+
+  /**
+   * Same as {@link #streamJson(InputStream)}, reading from {@code reader}.
+   */
+  public Stream<E> streamJsonReader( Reader reader )
+  {
+    return (Stream<E>)new JsonStreamParser( reader, false ).streamValues();
+  }
+
 
   //
   // YAML methods
@@ -18,12 +18,21 @@ package manifold.json.rt.api;
 
 import manifold.json.rt.Json;
 
+import java.io.BufferedWriter;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.function.Consumer;
 import manifold.rt.api.Bindings;
 
 /**
  * This class is used as part of the JSON API. It defines methods to write this JSON object
  * in various forms of formatted text including JSON, YAML, CSV, and XML.
+ * <p/>
+ * The {@link Appendable} and {@link OutputStream} methods write the text as it is made, without building it in memory,
+ * so large values can be written directly to a file or socket. Streams are written UTF-8 encoded and flushed, but not
+ * closed.
  */
 public class Writer
 {
@@ -55,13 +64,17 @@ public class Writer
   {
     try
     {
-      target.append( Json.toJson( _value ) );
+      Json.toJson( target, 0, _value );
     }
     catch( IOException e )
     {
       throw new RuntimeException( e );
     }
   }
+  public void toJson( OutputStream target )
+  {
+    write( target, this::toJson );
+  }
 
   /**
    * Serializes this instance to a YAML formatted String
@@ -79,13 +92,18 @@ public class Writer
   {
     try
     {
-      target.append( toYaml() );
+      IJsonBindingsTranslator yaml = IJsonBindingsTranslator.get( "YAML" );
+      yaml.fromBindings( _value, target );
     }
     catch( IOException e )
     {
       throw new RuntimeException( e );
     }
   }
+  public void toYaml( OutputStream target )
+  {
+    write( target, this::toYaml );
+  }
 
   /**
    * Serializes this instance to an XML formatted String
@@ -102,13 +120,17 @@ public class Writer
     try
     {
       IJsonBindingsTranslator xml = IJsonBindingsTranslator.get( "XML" );
-      target.append( xml.fromBindings( _value ) );
+      xml.fromBindings( _value, target );
     }
     catch( IOException e )
     {
       throw new RuntimeException( e );
     }
   }
+  public void toXml( OutputStream target )
+  {
+    write( target, this::toXml );
+  }
 
   /**
    * Serializes this instance to an XML formatted String
@@ -140,13 +162,17 @@ public class Writer
     try
     {
       IJsonBindingsTranslator csv = IJsonBindingsTranslator.get( "CSV" );
-      target.append( csv.fromBindings( _value ) );
+      csv.fromBindings( _value, target );
     }
     catch( IOException e )
     {
       throw new RuntimeException( e );
     }
   }
+  public void toCsv( OutputStream target )
+  {
+    write( target, this::toCsv );
+  }
 
   /**
    * Serializes this instance to a CSV formatted String
@@ -162,4 +188,18 @@ public class Writer
     csv.fromBindings( _value, name, sb, 0 );
     return sb.toString();
   }
+
+  private static void write( OutputStream target, Consumer<Appendable> write )
+  {
+    java.io.Writer writer = new BufferedWriter( new OutputStreamWriter( target, StandardCharsets.UTF_8 ) );
+    write.accept( writer );
+    try
+    {
+      writer.flush();
+    }
+    catch( IOException e )
+    {
+      throw new RuntimeException( e );
+    }
+  }
 }
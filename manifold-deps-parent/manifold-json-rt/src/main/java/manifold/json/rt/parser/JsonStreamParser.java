@@ -0,0 +1,396 @@
+/*
+ * Copyright (c) 2025 - Manifold Systems LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package manifold.json.rt.parser;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+import manifold.rt.api.ScriptException;
+
+/**
+ * A pull parser reading JSON text from a {@link Reader} or {@link InputStream} one {@link JsonEvent} at a time, for
+ * documents too large to parse with {@link DefaultParser}. Text is read in bulk as events are pulled, only the current
+ * token and the nesting of the enclosing objects and arrays are held in memory.
+ * <p/>
+ * {@link #readValue()} reads the value whose first event was just returned as a whole, in the same form as
+ * {@link DefaultParser}: objects as {@code DataBindings}, arrays as {@code JsonList}. {@link #streamValues()} uses it
+ * to stream the elements of a top-level array, or a sequence of top-level values such as NDJSON.
+ * <p/>
+ * The text may contain any number of top-level values separated by whitespace. Parse errors are reported as a
+ * {@link ScriptException} and end parsing.
+ */
+public final class JsonStreamParser implements Closeable
+{
+  // object or array whose '{' or '[' is the current token, it is consumed by the next event or read by readValue()
+  private static final int OBJECT_OPEN = 0;
+  private static final int OBJECT_FIRST = 1;
+  // after a key, expecting its value
+  private static final int OBJECT_VALUE = 2;
+  private static final int OBJECT_NEXT = 3;
+  private static final int ARRAY_OPEN = 4;
+  private static final int ARRAY_FIRST = 5;
+  private static final int ARRAY_NEXT = 6;
+
+  private final Reader _reader;
+  private final Tokenizer _tokenizer;
+  private final boolean _useBig;
+  private TokenType _type;
+  private int[] _stack;
+  private int _depth;
+  private JsonEvent _event;
+  private String _string;
+  private Object _value;
+
+  /**
+   * @param in UTF-8 encoded JSON text
+   * @param withBigNumbers Parse decimal numbers as BigDecimals and integers and BigIntegers,
+   *                       otherwise they are Double and Integer.
+   */
+  public JsonStreamParser( InputStream in, boolean withBigNumbers )
+  {
+    this( new InputStreamReader( in, StandardCharsets.UTF_8 ), withBigNumbers );
+  }
+
+  /**
+   * @param reader JSON text
+   * @param withBigNumbers Parse decimal numbers as BigDecimals and integers and BigIntegers,
+   *                       otherwise they are Double and Integer.
+   */
+  public JsonStreamParser( Reader reader, boolean withBigNumbers )
+  {
+    _reader = reader;
+    _tokenizer = new Tokenizer( reader );
+    _useBig = withBigNumbers;
+    _stack = new int[16];
+    _type = _tokenizer.next();
+  }
+
+  /**
+   * Advances to the next event. After {@link JsonEvent#END_DOCUMENT} is returned it is returned again.
+   *
+   * @throws ScriptException for parse errors
+   */
+  public JsonEvent nextEvent() throws ScriptException
+  {
+    _string = null;
+    _value = null;
+    return _event = parseEvent();
+  }
+
+  /**
+   * @return The last event returned by {@link #nextEvent()}, or null if none has been returned
+   */
+  public JsonEvent getEvent()
+  {
+    return _event;
+  }
+
+  /**
+   * @return The name of a {@link JsonEvent#KEY_NAME}, or the text of a {@link JsonEvent#VALUE_STRING} or
+   * {@link JsonEvent#VALUE_NUMBER}, otherwise null
+   */
+  public String getString()
+  {
+    return _string;
+  }
+
+  /**
+   * Reads the value started by the last event: the whole object or array for {@link JsonEvent#START_OBJECT} and
+   * {@link JsonEvent#START_ARRAY}, or the value of a {@code VALUE_*} event. After an object or array is read the parser
+   * is positioned as if its {@link JsonEvent#END_OBJECT} or {@link JsonEvent#END_ARRAY} was returned.
+   *
+   * @return A JSON value (boxed type, String, List of JSON values, or Bindings of String/JSON value)
+   * @throws ScriptException for parse errors
+   * @throws IllegalStateException if the last event does not start a value
+   */
+  public Object readValue() throws ScriptException
+  {
+    if( _event == null )
+    {
+      throw new IllegalStateException( "No value starts before the first event" );
+    }
+    switch( _event )
+    {
+      case START_OBJECT:
+      case START_ARRAY:
+        // the frame pushed for the '{' or '[' is replaced by the parser
+        _depth--;
+        SimpleParserImpl parser = new SimpleParserImpl( _tokenizer, _type, _useBig );
+        Object value = parser.parse();
+        List<String> errors = parser.getErrors();
+        if( !errors.isEmpty() )
+        {
+          throw new ScriptException( errors.get( 0 ) );
+        }
+        _type = parser.getType();
+        _event = _event == JsonEvent.START_OBJECT ? JsonEvent.END_OBJECT : JsonEvent.END_ARRAY;
+        return value;
+      case VALUE_STRING:
+      case VALUE_NUMBER:
+      case VALUE_TRUE:
+      case VALUE_FALSE:
+      case VALUE_NULL:
+        return _value;
+      default:
+        throw new IllegalStateException( "No value starts at " + _event );
+    }
+  }
+
+  /**
+   * Streams the values of the text. If the text starts with an array its elements are streamed, otherwise each
+   * top-level value is streamed, such as each line of NDJSON. Values are read with {@link #readValue()} as the stream
+   * is consumed, parse errors are thrown as a {@link RuntimeException}. Closing the stream closes this parser.
+   */
+  public Stream<Object> streamValues()
+  {
+    return StreamSupport.stream( Spliterators.spliteratorUnknownSize( new ValueIterator(), Spliterator.ORDERED ), false )
+      .onClose( () -> {
+        try
+        {
+          close();
+        }
+        catch( IOException e )
+        {
+          throw new UncheckedIOException( e );
+        }
+      } );
+  }
+
+  @Override
+  public void close() throws IOException
+  {
+    _reader.close();
+  }
+
+  private JsonEvent parseEvent() throws ScriptException
+  {
+    if( _depth == 0 )
+    {
+      return _type == TokenType.EOF ? JsonEvent.END_DOCUMENT : startValue();
+    }
+    switch( _stack[_depth - 1] )
+    {
+      case OBJECT_OPEN:
+        advance();
+        // fall through
+      case OBJECT_FIRST:
+        if( _type == TokenType.RCURLY )
+        {
+          return end( JsonEvent.END_OBJECT );
+        }
+        return key();
+      case OBJECT_NEXT:
+        if( _type == TokenType.RCURLY )
+        {
+          return end( JsonEvent.END_OBJECT );
+        }
+        check( TokenType.COMMA, "," );
+        return key();
+      case OBJECT_VALUE:
+        _stack[_depth - 1] = OBJECT_NEXT;
+        return startValue();
+      case ARRAY_OPEN:
+        advance();
+        // fall through
+      case ARRAY_FIRST:
+        if( _type == TokenType.RSQUARE )
+        {
+          return end( JsonEvent.END_ARRAY );
+        }
+        _stack[_depth - 1] = ARRAY_NEXT;
+        return startValue();
+      case ARRAY_NEXT:
+        if( _type == TokenType.RSQUARE )
+        {
+          return end( JsonEvent.END_ARRAY );
+        }
+        check( TokenType.COMMA, "," );
+        return startValue();
+      default:
+        throw new IllegalStateException();
+    }
+  }
+
+  // member = string ":" value.
+  private JsonEvent key() throws ScriptException
+  {
+    if( _type != TokenType.STRING )
+    {
+      throw expecting( "a string" );
+    }
+    _string = _tokenizer.getString();
+    advance();
+    check( TokenType.COLON, ":" );
+    _stack[_depth - 1] = OBJECT_VALUE;
+    return JsonEvent.KEY_NAME;
+  }
+
+  // value = object | array | number | string | "true" | "false" | "null" .
+  private JsonEvent startValue() throws ScriptException
+  {
+    JsonEvent event;
+    switch( _type )
+    {
+      case LCURLY:
+        push( OBJECT_OPEN );
+        return JsonEvent.START_OBJECT;
+      case LSQUARE:
+        push( ARRAY_OPEN );
+        return JsonEvent.START_ARRAY;
+      case STRING:
+        _string = _tokenizer.getString();
+        _value = _string;
+        event = JsonEvent.VALUE_STRING;
+        break;
+      case INTEGER:
+        _string = _tokenizer.getString();
+        _value = SimpleParserImpl.makeInteger( _string, _useBig );
+        event = JsonEvent.VALUE_NUMBER;
+        break;
+      case DOUBLE:
+        _string = _tokenizer.getString();
+        _value = SimpleParserImpl.makeDouble( _string, _useBig );
+        event = JsonEvent.VALUE_NUMBER;
+        break;
+      case TRUE:
+        _value = true;
+        event = JsonEvent.VALUE_TRUE;
+        break;
+      case FALSE:
+        _value = false;
+        event = JsonEvent.VALUE_FALSE;
+        break;
+      case NULL:
+        event = JsonEvent.VALUE_NULL;
+        break;
+      default:
+        throw new ScriptException( "[" + _tokenizer.getLineNumber() + ":" + _tokenizer.getColumn() + "] Unexpected token '" + _tokenizer.getString() + "'" );
+    }
+    advance();
+    return event;
+  }
+
+  private JsonEvent end( JsonEvent event )
+  {
+    _depth--;
+    advance();
+    return event;
+  }
+
+  private void push( int state )
+  {
+    if( _depth == _stack.length )
+    {
+      _stack = Arrays.copyOf( _stack, _depth * 2 );
+    }
+    _stack[_depth++] = state;
+  }
+
+  private void advance()
+  {
+    _type = _tokenizer.next();
+  }
+
+  private void check( TokenType type, String s ) throws ScriptException
+  {
+    if( _type != type )
+    {
+      throw expecting( s );
+    }
+    advance();
+  }
+
+  private ScriptException expecting( String s )
+  {
+    return new ScriptException( "[" + _tokenizer.getLineNumber() + ":" + _tokenizer.getColumn() + "] expecting '" + s + "', found '" + _tokenizer.getString() + "'" );
+  }
+
+  private class ValueIterator implements Iterator<Object>
+  {
+    private boolean _started;
+    private boolean _inArray;
+    // the event starting the next value, null if it is not pulled yet
+    private JsonEvent _next;
+
+    @Override
+    public boolean hasNext()
+    {
+      if( _next == null )
+      {
+        try
+        {
+          _next = nextValueEvent();
+        }
+        catch( ScriptException e )
+        {
+          throw new RuntimeException( e );
+        }
+      }
+      return _next != JsonEvent.END_DOCUMENT;
+    }
+
+    @Override
+    public Object next()
+    {
+      if( !hasNext() )
+      {
+        throw new NoSuchElementException();
+      }
+      _next = null;
+      try
+      {
+        return readValue();
+      }
+      catch( ScriptException e )
+      {
+        throw new RuntimeException( e );
+      }
+    }
+
+    private JsonEvent nextValueEvent() throws ScriptException
+    {
+      JsonEvent event = nextEvent();
+      if( !_started )
+      {
+        _started = true;
+        if( event == JsonEvent.START_ARRAY )
+        {
+          _inArray = true;
+          event = nextEvent();
+        }
+      }
+      if( _inArray && event == JsonEvent.END_ARRAY )
+      {
+        _inArray = false;
+        event = nextEvent();
+      }
+      return event;
+    }
+  }
+}
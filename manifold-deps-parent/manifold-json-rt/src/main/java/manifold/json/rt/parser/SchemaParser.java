@@ -0,0 +1,348 @@
+/*
+ * Copyright (c) 2025 - Manifold Systems LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package manifold.json.rt.parser;
+
+import java.io.Reader;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+import manifold.json.rt.api.DataBindings;
+import manifold.json.rt.api.JsonList;
+import manifold.rt.api.ScriptException;
+
+/**
+ * Parses JSON text directly against the schema of a JSON type, instead of parsing generic bindings that are coerced
+ * as they are read. JSON types generate their schema parser from their properties, see {@code Loader#fromJsonStrict}.
+ * <p/>
+ * The result has the same form as {@link DefaultParser}'s, objects as {@code DataBindings} and arrays as
+ * {@code JsonList}, where:
+ * <ul>
+ *   <li>values are checked against the declared types while parsing, {@code null} is accepted for any type</li>
+ *   <li>numbers are made as the declared type e.g., {@code Long} for an {@code int64} property</li>
+ *   <li>property names are the schema's strings, parsed names are not retained</li>
+ *   <li>properties the schema does not declare are skipped without making their values, unless the object schema
+ *   allows additional properties</li>
+ * </ul>
+ */
+public abstract class SchemaParser
+{
+  /**
+   * Any JSON value, as parsed by {@link DefaultParser}.
+   */
+  public static final SchemaParser ANY = new SchemaParser()
+  {
+    @Override
+    Object parseValue( SchemaParserImpl p ) throws ScriptException
+    {
+      return p.parseAny();
+    }
+  };
+
+  public static final SchemaParser STRING = new SchemaParser()
+  {
+    @Override
+    Object parseValue( SchemaParserImpl p ) throws ScriptException
+    {
+      if( p.getType() != TokenType.STRING )
+      {
+        return parseNull( p, "a string" );
+      }
+      String value = p.getString();
+      p.advance();
+      return value;
+    }
+  };
+
+  public static final SchemaParser BOOLEAN = new SchemaParser()
+  {
+    @Override
+    Object parseValue( SchemaParserImpl p ) throws ScriptException
+    {
+      Boolean value;
+      switch( p.getType() )
+      {
+        case TRUE:
+          value = true;
+          break;
+        case FALSE:
+          value = false;
+          break;
+        default:
+          return parseNull( p, "a boolean" );
+      }
+      p.advance();
+      return value;
+    }
+  };
+
+  public static final SchemaParser INTEGER = new SchemaParser()
+  {
+    @Override
+    Object parseValue( SchemaParserImpl p ) throws ScriptException
+    {
+      if( p.getType() != TokenType.INTEGER )
+      {
+        return parseNull( p, "an integer" );
+      }
+      Object value;
+      try
+      {
+        value = Integer.parseInt( p.getString() );
+      }
+      catch( NumberFormatException e )
+      {
+        // overflow, keep the value as the untyped parser does
+        value = SimpleParserImpl.makeInteger( p.getString(), false );
+      }
+      p.advance();
+      return value;
+    }
+  };
+
+  public static final SchemaParser LONG = new SchemaParser()
+  {
+    @Override
+    Object parseValue( SchemaParserImpl p ) throws ScriptException
+    {
+      if( p.getType() != TokenType.INTEGER )
+      {
+        return parseNull( p, "an integer" );
+      }
+      Object value;
+      try
+      {
+        value = Long.parseLong( p.getString() );
+      }
+      catch( NumberFormatException e )
+      {
+        value = SimpleParserImpl.makeInteger( p.getString(), true );
+      }
+      p.advance();
+      return value;
+    }
+  };
+
+  public static final SchemaParser DOUBLE = new SchemaParser()
+  {
+    @Override
+    Object parseValue( SchemaParserImpl p ) throws ScriptException
+    {
+      if( p.getType() != TokenType.DOUBLE && p.getType() != TokenType.INTEGER )
+      {
+        return parseNull( p, "a number" );
+      }
+      Double value = Double.parseDouble( p.getString() );
+      p.advance();
+      return value;
+    }
+  };
+
+  /**
+   * @return A parser for arrays of {@code component} values
+   */
+  public static SchemaParser list( SchemaParser component )
+  {
+    return new SchemaParser()
+    {
+      @Override
+      Object parseValue( SchemaParserImpl p ) throws ScriptException
+      {
+        if( p.getType() != TokenType.LSQUARE )
+        {
+          return parseNull( p, "[" );
+        }
+        List<Object> list = new JsonList<>();
+        p.advance();
+        if( p.getType() != TokenType.RSQUARE )
+        {
+          list.add( component.parseValue( p ) );
+          while( p.getType() == TokenType.COMMA )
+          {
+            p.advance();
+            list.add( component.parseValue( p ) );
+          }
+        }
+        p.check( TokenType.RSQUARE, "]" );
+        return list;
+      }
+    };
+  }
+
+  /**
+   * @return A parser delegating to the one {@code ref} supplies when it is first used, for types referring to each
+   * other before they are initialized
+   */
+  public static SchemaParser ref( Supplier<SchemaParser> ref )
+  {
+    return new SchemaParser()
+    {
+      private SchemaParser _parser;
+
+      @Override
+      Object parseValue( SchemaParserImpl p ) throws ScriptException
+      {
+        if( _parser == null )
+        {
+          _parser = ref.get();
+        }
+        return _parser.parseValue( p );
+      }
+    };
+  }
+
+  /**
+   * @param additionalProperties If true, properties not declared with {@link ObjectParser#property} are parsed
+   *                             without a schema, otherwise they are skipped
+   * @return A parser for objects, the properties are declared with {@link ObjectParser#property}
+   */
+  public static ObjectParser object( boolean additionalProperties )
+  {
+    return new ObjectParser( additionalProperties );
+  }
+
+  SchemaParser()
+  {
+  }
+
+  /**
+   * Parse Json text against this schema.
+   *
+   * @return A JSON value (primitive/boxed type, String, List of JSON values, or Bindings of String/JSON value)
+   * @throws ScriptException for parse errors and values not matching the schema
+   */
+  public Object parse( String jsonText ) throws ScriptException
+  {
+    return parse( new Tokenizer( jsonText ) );
+  }
+
+  /**
+   * Parse Json text read from {@code reader} against this schema.
+   *
+   * @return A JSON value (primitive/boxed type, String, List of JSON values, or Bindings of String/JSON value)
+   * @throws ScriptException for parse errors and values not matching the schema
+   */
+  public Object parse( Reader reader ) throws ScriptException
+  {
+    return parse( new Tokenizer( reader ) );
+  }
+
+  private Object parse( Tokenizer tokenizer ) throws ScriptException
+  {
+    SchemaParserImpl p = new SchemaParserImpl( tokenizer );
+    Object value = parseValue( p );
+    if( p.getType() != TokenType.EOF )
+    {
+      throw p.expecting( "EOF" );
+    }
+    return value;
+  }
+
+  /**
+   * Parses the value at the current token, leaving the token following it current.
+   */
+  abstract Object parseValue( SchemaParserImpl p ) throws ScriptException;
+
+  private static Object parseNull( SchemaParserImpl p, String expected ) throws ScriptException
+  {
+    p.check( TokenType.NULL, expected );
+    return null;
+  }
+
+  public static final class ObjectParser extends SchemaParser
+  {
+    private final boolean _additionalProperties;
+    private final Map<String, Property> _properties;
+
+    private ObjectParser( boolean additionalProperties )
+    {
+      _additionalProperties = additionalProperties;
+      _properties = new HashMap<>();
+    }
+
+    /**
+     * Declares property {@code name}, its values are parsed with {@code parser}.
+     */
+    public ObjectParser property( String name, SchemaParser parser )
+    {
+      _properties.put( name, new Property( name, parser ) );
+      return this;
+    }
+
+    @Override
+    Object parseValue( SchemaParserImpl p ) throws ScriptException
+    {
+      if( p.getType() != TokenType.LCURLY )
+      {
+        return parseNull( p, "{" );
+      }
+      DataBindings bindings = new DataBindings();
+      p.advance();
+      if( p.getType() != TokenType.RCURLY )
+      {
+        parseMember( p, bindings );
+        while( p.getType() == TokenType.COMMA )
+        {
+          p.advance();
+          parseMember( p, bindings );
+        }
+      }
+      p.check( TokenType.RCURLY, "}" );
+      return bindings;
+    }
+
+    // member = string ":" value.
+    private void parseMember( SchemaParserImpl p, DataBindings bindings ) throws ScriptException
+    {
+      if( p.getType() != TokenType.STRING )
+      {
+        throw p.expecting( "a string" );
+      }
+      String key = p.getString();
+      Property property = _properties.get( key );
+      if( property != null )
+      {
+        p.advance();
+        p.check( TokenType.COLON, ":" );
+        bindings.put( property._name, property._parser.parseValue( p ) );
+      }
+      else if( _additionalProperties )
+      {
+        p.advance();
+        p.check( TokenType.COLON, ":" );
+        bindings.put( key, p.parseAny() );
+      }
+      else
+      {
+        p.advance();
+        p.skipMemberValue();
+      }
+    }
+  }
+
+  private static final class Property
+  {
+    private final String _name;
+    private final SchemaParser _parser;
+
+    private Property( String name, SchemaParser parser )
+    {
+      _name = name;
+      _parser = parser;
+    }
+  }
+}
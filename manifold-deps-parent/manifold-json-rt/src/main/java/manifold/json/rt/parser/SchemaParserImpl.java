@@ -0,0 +1,149 @@
+/*
+ * Copyright (c) 2025 - Manifold Systems LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package manifold.json.rt.parser;
+
+import java.util.List;
+import manifold.rt.api.ScriptException;
+
+/**
+ * The token cursor {@link SchemaParser}s parse with. Unlike {@link SimpleParserImpl} the first error ends parsing.
+ */
+final class SchemaParserImpl
+{
+  private final Tokenizer _tokenizer;
+  private TokenType _type;
+
+  SchemaParserImpl( Tokenizer tokenizer )
+  {
+    _tokenizer = tokenizer;
+    advance();
+  }
+
+  TokenType getType()
+  {
+    return _type;
+  }
+
+  String getString()
+  {
+    return _tokenizer.getString();
+  }
+
+  void advance()
+  {
+    _type = _tokenizer.next();
+  }
+
+  void check( TokenType type, String s ) throws ScriptException
+  {
+    if( _type != type )
+    {
+      throw expecting( s );
+    }
+    advance();
+  }
+
+  ScriptException expecting( String s )
+  {
+    // a skipped token has no string
+    String found = _tokenizer.getString() == null ? _type.name().toLowerCase() : "'" + _tokenizer.getString() + "'";
+    return new ScriptException( "[" + _tokenizer.getLineNumber() + ":" + _tokenizer.getColumn() + "] expecting '" + s + "', found " + found );
+  }
+
+  /**
+   * Parses the value at the current token without a schema, as {@link DefaultParser} does.
+   */
+  Object parseAny() throws ScriptException
+  {
+    SimpleParserImpl parser = new SimpleParserImpl( _tokenizer, _type, false );
+    Object value = parser.parse();
+    List<String> errors = parser.getErrors();
+    if( !errors.isEmpty() )
+    {
+      throw new ScriptException( errors.get( 0 ) );
+    }
+    _type = parser.getType();
+    return value;
+  }
+
+  /**
+   * Skips the value following the current {@code :} token, without making strings for its tokens.
+   */
+  void skipMemberValue() throws ScriptException
+  {
+    _tokenizer.setSkipping( true );
+    try
+    {
+      check( TokenType.COLON, ":" );
+      skipValue();
+    }
+    finally
+    {
+      _tokenizer.setSkipping( false );
+    }
+  }
+
+  private void skipValue() throws ScriptException
+  {
+    switch( _type )
+    {
+      case LCURLY:
+        advance();
+        if( _type != TokenType.RCURLY )
+        {
+          skipMember();
+          while( _type == TokenType.COMMA )
+          {
+            advance();
+            skipMember();
+          }
+        }
+        check( TokenType.RCURLY, "}" );
+        break;
+      case LSQUARE:
+        advance();
+        if( _type != TokenType.RSQUARE )
+        {
+          skipValue();
+          while( _type == TokenType.COMMA )
+          {
+            advance();
+            skipValue();
+          }
+        }
+        check( TokenType.RSQUARE, "]" );
+        break;
+      case STRING:
+      case INTEGER:
+      case DOUBLE:
+      case TRUE:
+      case FALSE:
+      case NULL:
+        advance();
+        break;
+      default:
+        throw expecting( "a value" );
+    }
+  }
+
+  private void skipMember() throws ScriptException
+  {
+    check( TokenType.STRING, "a string" );
+    check( TokenType.COLON, ":" );
+    skipValue();
+  }
+}
@@ -19,7 +19,6 @@ package manifold.json.rt.parser;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.util.ArrayList;
-import java.util.LinkedHashMap;
 import java.util.List;
 
 import manifold.json.rt.api.JsonList;
@@ -51,7 +50,7 @@ import manifold.rt.api.util.Pair;
 final class SimpleParserImpl
 {
   private final Tokenizer _tokenizer;
-  private Token _token;
+  private TokenType _type;
   private final List<String> _errors;
   private final boolean _useBig;
   private boolean _withTokens;
@@ -64,6 +63,17 @@ final class SimpleParserImpl
     advance();
   }
 
+  /**
+   * Starts with the tokenizer's current token {@code type}, to parse a value in the middle of the text.
+   */
+  SimpleParserImpl( Tokenizer tokenizer, TokenType type, boolean useBig )
+  {
+    _tokenizer = tokenizer;
+    _type = type;
+    _useBig = useBig;
+    _errors = new ArrayList<>();
+  }
+
   // jsonText = value.
   Object parse()
   {
@@ -73,7 +83,7 @@ final class SimpleParserImpl
   {
     _withTokens = withTokens;
     Object val = null;
-    if( _token.isValueType() )
+    if( isValueType() )
     {
       val = parseValue();
     }
@@ -84,9 +94,25 @@ final class SimpleParserImpl
     return val;
   }
 
+  /**
+   * @return The type of the token following the parsed text
+   */
+  TokenType getType()
+  {
+    return _type;
+  }
+
   private void advance()
   {
-    _token = _tokenizer.next();
+    _type = _tokenizer.next();
+  }
+
+  private boolean isValueType()
+  {
+    return _type == TokenType.LCURLY || _type == TokenType.LSQUARE ||
+           _type == TokenType.INTEGER || _type == TokenType.DOUBLE ||
+           _type == TokenType.STRING || _type == TokenType.TRUE ||
+           _type == TokenType.FALSE || _type == TokenType.NULL;
   }
 
   // array = "[" [ value { "," value } ] "]".
@@ -94,10 +120,10 @@ final class SimpleParserImpl
   {
     List<Object> arr = new JsonList<>();
     advance();
-    if( _token.isValueType() )
+    if( isValueType() )
     {
       arr.add( parseValue() );
-      while( _token.getType() == TokenType.COMMA )
+      while( _type == TokenType.COMMA )
       {
         advance();
         arr.add( parseValue() );
@@ -110,14 +136,14 @@ final class SimpleParserImpl
   // object = "{" [ member { "," member } ] "}".
   private Object parseObject()
   {
-    // using a LinkedHashMap to preserve insertion order, necessary for IJ plugin
-    Bindings map = new DataBindings( new LinkedHashMap<>() );
+    // DataBindings preserves insertion order, necessary for IJ plugin
+    Bindings map = new DataBindings();
 
     advance();
-    if( _token.getType() == TokenType.STRING )
+    if( _type == TokenType.STRING )
     {
       parseMember( map );
-      while( _token.getType() == TokenType.COMMA )
+      while( _type == TokenType.COMMA )
       {
         advance();
         parseMember( map );
@@ -130,11 +156,12 @@ final class SimpleParserImpl
   // member = string ":" value.
   private void parseMember( Bindings map )
   {
-    Token keyToken = _token;
-    String key = _token.getString();
+    // tokens are only made for positions of members, other positions are queried from the tokenizer for errors
+    Token keyToken = _withTokens ? _tokenizer.getToken() : null;
+    String key = _tokenizer.getString();
     check( TokenType.STRING, "a string" );
     check( TokenType.COLON, ":" );
-    Token valueToken = _token;
+    Token valueToken = _withTokens ? _tokenizer.getToken() : null;
     Object val = parseValue();
     map.put( key, _withTokens ? new Pair<>( new Token[] {keyToken, valueToken}, val ) : val );
   }
@@ -143,7 +170,7 @@ final class SimpleParserImpl
   private Object parseValue()
   {
     Object val;
-    switch( _token.getType() )
+    switch( _type )
     {
       case LCURLY:
         val = parseObject();
@@ -152,44 +179,15 @@ final class SimpleParserImpl
         val = parseArray();
         break;
       case INTEGER:
-        if( _useBig )
-        {
-          val = new BigInteger( _token.getString() );
-        }
-        else
-        {
-          try
-          {
-            val = Integer.parseInt( _token.getString() );
-          }
-          catch( NumberFormatException e0 )
-          {
-            // we have an overflow, the tokenizer guarantees the format is correct
-            try
-            {
-              val = Long.parseLong( _token.getString() );
-            }
-            catch( NumberFormatException e1 )
-            {
-              val = 0;
-            }
-          }
-        }
+        val = makeInteger( _tokenizer.getString(), _useBig );
         advance();
         break;
       case DOUBLE:
-        if( _useBig )
-        {
-          val = new BigDecimal( _token.getString() );
-        }
-        else
-        {
-          val = Double.parseDouble( _token.getString() );
-        }
+        val = makeDouble( _tokenizer.getString(), _useBig );
         advance();
         break;
       case STRING:
-        val = _token.getString();
+        val = _tokenizer.getString();
         advance();
         break;
       case TRUE:
@@ -211,28 +209,57 @@ final class SimpleParserImpl
     return val;
   }
   
+  static Object makeInteger( String string, boolean useBig )
+  {
+    if( useBig )
+    {
+      return new BigInteger( string );
+    }
+    try
+    {
+      return Integer.parseInt( string );
+    }
+    catch( NumberFormatException e0 )
+    {
+      // we have an overflow, the tokenizer guarantees the format is correct
+      try
+      {
+        return Long.parseLong( string );
+      }
+      catch( NumberFormatException e1 )
+      {
+        return 0;
+      }
+    }
+  }
+
+  static Object makeDouble( String string, boolean useBig )
+  {
+    return useBig ? new BigDecimal( string ) : (Object)Double.parseDouble( string );
+  }
+
   private void addError()
   {
-    _errors.add( "[" + _token.getLineNumber() + ":" + _token.getColumn() + "] Unexpected token '" + _token.getString() + "'" );
+    _errors.add( "[" + _tokenizer.getLineNumber() + ":" + _tokenizer.getColumn() + "] Unexpected token '" + _tokenizer.getString() + "'" );
     advance();
   }
 
   private void check( TokenType type, String s )
   {
-    if( _token.getType() != type )
+    if( _type != type )
     {
-      _errors.add( "[" + _token.getLineNumber() + ":" + _token.getColumn() + "] expecting '" + s + "', found '" + _token.getString() + "'" );
+      _errors.add( "[" + _tokenizer.getLineNumber() + ":" + _tokenizer.getColumn() + "] expecting '" + s + "', found '" + _tokenizer.getString() + "'" );
     }
     advance();
   }
 
   private void checkAndSkip( TokenType type, String s )
   {
-    if( _token.getType() != type )
+    if( _type != type )
     {
-      _errors.add( "[" + _token.getLineNumber() + ":" + _token.getColumn() + "] expecting '" + s + "', found '" + _token.getString() + "'" );
-      while( _token.getType() != TokenType.EOF &&
-             _token.getType() != type )
+      _errors.add( "[" + _tokenizer.getLineNumber() + ":" + _tokenizer.getColumn() + "] expecting '" + s + "', found '" + _tokenizer.getString() + "'" );
+      while( _type != TokenType.EOF &&
+             _type != type )
       {
         advance();
       }
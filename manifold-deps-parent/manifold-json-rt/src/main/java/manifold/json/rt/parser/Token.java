@@ -78,12 +78,4 @@ public final class Token
   {
     return _string + " : " + _type;
   }
-
-  boolean isValueType()
-  {
-    return _type == TokenType.LCURLY || _type == TokenType.LSQUARE ||
-           _type == TokenType.INTEGER || _type == TokenType.DOUBLE ||
-           _type == TokenType.STRING || _type == TokenType.TRUE ||
-           _type == TokenType.FALSE || _type == TokenType.NULL;
-  }
 }
@@ -18,33 +18,84 @@ package manifold.json.rt.parser;
 
 import java.io.IOException;
 import java.io.Reader;
+import java.util.Arrays;
 
+/**
+ * Scans JSON text held in a {@code char[]} buffer, which is either the whole text or is refilled in bulk from a
+ * {@link Reader}. The tokenizer is a cursor: {@link #next()} advances to the next token and its string and position are
+ * queried from the tokenizer, so no {@link Token} is allocated unless {@link #getToken()} is called. Strings, numbers,
+ * and constants are copied from the buffer once, punctuation and constants use shared strings.
+ * <p/>
+ * Line and column numbers are computed only when they are queried, such as for errors, from the positions of the line
+ * breaks scanned so far. Line breaks before the current token are only counted once the buffer is refilled, so memory
+ * stays bounded when a long stream is scanned.
+ */
 final class Tokenizer
 {
+  private static final int BUFFER_SIZE = 8192;
+
   private Reader _source;
+  private char[] _buf;
+  private int _limit;
+  private int _pos;
+  // offset of _buf[0] in the text
+  private long _base;
   private char _ch;
-  private int _line;
-  private int _column;
-  private int _offset;
+  private boolean _eof;
+  private boolean _skipping;
+
+  // start of the chars of the current token in _buf, -1 if not collecting, chars spilled on refill go to _sb
+  private int _mark;
+  private final StringBuilder _sb;
+
+  // offsets of the line breaks scanned since the start of the current token or the buffer
+  private long[] _newlines;
+  private int _newlineCount;
+  private long _scanned;
+  // line breaks no longer kept in _newlines
+  private int _droppedLines;
+  private long _lastDroppedNewline;
+
+  private TokenType _type;
+  private String _string;
+  private long _tokenStart;
+  private long _tokenOffset;
+  private long _tokenIndex;
+
+  Tokenizer( CharSequence source )
+  {
+    this( source.toString().toCharArray(), source.length(), null );
+  }
 
   Tokenizer( Reader source )
   {
+    this( new char[BUFFER_SIZE], 0, source );
+  }
+
+  private Tokenizer( char[] buf, int limit, Reader source )
+  {
+    _buf = buf;
+    _limit = limit;
     _source = source;
-    _offset = 0;
-    _line = 1;
-    _column = 0;
+    _mark = -1;
+    _sb = new StringBuilder();
+    _newlines = new long[16];
+    _lastDroppedNewline = -1;
     nextChar();
   }
 
-  Token next()
+  /**
+   * Advances to the next token.
+   */
+  TokenType next()
   {
-    Token T;
     eatWhiteSpace();
+    _tokenStart = _base + index();
     switch( _ch )
     {
       case '"':
       case '\'':
-        T = consumeString( _ch );
+        consumeString( _ch );
         break;
       case '-':
       case '0':
@@ -57,94 +108,101 @@ final class Tokenizer
       case '7':
       case '8':
       case '9':
-        T = consumeNumber();
+        consumeNumber();
         break;
       case '{':
-        T = new Token( TokenType.LCURLY, "{", _offset, _line, _column );
-        nextChar();
+        punctuation( TokenType.LCURLY, "{" );
         break;
       case '}':
-        T = new Token( TokenType.RCURLY, "}", _offset, _line, _column );
-        nextChar();
+        punctuation( TokenType.RCURLY, "}" );
         break;
       case '[':
-        T = new Token( TokenType.LSQUARE, "[", _offset, _line, _column );
-        nextChar();
+        punctuation( TokenType.LSQUARE, "[" );
         break;
       case ']':
-        T = new Token( TokenType.RSQUARE, "]", _offset, _line, _column );
-        nextChar();
+        punctuation( TokenType.RSQUARE, "]" );
         break;
       case ',':
-        T = new Token( TokenType.COMMA, ",", _offset, _line, _column );
-        nextChar();
+        punctuation( TokenType.COMMA, "," );
         break;
       case ':':
-        T = new Token( TokenType.COLON, ":", _offset, _line, _column );
-        nextChar();
-        break;
-      case 'a':
-      case 'b':
-      case 'c':
-      case 'd':
-      case 'e':
-      case 'f':
-      case 'g':
-      case 'h':
-      case 'i':
-      case 'j':
-      case 'k':
-      case 'l':
-      case 'm':
-      case 'n':
-      case 'o':
-      case 'p':
-      case 'q':
-      case 'r':
-      case 's':
-      case 't':
-      case 'u':
-      case 'v':
-      case 'w':
-      case 'x':
-      case 'y':
-      case 'z':
-      case 'A':
-      case 'B':
-      case 'C':
-      case 'D':
-      case 'E':
-      case 'F':
-      case 'G':
-      case 'H':
-      case 'I':
-      case 'J':
-      case 'K':
-      case 'L':
-      case 'M':
-      case 'N':
-      case 'O':
-      case 'P':
-      case 'Q':
-      case 'R':
-      case 'S':
-      case 'T':
-      case 'U':
-      case 'V':
-      case 'W':
-      case 'X':
-      case 'Y':
-      case 'Z':
-        T = consumeConstant();
+        punctuation( TokenType.COLON, ":" );
         break;
       case '\0':
-        T = new Token( TokenType.EOF, "EOF", _offset, _line, _column );
+        token( TokenType.EOF, "EOF", offset() );
         break;
       default:
-        T = new Token( TokenType.ERROR, String.valueOf( _ch ), _offset, _line, _column );
-        nextChar();
+        if( _ch >= 'a' && _ch <= 'z' || _ch >= 'A' && _ch <= 'Z' )
+        {
+          consumeConstant();
+        }
+        else
+        {
+          punctuation( TokenType.ERROR, String.valueOf( _ch ) );
+        }
     }
-    return T;
+    return _type;
+  }
+
+  TokenType getType()
+  {
+    return _type;
+  }
+
+  String getString()
+  {
+    return _string;
+  }
+
+  /**
+   * While skipping, the strings of string and number tokens are not made and {@link #getString()} returns null for
+   * them, for values that are parsed only to be discarded.
+   */
+  void setSkipping( boolean skipping )
+  {
+    _skipping = skipping;
+  }
+
+  int getOffset()
+  {
+    return (int)Math.min( _tokenOffset, Integer.MAX_VALUE );
+  }
+
+  int getLineNumber()
+  {
+    return lineOf( _tokenIndex );
+  }
+
+  int getColumn()
+  {
+    return columnOf( _tokenIndex );
+  }
+
+  /**
+   * @return A new {@link Token} for the current token
+   */
+  Token getToken()
+  {
+    return new Token( _type, _string, getOffset(), getLineNumber(), getColumn() );
+  }
+
+  private void punctuation( TokenType type, String string )
+  {
+    token( type, string, offset() );
+    nextChar();
+  }
+
+  private void token( TokenType type, String string, long offset )
+  {
+    token( type, string, offset, offset - 1 );
+  }
+
+  private void token( TokenType type, String string, long offset, long index )
+  {
+    _type = type;
+    _string = string;
+    _tokenOffset = offset;
+    _tokenIndex = index;
   }
 
   /*
@@ -152,45 +210,44 @@ final class Tokenizer
     char = unescaped | "\" ('"' | "\" | "/" | "b" | "f" | "n" | "r" | "t" | "u" hex hex hex hex).
     unescaped = any printable Unicode character except '"', "'" or "\".
   */
-  private Token consumeString( char quote )
+  private void consumeString( char quote )
   {
-    StringBuilder sb = new StringBuilder();
-    int line = _line;
-    int column = _column;
-    int offset = _offset;
-    Token T;
+    long offset = offset();
     nextChar();
+    mark();
     while( moreChars() && _ch != quote )
     {
       if( _ch == '\\' )
       {
+        spill();
+        _mark = -1;
         nextChar();
         switch( _ch )
         {
           case '"':
           case '\\':
           case '/':
-            sb.append( _ch );
+            _sb.append( _ch );
             nextChar();
             break;
           case 'b':
-            sb.append( '\b' );
+            _sb.append( '\b' );
             nextChar();
             break;
           case 'f':
-            sb.append( '\f' );
+            _sb.append( '\f' );
             nextChar();
             break;
           case 'n':
-            sb.append( '\n' );
+            _sb.append( '\n' );
             nextChar();
             break;
           case 'r':
-            sb.append( '\r' );
+            _sb.append( '\r' );
             nextChar();
             break;
           case 't':
-            sb.append( '\t' );
+            _sb.append( '\t' );
             nextChar();
             break;
           case 'u':
@@ -208,36 +265,36 @@ final class Tokenizer
               }
               else
               {
-                T = new Token( TokenType.ERROR, sb.toString(), _offset, _line, _column );
+                token( TokenType.ERROR, _sb.toString(), offset() );
                 nextChar();
-                return T;
+                return;
               }
               nextChar();
             }
-            sb.append( (char)u );
+            _sb.append( (char)u );
             break;
           default:
-            T = new Token( TokenType.ERROR, sb.toString(), _offset, _line, _column );
+            token( TokenType.ERROR, _sb.toString(), offset() );
             nextChar();
-            return T;
+            return;
         }
+        _mark = index();
       }
       else
       {
-        sb.append( _ch );
         nextChar();
       }
     }
+    String string = _skipping && _ch == quote ? skipMarked() : takeMarked();
     if( _ch == quote )
     {
-      T = new Token( TokenType.STRING, sb.toString(), offset, line, column );
+      token( TokenType.STRING, string, offset );
     }
     else
     {
-      T = new Token( TokenType.ERROR, sb.toString(), _offset, _line, _column );
+      token( TokenType.ERROR, string, offset() );
     }
     nextChar();
-    return T;
   }
 
   /*
@@ -248,92 +305,63 @@ final class Tokenizer
     digit = "0" | "1" | ... | "9".
     digit19 = "1" | ... | "9".
   */
-  private Token consumeNumber()
-  {
-    StringBuilder sb = new StringBuilder();
-    int line = _line;
-    int column = _column;
-    int offset = _offset;
-    Token T;
-    boolean err;
+  private void consumeNumber()
+  {
+    long offset = offset();
     boolean isDouble = false;
+    mark();
     if( _ch == '-' )
     {
-      sb.append( _ch );
       nextChar();
     }
     if( _ch != '0' )
     {
-      err = consumeDigits( sb );
-      if( err )
+      if( !consumeDigits() )
       {
-        return new Token( TokenType.ERROR, sb.toString(), _offset, _line, _column );
+        return;
       }
     }
     else
     {
-      sb.append( _ch );
       nextChar();
     }
     if( _ch == '.' )
     {
       isDouble = true;
-      sb.append( _ch );
       nextChar();
-      err = consumeDigits( sb );
-      if( err )
+      if( !consumeDigits() )
       {
-        return new Token( TokenType.ERROR, sb.toString(), _offset, _line, _column );
+        return;
       }
     }
     if( _ch == 'E' || _ch == 'e' )
     {
       isDouble = true;
-      sb.append( _ch );
       nextChar();
-      if( _ch == '-' )
+      if( _ch == '-' || _ch == '+' )
       {
-        sb.append( _ch );
         nextChar();
       }
-      else if( _ch == '+' )
+      if( !consumeDigits() )
       {
-        sb.append( _ch );
-        nextChar();
+        return;
       }
-      err = consumeDigits( sb );
-      if( err )
-      {
-        return new Token( TokenType.ERROR, sb.toString(), _offset, _line, _column );
-      }
-    }
-    if( isDouble )
-    {
-      T = new Token( TokenType.DOUBLE, sb.toString(), offset, line, column );
     }
-    else
-    {
-      T = new Token( TokenType.INTEGER, sb.toString(), offset, line, column );
-    }
-    return T;
+    token( isDouble ? TokenType.DOUBLE : TokenType.INTEGER, _skipping ? skipMarked() : takeMarked(), offset );
   }
 
-  private boolean consumeDigits( StringBuilder sb )
+  private boolean consumeDigits()
   {
-    boolean err = false;
-    if( isDigit( _ch ) )
+    if( !isDigit( _ch ) )
     {
-      while( moreChars() && isDigit( _ch ) )
-      {
-        sb.append( _ch );
-        nextChar();
-      }
+      token( TokenType.ERROR, takeMarked(), offset() );
+      return false;
     }
-    else
+    while( moreChars() && isDigit( _ch ) )
     {
-      err = true;
+      nextChar();
     }
-    return err;
+    return true;
   }
 
   private boolean isDigit( char ch )
@@ -346,28 +374,51 @@ final class Tokenizer
     return ch >= '0' && ch <= '9' || ch >= 'A' && ch <= 'F' || ch >= 'a' && ch <= 'f';
   }
 
-  private Token consumeConstant()
+  private void consumeConstant()
   {
-    StringBuilder sb = new StringBuilder();
-    Token T;
-    int l = _line;
-    int c = _column;
+    // the buffer may be refilled within the constant
+    long index = _base + index();
+    mark();
     do
     {
-      sb.append( _ch );
       nextChar();
     } while( moreChars() && (_ch >= 'a' && _ch <= 'z' || _ch >= 'A' && _ch <= 'Z') );
-    String str = sb.toString();
+    String str = takeConstant();
     TokenType type = Token.Constants.get( str );
-    if( type == null )
+    // the offset is past the constant
+    token( type == null ? TokenType.ERROR : type, str, offset(), index );
+  }
+
+  private String takeConstant()
+  {
+    if( _sb.length() == 0 )
     {
-      T = new Token( TokenType.ERROR, str, _offset, l, c );
+      for( String constant: Token.Constants.keySet() )
+      {
+        if( isMarked( constant ) )
+        {
+          _mark = -1;
+          return constant;
+        }
+      }
     }
-    else
+    return takeMarked();
+  }
+
+  private boolean isMarked( String chars )
+  {
+    if( chars.length() != index() - _mark )
+    {
+      return false;
+    }
+    for( int i = 0; i < chars.length(); i++ )
     {
-      T = new Token( type, str, _offset, l, c );
+      if( chars.charAt( i ) != _buf[_mark + i] )
+      {
+        return false;
+      }
     }
-    return T;
+    return true;
   }
 
   private void eatWhiteSpace()
@@ -378,37 +429,172 @@ final class Tokenizer
     }
   }
 
+  private void mark()
+  {
+    _sb.setLength( 0 );
+    _mark = index();
+  }
+
+  private void spill()
+  {
+    _sb.append( _buf, _mark, index() - _mark );
+  }
+
+  /**
+   * @return The chars from the mark to the current char, exclusive
+   */
+  private String takeMarked()
+  {
+    String string;
+    if( _sb.length() == 0 )
+    {
+      string = new String( _buf, _mark, index() - _mark );
+    }
+    else
+    {
+      spill();
+      string = _sb.toString();
+    }
+    _mark = -1;
+    return string;
+  }
+
+  private String skipMarked()
+  {
+    _mark = -1;
+    return null;
+  }
+
   private void nextChar()
   {
-    int c;
+    if( _pos < _limit || fill() )
+    {
+      _ch = _buf[_pos++];
+    }
+    else
+    {
+      _eof = true;
+      _ch = '\0';
+    }
+  }
 
-    try
+  private boolean fill()
+  {
+    if( _source == null )
     {
-      c = _source.read();
-      _offset++;
+      return false;
     }
-    catch( IOException e )
+
+    // the buffer is reused, keep the line breaks of the current token and the marked chars it holds
+    scanLines( _base + _limit );
+    dropLines( _tokenStart );
+    if( _mark >= 0 )
     {
-      c = -1;
+      _sb.append( _buf, _mark, _limit - _mark );
+      _mark = 0;
     }
-    if( c == '\n' )
+    _base += _limit;
+    _limit = 0;
+    _pos = 0;
+
+    int count;
+    try
     {
-      _column = 0;
-      _line++;
+      do
+      {
+        count = _source.read( _buf, 0, _buf.length );
+      } while( count == 0 );
     }
-    else if( c != -1 )
+    catch( IOException e )
     {
-      _column++;
+      count = -1;
     }
-    else
+    if( count < 0 )
     {
-      c = '\0';
+      _source = null;
+      return false;
     }
-    _ch = (char)c;
+    _limit = count;
+    return true;
   }
 
   private boolean moreChars()
   {
     return _ch != '\0';
   }
+
+  /**
+   * @return The index of the current char in the buffer, or the end of the buffer if there are no more chars
+   */
+  private int index()
+  {
+    return _eof ? _pos : _pos - 1;
+  }
+
+  /**
+   * @return The number of chars read, which is the offset of the current char plus one
+   */
+  private long offset()
+  {
+    return _base + _pos;
+  }
+
+  private void scanLines( long end )
+  {
+    for( long i = Math.max( _scanned, _base ); i < end; i++ )
+    {
+      if( _buf[(int)(i - _base)] == '\n' )
+      {
+        if( _newlineCount == _newlines.length )
+        {
+          _newlines = Arrays.copyOf( _newlines, _newlineCount * 2 );
+        }
+        _newlines[_newlineCount++] = i;
+      }
+    }
+    _scanned = Math.max( _scanned, end );
+  }
+
+  private void dropLines( long end )
+  {
+    int drop = keptLinesBefore( end );
+    if( drop > 0 )
+    {
+      _droppedLines += drop;
+      _lastDroppedNewline = _newlines[drop - 1];
+      _newlineCount -= drop;
+      System.arraycopy( _newlines, drop, _newlines, 0, _newlineCount );
+    }
+  }
+
+  /**
+   * @return The number of line breaks in {@link #_newlines} before {@code index}
+   */
+  private int keptLinesBefore( long index )
+  {
+    int found = Arrays.binarySearch( _newlines, 0, _newlineCount, index );
+    return found >= 0 ? found : -found - 1;
+  }
+
+  private boolean isNewline( long index )
+  {
+    scanLines( Math.min( index + 1, _base + _limit ) );
+    return Arrays.binarySearch( _newlines, 0, _newlineCount, index ) >= 0;
+  }
+
+  private int lineOf( long index )
+  {
+    boolean newline = isNewline( index );
+    return 1 + _droppedLines + keptLinesBefore( index ) + (newline ? 1 : 0);
+  }
+
+  private int columnOf( long index )
+  {
+    if( isNewline( index ) )
+    {
+      return 0;
+    }
+    int before = keptLinesBefore( index );
+    return (int)(index - (before == 0 ? _lastDroppedNewline : _newlines[before - 1]));
+  }
 }
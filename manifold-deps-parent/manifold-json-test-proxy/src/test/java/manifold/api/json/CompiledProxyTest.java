@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2025 - Manifold Systems LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package manifold.api.json;
+
+import abc.Person;
+import abc.TopLevelArray;
+import java.util.ArrayList;
+import java.util.List;
+import junit.framework.TestCase;
+import manifold.ext.rt.RuntimeMethods;
+import manifold.json.rt.api.DataBindings;
+
+public class CompiledProxyTest extends TestCase
+{
+  public void testBindingsProxy()
+  {
+    DataBindings bindings = new DataBindings();
+    bindings.put( "Name", "Scott" );
+    bindings.put( "Age", 39 );
+    DataBindings address = new DataBindings();
+    address.put( "City", "Golden Shores" );
+    bindings.put( "address", address );
+
+    Person person = (Person)RuntimeMethods.coerceFromBindingsValue( bindings, Person.class );
+    assertTrue( person instanceof Person.Proxy );
+    assertSame( bindings, person.getBindings() );
+    assertEquals( "Scott", person.getName() );
+    assertEquals( Integer.valueOf( 39 ), person.getAge() );
+    assertTrue( person.getAddress() instanceof Person.address.Proxy );
+    assertEquals( "Golden Shores", person.getAddress().getCity() );
+
+    person.setAge( 40 );
+    assertEquals( 40, bindings.get( "Age" ) );
+    Person.address other = Person.address.create();
+    other.setCity( "Springfield" );
+    person.setAddress( other );
+    assertSame( other.getBindings(), bindings.get( "address" ) );
+
+    assertEquals( person, bindings );
+    assertEquals( bindings.hashCode(), person.hashCode() );
+    assertEquals( bindings.toString(), person.toString() );
+  }
+
+  public void testListProxy()
+  {
+    DataBindings item = new DataBindings();
+    item.put( "foo", "bar" );
+    List<Object> list = new ArrayList<>();
+    list.add( item );
+
+    TopLevelArray array = (TopLevelArray)RuntimeMethods.coerce( list, TopLevelArray.class );
+    assertTrue( array instanceof TopLevelArray.Proxy );
+    assertSame( list, array.getList() );
+    assertEquals( TopLevelArray.TopLevelArrayItem.class, array.getFinalComponentType() );
+    assertTrue( array.get( 0 ) instanceof TopLevelArray.TopLevelArrayItem.Proxy );
+    assertEquals( "bar", array.get( 0 ).getFoo() );
+    assertEquals( array, list );
+  }
+}
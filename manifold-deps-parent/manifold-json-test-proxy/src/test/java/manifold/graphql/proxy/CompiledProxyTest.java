@@ -0,0 +1,44 @@
+/*
+ * Copyright (c) 2025 - Manifold Systems LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package manifold.graphql.proxy;
+
+import java.util.Collections;
+import org.junit.Test;
+
+import static manifold.graphql.proxy.movies.*;
+import static manifold.graphql.proxy.queries.*;
+import static org.junit.Assert.*;
+
+public class CompiledProxyTest
+{
+  @Test
+  public void testCompiledProxy()
+  {
+    MovieQuery movieQuery = MovieQuery
+      .builder()
+      .withTitle( "Le Mans" )
+      .withActors( Collections.singletonList( ActorInput.builder( "McQueen" ).build() ) )
+      .build();
+    assertTrue( movieQuery instanceof MovieQuery.Proxy );
+    assertTrue( movieQuery.getActors().get( 0 ) instanceof ActorInput.Proxy );
+    assertEquals( "McQueen", movieQuery.getActors().get( 0 ).getName() );
+
+    movieQuery.setTitle( "Bullitt" );
+    assertEquals( "Bullitt", movieQuery.getBindings().get( "title" ) );
+    assertEquals( movieQuery.getBindings(), movieQuery );
+  }
+}
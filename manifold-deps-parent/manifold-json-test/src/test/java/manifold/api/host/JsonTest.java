@@ -4,12 +4,14 @@ import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
+import java.io.StringWriter;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.time.Instant;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
@@ -19,6 +21,7 @@ import manifold.rt.api.Bindings;
 
 import abc.*;
 import junit.framework.TestCase;
+import manifold.json.rt.Json;
 import manifold.json.rt.api.Base64Encoding;
 import manifold.json.rt.api.OctetEncoding;
 import manifold.util.ReflectUtil;
@@ -294,6 +297,33 @@ public class JsonTest extends TestCase
     assertEquals( "<person Name=\"Joe Namath\"/>\n", person.write().toXml( "person" ) );
   }
 
+  public void testWriteStreaming() throws Exception
+  {
+    Person person = Person.create();
+    person.setName( "Joe \"Broadway\" Namath\n\u00e9" );
+
+    StringWriter writer = new StringWriter();
+    person.write().toJson( writer );
+    assertEquals( "{\n" +
+                  "  \"Name\": \"Joe \\\"Broadway\\\" Namath\\n\\u00e9\"\n" +
+                  "}", writer.toString() );
+
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    person.write().toJson( out );
+    assertEquals( person.write().toJson(), out.toString( "UTF-8" ) );
+
+    writer = new StringWriter();
+    person.write().toXml( writer );
+    assertEquals( person.write().toXml(), writer.toString() );
+
+    List<Object> bigNumbers = new ArrayList<>();
+    bigNumbers.add( new BigInteger( "12345678901234567890" ) );
+    bigNumbers.add( new BigDecimal( "1.00000000000000000001" ) );
+    writer = new StringWriter();
+    Json.toJson( writer, 0, bigNumbers );
+    assertEquals( "[\n  12345678901234567890,\n  1.00000000000000000001\n]", writer.toString() );
+  }
+
   // root array with dissimilar component types (object and array)
   public void testMixedArray()
   {
@@ -25,6 +25,13 @@ import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.stream.Collectors;
 
 public class TopLevelArrayTest extends TestCase
 {
@@ -66,6 +73,50 @@ public class TopLevelArrayTest extends TestCase
     assertEquals( makeYamlArray(), array.write().toYaml() );
   }
 
+  public void testStream()
+  {
+    TopLevelArray array = TopLevelArray.load().fromJson( makeJsonArray() );
+    assertEquals( Arrays.asList( "hi", "bye" ),
+      array.stream().map( TopLevelArray.TopLevelArrayItem::getFoo ).collect( Collectors.toList() ) );
+    assertEquals( Arrays.asList( "hi", "bye" ),
+      array.parallelStream().map( TopLevelArray.TopLevelArrayItem::getFoo ).collect( Collectors.toList() ) );
+    assertEquals( 2, array.spliterator().getExactSizeIfKnown() );
+
+    List<String> foos = new ArrayList<>();
+    array.forEach( item -> foos.add( item.getFoo() ) );
+    assertEquals( Arrays.asList( "hi", "bye" ), foos );
+    assertTrue( array.contains( array.get( 1 ) ) );
+  }
+
+  public void testStreamJson()
+  {
+    ByteArrayInputStream in = new ByteArrayInputStream( makeJsonArray().getBytes( StandardCharsets.UTF_8 ) );
+    assertEquals( Arrays.asList( "hi", "bye" ), TopLevelArray.TopLevelArrayItem.load().streamJson( in )
+      .map( TopLevelArray.TopLevelArrayItem::getFoo ).collect( Collectors.toList() ) );
+
+    String ndjson = "{\"foo\": \"hi\"}\n{\"foo\": \"bye\"}\n";
+    assertEquals( Arrays.asList( "hi", "bye" ), TopLevelArray.TopLevelArrayItem.load().streamJsonReader( new StringReader( ndjson ) )
+      .map( TopLevelArray.TopLevelArrayItem::getFoo ).collect( Collectors.toList() ) );
+  }
+
+  public void testMutateWhileIterating()
+  {
+    TopLevelArray array = TopLevelArray.load().fromJson( makeJsonArray() );
+    ListIterator<TopLevelArray.TopLevelArrayItem> iterator = array.listIterator();
+    iterator.next().setFoo( "hello" );
+    TopLevelArray.TopLevelArrayItem item = TopLevelArray.TopLevelArrayItem.create();
+    item.setFoo( "ciao" );
+    iterator.add( item );
+    assertEquals( "bye", iterator.next().getFoo() );
+    assertEquals( 3, array.size() );
+    assertEquals( "hello", array.get( 0 ).getFoo() );
+    assertEquals( "ciao", array.get( 1 ).getFoo() );
+
+    assertTrue( array.removeIf( e -> e.getFoo().startsWith( "h" ) ) );
+    assertEquals( 2, array.getList().size() );
+    assertEquals( "ciao", array.get( 0 ).getFoo() );
+  }
+
   public void testSerializable() throws IOException, ClassNotFoundException
   {
     TopLevelArray array = TopLevelArray.load().fromJson( makeJsonArray() );
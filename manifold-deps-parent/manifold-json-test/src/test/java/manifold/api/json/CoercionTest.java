@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2025 - Manifold Systems LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package manifold.api.json;
+
+import java.lang.reflect.Type;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import junit.framework.TestCase;
+import manifold.ext.rt.CoercionProviders;
+import manifold.ext.rt.RuntimeMethods;
+import manifold.ext.rt.api.ICallHandler;
+import manifold.ext.rt.api.ICoercionProvider;
+import manifold.json.rt.api.Base64Encoding;
+import manifold.json.rt.api.DataBindings;
+import manifold.json.rt.api.JsonList;
+
+public class CoercionTest extends TestCase
+{
+  public void testProviderOrder()
+  {
+    List<ICoercionProvider> providers = new ArrayList<>( CoercionProviders.get() );
+    for( int i = 1; i < providers.size(); i++ )
+    {
+      ICoercionProvider prev = providers.get( i - 1 );
+      ICoercionProvider next = providers.get( i );
+      assertTrue( prev.getPriority() > next.getPriority() ||
+        prev.getPriority() == next.getPriority() &&
+        prev.getClass().getName().compareTo( next.getClass().getName() ) < 0 );
+    }
+  }
+
+  public void testCoerce()
+  {
+    for( int i = 0; i < 2; i++ ) // second time uses the cached coercions
+    {
+      String s = "hi";
+      assertSame( s, RuntimeMethods.coerce( s, CharSequence.class ) );
+      assertEquals( 5L, RuntimeMethods.coerce( 5, long.class ) );
+      assertEquals( 5, RuntimeMethods.coerce( "5", int.class ) );
+      assertEquals( 0, RuntimeMethods.coerce( null, int.class ) );
+      assertNull( RuntimeMethods.coerce( "", Integer.class ) );
+      assertEquals( new BigInteger( "12345678901234567890" ), RuntimeMethods.coerce( "12345678901234567890", BigInteger.class ) );
+      assertEquals( new BigDecimal( "1.5" ), RuntimeMethods.coerce( 1.5, BigDecimal.class ) );
+      assertEquals( LocalDate.of( 2021, 1, 2 ), RuntimeMethods.coerce( "2021-01-02", LocalDate.class ) );
+      assertEquals( "10:15:30", RuntimeMethods.coerce( LocalTime.of( 10, 15, 30 ), String.class ) );
+      assertEquals( Instant.ofEpochMilli( 1500 ), RuntimeMethods.coerce( 1500, Instant.class ) );
+      assertTrue( Arrays.equals( new int[]{1, 2}, (int[])RuntimeMethods.coerce( new Object[]{"1", 2L}, int[].class ) ) );
+      assertTrue( RuntimeMethods.coerce( Arrays.asList( 1, 2 ), Runnable.class ) instanceof JsonList );
+      List<Integer> list = Arrays.asList( 1, 2 );
+      assertSame( list, RuntimeMethods.coerce( list, ArrayList.class ) );
+    }
+  }
+
+  public void testHandles()
+  {
+    Object[] values = {"1", "2021-01-02", 1, 1L, 1.5, new BigInteger( "1" ), new BigDecimal( "1" ),
+      LocalDate.of( 2021, 1, 2 ), Instant.ofEpochMilli( 1 ), Base64Encoding.encoded( "AA==" ),
+      new DataBindings(), Arrays.asList( 1, 2 ), new Object[]{"1"}};
+    Type[] types = {String.class, int.class, long.class, Long.class, Double.class, BigInteger.class, BigDecimal.class,
+      LocalDate.class, Instant.class, Base64Encoding.class, Runnable.class, List.class, Object[].class};
+
+    // a provider may only claim not to handle a coercion it never handles
+    for( ICoercionProvider provider: CoercionProviders.get() )
+    {
+      for( Object value: values )
+      {
+        for( Type type: types )
+        {
+          Object result;
+          try
+          {
+            result = provider.coerce( value, type );
+          }
+          catch( RuntimeException e )
+          {
+            result = e;
+          }
+          if( result != ICallHandler.UNHANDLED )
+          {
+            assertTrue( provider.getClass().getSimpleName() + ": " + value.getClass().getSimpleName() + " -> " + type,
+              provider.handles( value.getClass(), type ) );
+          }
+        }
+      }
+    }
+  }
+}
@@ -0,0 +1,178 @@
+/*
+ * Copyright (c) 2025 - Manifold Systems LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package manifold.api.json;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import junit.framework.TestCase;
+import manifold.json.rt.Json;
+import manifold.json.rt.api.DataBindings;
+
+public class DataBindingsTest extends TestCase
+{
+  public void testInsertionOrder()
+  {
+    DataBindings bindings = new DataBindings();
+    bindings.put( "b", 1 );
+    bindings.put( "a", 2 );
+    bindings.put( "c", null );
+    bindings.put( "b", 3 );
+    assertEquals( Arrays.asList( "b", "a", "c" ), new ArrayList<>( bindings.keySet() ) );
+    assertEquals( Arrays.asList( 3, 2, null ), new ArrayList<>( bindings.values() ) );
+    assertTrue( bindings.containsKey( "c" ) );
+    assertFalse( bindings.containsKey( "d" ) );
+
+    assertEquals( 2, bindings.remove( "a" ) );
+    assertEquals( Arrays.asList( "b", "c" ), new ArrayList<>( bindings.keySet() ) );
+    assertNull( bindings.get( "a" ) );
+  }
+
+  public void testEqualsLinkedHashMap()
+  {
+    DataBindings compact = new DataBindings();
+    DataBindings linked = new DataBindings( new LinkedHashMap<>() );
+    for( int i = 0; i < 40; i++ )
+    {
+      // grows past the compact size
+      compact.put( "key" + i, i );
+      linked.put( "key" + i, i );
+      assertEquals( linked, compact );
+      assertEquals( compact, linked );
+      assertEquals( linked.hashCode(), compact.hashCode() );
+      assertEquals( new ArrayList<>( linked.entrySet() ), new ArrayList<>( compact.entrySet() ) );
+    }
+  }
+
+  public void testEntries()
+  {
+    DataBindings bindings = new DataBindings( 2 );
+    bindings.put( "a", 1 );
+    bindings.put( "b", 2 );
+    bindings.put( "c", 3 );
+    for( Iterator<Map.Entry<String, Object>> iter = bindings.entrySet().iterator(); iter.hasNext(); )
+    {
+      Map.Entry<String, Object> entry = iter.next();
+      if( entry.getKey().equals( "b" ) )
+      {
+        iter.remove();
+      }
+      else
+      {
+        entry.setValue( (Integer)entry.getValue() * 10 );
+      }
+    }
+    assertEquals( "{a=10, c=30}", new LinkedHashMap<>( bindings ).toString() );
+
+    try
+    {
+      for( String key: bindings.keySet() )
+      {
+        bindings.put( key + "x", 0 );
+      }
+      fail();
+    }
+    catch( ConcurrentModificationException ignore )
+    {
+    }
+  }
+
+  public void testSharedShapes()
+  {
+    DataBindings first = (DataBindings)Json.fromJson( "{\"name\": \"a\", \"age\": 1}" );
+    DataBindings second = (DataBindings)Json.fromJson( "{\"name\": \"b\", \"age\": 2}" );
+    // parsed objects with the same keys share them
+    assertSame( first.keySet().iterator().next(), second.keySet().iterator().next() );
+    assertEquals( "b", second.get( "name" ) );
+    assertEquals( 2, second.get( "age" ) );
+  }
+
+  public void testEntryAfterRemove()
+  {
+    DataBindings bindings = new DataBindings();
+    bindings.put( "a", 1 );
+    bindings.put( "b", 2 );
+    bindings.put( "c", 3 );
+    List<Map.Entry<String, Object>> entries = new ArrayList<>( bindings.entrySet() );
+
+    // the entries after "a" shift, the entries still address their keys
+    bindings.remove( "a" );
+    assertEquals( 2, entries.get( 1 ).getValue() );
+    assertEquals( 3, entries.get( 2 ).setValue( 30 ) );
+    assertEquals( "{b=2, c=30}", new LinkedHashMap<>( bindings ).toString() );
+    try
+    {
+      entries.get( 0 ).setValue( 10 );
+      fail();
+    }
+    catch( IllegalStateException expected )
+    {
+    }
+    assertFalse( bindings.containsKey( "a" ) );
+
+    // and after the map outgrows the compact form
+    for( int i = 0; i < 20; i++ )
+    {
+      bindings.put( "key" + i, i );
+    }
+    assertEquals( 2, entries.get( 1 ).getValue() );
+    entries.get( 1 ).setValue( 20 );
+    assertEquals( 20, bindings.get( "b" ) );
+  }
+
+  public void testShapesAfterLimit()
+  {
+    // 8 keys at each of 4 levels make more shapes than the shape tree holds
+    List<DataBindings> rows = new ArrayList<>();
+    for( int i = 0; i < 4096; i++ )
+    {
+      DataBindings row = new DataBindings();
+      row.put( new String( "limitA" + (i >> 9 & 7) ), 1 );
+      row.put( new String( "limitB" + (i >> 6 & 7) ), 2 );
+      row.put( new String( "limitC" + (i >> 3 & 7) ), 3 );
+      row.put( new String( "limitD" + (i & 7) ), i );
+      rows.add( row );
+    }
+    // rows beyond the limit have unshared shapes, they behave the same
+    for( int i = 0; i < rows.size(); i++ )
+    {
+      Map<String, Object> expected = new LinkedHashMap<>();
+      expected.put( "limitA" + (i >> 9 & 7), 1 );
+      expected.put( "limitB" + (i >> 6 & 7), 2 );
+      expected.put( "limitC" + (i >> 3 & 7), 3 );
+      expected.put( "limitD" + (i & 7), i );
+      assertEquals( expected, rows.get( i ) );
+      assertEquals( new ArrayList<>( expected.keySet() ), new ArrayList<>( rows.get( i ).keySet() ) );
+    }
+
+    // the shapes of collected maps no longer count, new keys are shared again
+    rows = null;
+    String key = null;
+    for( int i = 0; i < 50 && key != "recovered"; i++ )
+    {
+      System.gc();
+      DataBindings bindings = (DataBindings)Json.fromJson( "{\"recovered\": " + i + "}" );
+      key = bindings.keySet().iterator().next();
+    }
+    // shared shapes intern their keys
+    assertSame( "recovered", key );
+  }
+}
@@ -0,0 +1,194 @@
+/*
+ * Copyright (c) 2025 - Manifold Systems LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package manifold.api.json;
+
+import java.io.FilterReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import junit.framework.TestCase;
+import manifold.json.rt.Json;
+import manifold.json.rt.api.DataBindings;
+import manifold.json.rt.api.JsonList;
+import manifold.json.rt.parser.JsonEvent;
+import manifold.json.rt.parser.JsonStreamParser;
+import manifold.rt.api.ScriptException;
+
+import static manifold.json.rt.parser.JsonEvent.*;
+
+public class JsonStreamParserTest extends TestCase
+{
+  public void testEvents() throws ScriptException
+  {
+    JsonStreamParser parser = parser( "{\"a\": [1, 2.5, \"s\"], \"b\": {\"c\": true, \"d\": false}, \"e\": null}" );
+    List<JsonEvent> events = new ArrayList<>();
+    List<String> strings = new ArrayList<>();
+    for( JsonEvent event = parser.nextEvent(); event != END_DOCUMENT; event = parser.nextEvent() )
+    {
+      events.add( event );
+      if( parser.getString() != null )
+      {
+        strings.add( parser.getString() );
+      }
+    }
+    assertEquals( Arrays.asList( START_OBJECT, KEY_NAME, START_ARRAY, VALUE_NUMBER, VALUE_NUMBER, VALUE_STRING, END_ARRAY,
+      KEY_NAME, START_OBJECT, KEY_NAME, VALUE_TRUE, KEY_NAME, VALUE_FALSE, END_OBJECT, KEY_NAME, VALUE_NULL, END_OBJECT ),
+      events );
+    assertEquals( Arrays.asList( "a", "1", "2.5", "s", "b", "c", "d", "e" ), strings );
+    assertEquals( END_DOCUMENT, parser.nextEvent() );
+  }
+
+  public void testReadValue() throws ScriptException
+  {
+    JsonStreamParser parser = parser( "{\"skip\": {\"x\": [1, {}]}, \"n\": 7}" );
+    assertEquals( START_OBJECT, parser.nextEvent() );
+    assertEquals( KEY_NAME, parser.nextEvent() );
+    assertEquals( START_OBJECT, parser.nextEvent() );
+    Object value = parser.readValue();
+    assertTrue( value instanceof DataBindings );
+    assertTrue( ((Map)value).get( "x" ) instanceof JsonList );
+    assertEquals( END_OBJECT, parser.getEvent() );
+    assertEquals( KEY_NAME, parser.nextEvent() );
+    assertEquals( "n", parser.getString() );
+    assertEquals( VALUE_NUMBER, parser.nextEvent() );
+    assertEquals( 7, parser.readValue() );
+    assertEquals( END_OBJECT, parser.nextEvent() );
+    assertEquals( END_DOCUMENT, parser.nextEvent() );
+  }
+
+  public void testBigNumbers() throws ScriptException
+  {
+    JsonStreamParser parser = new JsonStreamParser( new StringReader( "12345678901234567890" ), true );
+    assertEquals( VALUE_NUMBER, parser.nextEvent() );
+    assertEquals( new BigInteger( "12345678901234567890" ), parser.readValue() );
+  }
+
+  public void testStreamArray()
+  {
+    String json = "[{\"a\": 1}, 2, \"x\", [], null]";
+    assertEquals( Json.fromJson( json ), parser( json ).streamValues().collect( Collectors.toList() ) );
+    assertEquals( 0, parser( "[]" ).streamValues().count() );
+    assertEquals( 0, parser( " " ).streamValues().count() );
+  }
+
+  public void testStreamNdjson()
+  {
+    assertEquals( Json.fromJson( "[{\"a\": 1}, {\"a\": 2.5}, {\"a\": \"s\"}]" ),
+      parser( "{\"a\": 1}\n{\"a\": 2.5}\n\n{\"a\": \"s\"}\n" ).streamValues().collect( Collectors.toList() ) );
+  }
+
+  public void testErrors()
+  {
+    assertError( "[1:7] Unexpected token ']'", "[1, 2,]" );
+    assertError( "[1:6] expecting ':', found '1'", "{\"a\" 1}" );
+    assertError( "[2:5] expecting ',', found '2'", "[1\n, 1 2]" );
+  }
+
+  public void testTokensAcrossBufferBoundary()
+  {
+    // the reader's chars are buffered 8192 at a time, shift each kind of token across the end of the first buffer
+    String tokens = "[\"ab\\\"c\\u00e9\\n\", {\"key\": -12345.678e-2}, true, false, null, 1234567890123]";
+    for( int padding = 8192 - tokens.length() - 2; padding <= 8192 + 2; padding++ )
+    {
+      String json = String.join( "", Collections.nCopies( padding, " " ) ) + tokens;
+      assertEquals( "padding " + padding, Json.fromJson( json ), values( new StringReader( json ) ) );
+    }
+  }
+
+  public void testTokensAcrossRefills()
+  {
+    // strings and keys longer than the buffer, read in small chunks so the marked chars are spilled on every refill
+    StringBuilder sb = new StringBuilder();
+    for( int i = 0; i < 3000; i++ )
+    {
+      sb.append( "abc\\u00e9\\t" );
+    }
+    String longString = sb.toString();
+    String json = "[{\"" + longString + "\": \"" + longString + "\"}, 12.5, \"" + longString + "\"]";
+    Object expected = Json.fromJson( json );
+    assertEquals( expected, values( new StringReader( json ) ) );
+    for( int chunk: new int[]{1, 7, 8191, 8193} )
+    {
+      assertEquals( "chunk " + chunk, expected, values( new ChunkedReader( new StringReader( json ), chunk ) ) );
+    }
+  }
+
+  public void testErrorPositionAtLargeOffset()
+  {
+    StringBuilder lines = new StringBuilder( "[\n" );
+    for( int i = 0; i < 10_000; i++ )
+    {
+      lines.append( "  1,\n" );
+    }
+    assertError( "[10002:5] expecting ',', found '2'", lines.append( "  1 2]" ).toString() );
+
+    // a line longer than the buffer
+    String padding = String.join( "", Collections.nCopies( 20_000, " " ) );
+    assertError( "[2:20006] expecting ',', found '2'", "[\n" + padding + "1, 1 2]" );
+  }
+
+  private void assertError( String expected, String json )
+  {
+    JsonStreamParser parser = parser( json );
+    try
+    {
+      while( parser.nextEvent() != END_DOCUMENT );
+      fail();
+    }
+    catch( ScriptException e )
+    {
+      assertEquals( expected, e.getMessage() );
+    }
+  }
+
+  private JsonStreamParser parser( String json )
+  {
+    return new JsonStreamParser( new StringReader( json ), false );
+  }
+
+  private List<Object> values( Reader reader )
+  {
+    return new JsonStreamParser( reader, false ).streamValues().collect( Collectors.toList() );
+  }
+
+  /**
+   * Returns at most {@code chunk} chars per read
+   */
+  private static class ChunkedReader extends FilterReader
+  {
+    private final int _chunk;
+
+    ChunkedReader( Reader in, int chunk )
+    {
+      super( in );
+      _chunk = chunk;
+    }
+
+    @Override
+    public int read( char[] cbuf, int off, int len ) throws IOException
+    {
+      return super.read( cbuf, off, Math.min( len, _chunk ) );
+    }
+  }
+}
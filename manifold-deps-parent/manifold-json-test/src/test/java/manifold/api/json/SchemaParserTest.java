@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2025 - Manifold Systems LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package manifold.api.json;
+
+import abc.Person;
+import abc.TopLevelArray;
+import java.io.StringReader;
+import junit.framework.TestCase;
+import manifold.rt.api.Bindings;
+
+public class SchemaParserTest extends TestCase
+{
+  public void testFromJsonStrict()
+  {
+    Person person = Person.loadStrict().fromJsonStrict(
+      "{\"Name\": \"Scott\", \"Age\": 39, \"Unknown\": {\"a\": [1, \"b\"]},\n" +
+      " \"address\": {\"Number\": 9604, \"City\": \"Golden Shores\", \"planet\": {\"Name\": \"Earth\"}},\n" +
+      " \"Hobby\": [{\"Category\": \"Sport\", \"Name\": \"Baseball\"}, {\"Name\": \"Hiking\"}]}" );
+    Bindings bindings = person.getBindings();
+    assertEquals( 39, bindings.get( "Age" ) );
+    assertFalse( bindings.containsKey( "Unknown" ) );
+    assertEquals( "Scott", person.getName() );
+    assertEquals( "Golden Shores", person.getAddress().getCity() );
+    assertEquals( Integer.valueOf( 9604 ), person.getAddress().getNumber() );
+    assertEquals( "Earth", person.getAddress().getPlanet().getName() );
+    assertEquals( 2, person.getHobby().size() );
+    assertEquals( "Hiking", person.getHobby().get( 1 ).getName() );
+    assertEquals( person, Person.load().fromJson( person.write().toJson() ) );
+  }
+
+  public void testFromJsonStrictErrors()
+  {
+    assertStrictError( "[2:24] expecting 'an integer', found '9604.5'",
+      "{\"Name\": \"Scott\",\n \"address\": {\"Number\": 9604.5}}" );
+    assertStrictError( "[1:10] expecting 'a string', found '39'", "{\"Name\": 39}" );
+    assertStrictError( "[1:33] expecting ']', found integer", "{\"Name\": \"Scott\", \"Unknown\": [1 2]}" );
+  }
+
+  public void testTopLevelArray()
+  {
+    TopLevelArray array = TopLevelArray.loadStrict().fromJsonStrictReader(
+      new StringReader( "[{\"foo\": \"hi\", \"bar\": 1}, {\"foo\": \"bye\"}]" ) );
+    assertEquals( 2, array.size() );
+    assertEquals( "bye", array.get( 1 ).getFoo() );
+    assertFalse( ((Bindings)array.getList().get( 0 )).containsKey( "bar" ) );
+  }
+
+  private void assertStrictError( String expected, String json )
+  {
+    try
+    {
+      Person.loadStrict().fromJsonStrict( json );
+      fail();
+    }
+    catch( RuntimeException e )
+    {
+      assertEquals( expected, e.getCause().getMessage() );
+    }
+  }
+}
@@ -31,6 +31,7 @@ import manifold.api.json.codegen.schema.JsonUnionType;
 import manifold.api.json.codegen.schema.LazyRefJsonType;
 import manifold.api.json.codegen.schema.TypeAttributes;
 import manifold.ext.rt.RuntimeMethods;
+import manifold.ext.rt.api.IListBacked;
 
 /**
  *
@@ -185,8 +186,7 @@ public class JsonListType extends JsonSchemaType
     }
     //noinspection unused
     String typeName = getIdentifier();
-    indent( sb, indent );
-    sb.append( "@Structural\n" );
+    addStructuralAnnotation( sb, indent, identifier );
     indent( sb, indent );
     //noinspection unused
     String componentType = makeTypeParameter( getComponentType(), true, false );
@@ -194,6 +194,7 @@ public class JsonListType extends JsonSchemaType
     renderFileField( sb, indent + 2 );
     renderStaticMembers( sb, indent + 2 );
     renderUnionAccessors( sb, indent + 2 );
+    addProxy( sb, indent + 2, identifier, componentType );
     renderInnerTypes( sb, indent, mutable );
     indent( sb, indent );
     sb.append( "}\n" );
@@ -280,6 +281,44 @@ public class JsonListType extends JsonSchemaType
     }
   }
 
+  /**
+   * Renders the {@code Proxy} class implementing this interface against its list, see {@code ListProxy}. Since the
+   * component type is known here, the proxy also spares {@code getFinalComponentType()} its reflective lookup.
+   */
+  private void addProxy( StringBuilder sb, int indent, String identifier, String componentType )
+  {
+    if( !hasCompiledProxy() )
+    {
+      return;
+    }
+
+    indent( sb, indent );
+    sb.append( "final class Proxy implements " ).append( identifier ).append( " {\n" );
+    indent( sb, indent + 2 );
+    sb.append( "private final List _list;\n" );
+    indent( sb, indent + 2 );
+    sb.append( "private Proxy(List list) {_list = list;}\n" );
+    indent( sb, indent + 2 );
+    sb.append( "public List getList() {return _list;}\n" );
+    if( componentType.indexOf( '<' ) < 0 )
+    {
+      indent( sb, indent + 2 );
+      sb.append( "public Class<?> getFinalComponentType() {return " ).append( componentType ).append( ".class;}\n" );
+    }
+    indent( sb, indent + 2 );
+    sb.append( "public boolean equals(Object obj) {return _list.equals(obj) || obj instanceof " )
+      .append( IListBacked.class.getTypeName() ).append( " && _list.equals(((" )
+      .append( IListBacked.class.getTypeName() ).append( ")obj).getList());}\n" );
+    indent( sb, indent + 2 );
+    sb.append( "public int hashCode() {return _list.hashCode();}\n" );
+    indent( sb, indent + 2 );
+    sb.append( "public String toString() {return _list.toString();}\n" );
+    indent( sb, indent );
+    sb.append( "}\n" );
+
+    addProxyFactory( sb, indent, identifier, List.class, "root" );
+  }
+
   private Set<IJsonType> getConstituents( IJsonType type, Set<IJsonType> constituents )
   {
     if( type instanceof JsonUnionType )
@@ -304,6 +343,9 @@ public class JsonListType extends JsonSchemaType
     // Provide a loader(...) method, returns Loader<typeName> with methods for loading content from String, URL, file, etc.
     addLoadMethod( sb, indent, typeName );
 
+    // Provide a loadStrict() method, returns a Loader<typeName> whose fromJsonStrict(...) parses against this type's schema
+    addLoadStrictMethod( sb, indent, typeName );
+
     // Provide a requester(urlBase) method, returns Requester<typeName> with for performing HTTP requests using HTTP GET, POST, PUT, PATCH, & DELETE
     addRequestMethods( sb, indent, typeName );
 
@@ -322,6 +364,17 @@ public class JsonListType extends JsonSchemaType
     sb.append( "}\n" );
   }
 
+  private void addLoadStrictMethod( StringBuilder sb, int indent, @SuppressWarnings("unused") String typeName )
+  {
+    indent( sb, indent );
+    //noinspection unused
+    sb.append( "static " ).append( "Loader<$typeName>" ).append( " loadStrict() {\n" );
+    indent( sb, indent );
+    sb.append( "  return new Loader<>(" ).append( makeSchemaParser( this ) ).append( ");\n" );
+    indent( sb, indent );
+    sb.append( "}\n" );
+  }
+
   private void addCreateMethod( StringBuilder sb, int indent, String typeName )
   {
     indent( sb, indent );
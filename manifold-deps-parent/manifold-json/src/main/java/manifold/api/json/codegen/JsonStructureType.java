@@ -28,6 +28,7 @@ import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 
+import manifold.ext.rt.api.IBindingsBacked;
 import manifold.ext.rt.api.Structural;
 import manifold.rt.api.Bindings;
 import manifold.api.fs.IFile;
@@ -36,6 +37,8 @@ import manifold.api.json.AbstractJsonTypeManifold;
 import manifold.api.json.JsonTransformer;
 import manifold.api.json.JsonIssue;
 import manifold.json.rt.Json;
+import manifold.json.rt.api.Serializer;
+import manifold.json.rt.parser.SchemaParser;
 import manifold.json.rt.parser.Token;
 import manifold.api.json.codegen.schema.JsonEnumType;
 import manifold.api.json.codegen.schema.JsonSchemaTransformer;
@@ -47,6 +50,7 @@ import manifold.ext.rt.RuntimeMethods;
 import manifold.internal.javac.IIssue;
 import manifold.rt.api.util.ManEscapeUtil;
 import manifold.rt.api.util.Pair;
+import manifold.util.ReflectUtil;
 
 /**
  * The main JSON type reflecting name/value pair bindings.
@@ -520,8 +524,7 @@ public class JsonStructureType extends JsonSchemaType
     }
     //noinspection unused
     String typeName = getIdentifier();
-    indent( sb, indent );
-    sb.append( "@" + Structural.class.getSimpleName() + "\n" );
+    addStructuralAnnotation( sb, indent, identifier );
     if( getIFile() instanceof IFileFragment )
     {
       indent( sb, indent );
@@ -538,9 +541,81 @@ public class JsonStructureType extends JsonSchemaType
     sb.append( "}\n" );
   }
 
+  /**
+   * @return True if values of this type are parsed with an object schema of its properties, otherwise it is a union or
+   * an enum parsed as any value
+   */
+  public boolean hasSchemaParser()
+  {
+    return !(this instanceof JsonUnionType) && !(this instanceof JsonEnumType) && !(this instanceof ErrantType) &&
+           getAllOfEnumType() == null;
+  }
+
+  /**
+   * Renders the holder of the {@link SchemaParser} {@code loadStrict()} parses this type with, declaring the properties
+   * of this type and its super types. The parser is made when {@code loadStrict()} is first called, not when this type
+   * is initialized.
+   */
+  private void addSchemaParserHolder( StringBuilder sb, int indent )
+  {
+    if( !hasSchemaParser() )
+    {
+      return;
+    }
+
+    String schemaParser = SchemaParser.class.getTypeName();
+    indent( sb, indent += 2 );
+    sb.append( "final class " ).append( SCHEMA_PARSER_HOLDER ).append( " {\n" );
+    indent( sb, indent + 2 );
+    sb.append( "public static final " ).append( schemaParser ).append( " INSTANCE = " );
+
+    // If additionalProperties is not defined, undeclared properties are skipped
+    Object addProps = getTypeAttributes().getAdditionalProperties();
+    boolean isPatternProperties = getTypeAttributes().getPatternProperties() != null && !getTypeAttributes().getPatternProperties().isEmpty();
+    boolean isAdditionalProperties = addProps != null && !Boolean.FALSE.equals( addProps ) || isPatternProperties;
+    sb.append( schemaParser ).append( ".object(" ).append( isAdditionalProperties ).append( ')' );
+    Map<String, IJsonType> members = new LinkedHashMap<>();
+    addSchemaMembers( this, members, new HashSet<>() );
+    for( Map.Entry<String, IJsonType> entry: members.entrySet() )
+    {
+      sb.append( '\n' );
+      indent( sb, indent + 4 );
+      sb.append( ".property(\"" ).append( ManEscapeUtil.escapeForJavaStringLiteral( entry.getKey() ) ).append( "\", " )
+        .append( makeSchemaParser( entry.getValue() ) ).append( ')' );
+    }
+    sb.append( ";\n" );
+    indent( sb, indent + 2 );
+    sb.append( "private " ).append( SCHEMA_PARSER_HOLDER ).append( "() {}\n" );
+    indent( sb, indent );
+    sb.append( "}\n" );
+  }
+
+  /**
+   * Collects the properties of {@code owner} and its super types, as {@link #addProxyAccessors} does.
+   */
+  private void addSchemaMembers( JsonStructureType owner, Map<String, IJsonType> members, Set<JsonStructureType> visited )
+  {
+    if( !visited.add( owner ) )
+    {
+      return;
+    }
+
+    owner._state._membersByName.forEach( members::putIfAbsent );
+    for( IJsonType superType: owner.getSuperTypes() )
+    {
+      if( superType instanceof JsonStructureType && !(superType instanceof JsonEnumType) &&
+          !(superType instanceof JsonUnionType) )
+      {
+        addSchemaMembers( (JsonStructureType)superType, members, visited );
+      }
+    }
+  }
+
   private void renderInnerTypes( StringBuilder sb, int indent, boolean mutable )
   {
     addBuilder( sb, indent );
+    addProxy( sb, indent, mutable );
+    addSchemaParserHolder( sb, indent );
 
     for( IJsonParentType child: _state._innerTypes.values() )
     {
@@ -839,6 +914,9 @@ public class JsonStructureType extends JsonSchemaType
     // Provide a loader(...) method, returns Loader<typeName> with methods for loading content from String, URL, file, etc.
     addLoadMethod( sb, indent, typeName );
 
+    // Provide a loadStrict() method, returns a Loader<typeName> whose fromJsonStrict(...) parses against this type's schema
+    addLoadStrictMethod( sb, indent, typeName );
+
     // Provide a requester(urlBase) method, returns Requester<typeName> with for performing HTTP requests using HTTP GET, POST, PUT, PATCH, & DELETE
     addRequestMethods( sb, indent, typeName );
 
@@ -910,6 +988,181 @@ public class JsonStructureType extends JsonSchemaType
     sb.append( "}\n" );
   }
 
+  /**
+   * Renders the {@code Proxy} class implementing this interface's accessors directly against its bindings, including
+   * the accessors it inherits. Follows the semantics of the dynamic proxy, see {@code MapStructExt}.
+   */
+  private void addProxy( StringBuilder sb, int indent, boolean mutable )
+  {
+    if( !hasCompiledProxy() )
+    {
+      return;
+    }
+
+    String identifier = getIdentifier();
+    indent( sb, indent += 2 );
+    sb.append( "final class Proxy implements " ).append( identifier ).append( " {\n" );
+    indent( sb, indent + 2 );
+    sb.append( "private final DataBindings _bindings;\n" );
+    indent( sb, indent + 2 );
+    sb.append( "private Proxy(DataBindings bindings) {_bindings = bindings;}\n" );
+    indent( sb, indent + 2 );
+    sb.append( "public DataBindings getBindings() {return _bindings;}\n" );
+    Map<String, String> accessors = new LinkedHashMap<>();
+    addProxyAccessors( this, true, mutable, accessors, new HashSet<>(), indent + 2 );
+    accessors.values().forEach( sb::append );
+    // serialization looks for writeReplace() in the class hierarchy, it does not find the interface's default method
+    indent( sb, indent + 2 );
+    sb.append( "public Object writeReplace() {return new " ).append( Serializer.class.getTypeName() ).append( "(this);}\n" );
+    indent( sb, indent + 2 );
+    sb.append( "public boolean equals(Object obj) {return obj instanceof " ).append( Bindings.class.getSimpleName() )
+      .append( " ? obj.equals(_bindings) : obj instanceof " ).append( IBindingsBacked.class.getTypeName() )
+      .append( " && _bindings.equals(((" ).append( IBindingsBacked.class.getTypeName() ).append( ")obj).getBindings());}\n" );
+    indent( sb, indent + 2 );
+    sb.append( "public int hashCode() {return _bindings.hashCode();}\n" );
+    indent( sb, indent + 2 );
+    sb.append( "public String toString() {return _bindings.toString();}\n" );
+    indent( sb, indent );
+    sb.append( "}\n" );
+
+    addProxyFactory( sb, indent, identifier, Map.class,
+      "root instanceof DataBindings ? (DataBindings)root : new DataBindings(root)" );
+  }
+
+  /**
+   * Collects the accessors of {@code owner} corresponding with those {@link #renderProperties} renders in its
+   * interface, and those of its super interfaces. Type names are relative to this type, where the proxy is rendered.
+   *
+   * @param extended True if the super interfaces {@code owner} extends are included. Otherwise {@code owner} is an
+   *                 inner type of a type the accessors are rendered in, where only its properties are included.
+   */
+  private void addProxyAccessors( JsonStructureType owner, boolean extended, boolean mutable,
+                                  Map<String, String> accessors, Set<JsonStructureType> visited, int indent )
+  {
+    if( !visited.add( owner ) )
+    {
+      return;
+    }
+
+    for( Map.Entry<String, IJsonType> entry: owner._state._membersByName.entrySet() )
+    {
+      String key = entry.getKey();
+      IJsonType type = entry.getValue();
+      String identifier = makeIdentifier( key, true );
+      boolean isWriteOnly = type.getTypeAttributes().getWriteOnly() != null && type.getTypeAttributes().getWriteOnly();
+      if( !isWriteOnly )
+      {
+        addProxyGetter( accessors, indent, "get" + identifier, getPropertyType( type ), type, key );
+      }
+      boolean isReadOnly = type.getTypeAttributes().getReadOnly() != null && type.getTypeAttributes().getReadOnly();
+      if( mutable && !isReadOnly )
+      {
+        addProxySetter( accessors, indent, "set" + identifier, getPropertyType( type, false, true ), key );
+      }
+      addProxyUnionAccessors( owner, mutable, key, type, accessors, indent );
+    }
+    addProxyUnionAccessors( owner, mutable, "", DynamicType.instance(), accessors, indent );
+
+    for( IJsonType superType: owner.getSuperTypes() )
+    {
+      if( owner.isSuperParentMe( superType ) )
+      {
+        if( !(superType instanceof JsonEnumType) )
+        {
+          addProxyAccessors( (JsonStructureType)superType, false, mutable, accessors, visited, indent );
+        }
+      }
+      else if( extended && superType instanceof JsonStructureType && !(superType instanceof JsonUnionType) )
+      {
+        addProxyAccessors( (JsonStructureType)superType, true, mutable, accessors, visited, indent );
+      }
+    }
+  }
+
+  private void addProxyUnionAccessors( JsonStructureType owner, boolean mutable, String key, IJsonType type,
+                                       Map<String, String> accessors, int indent )
+  {
+    Set<IJsonType> union = owner._state._unionMembers.get( key );
+    if( union == null || isCollapsedUnionEnum( type ) )
+    {
+      return;
+    }
+
+    String identifier = makeIdentifier( key, true );
+    for( IJsonType constituentType: union )
+    {
+      String unionName = makeMemberIdentifier( constituentType );
+      addProxyGetter( accessors, indent, "get" + identifier + "As" + unionName,
+        getConstituentQn( constituentType, type ), constituentType, key );
+      if( mutable )
+      {
+        addProxySetter( accessors, indent, "set" + identifier + "As" + unionName,
+          getConstituentQn( constituentType, type, true ), key );
+      }
+    }
+  }
+
+  private void addProxyGetter( Map<String, String> accessors, int indent, String methodName, String propertyType,
+                               IJsonType type, String key )
+  {
+    if( accessors.containsKey( methodName ) )
+    {
+      return;
+    }
+
+    StringBuilder sb = new StringBuilder();
+    int iAngle = propertyType.indexOf( '<' );
+    String rawType = iAngle < 0 ? propertyType : propertyType.substring( 0, iAngle );
+    String toType = rawType + ".class";
+    if( iAngle >= 0 )
+    {
+      // coerce to the parameterized type so a list's components are coerced too, resolve it once per class
+      toType = "_" + methodName + "Type";
+      indent( sb, indent );
+      sb.append( "private static final java.lang.reflect.Type " ).append( toType ).append( " = " )
+        .append( ReflectUtil.class.getTypeName() ).append( ".method(Proxy.class, \"" ).append( methodName )
+        .append( "\").getMethod().getGenericReturnType();\n" );
+    }
+    indent( sb, indent );
+    sb.append( "public " ).append( propertyType ).append( ' ' ).append( methodName ).append( "() {\n" );
+    indent( sb, indent + 2 );
+    sb.append( "Object value = _bindings.get(\"" ).append( ManEscapeUtil.escapeForJavaStringLiteral( key ) ).append( "\");\n" );
+    indent( sb, indent + 2 );
+    sb.append( "return " );
+    if( iAngle < 0 && !(type instanceof JsonSchemaType) && !propertyType.equals( Object.class.getSimpleName() ) )
+    {
+      // the coercion is the identity where the value is already an instance of the type, skip it. Note instanceof is
+      // structural for JSON interfaces, hence excluding them.
+      String boxedType = type instanceof JsonBasicType && ((JsonBasicType)type).isPrimitive()
+                         ? ((JsonBasicType)type).box().getTypeName()
+                         : propertyType;
+      sb.append( "value instanceof " ).append( boxedType ).append( " ? (" ).append( boxedType ).append( ")value : " );
+    }
+    sb.append( '(' ).append( propertyType ).append( ")coerceFromBindingsValue(value, " ).append( toType ).append( ");\n" );
+    indent( sb, indent );
+    sb.append( "}\n" );
+    accessors.put( methodName, sb.toString() );
+  }
+
+  private void addProxySetter( Map<String, String> accessors, int indent, String methodName, String propertyType,
+                               String key )
+  {
+    if( accessors.containsKey( methodName ) )
+    {
+      return;
+    }
+
+    StringBuilder sb = new StringBuilder();
+    indent( sb, indent );
+    sb.append( "public void " ).append( methodName ).append( '(' ).append( propertyType ).append( " value) {\n" );
+    indent( sb, indent + 2 );
+    sb.append( "_bindings.put(\"" ).append( ManEscapeUtil.escapeForJavaStringLiteral( key ) ).append( "\", " )
+      .append( RuntimeMethods.class.getSimpleName() ).append( ".coerceToBindingValue(value));\n" );
+    indent( sb, indent );
+    sb.append( "}\n" );
+    accessors.put( methodName, sb.toString() );
+  }
+
   private void addCopyMethod( StringBuilder sb, int indent )
   {
     //noinspection unused
@@ -1077,6 +1330,19 @@ public class JsonStructureType extends JsonSchemaType
     sb.append( "}\n" );
   }
 
+  private void addLoadStrictMethod( StringBuilder sb, int indent, @SuppressWarnings("unused") String typeName )
+  {
+    indent( sb, indent );
+    //noinspection unused
+    sb.append( "static " ).append( "Loader<$typeName>" ).append( " loadStrict() {\n" );
+    indent( sb, indent );
+    sb.append( "  return new Loader<>(" )
+      .append( hasSchemaParser() ? SCHEMA_PARSER_HOLDER + ".INSTANCE" : SchemaParser.class.getTypeName() + ".ANY" )
+      .append( ");\n" );
+    indent( sb, indent );
+    sb.append( "}\n" );
+  }
+
   @Override
   public boolean equalsStructurally( IJsonType o )
   {
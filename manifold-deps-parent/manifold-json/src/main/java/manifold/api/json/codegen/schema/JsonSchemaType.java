@@ -42,10 +42,14 @@ import manifold.api.json.JsonTransformer;
 import manifold.api.json.codegen.JsonBasicType;
 import manifold.api.json.JsonIssue;
 import manifold.api.json.codegen.JsonListType;
+import manifold.api.json.codegen.JsonStructureType;
 import manifold.api.json.JsonTypeManifold;
+import manifold.json.rt.parser.SchemaParser;
 import manifold.json.rt.parser.Token;
 import manifold.rt.api.ActualName;
 import manifold.api.type.ContributorKind;
+import manifold.ext.rt.api.IProxyFactory;
+import manifold.ext.rt.api.Structural;
 import manifold.api.type.ITypeManifold;
 import manifold.rt.api.SourcePosition;
 import manifold.rt.api.TypeReference;
@@ -63,8 +67,10 @@ import manifold.rt.api.util.ManStringUtil;
 public abstract class JsonSchemaType implements IJsonParentType, Cloneable
 {
   protected static final String FIELD_FILE_URL = "__FILE_URL";
+  protected static final String SCHEMA_PARSER_HOLDER = "SchemaParserHolder";
   @SuppressWarnings("unused")
   protected static final String FROM_SOURCE_METHOD = "fromSource";
+  private static final String COMPILED_PROXY_PROPERTY = "manifold.json.proxy.compiled";
 
   /**
    * Since we use clone() to copy, assignment to these fields must be reflected across all copies,
@@ -393,6 +399,101 @@ public abstract class JsonSchemaType implements IJsonParentType, Cloneable
     _state._issues.add( issue );
   }
 
+  /**
+   * If the {@code manifold.json.proxy.compiled} system property is {@code true}, generated structural interfaces
+   * include a {@code Proxy} class implementing their accessors directly against the bindings, along with the
+   * {@code ProxyFactory} declared in {@code @Structural}. Otherwise, the default, proxies are generated dynamically at
+   * runtime.
+   */
+  public static boolean isCompiledProxy()
+  {
+    return Boolean.valueOf( System.getProperty( COMPILED_PROXY_PROPERTY, "false" ) );
+  }
+
+  /**
+   * @return True if this type renders a compiled {@code Proxy}, which is not the case if it has an inner type of the
+   * same name.
+   */
+  protected boolean hasCompiledProxy()
+  {
+    return isCompiledProxy() && findChild( "Proxy" ) == null && findChild( "ProxyFactory" ) == null;
+  }
+
+  protected void addStructuralAnnotation( StringBuilder sb, int indent, String identifier )
+  {
+    indent( sb, indent );
+    sb.append( "@" ).append( Structural.class.getSimpleName() );
+    if( hasCompiledProxy() )
+    {
+      sb.append( "(factoryClass = " ).append( identifier ).append( ".ProxyFactory.class)" );
+    }
+    sb.append( '\n' );
+  }
+
+  /**
+   * Renders the {@code ProxyFactory} declared in {@code @Structural}, it constructs the compiled {@code Proxy}.
+   *
+   * @param rootClass The class of the value the proxy wraps, such as {@code Map} or {@code List}
+   * @param wrap The expression the {@code Proxy} is constructed with given the {@code root} value
+   */
+  protected void addProxyFactory( StringBuilder sb, int indent, String identifier, Class<?> rootClass, String wrap )
+  {
+    String root = rootClass.getSimpleName();
+    indent( sb, indent );
+    sb.append( "class ProxyFactory implements " ).append( IProxyFactory.class.getSimpleName() )
+      .append( '<' ).append( root ).append( ", " ).append( identifier ).append( "> {\n" );
+    indent( sb, indent + 2 );
+    sb.append( "public " ).append( identifier ).append( " proxy(" ).append( root ).append( " root, Class<" )
+      .append( identifier ).append( "> iface) {\n" );
+    indent( sb, indent + 4 );
+    sb.append( "return new Proxy(" ).append( wrap ).append( ");\n" );
+    indent( sb, indent + 2 );
+    sb.append( "}\n" );
+    indent( sb, indent );
+    sb.append( "}\n" );
+  }
+
+  /**
+   * @return An expression making the {@link SchemaParser} for values of {@code type}. Types without a schema of their
+   * own, such as unions and enums, are parsed as any value.
+   */
+  protected String makeSchemaParser( IJsonType type )
+  {
+    String schemaParser = SchemaParser.class.getTypeName();
+    if( type instanceof LazyRefJsonType )
+    {
+      type = ((LazyRefJsonType)type).resolve();
+    }
+    if( type instanceof JsonListType )
+    {
+      return schemaParser + ".list(" + makeSchemaParser( ((JsonListType)type).getComponentType() ) + ")";
+    }
+    if( type instanceof JsonStructureType && ((JsonStructureType)type).hasSchemaParser() )
+    {
+      // by reference, types may refer to each other before they are initialized
+      return schemaParser + ".ref(() -> " + getPropertyType( type ) + "." + SCHEMA_PARSER_HOLDER + ".INSTANCE)";
+    }
+    if( type instanceof JsonBasicType )
+    {
+      switch( ((JsonBasicType)type).getJsonType() )
+      {
+        case String:
+          return schemaParser + ".STRING";
+        case Integer:
+          return schemaParser + ".INTEGER";
+        case Number:
+          return schemaParser + ".DOUBLE";
+        case Boolean:
+          return schemaParser + ".BOOLEAN";
+      }
+    }
+    if( type instanceof JsonFormatType && ((JsonFormatType)type).getJavaType() == Long.class )
+    {
+      return schemaParser + ".LONG";
+    }
+    return schemaParser + ".ANY";
+  }
+
   protected void indent( StringBuilder sb, int indent )
   {
     for( int i = 0; i < indent; i++ )
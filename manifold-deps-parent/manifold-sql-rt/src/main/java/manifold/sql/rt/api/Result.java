@@ -63,7 +63,7 @@ public class Result<R extends IBindingsBacked> implements Iterable<R>
       ValueAccessor[] accessors = buildAccessors( allCols, accProvider, metaData, columnCount );
       for( boolean isOnRow = resultSet.next(); isOnRow; isOnRow = resultSet.next() )
       {
-        DataBindings row = new DataBindings();
+        DataBindings row = new DataBindings( columnCount );
         for( int i = 1; i <= columnCount; i++ )
         {
           String column = DbUtil.handleAnonQueryColumn( metaData.getColumnLabel( i ), i );
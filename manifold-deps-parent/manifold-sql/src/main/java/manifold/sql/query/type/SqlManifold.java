@@ -51,6 +51,13 @@ public class SqlManifold extends JavaTypeManifold<SqlModel>
     return EXTS.contains( fileExtension );
   }
 
+  @Override
+  protected boolean isSourceCacheable()
+  {
+    // query types depend on the database schema
+    return false;
+  }
+
   @Override
   public String getTypeNameForFile( String fqn, IFile file )
   {
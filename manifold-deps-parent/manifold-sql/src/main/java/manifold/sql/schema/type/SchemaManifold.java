@@ -78,6 +78,13 @@ public class SchemaManifold extends JavaTypeManifold<SchemaModel>
     return EXTS.contains( fileExtension );
   }
 
+  @Override
+  protected boolean isSourceCacheable()
+  {
+    // generated from the database schema, not the dbconfig file
+    return false;
+  }
+
   @Override
   public boolean isInnerType( String topLevel, String relativeInner )
   {
@@ -0,0 +1,145 @@
+/*
+ * Copyright (c) 2025 - Manifold Systems LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package manifold.api.fs.cache;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+import junit.framework.TestCase;
+import manifold.api.fs.IFile;
+import manifold.api.fs.jar.JarFileDirectoryImpl;
+import manifold.rt.api.util.Pair;
+
+public class PathCacheIndexTest extends TestCase
+{
+  private File _indexDir;
+  private File _jar;
+
+  @Override
+  protected void setUp() throws Exception
+  {
+    _indexDir = Files.createTempDirectory( "pathcacheindex" ).toFile();
+    PathCacheIndex.setIndexDir( _indexDir );
+    _jar = File.createTempFile( "indexed", ".jar" );
+    writeJar( "abc/Person.json", "abc/def/Address.json" );
+  }
+
+  @Override
+  protected void tearDown()
+  {
+    PathCacheIndex.setIndexDir( null );
+    //noinspection ResultOfMethodCallIgnored
+    _jar.delete();
+    for( File file : _indexDir.listFiles() )
+    {
+      //noinspection ResultOfMethodCallIgnored
+      file.delete();
+    }
+    //noinspection ResultOfMethodCallIgnored
+    _indexDir.delete();
+  }
+
+  public void testRoundTrip()
+  {
+    assertTrue( PathCacheIndex.isEnabled() );
+    JarFileDirectoryImpl jar = new JarFileDirectoryImpl( null, _jar );
+    assertNull( PathCacheIndex.load( jar ) );
+
+    List<Pair<String, IFile>> files = Arrays.asList(
+      new Pair<>( "abc.Person", jar.file( "abc/Person.json" ) ),
+      new Pair<>( "abc.def.Address", jar.file( "abc/def/Address.json" ) ) );
+    PathCacheIndex.save( jar, files, Collections.emptyMap() );
+
+    JarFileDirectoryImpl reopened = new JarFileDirectoryImpl( null, _jar );
+    List<Pair<String, IFile>> loaded = PathCacheIndex.load( reopened );
+    assertNotNull( loaded );
+    assertEquals( toStrings( files ), toStrings( loaded ) );
+    assertTrue( loaded.get( 1 ).getSecond().exists() );
+  }
+
+  public void testChangedJar() throws IOException
+  {
+    JarFileDirectoryImpl jar = new JarFileDirectoryImpl( null, _jar );
+    PathCacheIndex.save( jar, Collections.singletonList( new Pair<>( "abc.Person", jar.file( "abc/Person.json" ) ) ),
+      Collections.emptyMap() );
+    assertNotNull( PathCacheIndex.load( jar ) );
+
+    writeJar( "abc/Person.json", "abc/Other.json" );
+    assertTrue( _jar.setLastModified( _jar.lastModified() + 10_000 ) );
+    assertNull( PathCacheIndex.load( new JarFileDirectoryImpl( null, _jar ) ) );
+  }
+
+  public void testDamagedIndex() throws IOException
+  {
+    JarFileDirectoryImpl jar = new JarFileDirectoryImpl( null, _jar );
+    PathCacheIndex.save( jar, Collections.singletonList( new Pair<>( "abc.Person", jar.file( "abc/Person.json" ) ) ),
+      Collections.emptyMap() );
+    File[] indexFiles = _indexDir.listFiles();
+    assertEquals( 1, indexFiles.length );
+    byte[] bytes = Files.readAllBytes( indexFiles[0].toPath() );
+    Files.write( indexFiles[0].toPath(), Arrays.copyOf( bytes, bytes.length - 3 ) );
+    assertNull( PathCacheIndex.load( jar ) );
+  }
+
+  public void testUnmappedAfterLoad() throws IOException
+  {
+    File maps = new File( "/proc/self/maps" );
+    if( !maps.isFile() )
+    {
+      // the mappings are only listed on Linux
+      return;
+    }
+
+    JarFileDirectoryImpl jar = new JarFileDirectoryImpl( null, _jar );
+    PathCacheIndex.save( jar, Collections.singletonList( new Pair<>( "abc.Person", jar.file( "abc/Person.json" ) ) ),
+      Collections.emptyMap() );
+    assertNotNull( PathCacheIndex.load( jar ) );
+
+    String indexFile = _indexDir.listFiles()[0].getCanonicalPath();
+    assertFalse( new String( Files.readAllBytes( maps.toPath() ), StandardCharsets.UTF_8 ).contains( indexFile ) );
+  }
+
+  private void writeJar( String... names ) throws IOException
+  {
+    try( JarOutputStream out = new JarOutputStream( Files.newOutputStream( _jar.toPath() ) ) )
+    {
+      for( String name : names )
+      {
+        out.putNextEntry( new JarEntry( name ) );
+        out.write( "{}".getBytes( StandardCharsets.UTF_8 ) );
+        out.closeEntry();
+      }
+    }
+  }
+
+  private static List<String> toStrings( List<Pair<String, IFile>> files )
+  {
+    List<String> strings = new ArrayList<>();
+    for( Pair<String, IFile> pair : files )
+    {
+      strings.add( pair.getFirst() + "=" + pair.getSecond().getPath() );
+    }
+    return strings;
+  }
+}
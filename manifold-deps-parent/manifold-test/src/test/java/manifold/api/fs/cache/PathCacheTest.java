@@ -0,0 +1,202 @@
+/*
+ * Copyright (c) 2025 - Manifold Systems LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package manifold.api.fs.cache;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.reflect.Proxy;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+import junit.framework.TestCase;
+import manifold.api.fs.IDirectory;
+import manifold.api.fs.IFile;
+import manifold.api.fs.IFileSystem;
+import manifold.api.fs.def.FileSystemImpl;
+import manifold.api.host.IManifoldHost;
+import manifold.api.host.IModule;
+import manifold.api.util.cache.FqnCache;
+import manifold.util.ReflectUtil;
+import manifold.util.concurrent.LocklessLazyVar;
+
+public class PathCacheTest extends TestCase
+{
+  private File _dir;
+  private IModule _module;
+  private IFileSystem _fs;
+
+  @Override
+  protected void setUp() throws Exception
+  {
+    _dir = Files.createTempDirectory( "pathcache" ).toFile();
+    IManifoldHost host = stub( IManifoldHost.class );
+    _module = stub( IModule.class );
+    _fs = new FileSystemImpl( host, IFileSystem.CachingMode.NO_CACHING );
+  }
+
+  @Override
+  protected void tearDown()
+  {
+    setParallel( false );
+    delete( _dir );
+  }
+
+  public void testParallelSameAsSerial() throws IOException
+  {
+    assertParallelSameAsSerial();
+  }
+
+  public void testParallelSameAsSerialWithCachedListings() throws IOException
+  {
+    // directories are listed outside the file system lock and published under it
+    _fs = new FileSystemImpl( _fs.getHost(), IFileSystem.CachingMode.CHECK_TIMESTAMPS );
+    assertParallelSameAsSerial();
+  }
+
+  private void assertParallelSameAsSerial() throws IOException
+  {
+    // names occurring in more than one root resolve to the first, in path order
+    write( "src1/abc/Person.json", "src1/abc/def/Address.json", "src1/abc/Shared.json", "src1/Top.graphql",
+      "src1/abc/ignored/Hidden.json", "src1/not-a-package/Skipped.json", "src1/abc/def/ghi/Deep.yml" );
+    write( "src2/abc/Shared.json", "src2/abc/Shared.graphql", "src2/abc/def/Address.json", "src2/xyz/Other.json",
+      "src2/xyz/a/b/c/Nested.json", "src2/Top.graphql" );
+    for( int i = 0; i < 40; i++ )
+    {
+      write( "src3/many/p" + (i % 7) + "/Type" + i + ".json", "src3/abc/def/Type" + i + ".csv" );
+    }
+    jar( "lib.jar", "abc/Person.json", "abc/FromJar.json", "jarpkg/Data.yaml" );
+    List<IDirectory> path = Arrays.asList( dir( "src1" ), dir( "src2" ), dir( "src3" ), dir( "missing" ),
+      _fs.getIDirectory( new File( _dir, "lib.jar" ) ) );
+
+    // parallel first, so with a caching file system it is the one that lists the directories
+    Map<String, String> parallel = index( path, true );
+    Map<String, String> serial = index( path, false );
+    assertEquals( serial, parallel );
+
+    assertEquals( "src1/abc/Shared.json", serial.get( "json:abc.Shared" ) );
+    assertEquals( "src2/abc/Shared.graphql", serial.get( "graphql:abc.Shared" ) );
+    assertEquals( "src1/abc/Person.json", serial.get( "json:abc.Person" ) );
+    assertEquals( "lib.jar/abc/FromJar.json", serial.get( "json:abc.FromJar" ) );
+    assertNull( serial.get( "json:abc.ignored.Hidden" ) );
+    assertTrue( serial.containsKey( "json:many.p6.Type6" ) );
+  }
+
+  /**
+   * @return Each indexed name qualified with its extension mapped to its file, and each file mapped to its names
+   */
+  private Map<String, String> index( Collection<IDirectory> path, boolean parallel )
+  {
+    setParallel( parallel );
+    PathCache pathCache = new PathCache( _module, () -> path, () -> {} );
+    Map<String, String> index = new TreeMap<>();
+    for( Map.Entry<String, FqnCache<IFile>> entry : pathCache.getExtensionCaches().entrySet() )
+    {
+      for( String fqn : entry.getValue().getFqns() )
+      {
+        IFile file = entry.getValue().get( fqn );
+        index.put( entry.getKey() + ':' + fqn, relativePath( file ) );
+        index.put( relativePath( file ), new TreeSet<>( pathCache.getFqnForFile( file ) ).toString() );
+      }
+    }
+    return index;
+  }
+
+  private String relativePath( IFile file )
+  {
+    return dir( "" ).getPath().relativePath( file.getPath(), "/" );
+  }
+
+  private static void setParallel( boolean parallel )
+  {
+    //noinspection unchecked
+    ((LocklessLazyVar<Boolean>)ReflectUtil.field( PathCache.class, "PARALLEL" ).getStatic()).set( parallel );
+  }
+
+  private IDirectory dir( String name )
+  {
+    return _fs.getIDirectory( new File( _dir, name ) );
+  }
+
+  private void write( String... paths ) throws IOException
+  {
+    for( String path : paths )
+    {
+      File file = new File( _dir, path );
+      //noinspection ResultOfMethodCallIgnored
+      file.getParentFile().mkdirs();
+      Files.write( file.toPath(), "{}".getBytes( StandardCharsets.UTF_8 ) );
+    }
+  }
+
+  private void jar( String name, String... entries ) throws IOException
+  {
+    try( JarOutputStream out = new JarOutputStream( Files.newOutputStream( new File( _dir, name ).toPath() ) ) )
+    {
+      for( String entry : entries )
+      {
+        out.putNextEntry( new JarEntry( entry ) );
+        out.write( "{}".getBytes( StandardCharsets.UTF_8 ) );
+        out.closeEntry();
+      }
+    }
+  }
+
+  /**
+   * @return A stub whose {@code getHost()} returns a host stub, whose {@code isPathIgnored()} ignores packages named
+   * "ignored", and whose other methods return null or false
+   */
+  private static <T> T stub( Class<T> iface )
+  {
+    return iface.cast( Proxy.newProxyInstance( PathCacheTest.class.getClassLoader(), new Class[]{iface},
+      ( proxy, method, args ) -> {
+        switch( method.getName() )
+        {
+          case "getHost":
+            return stub( IManifoldHost.class );
+          case "isPathIgnored":
+            return ((String)args[0]).endsWith( ".ignored" );
+          case "hashCode":
+            return System.identityHashCode( proxy );
+          case "equals":
+            return proxy == args[0];
+          default:
+            return method.getReturnType() == boolean.class ? false : null;
+        }
+      } ) );
+  }
+
+  private static void delete( File file )
+  {
+    File[] children = file.listFiles();
+    if( children != null )
+    {
+      for( File child : children )
+      {
+        delete( child );
+      }
+    }
+    //noinspection ResultOfMethodCallIgnored
+    file.delete();
+  }
+}
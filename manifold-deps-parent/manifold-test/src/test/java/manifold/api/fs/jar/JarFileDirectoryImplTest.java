@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) 2025 - Manifold Systems LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package manifold.api.fs.jar;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+import junit.framework.TestCase;
+import manifold.api.fs.IDirectory;
+import manifold.api.fs.IFile;
+import manifold.api.fs.IResource;
+import manifold.util.ReflectUtil;
+
+public class JarFileDirectoryImplTest extends TestCase
+{
+  private File _jar;
+
+  @Override
+  protected void setUp() throws Exception
+  {
+    // no entries for directories, as with many jars
+    _jar = File.createTempFile( "entries", ".jar" );
+    try( JarOutputStream out = new JarOutputStream( Files.newOutputStream( _jar.toPath() ) ) )
+    {
+      write( out, "META-INF/MANIFEST.MF", "Manifest-Version: 1.0\n" );
+      write( out, "abc/Person.json", "{}" );
+      write( out, "abc/def/Address.json", "{}" );
+      write( out, "Root.json", "{}" );
+    }
+  }
+
+  @Override
+  protected void tearDown()
+  {
+    //noinspection ResultOfMethodCallIgnored
+    _jar.delete();
+  }
+
+  public void testResolveWithoutProcessing()
+  {
+    JarFileDirectoryImpl jar = new JarFileDirectoryImpl( null, _jar );
+    IFile file = jar.file( "abc/def/Address.json" );
+    assertTrue( file.exists() );
+    assertFalse( isProcessed( jar ) );
+
+    // processing finds the same resource
+    IDirectory def = jar.dir( "abc" ).dir( "def" );
+    assertTrue( isProcessed( jar ) );
+    assertSame( file, def.file( "Address.json" ) );
+    assertEquals( names( new JarFileDirectoryImpl( null, _jar ) ), names( jar ) );
+  }
+
+  public void testMissingFile()
+  {
+    JarFileDirectoryImpl jar = new JarFileDirectoryImpl( null, _jar );
+    assertFalse( jar.file( "xyz/Missing.json" ).exists() );
+    assertFalse( jar.file( "abc/def" ).exists() );
+    assertTrue( jar.file( "abc/Person.json" ).exists() );
+    assertEquals( names( new JarFileDirectoryImpl( null, _jar ) ), names( jar ) );
+  }
+
+  public void testMissingFileNamingDirectory()
+  {
+    JarFileDirectoryImpl jar = new JarFileDirectoryImpl( null, _jar );
+    try
+    {
+      // as with a processed jar, a file node for "abc" would otherwise break processing the jar
+      jar.file( "abc" );
+      fail();
+    }
+    catch( UnsupportedOperationException expected )
+    {
+    }
+    assertTrue( jar.dir( "abc" ).exists() );
+    assertTrue( jar.file( "abc/Person.json" ).exists() );
+  }
+
+  private static boolean isProcessed( JarFileDirectoryImpl jar )
+  {
+    return (boolean)ReflectUtil.field( jar, "_processed" ).get();
+  }
+
+  private static List<String> names( IDirectory dir )
+  {
+    List<String> names = new ArrayList<>();
+    addNames( dir, dir, names );
+    names.sort( null );
+    return names;
+  }
+
+  private static void addNames( IDirectory root, IDirectory dir, List<String> names )
+  {
+    for( IResource file : dir.listFiles() )
+    {
+      names.add( root.relativePath( file ) );
+    }
+    for( IDirectory child : dir.listDirs() )
+    {
+      names.add( root.relativePath( child ) + "/" );
+      addNames( root, child, names );
+    }
+  }
+
+  private static void write( JarOutputStream out, String name, String content ) throws IOException
+  {
+    out.putNextEntry( new JarEntry( name ) );
+    out.write( content.getBytes() );
+    out.closeEntry();
+  }
+}
@@ -0,0 +1,180 @@
+/*
+ * Copyright (c) 2025 - Manifold Systems LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package manifold.api.util.cache;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import junit.framework.TestCase;
+
+public class CompactFqnCacheTest extends TestCase
+{
+  private static final String[] NAMES = {
+    "abc", "abc.Person", "abc.Person.Address", "abc.def.Person", "abc.Other", "xyz.Person",
+    "abc.Person<java.lang.String>", "abc.Person[]", "java.util.List<abc.Person>", "abc.Person$Inner",
+    "Type1", "Type2", "abc.Type1", "abc.Type2", "a.b.c.d.e.f"
+  };
+
+  public void testSameAsFqnCache()
+  {
+    Random random = new Random( 7 );
+    FqnCache<String> expected = new FqnCache<>();
+    CompactFqnCache<String> actual = new CompactFqnCache<>();
+    for( int i = 0; i < 20_000; i++ )
+    {
+      String fqn = NAMES[random.nextInt( NAMES.length )];
+      switch( random.nextInt( 5 ) )
+      {
+        case 0:
+        {
+          String data = random.nextBoolean() ? null : fqn + i;
+          expected.add( fqn, data );
+          actual.add( fqn, data );
+          break;
+        }
+        case 1:
+          assertEquals( fqn, expected.remove( fqn ), actual.remove( fqn ) );
+          break;
+        case 2:
+          if( random.nextInt( 100 ) == 0 )
+          {
+            expected.clear();
+            actual.clear();
+          }
+          break;
+        default:
+          assertEquals( fqn, expected.get( fqn ), actual.get( fqn ) );
+          assertEquals( fqn, expected.contains( fqn ), actual.contains( fqn ) );
+          break;
+      }
+      if( i % 100 == 0 )
+      {
+        assertEquals( expected.getFqns(), actual.getFqns() );
+      }
+    }
+  }
+
+  public void testManyNames()
+  {
+    // many children per node grow the arrays, many names exceed the table of recent lookups
+    FqnCache<Integer> expected = new FqnCache<>();
+    CompactFqnCache<Integer> actual = new CompactFqnCache<>();
+    for( int i = 0; i < 10_000; i++ )
+    {
+      String fqn = "org.example.module" + (i % 50) + ".Type" + i;
+      expected.add( fqn, i );
+      actual.add( fqn, i );
+    }
+    for( int i = 0; i < 10_000; i += 3 )
+    {
+      String fqn = "org.example.module" + (i % 50) + ".Type" + i;
+      assertTrue( expected.remove( fqn ) );
+      assertTrue( actual.remove( fqn ) );
+    }
+    for( int round = 0; round < 2; round++ )
+    {
+      for( int i = 0; i < 10_000; i++ )
+      {
+        String fqn = "org.example.module" + (i % 50) + ".Type" + i;
+        assertEquals( fqn, expected.get( fqn ), actual.get( fqn ) );
+        String absent = "org.example.module" + (i % 50) + ".Missing" + i;
+        assertEquals( absent, expected.contains( absent ), actual.contains( absent ) );
+      }
+    }
+    assertEquals( expected.getFqns(), actual.getFqns() );
+
+    List<Integer> visited = new ArrayList<>();
+    assertTrue( actual.visitDepthFirst( data -> visited.add( data ) ) );
+    List<Integer> expectedVisited = new ArrayList<>();
+    assertTrue( expected.visitDepthFirst( data -> expectedVisited.add( data ) ) );
+    assertEquals( new HashSet<>( expectedVisited ), new HashSet<>( visited ) );
+    assertEquals( expectedVisited.size(), visited.size() );
+  }
+
+  public void testUpdatesInvalidateRecentLookups()
+  {
+    CompactFqnCache<String> cache = new CompactFqnCache<>();
+    assertNull( cache.get( "abc.Person" ) );
+    assertFalse( cache.contains( "abc.Person" ) );
+
+    cache.add( "abc.Person", "a" );
+    assertEquals( "a", cache.get( "abc.Person" ) );
+    cache.add( "abc.Person", "b" );
+    assertEquals( "b", cache.get( "abc.Person" ) );
+
+    // a leaf becomes a node
+    assertFalse( cache.contains( "abc.Person.Address" ) );
+    cache.add( "abc.Person.Address", "c" );
+    assertEquals( "c", cache.get( "abc.Person.Address" ) );
+    assertEquals( "b", cache.get( "abc.Person" ) );
+
+    cache.remove( "abc.Person.Address" );
+    assertFalse( cache.contains( "abc.Person.Address" ) );
+    cache.clear();
+    assertFalse( cache.contains( "abc.Person" ) );
+  }
+
+  public void testConcurrentLookups() throws InterruptedException
+  {
+    int count = 50_000;
+    CompactFqnCache<Integer> cache = new CompactFqnCache<>();
+    AtomicInteger added = new AtomicInteger();
+    AtomicReference<String> failure = new AtomicReference<>();
+    Thread[] readers = new Thread[3];
+    for( int r = 0; r < readers.length; r++ )
+    {
+      long seed = r;
+      readers[r] = new Thread( () -> {
+        Random random = new Random( seed );
+        while( added.get() < count && failure.get() == null )
+        {
+          int bound = added.get();
+          if( bound == 0 )
+          {
+            continue;
+          }
+          // a name added before it was counted is always found with its value
+          int i = random.nextInt( bound );
+          Integer value = cache.get( name( i ) );
+          if( value == null || value != i )
+          {
+            failure.set( name( i ) + " = " + value );
+          }
+        }
+      } );
+      readers[r].start();
+    }
+    for( int i = 0; i < count; i++ )
+    {
+      cache.add( name( i ), i );
+      added.set( i + 1 );
+    }
+    for( Thread reader : readers )
+    {
+      reader.join();
+    }
+    assertNull( failure.get() );
+  }
+
+  private static String name( int i )
+  {
+    return "org.example.module" + (i % 100) + ".api.v" + (i % 7) + ".Type" + i;
+  }
+}
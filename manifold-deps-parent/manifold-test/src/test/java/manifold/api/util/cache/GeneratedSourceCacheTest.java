@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2025 - Manifold Systems LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package manifold.api.util.cache;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import junit.framework.TestCase;
+import manifold.api.util.fingerprint.Fingerprint;
+
+public class GeneratedSourceCacheTest extends TestCase
+{
+  private static final String CATEGORY = "abc.JsonTypeManifold";
+  private static final String OPTION = "manifold.json.proxy.compiled";
+  private static final File CACHE_DIR;
+  static
+  {
+    try
+    {
+      CACHE_DIR = Files.createTempDirectory( "sourcecache" ).toFile();
+    }
+    catch( IOException e )
+    {
+      throw new RuntimeException( e );
+    }
+    // the cache reads its setting once
+    System.setProperty( GeneratedSourceCache.CACHE_DIR_PROPERTY, CACHE_DIR.getPath() );
+  }
+
+  private GeneratedSourceCache _cache;
+
+  @Override
+  protected void setUp()
+  {
+    _cache = GeneratedSourceCache.instance();
+    assertTrue( _cache.isEnabled() );
+  }
+
+  @Override
+  protected void tearDown()
+  {
+    System.clearProperty( OPTION );
+    System.clearProperty( "manifold.perf" );
+    _cache.remove( CATEGORY, "abc.Person" );
+  }
+
+  public void testHitAndMiss()
+  {
+    Fingerprint key = new Fingerprint( "resources" );
+    assertNull( _cache.get( CATEGORY, "abc.Person", key ) );
+    _cache.put( CATEGORY, "abc.Person", key, "class Person {}\n" );
+
+    assertEquals( "class Person {}\n", _cache.get( CATEGORY, "abc.Person", new Fingerprint( "resources" ) ) );
+    assertNull( _cache.get( CATEGORY, "abc.Person", new Fingerprint( "changed" ) ) );
+    assertNull( _cache.get( CATEGORY, "abc.Other", key ) );
+    assertNull( _cache.get( "abc.OtherTypeManifold", "abc.Person", key ) );
+  }
+
+  public void testInvalidation() throws IOException
+  {
+    Fingerprint before = new Fingerprint( "before" );
+    Fingerprint after = new Fingerprint( "after" );
+    _cache.put( CATEGORY, "abc.Person", before, "class Person {}" );
+
+    // the entry for the new key replaces the stale one
+    _cache.put( CATEGORY, "abc.Person", after, "class Person { int age; }" );
+    assertNull( _cache.get( CATEGORY, "abc.Person", before ) );
+    assertEquals( "class Person { int age; }", _cache.get( CATEGORY, "abc.Person", after ) );
+
+    _cache.remove( CATEGORY, "abc.Person" );
+    assertNull( _cache.get( CATEGORY, "abc.Person", after ) );
+
+    // a damaged entry is a miss
+    File file = new File( new File( CACHE_DIR, CATEGORY ), "abc.Person.java" );
+    Files.write( file.toPath(), "class Person {}".getBytes( StandardCharsets.UTF_8 ) );
+    assertNull( _cache.get( CATEGORY, "abc.Person", after ) );
+  }
+
+  public void testOptionsInKey()
+  {
+    Fingerprint key = makeKey();
+    _cache.put( CATEGORY, "abc.Person", key, "class Person {}" );
+    assertNotNull( _cache.get( CATEGORY, "abc.Person", makeKey() ) );
+
+    // an option changing generated source misses
+    System.setProperty( OPTION, "true" );
+    assertFalse( key.equals( makeKey() ) );
+    assertNull( _cache.get( CATEGORY, "abc.Person", makeKey() ) );
+
+    System.clearProperty( OPTION );
+    assertNotNull( _cache.get( CATEGORY, "abc.Person", makeKey() ) );
+
+    // an option configuring the build does not
+    System.setProperty( "manifold.perf", "true" );
+    assertNotNull( _cache.get( CATEGORY, "abc.Person", makeKey() ) );
+  }
+
+  private static Fingerprint makeKey()
+  {
+    return GeneratedSourceCache.extendWithOptions( new Fingerprint( "resources" ) );
+  }
+}
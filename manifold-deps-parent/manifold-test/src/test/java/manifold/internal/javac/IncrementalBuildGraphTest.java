@@ -0,0 +1,174 @@
+/*
+ * Copyright (c) 2025 - Manifold Systems LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package manifold.internal.javac;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import junit.framework.TestCase;
+
+public class IncrementalBuildGraphTest extends TestCase
+{
+  private File _dir;
+  private File _graphFile;
+  private File _schema;
+  private File _query;
+  private File _person;
+  private File _querySource;
+  private File _personSource;
+
+  @Override
+  protected void setUp() throws Exception
+  {
+    _dir = Files.createTempDirectory( "graph" ).toFile();
+    _graphFile = new File( _dir, "graph.bin" );
+    _schema = write( "schema.graphql", "type Movie { title: String }" );
+    _query = write( "queries.graphql", "query Movies { movies { title } }" );
+    _person = write( "Person.json", "{\"name\": \"Scott\"}" );
+    _querySource = write( "UsesQuery.java", "class UsesQuery {}" );
+    _personSource = write( "UsesPerson.java", "class UsesPerson {}" );
+
+    // the query depends on its schema as well as its own file
+    IncrementalBuildGraph graph = IncrementalBuildGraph.load( _graphFile );
+    graph.addType( "abc.queries", files( _query, _schema ) );
+    graph.addType( "abc.schema", files( _query, _schema ) );
+    graph.addType( "abc.Person", files( _person ) );
+    graph.addReferences( _querySource, new HashSet<>( Arrays.asList( "abc.queries", "java.lang.String" ) ) );
+    graph.addReferences( _personSource, Collections.singleton( "abc.Person" ) );
+    assertTrue( graph.getUncompiledStaleSources().isEmpty() );
+    graph.save();
+  }
+
+  @Override
+  protected void tearDown()
+  {
+    for( File file: _dir.listFiles() )
+    {
+      //noinspection ResultOfMethodCallIgnored
+      file.delete();
+    }
+    //noinspection ResultOfMethodCallIgnored
+    _dir.delete();
+  }
+
+  public void testRoundTrip()
+  {
+    IncrementalBuildGraph graph = IncrementalBuildGraph.load( _graphFile );
+    assertTrue( graph.getChangedFiles().isEmpty() );
+    assertTrue( graph.isUnchanged( "abc.queries", files( _query, _schema ) ) );
+    assertTrue( graph.isUnchanged( "abc.Person", files( _person ) ) );
+    assertFalse( graph.isUnchanged( "abc.Unknown", files( _person ) ) );
+    assertEquals( new HashSet<>( Arrays.asList( "abc.queries", "abc.schema" ) ), graph.getTypesForFile( _schema ) );
+    assertTrue( IncrementalBuildGraph.computeRecompileSet( _graphFile ).isEmpty() );
+  }
+
+  public void testTouchedResource()
+  {
+    assertTrue( _schema.setLastModified( _schema.lastModified() - 10_000 ) );
+    IncrementalBuildGraph graph = IncrementalBuildGraph.load( _graphFile );
+    assertTrue( graph.getChangedFiles().isEmpty() );
+    assertTrue( graph.isUnchanged( "abc.queries", files( _query, _schema ) ) );
+  }
+
+  public void testChangedReferencedResource() throws IOException
+  {
+    write( "schema.graphql", "type Movie { title: String, year: Int }" );
+    IncrementalBuildGraph graph = IncrementalBuildGraph.load( _graphFile );
+    assertEquals( Collections.singletonList( _schema.getAbsoluteFile() ), graph.getChangedFiles() );
+    // the query did not change, but the schema it depends on did
+    assertFalse( graph.isUnchanged( "abc.queries", files( _query, _schema ) ) );
+    assertTrue( graph.isUnchanged( "abc.Person", files( _person ) ) );
+    assertEquals( Collections.singleton( _querySource.getAbsolutePath() ),
+      IncrementalBuildGraph.computeRecompileSet( _graphFile ) );
+  }
+
+  public void testDeletedResource()
+  {
+    assertTrue( _person.delete() );
+    IncrementalBuildGraph graph = IncrementalBuildGraph.load( _graphFile );
+    assertFalse( graph.isUnchanged( "abc.Person", files( _person ) ) );
+    assertTrue( graph.isUnchanged( "abc.queries", files( _query, _schema ) ) );
+    assertEquals( Collections.singleton( _personSource.getAbsolutePath() ),
+      IncrementalBuildGraph.computeRecompileSet( _graphFile ) );
+
+    // the type is gone after the referencing source is recompiled
+    graph.addReferences( _personSource, Collections.emptySet() );
+    assertTrue( graph.getUncompiledStaleSources().isEmpty() );
+    graph.save();
+    graph = IncrementalBuildGraph.load( _graphFile );
+    assertTrue( graph.getChangedFiles().isEmpty() );
+    assertTrue( graph.getTypesForFile( _person ).isEmpty() );
+    assertTrue( IncrementalBuildGraph.computeRecompileSet( _graphFile ).isEmpty() );
+  }
+
+  public void testAddedResource() throws IOException
+  {
+    File other = write( "other.graphql", "type Actor { name: String }" );
+    IncrementalBuildGraph graph = IncrementalBuildGraph.load( _graphFile );
+    assertTrue( graph.getChangedFiles().isEmpty() );
+    // the query may now reference the new schema file
+    assertFalse( graph.isUnchanged( "abc.queries", files( _query, _schema, other ) ) );
+
+    graph.addType( "abc.queries", files( _query, _schema, other ) );
+    assertEquals( Collections.singleton( _querySource.getAbsolutePath() ), graph.getUncompiledStaleSources() );
+  }
+
+  public void testRecompileSet() throws IOException
+  {
+    write( "schema.graphql", "type Movie { title: String, year: Int }" );
+    IncrementalBuildGraph graph = IncrementalBuildGraph.load( _graphFile );
+    graph.addType( "abc.queries", files( _query, _schema ) );
+    graph.addType( "abc.schema", files( _query, _schema ) );
+    // the source referencing the query is not part of this build
+    assertEquals( Collections.singleton( _querySource.getAbsolutePath() ), graph.getUncompiledStaleSources() );
+
+    graph.addReferences( _querySource, Collections.singleton( "abc.queries" ) );
+    assertTrue( graph.getUncompiledStaleSources().isEmpty() );
+    graph.save();
+
+    graph = IncrementalBuildGraph.load( _graphFile );
+    assertTrue( graph.getChangedFiles().isEmpty() );
+    assertTrue( graph.isUnchanged( "abc.queries", files( _query, _schema ) ) );
+    assertTrue( graph.isUnchanged( "abc.Person", files( _person ) ) );
+    assertTrue( IncrementalBuildGraph.computeRecompileSet( _graphFile ).isEmpty() );
+  }
+
+  public void testDamagedGraph() throws IOException
+  {
+    Files.write( _graphFile.toPath(), new byte[]{1, 2, 3} );
+    IncrementalBuildGraph graph = IncrementalBuildGraph.load( _graphFile );
+    assertFalse( graph.isUnchanged( "abc.Person", files( _person ) ) );
+    assertTrue( IncrementalBuildGraph.computeRecompileSet( _graphFile ).isEmpty() );
+  }
+
+  private File write( String name, String content ) throws IOException
+  {
+    File file = new File( _dir, name );
+    Files.write( file.toPath(), content.getBytes( StandardCharsets.UTF_8 ) );
+    return file;
+  }
+
+  private static Set<File> files( File... files )
+  {
+    return new HashSet<>( Arrays.asList( files ) );
+  }
+}
@@ -0,0 +1,164 @@
+/*
+ * Copyright (c) 2025 - Manifold Systems LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package manifold.internal.javac;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import junit.framework.TestCase;
+import manifold.internal.host.RuntimeManifoldHost;
+import manifold.internal.runtime.Bootstrap;
+import manifold.util.ReflectUtil;
+import manifold.util.concurrent.LocklessLazyVar;
+
+public class JavaParserTest extends TestCase
+{
+  private static final List<String> OPTIONS =
+    Arrays.asList( "-source", "8", "-g", "-nowarn", "-Xlint:none", "-proc:none", "-parameters" );
+
+  private JavaParser _parser;
+  private JavaCompiler _javac;
+  private int _tasks;
+
+  @Override
+  protected void setUp()
+  {
+    // types made by MultiTypeManifold from abc/batch/*/*.types compile at runtime, each test uses its own package
+    Bootstrap.init();
+    _parser = (JavaParser)RuntimeManifoldHost.get().getJavaParser();
+    ReflectUtil.method( _parser, "init" ).invoke();
+    batchCompile().set( true );
+
+    // count the javac tasks
+    _javac = (JavaCompiler)ReflectUtil.field( _parser, "_javac" ).get();
+    ReflectUtil.field( _parser, "_javac" ).set( Proxy.newProxyInstance( getClass().getClassLoader(),
+      new Class[]{JavaCompiler.class}, ( proxy, method, args ) -> {
+        if( method.getName().equals( "getTask" ) )
+        {
+          _tasks++;
+        }
+        try
+        {
+          return method.invoke( _javac, args );
+        }
+        catch( InvocationTargetException e )
+        {
+          throw e.getCause();
+        }
+      } ) );
+  }
+
+  @Override
+  protected void tearDown()
+  {
+    ReflectUtil.field( _parser, "_javac" ).set( _javac );
+    batchCompile().clear();
+  }
+
+  public void testSiblingsCompiledInOneTask()
+  {
+    assertNotNull( compile( "abc.batch.siblings.Shapes" ) );
+    assertEquals( 1, _tasks );
+
+    // served from memory
+    assertNotNull( compile( "abc.batch.siblings.Shapes_Circle" ) );
+    assertNotNull( compile( "abc.batch.siblings.Shapes_Square" ) );
+    assertEquals( 1, _tasks );
+  }
+
+  public void testUncompiledTypesJoinTheBatch()
+  {
+    // makes Queued's source without compiling it
+    assertTrue( _parser.parseType( "abc.batch.pending.Queued", new ArrayList<>(), new DiagnosticCollector<>() ) );
+    _tasks = 0;
+
+    assertNotNull( compile( "abc.batch.pending.Requested" ) );
+    assertNotNull( compile( "abc.batch.pending.Queued" ) );
+    assertEquals( 1, _tasks );
+  }
+
+  public void testFailedBatchFallsBackToSingleCompile()
+  {
+    // the error in Broken_Bad fails the batch, Broken is then compiled by itself
+    assertNotNull( compile( "abc.batch.broken.Broken" ) );
+    assertEquals( 2, _tasks );
+    //noinspection unchecked
+    Set<String> unbatchable = (Set<String>)ReflectUtil.field( _parser, "_unbatchable" ).get();
+    assertTrue( unbatchable.contains( "abc.batch.broken.Broken" ) );
+    assertTrue( unbatchable.contains( "abc.batch.broken.Broken_Bad" ) );
+
+    // compiled by itself instead of repeating the failed batch
+    assertNull( compile( "abc.batch.broken.Broken_Bad" ) );
+    assertEquals( 3, _tasks );
+  }
+
+  public void testBatchIsCapped()
+  {
+    JavaParser.Batch batch = new JavaParser.Batch( 3 );
+    JavaFileObject schema = source( "abc/schema" );
+    assertTrue( batch.add( "abc.Requested", source( "abc/Requested" ) ) );
+    assertTrue( batch.add( "abc.schema", schema ) );
+    assertFalse( batch.isFull() );
+    // a file producing more than one type is compiled once
+    assertTrue( batch.add( "abc.queries", schema ) );
+    assertTrue( batch.isFull() );
+
+    assertFalse( batch.add( "abc.Pending", source( "abc/Pending" ) ) );
+    assertFalse( batch.contains( "abc.Pending" ) );
+    // already in the batch
+    assertTrue( batch.add( "abc.schema", schema ) );
+
+    assertEquals( 3, batch.size() );
+    assertEquals( Arrays.asList( "abc.Requested", "abc.schema", "abc.queries" ), new ArrayList<>( batch.getTypes() ) );
+    assertEquals( 2, batch.getFiles().size() );
+  }
+
+  public void testBatchOfOne()
+  {
+    JavaParser.Batch batch = new JavaParser.Batch( 1 );
+    assertTrue( batch.add( "abc.Requested", source( "abc/Requested" ) ) );
+    assertTrue( batch.isFull() );
+    assertFalse( batch.add( "abc.Other", source( "abc/Other" ) ) );
+    assertEquals( 1, batch.size() );
+  }
+
+  private InMemoryClassJavaFileObject compile( String fqn )
+  {
+    return _parser.compile( fqn, OPTIONS, new DiagnosticCollector<>() );
+  }
+
+  private static LocklessLazyVar<Boolean> batchCompile()
+  {
+    //noinspection unchecked
+    return (LocklessLazyVar<Boolean>)ReflectUtil.field( JavaParser.class, "BATCH_COMPILE" ).getStatic();
+  }
+
+  private static JavaFileObject source( String path )
+  {
+    return new SimpleJavaFileObject( URI.create( "string:///" + path + ".java" ), JavaFileObject.Kind.SOURCE )
+    {
+    };
+  }
+}
@@ -0,0 +1,143 @@
+/*
+ * Copyright (c) 2025 - Manifold Systems LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package manifold.internal.javac;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import javax.tools.DiagnosticListener;
+import javax.tools.JavaFileManager;
+import javax.tools.JavaFileObject;
+import manifold.api.fs.IFile;
+import manifold.api.host.IManifoldHost;
+import manifold.api.host.IModule;
+import manifold.api.host.IRuntimeManifoldHost;
+import manifold.api.type.AbstractSingleFileModel;
+import manifold.api.type.JavaTypeManifold;
+import manifold.rt.api.util.StreamUtil;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Produces several top-level classes from one {@code .types} file, for testing runtime batch compilation. Each line of
+ * the file declares a class in the file's package, {@code Name { members }}, and the first line declares the class
+ * named after the file.
+ */
+public class MultiTypeManifold extends JavaTypeManifold<MultiTypeManifold.Model>
+{
+  @Override
+  public boolean accept( IModule module )
+  {
+    // only the runtime batch test uses these
+    return module.getHost() instanceof IRuntimeManifoldHost;
+  }
+
+  @Override
+  public void init( IModule module )
+  {
+    init( module, (fqn, files) -> new Model( getModule().getHost(), fqn, files ) );
+  }
+
+  @Override
+  public boolean handlesFileExtension( String fileExtension )
+  {
+    return fileExtension.equalsIgnoreCase( "types" );
+  }
+
+  @Override
+  public boolean isInnerType( String topLevelFqn, String relativeInner )
+  {
+    return false;
+  }
+
+  @Override
+  protected Set<String> getAdditionalTypes( String fqnForFile, IFile file )
+  {
+    String pkg = fqnForFile.substring( 0, fqnForFile.lastIndexOf( '.' ) + 1 );
+    Set<String> types = new LinkedHashSet<>();
+    List<String> lines = readLines( file );
+    for( String line: lines.subList( 1, lines.size() ) )
+    {
+      types.add( pkg + getName( line ) );
+    }
+    return types;
+  }
+
+  @Override
+  public String[] getTypesForFile( IFile file )
+  {
+    Set<String> types = new LinkedHashSet<>();
+    for( String fqn: super.getTypesForFile( file ) )
+    {
+      types.add( fqn );
+      types.addAll( getAdditionalTypes( fqn, file ) );
+    }
+    return types.toArray( new String[0] );
+  }
+
+  @Override
+  protected String contribute( JavaFileManager.Location location, String topLevelFqn, boolean genStubs, String existing,
+                               Model model, DiagnosticListener<JavaFileObject> errorHandler )
+  {
+    int iDot = topLevelFqn.lastIndexOf( '.' );
+    String name = topLevelFqn.substring( iDot + 1 );
+    for( String line: readLines( model.getFile() ) )
+    {
+      if( getName( line ).equals( name ) )
+      {
+        return "package " + topLevelFqn.substring( 0, iDot ) + ";\n\npublic class " + line + "\n";
+      }
+    }
+    return null;
+  }
+
+  private static String getName( String line )
+  {
+    return line.substring( 0, line.indexOf( '{' ) ).trim();
+  }
+
+  private static List<String> readLines( IFile file )
+  {
+    try
+    {
+      List<String> lines = new ArrayList<>();
+      for( String line: StreamUtil.getContent( new InputStreamReader( file.openInputStream(), UTF_8 ) ).split( "\n" ) )
+      {
+        if( !line.trim().isEmpty() )
+        {
+          lines.add( line.trim() );
+        }
+      }
+      return lines;
+    }
+    catch( IOException ioe )
+    {
+      throw new RuntimeException( ioe );
+    }
+  }
+
+  static class Model extends AbstractSingleFileModel
+  {
+    Model( IManifoldHost host, String fqn, Set<IFile> files )
+    {
+      super( host, fqn, files );
+    }
+  }
+}
@@ -0,0 +1,193 @@
+/*
+ * Copyright (c) 2025 - Manifold Systems LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package manifold.internal.runtime.protocols;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Arrays;
+import junit.framework.TestCase;
+import manifold.api.util.fingerprint.Fingerprint;
+
+public class ClassFileCacheTest extends TestCase
+{
+  private static final File CACHE_DIR;
+  static
+  {
+    try
+    {
+      CACHE_DIR = Files.createTempDirectory( "classcache" ).toFile();
+    }
+    catch( IOException e )
+    {
+      throw new RuntimeException( e );
+    }
+    // the cache reads its settings once
+    System.setProperty( "manifold.class.cache", CACHE_DIR.getPath() );
+    System.setProperty( "manifold.class.cache.size", "1" );
+  }
+
+  @Override
+  protected void tearDown()
+  {
+    delete( CACHE_DIR );
+    //noinspection ResultOfMethodCallIgnored
+    CACHE_DIR.mkdir();
+  }
+
+  public void testPutGet()
+  {
+    assertTrue( ClassFileCache.isEnabled() );
+    Fingerprint key = new Fingerprint( "abc.Person" );
+    assertNull( ClassFileCache.get( key ) );
+    byte[] bytes = classFile( 100 );
+    ClassFileCache.put( key, bytes );
+    assertTrue( Arrays.equals( bytes, ClassFileCache.get( key ) ) );
+    assertNull( ClassFileCache.get( new Fingerprint( "abc.Other" ) ) );
+  }
+
+  public void testNotAClassFile()
+  {
+    Fingerprint key = new Fingerprint( "abc.Damaged" );
+    ClassFileCache.put( key, new byte[]{1, 2, 3, 4, 5} );
+    assertNull( ClassFileCache.get( key ) );
+  }
+
+  public void testEviction()
+  {
+    // 2MB in 16KB entries through a 1MB cache
+    int count = 128;
+    for( int i = 0; i < count; i++ )
+    {
+      put( "abc.Type" + i, 16 * 1024, i );
+      // the cache exceeds its bound by at most the entries written since the last check
+      assertTrue( cacheSize() <= 1024 * 1024 + 16 * 1024 );
+    }
+    assertNull( ClassFileCache.get( new Fingerprint( "abc.Type0" ) ) );
+    assertNotNull( ClassFileCache.get( new Fingerprint( "abc.Type" + (count - 1) ) ) );
+  }
+
+  public void testEvictionIsThrottled() throws IOException
+  {
+    // write until the cache is checked and evicts
+    int i = 0;
+    int count;
+    do
+    {
+      count = CACHE_DIR.listFiles().length;
+      put( "abc.Fill" + i, 16 * 1024, 1000 + i++ );
+    } while( CACHE_DIR.listFiles().length > count && i < 1000 );
+
+    // another JVM sharing the directory fills it, this JVM does not check until its writes exhaust the room it had
+    File other = new File( CACHE_DIR, "other.class" );
+    Files.write( other.toPath(), classFile( 512 * 1024 ) );
+    assertTrue( other.setLastModified( 0 ) );
+    for( int j = 0; j < 8; j++ )
+    {
+      put( "abc.More" + j, 16 * 1024, 1000 + i++ );
+      assertTrue( other.exists() );
+    }
+    for( int j = 0; j < 64 && other.exists(); j++ )
+    {
+      put( "abc.Rest" + j, 16 * 1024, 1000 + i++ );
+    }
+    assertFalse( other.exists() );
+  }
+
+  public void testDirectoryFingerprint() throws IOException
+  {
+    File dir = Files.createTempDirectory( "classes" ).toFile();
+    try
+    {
+      File nested = new File( dir, "abc/def" );
+      assertTrue( nested.mkdirs() );
+      File file = new File( nested, "Person.json" );
+      Files.write( file.toPath(), "{\"name\": \"Scott\"}".getBytes() );
+      long dirModified = dir.lastModified();
+
+      String before = fingerprint( dir );
+      assertEquals( before, fingerprint( dir ) );
+
+      // a change in a nested directory does not touch the root directory
+      Files.write( file.toPath(), "{\"name\": \"Scott\", \"age\": 39}".getBytes() );
+      assertTrue( dir.setLastModified( dirModified ) );
+      assertFalse( before.equals( fingerprint( dir ) ) );
+
+      String afterChange = fingerprint( dir );
+      assertTrue( file.setLastModified( file.lastModified() - 10_000 ) );
+      assertFalse( afterChange.equals( fingerprint( dir ) ) );
+    }
+    finally
+    {
+      delete( dir );
+    }
+  }
+
+  private static String fingerprint( File dir )
+  {
+    Fingerprint fp = new Fingerprint();
+    ClassFileCache.extendWithFiles( fp, dir );
+    return fp.toHexString();
+  }
+
+  /**
+   * Puts an entry and sets its timestamp to {@code time} seconds, since entries written within the timestamp resolution
+   * of the file system are otherwise equally old.
+   */
+  private static File put( String name, int length, int time )
+  {
+    Fingerprint key = new Fingerprint( name );
+    ClassFileCache.put( key, classFile( length ) );
+    File file = new File( CACHE_DIR, key.toHexString() + ".class" );
+    assertTrue( file.setLastModified( time * 1000L ) );
+    return file;
+  }
+
+  private static long cacheSize()
+  {
+    long total = 0;
+    for( File file : CACHE_DIR.listFiles() )
+    {
+      total += file.length();
+    }
+    return total;
+  }
+
+  private static byte[] classFile( int length )
+  {
+    byte[] bytes = new byte[length];
+    bytes[0] = (byte)0xCA;
+    bytes[1] = (byte)0xFE;
+    bytes[2] = (byte)0xBA;
+    bytes[3] = (byte)0xBE;
+    return bytes;
+  }
+
+  private static void delete( File file )
+  {
+    File[] children = file.listFiles();
+    if( children != null )
+    {
+      for( File child : children )
+      {
+        delete( child );
+      }
+    }
+    //noinspection ResultOfMethodCallIgnored
+    file.delete();
+  }
+}
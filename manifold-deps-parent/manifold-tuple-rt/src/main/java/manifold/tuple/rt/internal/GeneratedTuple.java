@@ -32,6 +32,9 @@ import java.util.stream.Collectors;
 /**
  * The super type for tuple classes generated from tuple expressions.
  * It is not designed for general use.
+ * <p/>
+ * Generated tuple classes override {@link #orderedValues()}, {@link #hashCode()}, {@link #equals(Object)}, and
+ * {@link #toString()} with direct field access, the reflective implementations here are a fallback.
  */
 @SuppressWarnings( "unused" )
 public abstract class GeneratedTuple implements Tuple, Serializable
@@ -64,7 +67,7 @@ public abstract class GeneratedTuple implements Tuple, Serializable
     {
       return true;
     }
-    if( !Tuple.class.isAssignableFrom( o.getClass() ) )
+    if( !(o instanceof Tuple) )
     {
       return false;
     }
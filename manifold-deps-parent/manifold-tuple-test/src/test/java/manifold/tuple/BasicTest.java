@@ -184,6 +184,19 @@ public class BasicTest extends TestCase
     assertNotEquals( t1, t3 );
   }
 
+  public void testTupleEqualsAcrossClasses()
+  {
+    auto t1 = (name: "Scott", age: 20, ratio: Double.NaN);
+    auto t2 = (name: "Scott", age: Integer.valueOf( 20 ), ratio: Double.valueOf( Double.NaN ));
+    assertNotSame( t1.getClass(), t2.getClass() );
+    assertEquals( t1, t2 );
+    assertEquals( t2, t1 );
+    assertEquals( t1.hashCode(), t2.hashCode() );
+    assertEquals( t1.orderedValues(), t2.orderedValues() );
+    assertEquals( Arrays.asList( 20, "Scott", Double.NaN ), t1.orderedValues() );
+    assertFalse( t1.equals( null ) );
+  }
+
   public void testIterable()
   {
     auto x = (name: "Scott", age: 20);
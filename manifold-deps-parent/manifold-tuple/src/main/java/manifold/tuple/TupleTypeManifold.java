@@ -50,6 +50,18 @@ import static manifold.tuple.TupleTypeProvider.BASE_NAME;
  */
 public class TupleTypeManifold extends BaseService implements ITypeManifold
 {
+  private static final Map<String, String> PRIMITIVE_TO_BOX = new HashMap<String, String>()
+  {{
+    put( "boolean", "Boolean" );
+    put( "byte", "Byte" );
+    put( "char", "Character" );
+    put( "short", "Short" );
+    put( "int", "Integer" );
+    put( "long", "Long" );
+    put( "float", "Float" );
+    put( "double", "Double" );
+  }};
+
   private IModule _module;
   private final Map<String, Set<File>> _fqnToEnclosingSourceFile;
 
@@ -142,7 +154,7 @@ public class TupleTypeManifold extends BaseService implements ITypeManifold
   public String contribute( JavaFileManager.Location location, String fqn, boolean genStubs, String existing, DiagnosticListener<JavaFileObject> errorHandler )
   {
     SrcClass srcClass = new SrcClass( fqn, AbstractSrcClass.Kind.Class )
-      .imports( List.class, ArrayList.class )
+      .imports( List.class, ArrayList.class, Arrays.class, Objects.class )
       .modifiers( Modifier.PUBLIC )  // non-final to support structural interface casts (until structural assignability is impled)
       .superClass( GeneratedTuple.class )
       .addField( new SrcField( "_orderedLabels",new  SrcType( List.class ).addTypeParam( String.class ) )
@@ -192,10 +204,82 @@ public class TupleTypeManifold extends BaseService implements ITypeManifold
     srcConstructor.body( body );
     srcClass.addConstructor( srcConstructor );
 
-    //todo: generate equals, hashcode, toString instead of the reflection based stuff in the base class
+    addObjectMethods( srcClass, fieldsMap );
     return srcClass.render().toString();
   }
 
+  /**
+   * Generates {@code orderedValues()}, {@code hashCode()}, {@code equals()}, and {@code toString()} with direct field
+   * access, overriding the reflective implementations in {@link GeneratedTuple}. Results are the same as the base
+   * class's, so tuples of different classes with the same labels and values remain equal, with equal hash codes.
+   */
+  private void addObjectMethods( SrcClass srcClass, Map<String, String> fieldsMap )
+  {
+    String simpleName = srcClass.getSimpleName();
+
+    StringBuilder values = new StringBuilder( "return Arrays.asList( new Object[] {" );
+    SrcStatementBlock hashCode = new SrcStatementBlock()
+      .addStatement( "int result = 1;" );
+    StringBuilder equals = new StringBuilder( "return true" );
+    StringBuilder toString = new StringBuilder( "return \"(\"" );
+    int i = 0;
+    for( Map.Entry<String, String> entry: fieldsMap.entrySet() )
+    {
+      String name = entry.getKey();
+      String type = entry.getValue();
+      String box = PRIMITIVE_TO_BOX.get( type );
+
+      values.append( i == 0 ? "" : ", " ).append( "this." ).append( name );
+
+      // same as Arrays.hashCode() on the boxed values
+      hashCode.addStatement( "result = 31 * result + " +
+        (box == null ? "Objects.hashCode( this." + name + " )" : box + ".hashCode( this." + name + " )") + ";" );
+
+      // same as equals() on the boxed values
+      equals.append( " && " ).append(
+        box == null
+        ? "Objects.equals( this." + name + ", that." + name + " )"
+        : box.equals( "Double" ) || box.equals( "Float" )
+          ? box + ".compare( this." + name + ", that." + name + " ) == 0"
+          : "this." + name + " == that." + name );
+
+      toString.append( " + \"" ).append( i == 0 ? "" : ", " ).append( name ).append( ": \" + this." ).append( name );
+      i++;
+    }
+    hashCode.addStatement( "return result;" );
+
+    srcClass
+      .addMethod( new SrcMethod()
+        .modifiers( Modifier.PUBLIC )
+        .addAnnotation( new SrcAnnotationExpression( Override.class ) )
+        .name( "orderedValues" )
+        .returns( new SrcType( List.class ).addTypeParam( "?" ) )
+        .body( values.append( "} );" ).toString() ) )
+      .addMethod( new SrcMethod()
+        .modifiers( Modifier.PUBLIC )
+        .addAnnotation( new SrcAnnotationExpression( Override.class ) )
+        .name( "hashCode" )
+        .returns( int.class )
+        .body( hashCode ) )
+      .addMethod( new SrcMethod()
+        .modifiers( Modifier.PUBLIC )
+        .addAnnotation( new SrcAnnotationExpression( Override.class ) )
+        .name( "equals" )
+        .addParam( "o", Object.class )
+        .returns( boolean.class )
+        .body( new SrcStatementBlock()
+          .addStatement( "if( this == o ) return true;" )
+          .addStatement( "if( !(o instanceof " + simpleName + ") ) return super.equals( o );" )
+          .addStatement( simpleName + " that = (" + simpleName + ")o;" )
+          .addStatement( equals.append( ';' ).toString() ) ) )
+      .addMethod( new SrcMethod()
+        .modifiers( Modifier.PUBLIC )
+        .addAnnotation( new SrcAnnotationExpression( Override.class ) )
+        .name( "toString" )
+        .returns( String.class )
+        .body( toString.append( " + \")\";" ).toString() ) );
+  }
+
   @Override
   public Collection<String> getAllTypeNames()
   {
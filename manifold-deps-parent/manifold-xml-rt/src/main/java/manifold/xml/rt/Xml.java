@@ -48,25 +48,54 @@ public class Xml
   public static String toXml( Object jsonValue )
   {
     StringBuilder sb = new StringBuilder();
+    try
+    {
+      toXml( jsonValue, sb );
+    }
+    catch( IOException e )
+    {
+      // StringBuilder does not throw
+      throw new RuntimeException( e );
+    }
+    return sb.toString();
+  }
 
+  /**
+   * Writes the same XML as {@link #toXml(Object)} to {@code target} as it is made, {@code target} may be a
+   * {@link java.io.Writer} for a file or socket.
+   */
+  public static void toXml( Object jsonValue, Appendable target ) throws IOException
+  {
     jsonValue = toBindings( jsonValue );
 
     if( jsonValue instanceof Map )
     {
-      toXml( jsonValue, null, sb, 0 );
+      toXml( jsonValue, null, target, 0 );
     }
     else if( jsonValue instanceof Iterable )
     {
-      toXml( jsonValue, "list", sb, 0 );
+      toXml( jsonValue, "list", target, 0 );
     }
     else
     {
-      toXml( jsonValue, "item", sb, 0 );
+      toXml( jsonValue, "item", target, 0 );
     }
-    return sb.toString();
   }
 
   public static void toXml( Object jsonValue, String name, StringBuilder target, int indent )
+  {
+    try
+    {
+      toXml( jsonValue, name, (Appendable)target, indent );
+    }
+    catch( IOException e )
+    {
+      // StringBuilder does not throw
+      throw new RuntimeException( e );
+    }
+  }
+
+  public static void toXml( Object jsonValue, String name, Appendable target, int indent ) throws IOException
   {
     jsonValue = toBindings( jsonValue );
 
@@ -106,14 +135,14 @@ public class Xml
   }
 
   /**
-   * Serializes this {@link Map} instance into an XML formatted StringBuilder {@code target}
+   * Serializes this {@link Map} instance into an XML formatted {@code target}
    * with the specified {@code indent} of spaces.
    *
    * @param name   The name of the root element to nest the Map XML
-   * @param target A {@link StringBuilder} to write the XML in
+   * @param target An {@link Appendable} to write the XML to
    * @param indent The margin of spaces to indent the XML
    */
-  private static void toXml( Map bindings, String name, StringBuilder target, int indent )
+  private static void toXml( Map bindings, String name, Appendable target, int indent ) throws IOException
   {
     indent( target, indent );
     target.append( '<' ).append( name );
@@ -131,7 +160,7 @@ public class Xml
 
         if( !(value instanceof Map) && !(value instanceof Iterable) && !key.equals( XML_ELEM_CONTENT ) )
         {
-          target.append( " " ).append( key ).append( "=\"" ).append( value ).append( '"' );
+          target.append( " " ).append( String.valueOf( key ) ).append( "=\"" ).append( String.valueOf( value ) ).append( '"' );
         }
       }
       int count = 0;
@@ -175,7 +204,7 @@ public class Xml
           }
 
           indent( target, indent + 2 );
-          target.append( value ).append( "\n" );
+          target.append( (String)value ).append( "\n" );
 
           count++;
         }
@@ -197,7 +226,7 @@ public class Xml
     }
   }
 
-  private static void toXml( Iterable value, String name, StringBuilder target, int indent )
+  private static void toXml( Iterable value, String name, Appendable target, int indent ) throws IOException
   {
     for( Object comp: value )
     {
@@ -223,7 +252,7 @@ public class Xml
     }
   }
 
-  private static void toXml( String value, String name, StringBuilder target, int indent )
+  private static void toXml( String value, String name, Appendable target, int indent ) throws IOException
   {
     indent( target, indent );
     target.append( '<' ).append( name ).append( ">" );
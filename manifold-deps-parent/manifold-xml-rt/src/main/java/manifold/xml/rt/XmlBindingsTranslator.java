@@ -18,6 +18,8 @@ package manifold.xml.rt;
 
 import manifold.json.rt.api.IJsonBindingsTranslator;
 
+import java.io.IOException;
+
 public class XmlBindingsTranslator implements IJsonBindingsTranslator
 {
   @Override
@@ -44,6 +46,18 @@ public class XmlBindingsTranslator implements IJsonBindingsTranslator
     Xml.toXml( bindingsValue, name, target, indent );
   }
 
+  @Override
+  public void fromBindings( Object bindingsValue, Appendable target ) throws IOException
+  {
+    Xml.toXml( bindingsValue, target );
+  }
+
+  @Override
+  public void fromBindings( Object bindingsValue, String name, Appendable target, int indent ) throws IOException
+  {
+    Xml.toXml( bindingsValue, name, target, indent );
+  }
+
   @Override
   public Object toBindings( String translation )
   {
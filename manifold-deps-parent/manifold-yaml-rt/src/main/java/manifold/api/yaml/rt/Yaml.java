@@ -16,6 +16,9 @@
 
 package manifold.api.yaml.rt;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
 import manifold.rt.api.ScriptException;
 import manifold.api.yaml.rt.parser.YamlParser;
 import org.snakeyaml.engine.v1.api.Dump;
@@ -63,6 +66,25 @@ public class Yaml
    * @param target A {@link StringBuilder} to write the YAML in
    */
   public static void toYaml( Object jsonValue, StringBuilder target )
+  {
+    try
+    {
+      toYaml( jsonValue, (Appendable)target );
+    }
+    catch( IOException e )
+    {
+      // StringBuilder does not throw
+      throw new RuntimeException( e );
+    }
+  }
+
+  /**
+   * Serializes a JSON value as YAML 1.2 to {@code target}. The YAML is written as it is made, {@code target} may be a
+   * {@link java.io.Writer} for a file or socket.
+   *
+   * @param target An {@link Appendable} to write the YAML to
+   */
+  public static void toYaml( Object jsonValue, Appendable target ) throws IOException
   {
     DumpSettings settings = new DumpSettingsBuilder()
       .setBestLineBreak( "\n" )
@@ -70,20 +92,41 @@ public class Yaml
       .setDefaultFlowStyle( FlowStyle.BLOCK )
       .setIndent( 2 )
       .build();
-    new Dump( settings ).dump( jsonValue,
-      new StreamDataWriter()
-      {
-        @Override
-        public void write( String str )
+    try
+    {
+      new Dump( settings ).dump( jsonValue,
+        new StreamDataWriter()
         {
-          target.append( str );
-        }
+          @Override
+          public void write( String str )
+          {
+            try
+            {
+              target.append( str );
+            }
+            catch( IOException e )
+            {
+              throw new UncheckedIOException( e );
+            }
+          }
 
-        @Override
-        public void write( String str, int offset, int length )
-        {
-          target.append( str, offset, offset + length );
-        }
-      } );
+          @Override
+          public void write( String str, int offset, int length )
+          {
+            try
+            {
+              target.append( str, offset, offset + length );
+            }
+            catch( IOException e )
+            {
+              throw new UncheckedIOException( e );
+            }
+          }
+        } );
+    }
+    catch( UncheckedIOException e )
+    {
+      throw e.getCause();
+    }
   }
 }
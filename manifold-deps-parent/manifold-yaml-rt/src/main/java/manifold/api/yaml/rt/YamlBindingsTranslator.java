@@ -18,6 +18,8 @@ package manifold.api.yaml.rt;
 
 import manifold.json.rt.api.IJsonBindingsTranslator;
 
+import java.io.IOException;
+
 public class YamlBindingsTranslator implements IJsonBindingsTranslator
 {
   @Override
@@ -46,6 +48,18 @@ public class YamlBindingsTranslator implements IJsonBindingsTranslator
     Yaml.toYaml( bindingsValue, target );
   }
 
+  @Override
+  public void fromBindings( Object bindingsValue, Appendable target ) throws IOException
+  {
+    Yaml.toYaml( bindingsValue, target );
+  }
+
+  @Override
+  public void fromBindings( Object bindingsValue, String name, Appendable target, int indent ) throws IOException
+  {
+    Yaml.toYaml( bindingsValue, target );
+  }
+
   @Override
   public Object toBindings( String translation )
   {
@@ -0,0 +1,401 @@
+/*
+ * Copyright (c) 2025 - Manifold Systems LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package manifold.util;
+
+import java.lang.annotation.Annotation;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Member;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import manifold.util.concurrent.LocklessLazyVar;
+
+/**
+ * Invokes methods and constructors, and accesses fields, via method handles instead of core reflection. The member
+ * refs of {@link ReflectUtil} use this class if the {@code manifold.reflect.methodhandles} system property is
+ * {@code true}.
+ * <p/>
+ * A constructor or a non-void method is invoked through a functional interface generated by {@link LambdaMetafactory}
+ * if it has at most four parameters, including the receiver, and if its class can see this class. The JIT compiles such a call
+ * like a direct call. Otherwise, and for fields, the member is accessed through a {@link MethodHandle} adapted to a
+ * generic signature, but only on Java 18+, where reflection itself is implemented with method handles; on older
+ * versions such a method handle is no faster than reflection. If no method handle can be made, for instance for a
+ * caller-sensitive method or on Android before API level 26, the ref keeps using reflection.
+ * <p/>
+ * Unlike reflection, arguments are not checked before the call: an argument of the wrong type results in a
+ * {@link ClassCastException} and a null primitive argument in a {@link NullPointerException}.
+ */
+final class MemberInvokers
+{
+  static final boolean ENABLED = Boolean.getBoolean( "manifold.reflect.methodhandles" );
+  private static final boolean GENERIC_HANDLES = JreUtil.JAVA_VERSION >= 18;
+
+  private static final Object NONE = new Object();
+  private static final Class<?>[] CALLS = {Call0.class, Call1.class, Call2.class, Call3.class, Call4.class};
+
+  /**
+   * Invokers and field accessors by member, by declaring class
+   */
+  private static final ClassValue<ConcurrentMap<Member, Object>> HANDLES = new ClassValue<ConcurrentMap<Member, Object>>()
+  {
+    @Override
+    protected ConcurrentMap<Member, Object> computeValue( Class<?> type )
+    {
+      return new ConcurrentHashMap<>();
+    }
+  };
+
+  // note, members used here are invoked via reflection directly, ReflectUtil's refs would otherwise recurse into here
+  private static final LocklessLazyVar<Constructor<?>> PRIVATE_LOOKUP =
+    LocklessLazyVar.make( () -> ReflectUtil.constructor( MethodHandles.Lookup.class, Class.class ).getConstructor() );
+
+  interface Invoker
+  {
+    /**
+     * @param receiver The receiver of an instance method, otherwise ignored
+     */
+    Object invoke( Object receiver, Object[] args ) throws Throwable;
+  }
+
+  static final class FieldAccessor
+  {
+    private final MethodHandle _getter;
+    private final MethodHandle _setter;
+
+    private FieldAccessor( MethodHandle getter, MethodHandle setter )
+    {
+      _getter = getter;
+      _setter = setter;
+    }
+
+    Object get( Object receiver ) throws Throwable
+    {
+      return (Object)_getter.invokeExact( receiver );
+    }
+
+    /**
+     * @return False if the field is final, in which case it must be set via reflection
+     */
+    boolean canSet()
+    {
+      return _setter != null;
+    }
+
+    void set( Object receiver, Object value ) throws Throwable
+    {
+      _setter.invokeExact( receiver, value );
+    }
+  }
+
+  /**
+   * Stand for a member without an invoker or accessor, where null means the member is not resolved yet
+   */
+  static final Invoker NO_INVOKER = ( receiver, args ) -> {
+    throw new UnsupportedOperationException();
+  };
+  static final FieldAccessor NO_ACCESSOR = new FieldAccessor( null, null );
+
+  /**
+   * @return An invoker for {@code method} or null if {@code method} must be invoked via reflection
+   */
+  static Invoker invoker( Method method )
+  {
+    return (Invoker)get( method, MemberInvokers::makeMethodInvoker );
+  }
+
+  /**
+   * @return An invoker for {@code constructor} or null if {@code constructor} must be invoked via reflection
+   */
+  static Invoker invoker( Constructor<?> constructor )
+  {
+    return (Invoker)get( constructor, MemberInvokers::makeConstructorInvoker );
+  }
+
+  /**
+   * @return An accessor for {@code field} or null if {@code field} must be accessed via reflection
+   */
+  static FieldAccessor accessor( Field field )
+  {
+    return (FieldAccessor)get( field, MemberInvokers::makeFieldAccessor );
+  }
+
+  private interface Maker
+  {
+    Object make( Member member ) throws Throwable;
+  }
+
+  private static Object get( Member member, Maker maker )
+  {
+    ConcurrentMap<Member, Object> handles = HANDLES.get( member.getDeclaringClass() );
+    Object handle = handles.get( member );
+    if( handle == null )
+    {
+      try
+      {
+        handle = maker.make( member );
+      }
+      catch( Throwable t )
+      {
+        handle = null;
+      }
+      handle = handle == null ? NONE : handle;
+      Object existing = handles.putIfAbsent( member, handle );
+      handle = existing == null ? handle : existing;
+    }
+    return handle == NONE ? null : handle;
+  }
+
+  private static Object makeMethodInvoker( Member member ) throws Throwable
+  {
+    Method method = (Method)member;
+    if( isCallerSensitive( method ) )
+    {
+      // the caller would be the method's declaring class instead of ReflectUtil
+      return null;
+    }
+    MethodHandles.Lookup lookup = privateLookup( method.getDeclaringClass() );
+    MethodHandle handle = lookup( lookup ).unreflect( method );
+    boolean isStatic = Modifier.isStatic( method.getModifiers() );
+    Invoker invoker = method.getReturnType() == void.class ? null : spin( lookup, handle, !isStatic );
+    return invoker == null && GENERIC_HANDLES ? spread( handle, !isStatic ) : invoker;
+  }
+
+  private static Object makeConstructorInvoker( Member member ) throws Throwable
+  {
+    Constructor<?> constructor = (Constructor<?>)member;
+    MethodHandles.Lookup lookup = privateLookup( constructor.getDeclaringClass() );
+    MethodHandle handle = lookup( lookup ).unreflectConstructor( constructor );
+    Invoker invoker = spin( lookup, handle, false );
+    return invoker == null && GENERIC_HANDLES ? spread( handle, false ) : invoker;
+  }
+
+  private static Object makeFieldAccessor( Member member ) throws Throwable
+  {
+    Field field = (Field)member;
+    if( !GENERIC_HANDLES )
+    {
+      return null;
+    }
+    MethodHandles.Lookup lookup = lookup( privateLookup( field.getDeclaringClass() ) );
+    boolean isStatic = Modifier.isStatic( field.getModifiers() );
+
+    MethodHandle getter = lookup.unreflectGetter( field );
+    getter = isStatic ? MethodHandles.dropArguments( getter, 0, Object.class ) : getter;
+    getter = getter.asType( MethodType.methodType( Object.class, Object.class ) );
+
+    MethodHandle setter = null;
+    if( !Modifier.isFinal( field.getModifiers() ) )
+    {
+      setter = lookup.unreflectSetter( field );
+      setter = isStatic ? MethodHandles.dropArguments( setter, 0, Object.class ) : setter;
+      setter = setter.asType( MethodType.methodType( void.class, Object.class, Object.class ) );
+    }
+    return new FieldAccessor( getter, setter );
+  }
+
+  /**
+   * Spins a functional interface implementation calling {@code handle} directly.
+   *
+   * @return The invoker or null if there is no private lookup, {@code handle} has too many parameters, or its declaring
+   * class cannot access the functional interface
+   */
+  private static Invoker spin( MethodHandles.Lookup lookup, MethodHandle handle, boolean hasReceiver ) throws Throwable
+  {
+    MethodType type = handle.type();
+    int arity = type.parameterCount();
+    if( lookup == null || arity >= CALLS.length || !canAccessCalls( lookup.lookupClass() ) )
+    {
+      return null;
+    }
+
+    Class<?> callType = CALLS[arity];
+    Object call = LambdaMetafactory.metafactory( lookup, "call", MethodType.methodType( callType ),
+      MethodType.genericMethodType( arity ), handle, type.wrap() ).getTarget().invoke();
+    if( hasReceiver )
+    {
+      switch( arity )
+      {
+        case 1:
+        {
+          Call1 c = (Call1)call;
+          return ( r, a ) -> c.call( r );
+        }
+        case 2:
+        {
+          Call2 c = (Call2)call;
+          return ( r, a ) -> c.call( r, a[0] );
+        }
+        case 3:
+        {
+          Call3 c = (Call3)call;
+          return ( r, a ) -> c.call( r, a[0], a[1] );
+        }
+        case 4:
+        {
+          Call4 c = (Call4)call;
+          return ( r, a ) -> c.call( r, a[0], a[1], a[2] );
+        }
+      }
+    }
+    else
+    {
+      switch( arity )
+      {
+        case 0:
+        {
+          Call0 c = (Call0)call;
+          return ( r, a ) -> c.call();
+        }
+        case 1:
+        {
+          Call1 c = (Call1)call;
+          return ( r, a ) -> c.call( a[0] );
+        }
+        case 2:
+        {
+          Call2 c = (Call2)call;
+          return ( r, a ) -> c.call( a[0], a[1] );
+        }
+        case 3:
+        {
+          Call3 c = (Call3)call;
+          return ( r, a ) -> c.call( a[0], a[1], a[2] );
+        }
+        case 4:
+        {
+          Call4 c = (Call4)call;
+          return ( r, a ) -> c.call( a[0], a[1], a[2], a[3] );
+        }
+      }
+    }
+    throw new IllegalStateException();
+  }
+
+  /**
+   * @return An invoker calling {@code handle} adapted to the signature {@code (Object, Object[])Object}
+   */
+  private static Invoker spread( MethodHandle handle, boolean hasReceiver )
+  {
+    handle = handle.asFixedArity();
+    int argCount = handle.type().parameterCount() - (hasReceiver ? 1 : 0);
+    handle = handle.asType( handle.type().generic() );
+    handle = hasReceiver ? handle : MethodHandles.dropArguments( handle, 0, Object.class );
+    MethodHandle spreader = handle.asSpreader( Object[].class, argCount );
+    return ( r, a ) -> (Object)spreader.invokeExact( r, a );
+  }
+
+  /**
+   * @return A lookup having private access to {@code cls} or null if not permitted e.g., Java 8 does not permit it for
+   * {@code java.*} classes
+   */
+  private static MethodHandles.Lookup privateLookup( Class<?> cls ) throws ReflectiveOperationException
+  {
+    try
+    {
+      return (MethodHandles.Lookup)PRIVATE_LOOKUP.get().newInstance( cls );
+    }
+    catch( InvocationTargetException e )
+    {
+      return null;
+    }
+  }
+
+  /**
+   * @return {@code privateLookup} or, if null, a lookup that can only unreflect members made accessible via
+   * {@link ReflectUtil#setAccessible(Member)}, as are all of {@code ReflectUtil}'s members
+   */
+  private static MethodHandles.Lookup lookup( MethodHandles.Lookup privateLookup )
+  {
+    return privateLookup == null ? MethodHandles.lookup() : privateLookup;
+  }
+
+  /**
+   * The generated class is defined in the loader and, on Java 9+, the module of {@code cls}, both must see the
+   * functional interfaces.
+   */
+  private static boolean canAccessCalls( Class<?> cls ) throws ReflectiveOperationException
+  {
+    try
+    {
+      if( Class.forName( Call0.class.getName(), false, cls.getClassLoader() ) != Call0.class )
+      {
+        return false;
+      }
+    }
+    catch( ClassNotFoundException e )
+    {
+      return false;
+    }
+    if( JreUtil.isJava8() )
+    {
+      return true;
+    }
+    Method getModule = ReflectUtil.method( Class.class, "getModule" ).getMethod();
+    Object module = getModule.invoke( cls );
+    Object callsModule = getModule.invoke( Call0.class );
+    return (boolean)ReflectUtil.method( module.getClass(), "canRead", callsModule.getClass() ).getMethod()
+      .invoke( module, callsModule );
+  }
+
+  private static boolean isCallerSensitive( Method method )
+  {
+    for( Annotation anno: method.getDeclaredAnnotations() )
+    {
+      if( anno.annotationType().getSimpleName().equals( "CallerSensitive" ) )
+      {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  public interface Call0
+  {
+    Object call();
+  }
+
+  public interface Call1
+  {
+    Object call( Object a0 );
+  }
+
+  public interface Call2
+  {
+    Object call( Object a0, Object a1 );
+  }
+
+  public interface Call3
+  {
+    Object call( Object a0, Object a1, Object a2 );
+  }
+
+  public interface Call4
+  {
+    Object call( Object a0, Object a1, Object a2, Object a3 );
+  }
+
+  private MemberInvokers()
+  {
+  }
+}
@@ -20,6 +20,7 @@ import java.io.IOException;
 import java.lang.annotation.Annotation;
 import java.lang.invoke.MethodHandles;
 import java.lang.invoke.MethodType;
+import java.lang.ref.WeakReference;
 import java.lang.reflect.*;
 import java.net.URI;
 import java.nio.file.Files;
@@ -60,7 +61,6 @@ public class ReflectUtil
   private static final ConcurrentWeakHashMap<Class, ConcurrentMap<String, ConcurrentHashSet<Method>>> _methodsByName = new ConcurrentWeakHashMap<>();
   private static final ConcurrentWeakHashMap<Class, ConcurrentMap<String, Field>> _fieldsByName = new ConcurrentWeakHashMap<>();
   private static final ConcurrentWeakHashMap<Class, Set<Constructor>> _constructorsByClass = new ConcurrentWeakHashMap<>();
-  private static final ConcurrentWeakHashMap<Method, ConcurrentMap<Class, Method>> _structuralCall = new ConcurrentWeakHashMap<>();
   private static final LocklessLazyVar<ClassContextSecurityManager> _sm = LocklessLazyVar.make( () -> new ClassContextSecurityManager() );
   private static final String LAMBDA_METHOD = "lambda method";
   private static final Object UNHANDLED = new Object() {};
@@ -929,6 +929,7 @@ public class ReflectUtil
   public static class MethodRef
   {
     private final Method _method;
+    private MemberInvokers.Invoker _invoker;
 
     private MethodRef( Method m )
     {
@@ -942,6 +943,11 @@ public class ReflectUtil
 
     public Object invoke( Object receiver, Object... args )
     {
+      MemberInvokers.Invoker invoker = invoker();
+      if( invoker != null )
+      {
+        return ReflectUtil.invoke( invoker, receiver, args );
+      }
       try
       {
         return _method.invoke( receiver, args );
@@ -958,6 +964,11 @@ public class ReflectUtil
 
     public Object invokeStatic( Object... args )
     {
+      MemberInvokers.Invoker invoker = invoker();
+      if( invoker != null )
+      {
+        return ReflectUtil.invoke( invoker, null, args );
+      }
       try
       {
         return _method.invoke( null, args );
@@ -972,12 +983,28 @@ public class ReflectUtil
       }
     }
 
+    private MemberInvokers.Invoker invoker()
+    {
+      if( !MemberInvokers.ENABLED )
+      {
+        return null;
+      }
+      MemberInvokers.Invoker invoker = _invoker;
+      if( invoker == null )
+      {
+        // the absence of an invoker is cached too
+        invoker = MemberInvokers.invoker( _method );
+        _invoker = invoker = invoker == null ? MemberInvokers.NO_INVOKER : invoker;
+      }
+      return invoker == MemberInvokers.NO_INVOKER ? null : invoker;
+    }
   }
 
   public static class LiveMethodRef
   {
     private final Method _method;
     private final Object _receiver;
+    private MemberInvokers.Invoker _invoker;
 
     private LiveMethodRef( Method m, Object receiver )
     {
@@ -997,6 +1024,11 @@ public class ReflectUtil
 
     public Object invoke( Object... args )
     {
+      MemberInvokers.Invoker invoker = invoker();
+      if( invoker != null )
+      {
+        return ReflectUtil.invoke( invoker, _receiver, args );
+      }
       try
       {
         return _method.invoke( _receiver, args );
@@ -1041,11 +1073,28 @@ public class ReflectUtil
         throw ManExceptionUtil.unchecked( t );
       }
     }
+
+    private MemberInvokers.Invoker invoker()
+    {
+      if( !MemberInvokers.ENABLED )
+      {
+        return null;
+      }
+      MemberInvokers.Invoker invoker = _invoker;
+      if( invoker == null )
+      {
+        // the absence of an invoker is cached too
+        invoker = MemberInvokers.invoker( _method );
+        _invoker = invoker = invoker == null ? MemberInvokers.NO_INVOKER : invoker;
+      }
+      return invoker == MemberInvokers.NO_INVOKER ? null : invoker;
+    }
   }
 
   public static class FieldRef
   {
     private final Field _field;
+    private MemberInvokers.FieldAccessor _accessor;
 
     private FieldRef( Field f )
     {
@@ -1054,6 +1103,11 @@ public class ReflectUtil
 
     public Object get( Object receiver )
     {
+      MemberInvokers.FieldAccessor accessor = accessor();
+      if( accessor != null )
+      {
+        return ReflectUtil.get( accessor, receiver );
+      }
       try
       {
         return _field.get( receiver );
@@ -1066,6 +1120,12 @@ public class ReflectUtil
 
     public void set( Object receiver, Object value )
     {
+      MemberInvokers.FieldAccessor accessor = accessor();
+      if( accessor != null && accessor.canSet() )
+      {
+        ReflectUtil.set( accessor, receiver, value );
+        return;
+      }
       try
       {
         _field.set( receiver, value );
@@ -1083,6 +1143,11 @@ public class ReflectUtil
 
     public Object getStatic()
     {
+      MemberInvokers.FieldAccessor accessor = accessor();
+      if( accessor != null )
+      {
+        return ReflectUtil.get( accessor, null );
+      }
       try
       {
         return _field.get( null );
@@ -1095,6 +1160,12 @@ public class ReflectUtil
 
     public void setStatic( Object value )
     {
+      MemberInvokers.FieldAccessor accessor = accessor();
+      if( accessor != null && accessor.canSet() )
+      {
+        ReflectUtil.set( accessor, null, value );
+        return;
+      }
       try
       {
         _field.set( null, value );
@@ -1113,12 +1184,29 @@ public class ReflectUtil
     {
       return _field;
     }
+
+    private MemberInvokers.FieldAccessor accessor()
+    {
+      if( !MemberInvokers.ENABLED )
+      {
+        return null;
+      }
+      MemberInvokers.FieldAccessor accessor = _accessor;
+      if( accessor == null )
+      {
+        // the absence of an accessor is cached too
+        accessor = MemberInvokers.accessor( _field );
+        _accessor = accessor = accessor == null ? MemberInvokers.NO_ACCESSOR : accessor;
+      }
+      return accessor == MemberInvokers.NO_ACCESSOR ? null : accessor;
+    }
   }
 
   public static class LiveFieldRef
   {
     private final Field _field;
     private final Object _receiver;
+    private MemberInvokers.FieldAccessor _accessor;
 
     private LiveFieldRef( Field f, Object receiver )
     {
@@ -1139,6 +1227,11 @@ public class ReflectUtil
 
     public Object get()
     {
+      MemberInvokers.FieldAccessor accessor = accessor();
+      if( accessor != null )
+      {
+        return ReflectUtil.get( accessor, _receiver );
+      }
       try
       {
         return _field.get( _receiver );
@@ -1151,6 +1244,12 @@ public class ReflectUtil
 
     public void set( Object value )
     {
+      MemberInvokers.FieldAccessor accessor = accessor();
+      if( accessor != null && accessor.canSet() )
+      {
+        ReflectUtil.set( accessor, _receiver, value );
+        return;
+      }
       try
       {
         _field.set( _receiver, value );
@@ -1169,11 +1268,28 @@ public class ReflectUtil
     {
       return Modifier.isStatic( getField().getModifiers() );
     }
+
+    private MemberInvokers.FieldAccessor accessor()
+    {
+      if( !MemberInvokers.ENABLED )
+      {
+        return null;
+      }
+      MemberInvokers.FieldAccessor accessor = _accessor;
+      if( accessor == null )
+      {
+        // the absence of an accessor is cached too
+        accessor = MemberInvokers.accessor( _field );
+        _accessor = accessor = accessor == null ? MemberInvokers.NO_ACCESSOR : accessor;
+      }
+      return accessor == MemberInvokers.NO_ACCESSOR ? null : accessor;
+    }
   }
 
   public static class ConstructorRef
   {
     private final Constructor<?> _constructor;
+    private MemberInvokers.Invoker _invoker;
 
     private ConstructorRef( Constructor<?> constructor )
     {
@@ -1182,6 +1298,11 @@ public class ReflectUtil
 
     public Object newInstance( Object... args )
     {
+      MemberInvokers.Invoker invoker = invoker();
+      if( invoker != null )
+      {
+        return ReflectUtil.invoke( invoker, null, args );
+      }
       try
       {
         return _constructor.newInstance( args );
@@ -1196,6 +1317,58 @@ public class ReflectUtil
     {
       return _constructor;
     }
+
+    private MemberInvokers.Invoker invoker()
+    {
+      if( !MemberInvokers.ENABLED )
+      {
+        return null;
+      }
+      MemberInvokers.Invoker invoker = _invoker;
+      if( invoker == null )
+      {
+        // the absence of an invoker is cached too
+        invoker = MemberInvokers.invoker( _constructor );
+        _invoker = invoker = invoker == null ? MemberInvokers.NO_INVOKER : invoker;
+      }
+      return invoker == MemberInvokers.NO_INVOKER ? null : invoker;
+    }
+  }
+
+  private static Object invoke( MemberInvokers.Invoker invoker, Object receiver, Object[] args )
+  {
+    try
+    {
+      return invoker.invoke( receiver, args );
+    }
+    catch( Throwable t )
+    {
+      throw ManExceptionUtil.unchecked( t );
+    }
+  }
+
+  private static Object get( MemberInvokers.FieldAccessor accessor, Object receiver )
+  {
+    try
+    {
+      return accessor.get( receiver );
+    }
+    catch( Throwable t )
+    {
+      throw ManExceptionUtil.unchecked( t );
+    }
+  }
+
+  private static void set( MemberInvokers.FieldAccessor accessor, Object receiver, Object value )
+  {
+    try
+    {
+      accessor.set( receiver, value );
+    }
+    catch( Throwable t )
+    {
+      throw ManExceptionUtil.unchecked( t );
+    }
   }
 
   private static MethodRef addMethodToCache( Class cls, Method m )
@@ -1556,53 +1729,216 @@ public class ReflectUtil
   }
   public static Object structuralCallByProxy( Method structMethod, Object proxy, Object receiver, Object... args )
   {
-    Object result;
-    Method bestMethod = findBestMethod( structMethod, receiver.getClass() );
-    if( bestMethod == null )
+    return StructuralCallSite.get( structMethod ).call( proxy, receiver, args );
+  }
+
+  /**
+   * An inline cache of the targets of a structural method by receiver class. The first {@link #MAX_INLINE} receiver
+   * classes are matched by identity, beyond that the call site is megamorphic and targets are found by hash.
+   * <p/>
+   * The targets belong to their receiver classes, the call site references them weakly. Thus a call site, which lives
+   * as long as the structural interface, does not keep receiver classes from unloading.
+   */
+  private static final class StructuralCallSite
+  {
+    private static final int MAX_INLINE = 4;
+    private static final ClassValue<ConcurrentMap<Method, StructuralCallSite>> SITES =
+      new ClassValue<ConcurrentMap<Method, StructuralCallSite>>()
+      {
+        @Override
+        protected ConcurrentMap<Method, StructuralCallSite> computeValue( Class<?> type )
+        {
+          return new ConcurrentHashMap<>();
+        }
+      };
+    /** Targets by call site, by receiver class. The call sites are held weakly, the targets don't reference them. */
+    private static final ClassValue<ConcurrentWeakHashMap<StructuralCallSite, StructuralTarget>> TARGETS =
+      new ClassValue<ConcurrentWeakHashMap<StructuralCallSite, StructuralTarget>>()
+      {
+        @Override
+        protected ConcurrentWeakHashMap<StructuralCallSite, StructuralTarget> computeValue( Class<?> type )
+        {
+          return new ConcurrentWeakHashMap<>();
+        }
+      };
+    @SuppressWarnings( "unchecked" )
+    private static final WeakReference<StructuralTarget>[] NO_INLINE = new WeakReference[0];
+
+    private final Method _structMethod;
+    private volatile WeakReference<StructuralTarget>[] _inline = NO_INLINE;
+
+    private StructuralCallSite( Method structMethod )
     {
-      if( proxy != null && structMethod.isDefault() )
+      _structMethod = structMethod;
+    }
+
+    static StructuralCallSite get( Method structMethod )
+    {
+      ConcurrentMap<Method, StructuralCallSite> sites = SITES.get( structMethod.getDeclaringClass() );
+      StructuralCallSite site = sites.get( structMethod );
+      if( site == null )
+      {
+        StructuralCallSite existing = sites.putIfAbsent( structMethod, site = new StructuralCallSite( structMethod ) );
+        site = existing == null ? site : existing;
+      }
+      return site;
+    }
+
+    Object call( Object proxy, Object receiver, Object[] args )
+    {
+      Class<?> receiverClass = receiver.getClass();
+      for( WeakReference<StructuralTarget> ref: _inline )
+      {
+        StructuralTarget target = ref.get();
+        if( target != null && target._receiverClass == receiverClass )
+        {
+          return target.call( _structMethod, proxy, receiver, args );
+        }
+      }
+
+      ConcurrentWeakHashMap<StructuralCallSite, StructuralTarget> targets = TARGETS.get( receiverClass );
+      StructuralTarget target = targets.get( this );
+      if( target == null )
+      {
+        target = new StructuralTarget( _structMethod, receiverClass );
+        StructuralTarget existing = targets.putIfAbsent( this, target );
+        if( existing == null )
+        {
+          addInline( target );
+        }
+        else
+        {
+          target = existing;
+        }
+      }
+      return target.call( _structMethod, proxy, receiver, args );
+    }
+
+    private synchronized void addInline( StructuralTarget target )
+    {
+      List<WeakReference<StructuralTarget>> inline = new ArrayList<>();
+      for( WeakReference<StructuralTarget> ref: _inline )
       {
-        result = handleByField( structMethod, proxy, receiver, args );
-        if( result == UNHANDLED )
+        // drop the targets of unloaded receiver classes
+        if( ref.get() != null )
         {
-          result = invokeDefault( proxy, structMethod, args );
+          inline.add( ref );
         }
       }
-      else
+      if( inline.size() < MAX_INLINE )
       {
-        result = handleByField( structMethod, proxy, receiver, args );
-        if( result == UNHANDLED )
+        inline.add( new WeakReference<>( target ) );
+      }
+      //noinspection unchecked
+      _inline = inline.toArray( new WeakReference[0] );
+    }
+  }
+
+  /**
+   * How a structural method is called on a receiver class: resolved to a method, to a field if the structural method
+   * is a property accessor, or otherwise to a default method or nested proxy per call. A target references only its
+   * receiver class's members, not the structural method, see {@link StructuralCallSite#TARGETS}.
+   */
+  private static final class StructuralTarget
+  {
+    private enum Kind {Method, Getter, Setter, Unresolved}
+
+    private final Class<?> _receiverClass;
+    private final Kind _kind;
+    private final Method _method;
+    private final Field _field;
+    /** the return type a Number result is coerced to, or null if no coercion is necessary */
+    private final Class<?> _coerceTo;
+
+    StructuralTarget( Method structMethod, Class<?> receiverClass )
+    {
+      _receiverClass = receiverClass;
+
+      Method method = findBestMethod( structMethod, receiverClass );
+      Field field = null;
+      Kind kind = Kind.Method;
+      Class<?> resultType = method == null ? Object.class : method.getReturnType();
+      if( method == null )
+      {
+        kind = Kind.Unresolved;
+        String propertyName = getPropertyNameFromGetter( structMethod );
+        if( propertyName != null )
+        {
+          field = findField( propertyName, receiverClass, structMethod.getReturnType(), Variance.Covariant );
+          kind = field == null ? kind : Kind.Getter;
+          resultType = field == null ? resultType : field.getType();
+        }
+        else
         {
-          result = handleNestedProxy( receiver, structMethod, args );
-          if( result == UNHANDLED )
+          propertyName = getPropertyNameFromSetter( structMethod );
+          if( propertyName != null )
           {
-            throw new RuntimeException( "Receiver type '" + receiver.getClass().getTypeName() +
-              "' does not implement a method structurally compatible with method: " + structMethod );
+            field = findField( propertyName, receiverClass, structMethod.getParameterTypes()[0], Variance.Contravariant );
+            kind = field == null ? kind : Kind.Setter;
           }
         }
+        if( field != null )
+        {
+          setAccessible( field );
+        }
       }
+      _kind = kind;
+      _method = method;
+      _field = field;
+
+      Class<?> returnType = structMethod.getReturnType();
+      _coerceTo = resultType != returnType && isCoercibleBoxed( returnType ) ? returnType : null;
     }
-    else
+
+    Object call( Method structMethod, Object proxy, Object receiver, Object[] args )
     {
+      Object result;
       try
       {
-        result = bestMethod.invoke( receiver, args );
+        switch( _kind )
+        {
+          case Method:
+            result = _method.invoke( receiver, args );
+            break;
+          case Getter:
+            result = _field.get( receiver );
+            break;
+          case Setter:
+            _field.set( receiver, args[0] );
+            result = null;
+            break;
+          default:
+            result = callUnresolved( structMethod, proxy, receiver, args );
+        }
       }
       catch( Throwable t )
       {
         throw ManExceptionUtil.unchecked( t );
       }
+      return _coerceTo != null && result instanceof Number ? CoerceUtil.coerceBoxed( result, _coerceTo ) : result;
     }
-    return coerce( structMethod.getReturnType(), result );
-  }
 
-  private static Object coerce( Class<?> returnType, Object result )
-  {
-    if( result instanceof Number )
+    private Object callUnresolved( Method structMethod, Object proxy, Object receiver, Object[] args )
     {
-      return CoerceUtil.coerceBoxed( result, returnType );
+      if( proxy != null && structMethod.isDefault() )
+      {
+        return invokeDefault( proxy, structMethod, args );
+      }
+      Object result = handleNestedProxy( receiver, structMethod, args );
+      if( result == UNHANDLED )
+      {
+        throw new RuntimeException( "Receiver type '" + receiver.getClass().getTypeName() +
+          "' does not implement a method structurally compatible with method: " + structMethod );
+      }
+      return result;
+    }
+
+    private static boolean isCoercibleBoxed( Class<?> type )
+    {
+      return type.isPrimitive() && type != void.class ||
+        type == Boolean.class || type == Byte.class || type == Character.class || type == Short.class ||
+        type == Integer.class || type == Long.class || type == Float.class || type == Double.class;
     }
-    return result;
   }
 
   private static Object handleNestedProxy( Object receiver, Method structMethod, Object[] args )
@@ -1699,76 +2035,33 @@ public class ReflectUtil
     return false;
   }
 
-  private static Object handleByField( Method structMethod, Object proxy, Object receiver, Object[] args )
+  /**
+   * Note the result is not cached here, structural calls cache it per receiver class, see {@code StructuralTarget}.
+   */
+  public static Method findBestMethod( Method structMethod, Class receiverClass )
   {
-    String propertyName = getPropertyNameFromGetter( structMethod );
-    if( propertyName != null )
+    List<Method> methods = new ArrayList<>();
+    for( Method m : receiverClass.getMethods() )
     {
-      Field field = findField( propertyName, receiver.getClass(), structMethod.getReturnType(), Variance.Covariant );
-      if( field != null )
+      if( m.getName().equals( structMethod.getName() ) ||
+          isGetterRecordAccessorMatch( structMethod, receiverClass, m ) )
       {
-        try
-        {
-          setAccessible( field );
-          return field.get( receiver );
-        }
-        catch( IllegalAccessException e )
-        {
-          throw ManExceptionUtil.unchecked( e );
-        }
+        methods.add( m );
       }
     }
-    else
+    List<MethodScore> methodScores = MethodScorer.instance()
+      .scoreMethods( methods, Arrays.asList( structMethod.getParameterTypes() ), structMethod.getReturnType() );
+    for( MethodScore score : methodScores )
     {
-      propertyName = getPropertyNameFromSetter( structMethod );
-      if( propertyName != null )
+      if( !score.isErrant() )
       {
-        Field field = findField( propertyName, receiver.getClass(), structMethod.getParameterTypes()[0], Variance.Contravariant );
-        if( field != null )
-        {
-          try
-          {
-            setAccessible( field );
-            field.set( receiver, args[0] );
-            return null;
-          }
-          catch( IllegalAccessException e )
-          {
-            throw ManExceptionUtil.unchecked( e );
-          }
-        }
+        Method method = score.getMethod();
+        setAccessible( method );
+        return method;
       }
+      //todo: post a compile error indicating the errant method
     }
-    return UNHANDLED;
-  }
-
-  public static Method findBestMethod( Method structMethod, Class receiverClass )
-  {
-    ConcurrentMap<Class, Method> map = _structuralCall.computeIfAbsent( structMethod, cls -> new ConcurrentWeakHashMap<>() );
-    return map.computeIfAbsent( receiverClass, rc -> {
-      List<Method> methods = new ArrayList<>();
-      for( Method m : rc.getMethods() )
-      {
-        if( m.getName().equals( structMethod.getName() ) ||
-            isGetterRecordAccessorMatch( structMethod, receiverClass, m ) )
-        {
-          methods.add( m );
-        }
-      }
-      List<MethodScore> methodScores = MethodScorer.instance()
-        .scoreMethods( methods, Arrays.asList( structMethod.getParameterTypes() ), structMethod.getReturnType() );
-      for( MethodScore score : methodScores )
-      {
-        if( !score.isErrant() )
-        {
-          Method method = score.getMethod();
-          setAccessible( method );
-          return method;
-        }
-        //todo: post a compile error indicating the errant method
-      }
-      return null;
-    } );
+    return null;
   }
 
   private static boolean isGetterRecordAccessorMatch( Method structMethod, Class receiverClass, Method m )
@@ -27,16 +27,29 @@ import java.util.List;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+import java.util.concurrent.atomic.LongAdder;
 import manifold.util.ILogger;
+import manifold.util.ManExceptionUtil;
+import manifold.util.metrics.CacheMetric;
+import manifold.util.metrics.Metrics;
 
 /**
  * static var MY_CACHE = new Cache<Foo, Bar>( 1000, \ foo -> getBar( foo ) )
+ * <p/>
+ * Concurrent misses on a key load it once, the other threads wait for the value. The loader may request other keys
+ * from the cache, including keys other threads are loading. Since such a thread may in turn need a key the loader is
+ * loading, a thread that is loading a value never waits for another thread's load, it loads the key itself instead.
+ * <p/>
+ * A {@link #Cache(String, int, boolean, Loader) frequency-aware} cache admits a loaded value only if its key has been
+ * requested more often than the key it would evict, so a scan of keys requested once does not flush frequently
+ * requested entries.
  */
 public class Cache<K, V>
 {
@@ -44,27 +57,45 @@ public class Cache<K, V>
   private final Loader<K, V> _loader;
   private final String _name;
   private final int _size;
+  private final FrequencySketch _sketch;
+  private final ConcurrentHashMap<K, Load<V>> _loading = new ConcurrentHashMap<>();
+  /**
+   * The number of loads in progress on the current thread, across caches, so loaders in different caches depending on
+   * each other don't deadlock either
+   */
+  private static final ThreadLocal<int[]> LOADING = ThreadLocal.withInitial( () -> new int[1] );
 
   //statistics
-  private final AtomicInteger _requests = new AtomicInteger();
-  private final AtomicInteger _misses = new AtomicInteger();
-  private final AtomicInteger _hits = new AtomicInteger();
+  private final LongAdder _misses = new LongAdder();
+  private final LongAdder _hits = new LongAdder();
+  private final CacheMetric _metric;
 
   private ScheduledFuture<?> _loggingTask;
 
   /**
    * This will create a new cache
    *
-   * @param name        the name of the cache for logging
+   * @param name        the name of the cache for logging and for its {@link Metrics#cache(String) metric}
    * @param size        the maximum size of the log
    * @param loader      loads values into the cache, this is required not to be null
    */
   public Cache( String name, int size, Loader<K, V> loader )
+  {
+    this( name, size, false, loader );
+  }
+
+  /**
+   * @param frequencyAware if true, a loaded value is cached only if its key has been requested more often than the key
+   *                       it would evict
+   */
+  public Cache( String name, int size, boolean frequencyAware, Loader<K, V> loader )
   {
     _name = name;
     _size = size;
+    _sketch = frequencyAware ? new FrequencySketch( size ) : null;
     clearCacheImpl();
     _loader = loader;
+    _metric = Metrics.cache( name );
   }
 
   private void clearCacheImpl()
@@ -106,19 +137,87 @@ public class Cache<K, V>
    */
   public V get( K key )
   {
+    if( _sketch != null )
+    {
+      _sketch.increment( key );
+    }
     V value = _cacheImlp.get( key );
-    _requests.incrementAndGet();
-    if( value == null )
+    if( value != null )
     {
-      value = _loader.load( key );
-      _cacheImlp.put( key, value );
-      _misses.incrementAndGet();
+      _hits.increment();
+      _metric.hit();
+      return value;
     }
-    else
+    _misses.increment();
+    _metric.miss();
+    return load( key );
+  }
+
+  private V load( K key )
+  {
+    Load<V> load = new Load<>();
+    Load<V> inProgress = _loading.putIfAbsent( key, load );
+    if( inProgress != null )
+    {
+      int[] loading = LOADING.get();
+      if( loading[0] == 0 )
+      {
+        return inProgress.await();
+      }
+      // a loader requested its own key or a key another thread is loading, waiting for the other thread would
+      // deadlock if it needs a key this thread is loading
+      V value = loadValue( key, loading );
+      admit( key, value );
+      return value;
+    }
+
+    try
     {
-      _hits.incrementAndGet();
+      // another thread may have finished loading the key after the miss
+      V value = _cacheImlp.get( key );
+      if( value == null )
+      {
+        value = loadValue( key, LOADING.get() );
+        admit( key, value );
+      }
+      load.complete( value );
+      return value;
+    }
+    catch( Throwable t )
+    {
+      load.fail( t );
+      throw t;
+    }
+    finally
+    {
+      _loading.remove( key, load );
+    }
+  }
+
+  private V loadValue( K key, int[] loading )
+  {
+    loading[0]++;
+    try
+    {
+      return _loader.load( key );
+    }
+    finally
+    {
+      loading[0]--;
+    }
+  }
+
+  private void admit( K key, V value )
+  {
+    if( _sketch != null && _cacheImlp.size() >= _size )
+    {
+      K victim = _cacheImlp.peekEvictionCandidate();
+      if( victim != null && !_sketch.admit( key, victim ) )
+      {
+        return;
+      }
     }
-    return value;
+    _cacheImlp.put( key, value );
   }
 
   public Iterable<V> getCachedValues()
@@ -138,23 +237,23 @@ public class Cache<K, V>
 
   public int getRequests()
   {
-    return _requests.get();
+    return getHits() + getMisses();
   }
 
   public int getMisses()
   {
-    return _misses.get();
+    return (int)_misses.sum();
   }
 
   public int getHits()
   {
-    return _hits.get();
+    return (int)_hits.sum();
   }
 
   public double getHitRate()
   {
-    int requests = getRequests();
     int hits = getHits();
+    int requests = hits + getMisses();
     if( requests == 0 )
     {
       return 0.0;
@@ -211,9 +310,12 @@ public class Cache<K, V>
   public void clear()
   {
     clearCacheImpl();
-    _hits.set( 0 );
-    _misses.set( 0 );
-    _requests.set( 0 );
+    if( _sketch != null )
+    {
+      _sketch.clear();
+    }
+    _hits.reset();
+    _misses.reset();
   }
 
   @Override
@@ -227,6 +329,54 @@ public class Cache<K, V>
     return new Cache<K, V>( name, size, handler );
   }
 
+  /**
+   * A load in progress, other threads missing the same key wait for its value.
+   */
+  private static final class Load<V>
+  {
+    private final CountDownLatch _done = new CountDownLatch( 1 );
+    private volatile V _value;
+    private volatile Throwable _failure;
+
+    void complete( V value )
+    {
+      _value = value;
+      _done.countDown();
+    }
+
+    void fail( Throwable failure )
+    {
+      _failure = failure;
+      _done.countDown();
+    }
+
+    V await()
+    {
+      boolean interrupted = false;
+      while( true )
+      {
+        try
+        {
+          _done.await();
+          break;
+        }
+        catch( InterruptedException e )
+        {
+          interrupted = true;
+        }
+      }
+      if( interrupted )
+      {
+        Thread.currentThread().interrupt();
+      }
+      if( _failure != null )
+      {
+        throw ManExceptionUtil.unchecked( _failure );
+      }
+      return _value;
+    }
+  }
+
   /**
    * A {@link ConcurrentMap} with a doubly-linked list running through its entries.
    * <p/>
@@ -424,6 +574,33 @@ public class Cache<K, V>
       }
     }
 
+    /**
+     * @return The key of the entry nearest the head of the list the policy would evict next, or null if the list is
+     * empty. Since the list may change concurrently, this is an estimate.
+     */
+    K peekEvictionCandidate()
+    {
+      Node<K, V> first = null;
+      Node<K, V> node = head.getNext();
+      for( int i = 0; i < 8 && node.getState() != Node.State.SENTINEL; i++, node = node.getNext() )
+      {
+        if( node.getValue() == null )
+        {
+          // removed
+          continue;
+        }
+        if( first == null )
+        {
+          first = node;
+        }
+        if( !node.isMarked() )
+        {
+          return node.getKey();
+        }
+      }
+      return first == null ? null : first.getKey();
+    }
+
     /**
      * Notifies the listeners that an entry was evicted from the map.
      *
@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2025 - Manifold Systems LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package manifold.util.concurrent;
+
+import java.util.Arrays;
+
+/**
+ * Estimates how often keys have been requested, for {@link Cache}'s frequency-aware admission. A count-min sketch with
+ * four 4-bit counters per key, packed sixteen to a {@code long} and sized at one {@code long} per cache entry. Counts
+ * are halved after every {@code 10 * capacity} increments so that the estimates favor recent history.
+ * <p/>
+ * Updates are not synchronized. A lost increment or a racing reset only skews an estimate, which is acceptable for
+ * choosing between two cache entries and avoids contention on the cache's read path.
+ */
+final class FrequencySketch
+{
+  private static final long[] SEEDS = {
+    0xc3a5c85c97cb3127L, 0xb492b66fbe98f273L, 0x9ae16a3b2f90404fL, 0xcbf29ce484222325L};
+  private static final int MAX_COUNT = 15;
+  private static final long RESET_MASK = 0x7777777777777777L;
+
+  private final long[] _table;
+  private final int _mask;
+  private final int _sampleSize;
+  private int _additions;
+
+  FrequencySketch( int capacity )
+  {
+    int size = Integer.highestOneBit( Math.max( 16, Math.min( capacity, 1 << 24 ) ) - 1 ) << 1;
+    _table = new long[size];
+    // indexes counters, sixteen per long
+    _mask = (size << 4) - 1;
+    _sampleSize = Math.max( 10 * capacity, 10 );
+  }
+
+  int frequency( Object key )
+  {
+    int hash = spread( key.hashCode() );
+    int frequency = MAX_COUNT;
+    for( int i = 0; i < SEEDS.length; i++ )
+    {
+      frequency = Math.min( frequency, count( indexOf( hash, i ) ) );
+    }
+    return frequency;
+  }
+
+  void increment( Object key )
+  {
+    int hash = spread( key.hashCode() );
+    boolean added = false;
+    for( int i = 0; i < SEEDS.length; i++ )
+    {
+      int index = indexOf( hash, i );
+      if( count( index ) < MAX_COUNT )
+      {
+        _table[index >>> 4] += 1L << ((index & 15) << 2);
+        added = true;
+      }
+    }
+    if( added && ++_additions >= _sampleSize )
+    {
+      reset();
+    }
+  }
+
+  /**
+   * @return True if {@code candidate} has been requested more often than {@code victim}, which it would replace
+   */
+  boolean admit( Object candidate, Object victim )
+  {
+    return frequency( candidate ) > frequency( victim );
+  }
+
+  void clear()
+  {
+    Arrays.fill( _table, 0 );
+    _additions = 0;
+  }
+
+  private void reset()
+  {
+    for( int i = 0; i < _table.length; i++ )
+    {
+      _table[i] = (_table[i] >>> 1) & RESET_MASK;
+    }
+    _additions >>>= 1;
+  }
+
+  private int count( int index )
+  {
+    return (int)(_table[index >>> 4] >>> ((index & 15) << 2)) & 0xF;
+  }
+
+  private int indexOf( int hash, int i )
+  {
+    long h = (hash + SEEDS[i]) * SEEDS[i];
+    h += h >>> 32;
+    return (int)h & _mask;
+  }
+
+  private static int spread( int hash )
+  {
+    hash = ((hash >>> 16) ^ hash) * 0x45d9f3b;
+    hash = ((hash >>> 16) ^ hash) * 0x45d9f3b;
+    return (hash >>> 16) ^ hash;
+  }
+}
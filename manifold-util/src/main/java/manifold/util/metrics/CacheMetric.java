@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2025 - Manifold Systems LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package manifold.util.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts the hits and misses of all the caches sharing a name. Since hits and misses are frequent, they are not
+ * reported individually to Java Flight Recorder, instead a statistics event is emitted periodically per cache.
+ */
+public final class CacheMetric extends Metric implements CacheMetricMXBean
+{
+  private final LongAdder _hits = new LongAdder();
+  private final LongAdder _misses = new LongAdder();
+
+  CacheMetric( String name )
+  {
+    super( name );
+  }
+
+  public void hit()
+  {
+    if( Metrics.isEnabled() )
+    {
+      _hits.increment();
+    }
+  }
+
+  public void miss()
+  {
+    if( Metrics.isEnabled() )
+    {
+      _misses.increment();
+    }
+  }
+
+  @Override
+  public long getHits()
+  {
+    return _hits.sum();
+  }
+
+  @Override
+  public long getMisses()
+  {
+    return _misses.sum();
+  }
+
+  @Override
+  public long getRequests()
+  {
+    return getHits() + getMisses();
+  }
+
+  @Override
+  public double getHitRate()
+  {
+    long hits = getHits();
+    long requests = hits + getMisses();
+    return requests == 0 ? 0 : (double)hits / requests;
+  }
+
+  @Override
+  public String getKind()
+  {
+    return "Cache";
+  }
+
+  @Override
+  public void reset()
+  {
+    _hits.reset();
+    _misses.reset();
+  }
+
+  @Override
+  public String toString()
+  {
+    return String.format( "%s: hits=%d, misses=%d, hit rate=%.2f%%", getName(), getHits(), getMisses(), getHitRate() * 100 );
+  }
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright (c) 2025 - Manifold Systems LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package manifold.util.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts occurrences of an event.
+ */
+public final class Counter extends Metric implements CounterMXBean
+{
+  private final LongAdder _count = new LongAdder();
+
+  Counter( String name )
+  {
+    super( name );
+  }
+
+  /**
+   * @param detail Identifies the subject of the event e.g., a type name, reported to Java Flight Recorder. May be null.
+   */
+  public void increment( String detail )
+  {
+    if( !Metrics.isEnabled() )
+    {
+      return;
+    }
+    _count.increment();
+    Metrics.getListener().counted( this, detail );
+  }
+
+  @Override
+  public long getCount()
+  {
+    return _count.sum();
+  }
+
+  @Override
+  public void reset()
+  {
+    _count.reset();
+  }
+
+  @Override
+  public String toString()
+  {
+    return getName() + ": count=" + getCount();
+  }
+}
@@ -0,0 +1,150 @@
+/*
+ * Copyright (c) 2025 - Manifold Systems LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package manifold.util.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.FlightRecorderListener;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Period;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * Publishes metrics as Java Flight Recorder events. Timers and counters emit an event per update, cache statistics are
+ * emitted periodically. Loaded reflectively from {@link Metrics} since JFR is not available everywhere.
+ * <p/>
+ * This listener does not initialize JFR, the events are registered once a recording initializes it. Until then, and
+ * while an event is disabled in the recording settings, updates do not create events.
+ */
+class JfrMetricsListener implements MetricsListener
+{
+  private volatile EventType _timedType;
+  private volatile EventType _countedType;
+
+  JfrMetricsListener()
+  {
+    FlightRecorder.addListener( new FlightRecorderListener()
+    {
+      @Override
+      public void recorderInitialized( FlightRecorder recorder )
+      {
+        FlightRecorder.addPeriodicEvent( CacheStatisticsEvent.class, JfrMetricsListener::emitCacheStatistics );
+        _timedType = EventType.getEventType( TimedEvent.class );
+        _countedType = EventType.getEventType( CountedEvent.class );
+      }
+    } );
+  }
+
+  private static void emitCacheStatistics()
+  {
+    for( Metric metric : Metrics.getMetrics() )
+    {
+      if( metric instanceof CacheMetric )
+      {
+        CacheMetric cache = (CacheMetric)metric;
+        CacheStatisticsEvent event = new CacheStatisticsEvent();
+        event.metric = cache.getName();
+        event.hits = cache.getHits();
+        event.misses = cache.getMisses();
+        event.hitRate = cache.getHitRate();
+        event.commit();
+      }
+    }
+  }
+
+  @Override
+  public void timed( Timer timer, String detail, long nanos )
+  {
+    EventType type = _timedType;
+    if( type != null && type.isEnabled() )
+    {
+      TimedEvent event = new TimedEvent();
+      event.metric = timer.getName();
+      event.detail = detail;
+      event.elapsed = nanos;
+      event.commit();
+    }
+  }
+
+  @Override
+  public void counted( Counter counter, String detail )
+  {
+    EventType type = _countedType;
+    if( type != null && type.isEnabled() )
+    {
+      CountedEvent event = new CountedEvent();
+      event.metric = counter.getName();
+      event.detail = detail;
+      event.commit();
+    }
+  }
+
+  @Name( "manifold.Timed" )
+  @Label( "Manifold Timed Operation" )
+  @Category( "Manifold" )
+  @StackTrace( false )
+  static class TimedEvent extends Event
+  {
+    @Label( "Metric" )
+    String metric;
+
+    @Label( "Detail" )
+    String detail;
+
+    @Label( "Elapsed" )
+    @Timespan( Timespan.NANOSECONDS )
+    long elapsed;
+  }
+
+  @Name( "manifold.Counted" )
+  @Label( "Manifold Counted Event" )
+  @Category( "Manifold" )
+  @StackTrace( false )
+  static class CountedEvent extends Event
+  {
+    @Label( "Metric" )
+    String metric;
+
+    @Label( "Detail" )
+    String detail;
+  }
+
+  @Name( "manifold.CacheStatistics" )
+  @Label( "Manifold Cache Statistics" )
+  @Description( "Cumulative hits and misses of a named cache" )
+  @Category( "Manifold" )
+  @Period( "10 s" )
+  @StackTrace( false )
+  static class CacheStatisticsEvent extends Event
+  {
+    @Label( "Metric" )
+    String metric;
+
+    @Label( "Hits" )
+    long hits;
+
+    @Label( "Misses" )
+    long misses;
+
+    @Label( "Hit Rate" )
+    double hitRate;
+  }
+}
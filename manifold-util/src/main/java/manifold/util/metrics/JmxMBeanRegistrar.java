@@ -0,0 +1,62 @@
+/*
+ * Copyright (c) 2025 - Manifold Systems LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package manifold.util.metrics;
+
+import java.lang.management.ManagementFactory;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.management.StandardMBean;
+
+/**
+ * Registers metrics with the platform MBean server as {@code manifold.metrics:type=<kind>,name=<name>}. Loaded
+ * reflectively from {@link Metrics} since javax.management is not available everywhere.
+ */
+class JmxMBeanRegistrar implements Metrics.MBeanRegistrar
+{
+  private static final String DOMAIN = "manifold.metrics";
+
+  @Override
+  public void register( Metric metric )
+  {
+    MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+    try
+    {
+      ObjectName name = new ObjectName( DOMAIN + ":type=" + metric.getKind() + ",name=" + ObjectName.quote( metric.getName() ) );
+      if( !server.isRegistered( name ) )
+      {
+        server.registerMBean( new StandardMBean( metric, getMXBeanInterface( metric ), true ), name );
+      }
+    }
+    catch( JMException ignore )
+    {
+      // already registered by a racing thread, or the name is rejected, the metric remains queryable from Metrics
+    }
+  }
+
+  @SuppressWarnings( "unchecked" )
+  private static Class<Object> getMXBeanInterface( Metric metric )
+  {
+    for( Class<?> iface : metric.getClass().getInterfaces() )
+    {
+      if( iface.getSimpleName().endsWith( "MXBean" ) )
+      {
+        return (Class<Object>)iface;
+      }
+    }
+    throw new IllegalStateException( "No MXBean interface for " + metric.getClass() );
+  }
+}
@@ -0,0 +1,46 @@
+/*
+ * Copyright (c) 2025 - Manifold Systems LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package manifold.util.metrics;
+
+/**
+ * A named measurement maintained by {@link Metrics}. Metrics are cumulative from the time they are created or last
+ * {@link #reset()}.
+ */
+public abstract class Metric
+{
+  private final String _name;
+
+  Metric( String name )
+  {
+    _name = name;
+  }
+
+  public String getName()
+  {
+    return _name;
+  }
+
+  /**
+   * @return The kind of metric e.g., "Timer", used to name the metric's MBean
+   */
+  public String getKind()
+  {
+    return getClass().getSimpleName();
+  }
+
+  public abstract void reset();
+}
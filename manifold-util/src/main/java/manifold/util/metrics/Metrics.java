@@ -0,0 +1,193 @@
+/*
+ * Copyright (c) 2025 - Manifold Systems LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package manifold.util.metrics;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import manifold.util.concurrent.LocklessLazyVar;
+
+/**
+ * The registry of Manifold's performance metrics: timings of type manifold contributions and runtime compilation,
+ * structural proxy counts, and cache hit rates. Metrics are collected unless the {@code manifold.metrics} system
+ * property is {@code false}, and are queryable here, e.g.,
+ * <pre>
+ *   for( Metric metric : Metrics.getMetrics() ) { ... }
+ *   System.out.println( Metrics.report() );
+ * </pre>
+ * Metrics are also published:
+ * <ul>
+ *   <li>as Java Flight Recorder events in the "Manifold" category where JFR is available, unless the
+ *   {@code manifold.metrics.jfr} system property is {@code false}</li>
+ *   <li>as JMX MBeans in the {@code manifold.metrics} domain if the {@code manifold.metrics.jmx} system property is
+ *   {@code true} or after calling {@link #registerMBeans()}</li>
+ * </ul>
+ */
+public final class Metrics
+{
+  private static final String ENABLED_PROPERTY = "manifold.metrics";
+  private static final String JFR_PROPERTY = "manifold.metrics.jfr";
+  private static final boolean ENABLED = Boolean.valueOf( System.getProperty( ENABLED_PROPERTY, "true" ) );
+  private static final String JMX_PROPERTY = "manifold.metrics.jmx";
+
+  private static final Map<String, Metric> METRICS = new ConcurrentHashMap<>();
+
+  private static final LocklessLazyVar<MetricsListener> LISTENER =
+    LocklessLazyVar.make( () -> {
+      if( !ENABLED || !Boolean.valueOf( System.getProperty( JFR_PROPERTY, "true" ) ) )
+      {
+        return MetricsListener.NONE;
+      }
+      try
+      {
+        // JFR is absent in older Java 8 builds and Android
+        Class.forName( "jdk.jfr.FlightRecorder" );
+        return (MetricsListener)Class.forName( "manifold.util.metrics.JfrMetricsListener" ).newInstance();
+      }
+      catch( Throwable ignore )
+      {
+        return MetricsListener.NONE;
+      }
+    } );
+
+  private static final LocklessLazyVar<MBeanRegistrar> MBEANS =
+    LocklessLazyVar.make( () -> Boolean.valueOf( System.getProperty( JMX_PROPERTY, "false" ) ) ? makeRegistrar() : null );
+
+  /**
+   * @return False if metrics are disabled with the {@code manifold.metrics} system property, in which case updates
+   * are ignored. Callers should check this before computing e.g., a detail string for an update.
+   */
+  public static boolean isEnabled()
+  {
+    return ENABLED;
+  }
+
+  public static Timer timer( String name )
+  {
+    return get( name, Timer.class, Timer::new );
+  }
+
+  public static Counter counter( String name )
+  {
+    return get( name, Counter.class, Counter::new );
+  }
+
+  public static CacheMetric cache( String name )
+  {
+    return get( name, CacheMetric.class, CacheMetric::new );
+  }
+
+  /**
+   * @return The metric named {@code name} or null if there is no such metric
+   */
+  public static Metric getMetric( String name )
+  {
+    return METRICS.get( name );
+  }
+
+  /**
+   * @return A snapshot of all the metrics sorted by name
+   */
+  public static List<Metric> getMetrics()
+  {
+    return new ArrayList<>( new TreeMap<>( METRICS ).values() );
+  }
+
+  /**
+   * @return All the metrics formatted one per line
+   */
+  public static String report()
+  {
+    StringBuilder sb = new StringBuilder();
+    for( Metric metric : getMetrics() )
+    {
+      sb.append( metric ).append( '\n' );
+    }
+    return sb.toString();
+  }
+
+  public static void reset()
+  {
+    METRICS.values().forEach( Metric::reset );
+  }
+
+  /**
+   * Registers the metrics as MBeans with the platform MBean server, including metrics created subsequently.
+   */
+  public static void registerMBeans()
+  {
+    if( MBEANS.get() == null )
+    {
+      MBeanRegistrar registrar = makeRegistrar();
+      if( registrar == null )
+      {
+        throw new IllegalStateException( "JMX is not available" );
+      }
+      MBEANS.set( registrar );
+    }
+    METRICS.values().forEach( MBEANS.get()::register );
+  }
+
+  static MetricsListener getListener()
+  {
+    return LISTENER.get();
+  }
+
+  private static <M extends Metric> M get( String name, Class<M> kind, Function<String, M> factory )
+  {
+    Metric metric = METRICS.get( name );
+    if( metric == null )
+    {
+      Metric[] created = {null};
+      metric = METRICS.computeIfAbsent( name, n -> created[0] = factory.apply( n ) );
+      if( created[0] != null && MBEANS.get() != null )
+      {
+        MBEANS.get().register( created[0] );
+      }
+    }
+    if( !kind.isInstance( metric ) )
+    {
+      throw new IllegalArgumentException( "Metric '" + name + "' is a " + metric.getKind() + ", not a " + kind.getSimpleName() );
+    }
+    return kind.cast( metric );
+  }
+
+  private static MBeanRegistrar makeRegistrar()
+  {
+    try
+    {
+      // javax.management is absent on Android
+      return (MBeanRegistrar)Class.forName( "manifold.util.metrics.JmxMBeanRegistrar" ).newInstance();
+    }
+    catch( Throwable ignore )
+    {
+      return null;
+    }
+  }
+
+  interface MBeanRegistrar
+  {
+    void register( Metric metric );
+  }
+
+  private Metrics()
+  {
+  }
+}
@@ -0,0 +1,39 @@
+/*
+ * Copyright (c) 2025 - Manifold Systems LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package manifold.util.metrics;
+
+/**
+ * Publishes metric updates as they happen, see {@link JfrMetricsListener}.
+ */
+interface MetricsListener
+{
+  MetricsListener NONE = new MetricsListener()
+  {
+    @Override
+    public void timed( Timer timer, String detail, long nanos )
+    {
+    }
+
+    @Override
+    public void counted( Counter counter, String detail )
+    {
+    }
+  };
+
+  void timed( Timer timer, String detail, long nanos );
+
+  void counted( Counter counter, String detail );
+}
@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) 2025 - Manifold Systems LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package manifold.util.metrics;
+
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Measures the count and duration of an operation:
+ * <pre>
+ *   long before = System.nanoTime();
+ *   ...
+ *   timer.stop( fqn, before );
+ * </pre>
+ */
+public final class Timer extends Metric implements TimerMXBean
+{
+  private final LongAdder _count = new LongAdder();
+  private final LongAdder _totalNanos = new LongAdder();
+  private final LongAccumulator _maxNanos = new LongAccumulator( Math::max, 0 );
+
+  Timer( String name )
+  {
+    super( name );
+  }
+
+  /**
+   * Records an operation that started at {@code nanosBefore}, as returned from {@link System#nanoTime()}.
+   *
+   * @param detail Identifies the subject of the operation e.g., a type name, reported to Java Flight Recorder. May be
+   *               null.
+   * @return The duration of the operation in nanoseconds
+   */
+  public long stop( String detail, long nanosBefore )
+  {
+    long nanos = System.nanoTime() - nanosBefore;
+    record( detail, nanos );
+    return nanos;
+  }
+
+  public void record( String detail, long nanos )
+  {
+    if( !Metrics.isEnabled() )
+    {
+      return;
+    }
+    _count.increment();
+    _totalNanos.add( nanos );
+    _maxNanos.accumulate( nanos );
+    Metrics.getListener().timed( this, detail, nanos );
+  }
+
+  @Override
+  public long getCount()
+  {
+    return _count.sum();
+  }
+
+  public long getTotalNanos()
+  {
+    return _totalNanos.sum();
+  }
+
+  public long getMaxNanos()
+  {
+    return _maxNanos.get();
+  }
+
+  @Override
+  public double getTotalMillis()
+  {
+    return getTotalNanos() / 1e6;
+  }
+
+  @Override
+  public double getMaxMillis()
+  {
+    return getMaxNanos() / 1e6;
+  }
+
+  @Override
+  public double getMeanMillis()
+  {
+    long count = getCount();
+    return count == 0 ? 0 : getTotalMillis() / count;
+  }
+
+  @Override
+  public void reset()
+  {
+    _count.reset();
+    _totalNanos.reset();
+    _maxNanos.reset();
+  }
+
+  @Override
+  public String toString()
+  {
+    return String.format( "%s: count=%d, total=%.2fms, mean=%.2fms, max=%.2fms",
+      getName(), getCount(), getTotalMillis(), getMeanMillis(), getMaxMillis() );
+  }
+}
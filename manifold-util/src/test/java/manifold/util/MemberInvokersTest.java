@@ -0,0 +1,123 @@
+package manifold.util;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import junit.framework.TestCase;
+
+public class MemberInvokersTest extends TestCase
+{
+  public void testMethods() throws Throwable
+  {
+    Method concat = Target.class.getDeclaredMethod( "concat", String.class, int.class );
+    assertEquals( "a1", MemberInvokers.invoker( concat ).invoke( new Target( "a" ), new Object[]{"", 1} ) );
+    assertSame( MemberInvokers.invoker( concat ), MemberInvokers.invoker( concat ) );
+
+    Method sum = Target.class.getDeclaredMethod( "sum", int.class, int.class );
+    assertEquals( 3, MemberInvokers.invoker( sum ).invoke( null, new Object[]{1, 2} ) );
+  }
+
+  public void testConstructors() throws Throwable
+  {
+    Constructor<Target> ctor = Target.class.getDeclaredConstructor( String.class );
+    assertEquals( "b", ((Target)MemberInvokers.invoker( ctor ).invoke( null, new Object[]{"b"} ))._value );
+  }
+
+  public void testExceptionPropagates() throws Throwable
+  {
+    Method fail = Target.class.getDeclaredMethod( "fail" );
+    try
+    {
+      MemberInvokers.invoker( fail ).invoke( null, new Object[0] );
+      fail();
+    }
+    catch( UnsupportedOperationException expected )
+    {
+    }
+  }
+
+  public void testCallerSensitive() throws Exception
+  {
+    assertNull( MemberInvokers.invoker( Class.class.getMethod( "forName", String.class ) ) );
+  }
+
+  public void testGenericHandles() throws Throwable
+  {
+    Method many = Target.class.getDeclaredMethod( "many", int.class, int.class, int.class, int.class, int.class );
+    Method clear = Target.class.getDeclaredMethod( "clear" );
+    Method charAt = StringBuilder.class.getMethod( "charAt", int.class );
+    Method format = String.class.getMethod( "format", String.class, Object[].class );
+    Constructor<ArrayList> listCtor = ArrayList.class.getConstructor( int.class );
+    Field value = Target.class.getDeclaredField( "_value" );
+    if( JreUtil.JAVA_VERSION < 18 )
+    {
+      // these use reflection before Java 18
+      assertNull( MemberInvokers.invoker( many ) );
+      assertNull( MemberInvokers.invoker( clear ) );
+      assertNull( MemberInvokers.invoker( charAt ) );
+      assertNull( MemberInvokers.invoker( listCtor ) );
+      assertNull( MemberInvokers.accessor( value ) );
+      return;
+    }
+
+    assertEquals( 15, MemberInvokers.invoker( many ).invoke( null, new Object[]{1, 2, 3, 4, 5} ) );
+    Target target = new Target( "a" );
+    assertNull( MemberInvokers.invoker( clear ).invoke( target, null ) );
+    assertNull( target._value );
+    assertEquals( 'b', MemberInvokers.invoker( charAt ).invoke( new StringBuilder( "ab" ), new Object[]{1} ) );
+    assertEquals( "x", MemberInvokers.invoker( format ).invoke( null, new Object[]{"%s", new Object[]{"x"}} ) );
+    assertTrue( MemberInvokers.invoker( listCtor ).invoke( null, new Object[]{8} ) instanceof ArrayList );
+
+    MemberInvokers.FieldAccessor valueAccessor = MemberInvokers.accessor( value );
+    valueAccessor.set( target, "b" );
+    assertEquals( "b", valueAccessor.get( target ) );
+
+    MemberInvokers.FieldAccessor count = MemberInvokers.accessor( Target.class.getDeclaredField( "_count" ) );
+    count.set( null, 5 );
+    assertEquals( 5, count.get( null ) );
+
+    MemberInvokers.FieldAccessor constant = MemberInvokers.accessor( Target.class.getDeclaredField( "CONSTANT" ) );
+    assertEquals( "constant", constant.get( null ) );
+    assertFalse( constant.canSet() );
+  }
+
+  @SuppressWarnings( "unused" )
+  private static class Target
+  {
+    private static final String CONSTANT = "constant";
+    private static int _count;
+
+    private String _value;
+
+    private Target( String value )
+    {
+      _value = value;
+    }
+
+    private String concat( String s, int i )
+    {
+      return _value + s + i;
+    }
+
+    private static int sum( int a, int b )
+    {
+      return a + b;
+    }
+
+    private static int many( int a, int b, int c, int d, int e )
+    {
+      return a + b + c + d + e;
+    }
+
+    private void clear()
+    {
+      _value = null;
+    }
+
+    private static String fail()
+    {
+      throw new UnsupportedOperationException();
+    }
+  }
+}
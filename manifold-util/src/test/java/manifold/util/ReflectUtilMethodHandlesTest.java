@@ -0,0 +1,216 @@
+/*
+ * Copyright (c) 2025 - Manifold Systems LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package manifold.util;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import junit.framework.TestCase;
+
+/**
+ * Tests the refs of {@link ReflectUtil} using {@link MemberInvokers}. Runs in the {@code methodhandles} surefire
+ * execution, which sets {@code manifold.reflect.methodhandles}.
+ */
+public class ReflectUtilMethodHandlesTest extends TestCase
+{
+  @Override
+  protected void setUp()
+  {
+    assertTrue( "run with -Dmanifold.reflect.methodhandles=true", MemberInvokers.ENABLED );
+  }
+
+  public void testMethodInvokerCached() throws Exception
+  {
+    ReflectUtil.MethodRef sum = ReflectUtil.method( Target.class, "sum", int.class, int.class );
+    assertEquals( 3, sum.invokeStatic( 1, 2 ) );
+    Object invoker = getRefField( sum, "_invoker" );
+    assertNotNull( invoker );
+    assertNotSame( MemberInvokers.NO_INVOKER, invoker );
+
+    // the ref calls its cached invoker
+    setRefField( sum, "_invoker", (MemberInvokers.Invoker)( receiver, args ) -> -1 );
+    assertEquals( -1, sum.invokeStatic( 1, 2 ) );
+    setRefField( sum, "_invoker", invoker );
+    assertEquals( 3, sum.invokeStatic( 1, 2 ) );
+  }
+
+  public void testLiveMethodInvoker() throws Exception
+  {
+    ReflectUtil.LiveMethodRef concat = ReflectUtil.method( new Target( "a" ), "concat", String.class, int.class );
+    assertEquals( "ab1", concat.invoke( "b", 1 ) );
+    Object invoker = getRefField( concat, "_invoker" );
+    assertNotNull( invoker );
+    assertNotSame( MemberInvokers.NO_INVOKER, invoker );
+    assertEquals( "ac2", concat.invoke( "c", 2 ) );
+    assertSame( invoker, getRefField( concat, "_invoker" ) );
+  }
+
+  public void testConstructorInvoker() throws Exception
+  {
+    ReflectUtil.ConstructorRef ctor = ReflectUtil.constructor( Target.class, String.class );
+    assertEquals( "a", ((Target)ctor.newInstance( "a" ))._value );
+    Object invoker = getRefField( ctor, "_invoker" );
+    assertNotNull( invoker );
+    assertNotSame( MemberInvokers.NO_INVOKER, invoker );
+  }
+
+  public void testNoInvokerUsesReflection() throws Exception
+  {
+    // a caller-sensitive method has no invoker
+    ReflectUtil.MethodRef forName = ReflectUtil.method( Class.class, "forName", String.class );
+    assertSame( String.class, forName.invokeStatic( "java.lang.String" ) );
+    assertSame( MemberInvokers.NO_INVOKER, getRefField( forName, "_invoker" ) );
+
+    // the sentinel is not resolved again
+    ReflectUtil.MethodRef sum = ReflectUtil.method( Target.class, "sum", int.class, int.class );
+    setRefField( sum, "_invoker", MemberInvokers.NO_INVOKER );
+    assertEquals( 3, sum.invokeStatic( 1, 2 ) );
+    assertSame( MemberInvokers.NO_INVOKER, getRefField( sum, "_invoker" ) );
+    setRefField( sum, "_invoker", null );
+  }
+
+  public void testExceptionUnwrapped()
+  {
+    try
+    {
+      ReflectUtil.method( Target.class, "fail" ).invokeStatic();
+      fail();
+    }
+    catch( UnsupportedOperationException expected )
+    {
+    }
+
+    try
+    {
+      ReflectUtil.method( new Target( "a" ), "failChecked" ).invoke();
+      fail();
+    }
+    catch( Exception e )
+    {
+      assertTrue( e.toString(), e instanceof IOException );
+    }
+
+    try
+    {
+      ReflectUtil.constructor( Target.class ).newInstance();
+      fail();
+    }
+    catch( IllegalStateException expected )
+    {
+    }
+  }
+
+  public void testFieldAccessor() throws Exception
+  {
+    ReflectUtil.FieldRef count = ReflectUtil.field( Target.class, "_count" );
+    count.setStatic( 5 );
+    assertEquals( 5, count.getStatic() );
+
+    ReflectUtil.LiveFieldRef value = ReflectUtil.field( new Target( "a" ), "_value" );
+    value.set( "b" );
+    assertEquals( "b", value.get() );
+
+    if( JreUtil.JAVA_VERSION < 18 )
+    {
+      // fields are accessed via reflection before Java 18
+      assertSame( MemberInvokers.NO_ACCESSOR, getRefField( count, "_accessor" ) );
+      assertSame( MemberInvokers.NO_ACCESSOR, getRefField( value, "_accessor" ) );
+      return;
+    }
+    assertTrue( ((MemberInvokers.FieldAccessor)getRefField( count, "_accessor" )).canSet() );
+    assertTrue( ((MemberInvokers.FieldAccessor)getRefField( value, "_accessor" )).canSet() );
+  }
+
+  public void testFinalFieldSetViaReflection() throws Exception
+  {
+    Target target = new Target( "a" );
+    ReflectUtil.LiveFieldRef fin = ReflectUtil.field( target, "_final" );
+    if( JreUtil.JAVA_VERSION < 18 )
+    {
+      // before Java 18 there is no accessor, give the ref one without a setter as made for a final field on Java 18+
+      Field field = Target.class.getDeclaredField( "_final" );
+      field.setAccessible( true );
+      MethodHandle getter = MethodHandles.lookup().unreflectGetter( field )
+        .asType( MethodType.methodType( Object.class, Object.class ) );
+      setRefField( fin, "_accessor", ReflectUtil.constructor( MemberInvokers.FieldAccessor.class,
+        MethodHandle.class, MethodHandle.class ).newInstance( getter, null ) );
+    }
+    MemberInvokers.FieldAccessor accessor = (MemberInvokers.FieldAccessor)getRefField( fin, "_accessor" );
+    assertNotNull( accessor );
+    assertFalse( accessor.canSet() );
+
+    fin.set( "changed" );
+    assertEquals( "changed", fin.get() );
+    assertSame( accessor, getRefField( fin, "_accessor" ) );
+  }
+
+  private static Object getRefField( Object ref, String name ) throws Exception
+  {
+    Field field = ref.getClass().getDeclaredField( name );
+    field.setAccessible( true );
+    return field.get( ref );
+  }
+
+  private static void setRefField( Object ref, String name, Object value ) throws Exception
+  {
+    Field field = ref.getClass().getDeclaredField( name );
+    field.setAccessible( true );
+    field.set( ref, value );
+  }
+
+  @SuppressWarnings( "unused" )
+  private static class Target
+  {
+    private static int _count;
+
+    private final String _final;
+    private String _value;
+
+    private Target()
+    {
+      throw new IllegalStateException();
+    }
+
+    private Target( String value )
+    {
+      _value = value;
+      _final = value;
+    }
+
+    private String concat( String s, int i )
+    {
+      return _value + s + i;
+    }
+
+    private static int sum( int a, int b )
+    {
+      return a + b;
+    }
+
+    private static String fail()
+    {
+      throw new UnsupportedOperationException();
+    }
+
+    private String failChecked() throws IOException
+    {
+      throw new IOException();
+    }
+  }
+}
@@ -63,6 +63,61 @@ public class ReflectUtilTest extends TestCase
     assertEquals( "two", res );
   }
 
+  public void testStructuralCallSite()
+  {
+    java.lang.reflect.Method getValue = ReflectUtil.method( IValue.class, "getValue" ).getMethod();
+    java.lang.reflect.Method setValue = ReflectUtil.method( IValue.class, "setValue", int.class ).getMethod();
+    java.lang.reflect.Method getNumber = ReflectUtil.method( IValue.class, "getNumber" ).getMethod();
+    Object[] receivers = {new ByMethod(), new ByField(), new ByShortMethod(), new ByField(), new ByMethod(),
+      new ByOtherMethod(), new ByOtherField(), new ByShortMethod()};
+    for( int i = 0; i < 2; i++ ) // second time uses the cached targets, beyond four receiver classes is megamorphic
+    {
+      for( Object receiver: receivers )
+      {
+        ReflectUtil.structuralCall( setValue, receiver, 7 );
+        assertEquals( 7, ReflectUtil.structuralCall( getValue, receiver ) );
+      }
+    }
+    assertEquals( 7L, ReflectUtil.structuralCall( getNumber, new ByShortMethod() ) );
+    try
+    {
+      ReflectUtil.structuralCall( getNumber, new ByField() );
+      fail();
+    }
+    catch( RuntimeException expected )
+    {
+    }
+  }
+
+  public interface IValue
+  {
+    int getValue();
+    void setValue( int value );
+    Number getNumber();
+  }
+  public static class ByMethod
+  {
+    private int _value;
+    public int getValue() { return _value; }
+    public void setValue( int value ) { _value = value; }
+  }
+  public static class ByOtherMethod extends ByMethod {}
+  public static class ByShortMethod
+  {
+    private short _value;
+    public short getValue() { return _value; }
+    public void setValue( int value ) { _value = (short)value; }
+    public Long getNumber() { return 7L; }
+  }
+  public static class ByField
+  {
+    public int value;
+  }
+  public static class ByOtherField
+  {
+    public int _value;
+  }
+
   interface IFoo
   {
     String callMe( CharSequence p );
@@ -0,0 +1,157 @@
+package manifold.util.concurrent;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import junit.framework.TestCase;
+
+public class CacheTest extends TestCase
+{
+  public void testConcurrentMissesLoadOnce() throws Exception
+  {
+    AtomicInteger loads = new AtomicInteger();
+    CountDownLatch loading = new CountDownLatch( 1 );
+    CountDownLatch release = new CountDownLatch( 1 );
+    Cache<String, String> cache = Cache.make( "CacheTest.singleFlight", 10, key -> {
+      loads.incrementAndGet();
+      loading.countDown();
+      try
+      {
+        release.await();
+      }
+      catch( InterruptedException e )
+      {
+        throw new RuntimeException( e );
+      }
+      return key.toUpperCase();
+    } );
+
+    ExecutorService executor = Executors.newFixedThreadPool( 4 );
+    try
+    {
+      Future<String> first = executor.submit( () -> cache.get( "a" ) );
+      assertTrue( loading.await( 10, TimeUnit.SECONDS ) );
+      Future<String> second = executor.submit( () -> cache.get( "a" ) );
+      Future<String> third = executor.submit( () -> cache.get( "a" ) );
+      Thread.sleep( 50 );
+      release.countDown();
+      assertEquals( "A", first.get( 10, TimeUnit.SECONDS ) );
+      assertEquals( "A", second.get( 10, TimeUnit.SECONDS ) );
+      assertEquals( "A", third.get( 10, TimeUnit.SECONDS ) );
+      assertEquals( 1, loads.get() );
+      assertEquals( 3, cache.getRequests() );
+    }
+    finally
+    {
+      executor.shutdownNow();
+    }
+  }
+
+  public void testLoaderRequestsOwnKey()
+  {
+    Cache<Integer, Integer>[] cache = new Cache[1];
+    cache[0] = Cache.make( "CacheTest.reentrant", 10, key -> key == 0 ? 1 : cache[0].get( key - 1 ) + cache[0].get( 0 ) );
+    assertEquals( Integer.valueOf( 4 ), cache[0].get( 3 ) );
+  }
+
+  public void testCyclicLoadersDontDeadlock() throws Exception
+  {
+    // "a" needs "b" and "b" needs "a", a key already being loaded on the thread resolves to "*"
+    ThreadLocal<Set<String>> visiting = ThreadLocal.withInitial( HashSet::new );
+    CountDownLatch bothLoading = new CountDownLatch( 2 );
+    Cache<String, String>[] cache = new Cache[1];
+    cache[0] = Cache.make( "CacheTest.cyclic", 10, key -> {
+      Set<String> keys = visiting.get();
+      if( keys.contains( key ) )
+      {
+        return "*";
+      }
+      if( keys.isEmpty() )
+      {
+        // the threads request each other's key only once both are loading their own
+        bothLoading.countDown();
+        try
+        {
+          assertTrue( bothLoading.await( 10, TimeUnit.SECONDS ) );
+        }
+        catch( InterruptedException e )
+        {
+          throw new RuntimeException( e );
+        }
+      }
+      keys.add( key );
+      try
+      {
+        return key + cache[0].get( key.equals( "a" ) ? "b" : "a" );
+      }
+      finally
+      {
+        keys.remove( key );
+      }
+    } );
+
+    ExecutorService executor = Executors.newFixedThreadPool( 2 );
+    try
+    {
+      Future<String> a = executor.submit( () -> cache[0].get( "a" ) );
+      Future<String> b = executor.submit( () -> cache[0].get( "b" ) );
+      // the values depend on which thread's loads are cached first, but neither thread waits for the other
+      assertTrue( a.get( 10, TimeUnit.SECONDS ).startsWith( "a" ) );
+      assertTrue( b.get( 10, TimeUnit.SECONDS ).startsWith( "b" ) );
+    }
+    finally
+    {
+      executor.shutdownNow();
+    }
+  }
+
+  public void testLoaderFailure()
+  {
+    AtomicInteger loads = new AtomicInteger();
+    Cache<String, String> cache = Cache.make( "CacheTest.failure", 10, key -> {
+      if( loads.incrementAndGet() == 1 )
+      {
+        throw new IllegalStateException( key );
+      }
+      return key;
+    } );
+    try
+    {
+      cache.get( "a" );
+      fail();
+    }
+    catch( IllegalStateException expected )
+    {
+    }
+    assertEquals( "a", cache.get( "a" ) );
+  }
+
+  public void testFrequencyAwareResistsScan()
+  {
+    int size = 100;
+    Cache<Integer, Integer> cache = new Cache<>( "CacheTest.frequencyAware", size, true, key -> key );
+    int scanned = size;
+    int hits = 0;
+    for( int round = 0; round < 20; round++ )
+    {
+      hits = cache.getHits();
+      for( int key = 0; key < size / 2; key++ )
+      {
+        cache.get( key );
+      }
+      hits = cache.getHits() - hits;
+
+      // keys requested once, which would flush the hot keys from an LRU cache
+      for( int i = 0; i < size * 2; i++ )
+      {
+        cache.get( scanned++ );
+      }
+    }
+    assertTrue( hits >= size / 2 * 9 / 10 );
+  }
+}
@@ -0,0 +1,113 @@
+package manifold.util.metrics;
+
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+import javax.management.ObjectName;
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import junit.framework.TestCase;
+import manifold.util.concurrent.Cache;
+
+public class MetricsTest extends TestCase
+{
+  public void testTimer()
+  {
+    Timer timer = Metrics.timer( "MetricsTest.timer" );
+    timer.record( "a", 2_000_000 );
+    timer.record( "b", 4_000_000 );
+    assertSame( timer, Metrics.timer( "MetricsTest.timer" ) );
+    assertEquals( 2, timer.getCount() );
+    assertEquals( 6_000_000, timer.getTotalNanos() );
+    assertEquals( 4_000_000, timer.getMaxNanos() );
+    assertEquals( 3d, timer.getMeanMillis() );
+
+    timer.reset();
+    assertEquals( 0, timer.getCount() );
+    assertEquals( 0d, timer.getMeanMillis() );
+  }
+
+  public void testCounter()
+  {
+    Counter counter = Metrics.counter( "MetricsTest.counter" );
+    counter.increment( null );
+    counter.increment( "detail" );
+    assertEquals( 2, counter.getCount() );
+    assertSame( counter, Metrics.getMetric( "MetricsTest.counter" ) );
+    assertTrue( Metrics.getMetrics().contains( counter ) );
+  }
+
+  public void testNamedCachesShareMetric()
+  {
+    Cache<String, String> cache1 = Cache.make( "MetricsTest.cache", 10, String::toUpperCase );
+    Cache<String, String> cache2 = Cache.make( "MetricsTest.cache", 10, String::toLowerCase );
+    cache1.get( "a" );
+    cache1.get( "a" );
+    cache2.get( "b" );
+
+    CacheMetric metric = Metrics.cache( "MetricsTest.cache" );
+    assertEquals( 1, metric.getHits() );
+    assertEquals( 2, metric.getMisses() );
+    assertEquals( 1d / 3, metric.getHitRate(), 0.0001 );
+  }
+
+  public void testKindMismatch()
+  {
+    Metrics.counter( "MetricsTest.kind" );
+    try
+    {
+      Metrics.timer( "MetricsTest.kind" );
+      fail();
+    }
+    catch( IllegalArgumentException expected )
+    {
+    }
+  }
+
+  public void testMBeans() throws Exception
+  {
+    Metrics.counter( "MetricsTest.before" ).increment( null );
+    Metrics.registerMBeans();
+    Metrics.timer( "MetricsTest.after" ).record( null, 1_000_000 );
+
+    Object count = ManagementFactory.getPlatformMBeanServer().getAttribute(
+      new ObjectName( "manifold.metrics:type=Counter,name=" + ObjectName.quote( "MetricsTest.before" ) ), "Count" );
+    assertEquals( 1L, count );
+    Object millis = ManagementFactory.getPlatformMBeanServer().getAttribute(
+      new ObjectName( "manifold.metrics:type=Timer,name=" + ObjectName.quote( "MetricsTest.after" ) ), "TotalMillis" );
+    assertEquals( 1d, millis );
+  }
+
+  public void testJfrWaitsForRecording() throws Exception
+  {
+    Counter counter = Metrics.counter( "MetricsTest.jfr" );
+    counter.increment( "before" );
+    // updates alone don't initialize JFR
+    assertFalse( FlightRecorder.isInitialized() );
+
+    Path file = Files.createTempFile( "metrics", ".jfr" );
+    try( Recording recording = new Recording() )
+    {
+      recording.enable( "manifold.Counted" );
+      recording.start();
+      counter.increment( "during" );
+      recording.stop();
+      recording.dump( file );
+
+      List<String> details = RecordingFile.readAllEvents( file ).stream()
+        .filter( e -> e.getEventType().getName().equals( "manifold.Counted" ) )
+        .map( e -> e.getString( "detail" ) )
+        .collect( Collectors.toList() );
+      assertTrue( details.contains( "during" ) );
+      assertFalse( details.contains( "before" ) );
+    }
+    finally
+    {
+      Files.delete( file );
+    }
+  }
+}